@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -176,6 +176,48 @@ public class MethodTest extends AbstractJDITest {
 		assertEquals("2", 1, locations.size());
 		assertEquals("3", expected, ((Location) locations.get(0)).lineNumber());
 	}
+	/**
+	 * Test JDI allLineLocations() and line table lookups by code index and by line.
+	 */
+	public void testJDILineTableLookups() {
+		List<Location> all = null;
+		try {
+			all = fMethod1.allLineLocations();
+		} catch (AbsentInformationException e) {
+			fail("1");
+		}
+		assertFalse("2", all.isEmpty());
+		int matched = 0;
+		for (int i = 0; i < all.size(); i++) {
+			Location location = all.get(i);
+			if (i > 0) {
+				assertTrue("3", all.get(i - 1).codeIndex() < location.codeIndex());
+			}
+			assertEquals("4", location.lineNumber(), fMethod1.locationOfCodeIndex(location.codeIndex()).lineNumber());
+			List<Location> onLine = null;
+			try {
+				onLine = fMethod1.locationsOfLine(location.lineNumber());
+			} catch (AbsentInformationException e) {
+				fail("5");
+			}
+			assertFalse("6", onLine.isEmpty());
+			for (int j = 0; j < onLine.size(); j++) {
+				assertEquals("7", location.lineNumber(), onLine.get(j).lineNumber());
+				if (j > 0) {
+					assertTrue("8", onLine.get(j - 1).codeIndex() < onLine.get(j).codeIndex());
+				}
+			}
+			if (onLine.get(0).equals(location)) {
+				matched++;
+			}
+		}
+		assertTrue("9", matched > 0);
+		try {
+			assertTrue("10", fMethod1.locationsOfLine(Integer.MAX_VALUE).isEmpty());
+		} catch (AbsentInformationException e) {
+			fail("11");
+		}
+	}
 	/**
 	 * Test JDI returnType().
 	 */
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,7 +13,13 @@
  *******************************************************************************/
 package org.eclipse.debug.jdi.tests;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdi.internal.StringReferenceImpl;
+
 import com.sun.jdi.StringReference;
+import com.sun.jdi.Value;
 
 /**
  * Tests for JDI com.sun.jdi.StringReference
@@ -53,4 +59,20 @@ public class StringReferenceTest extends AbstractJDITest {
 		String value = fString.value();
 		assertEquals("1", "Hello World", value);
 	}
+
+	/**
+	 * Test JDI value() of strings retrieved with pipelined 'String - Get value' requests.
+	 */
+	public void testJDIPrefetchValues() {
+		List<StringReference> strings = new ArrayList<>();
+		for (Value value : getObjectArrayReference().getValues()) {
+			strings.add((StringReference) value);
+		}
+		strings.add(fString);
+		StringReferenceImpl.prefetchValues(strings);
+		assertEquals("1", "foo", strings.get(0).value());
+		assertEquals("2", "bar", strings.get(1).value());
+		assertEquals("3", "hop", strings.get(2).value());
+		assertEquals("4", "Hello World", strings.get(3).value());
+	}
 }
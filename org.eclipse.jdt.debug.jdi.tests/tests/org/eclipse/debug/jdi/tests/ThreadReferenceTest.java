@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,8 +14,12 @@
 package org.eclipse.debug.jdi.tests;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
 import java.util.List;
 
+import org.eclipse.jdi.internal.ThreadReferenceImpl;
+import org.eclipse.jdi.internal.ThreadReferenceImpl.TopFrameState;
+
 import com.sun.jdi.ClassNotLoadedException;
 import com.sun.jdi.ClassType;
 import com.sun.jdi.IncompatibleThreadStateException;
@@ -108,6 +112,23 @@ public class ThreadReferenceTest extends AbstractJDITest {
 		}
 		assertTrue("2", frames.size() > 0);
 	}
+	/**
+	 * Test the status, frame count and top frame of threads retrieved with
+	 * pipelined requests.
+	 */
+	public void testJDIPrefetchTopFrames() throws IncompatibleThreadStateException {
+		List<TopFrameState> states = new ArrayList<>();
+		ThreadReferenceImpl.prefetchTopFrames(List.of(fThread, fThread), (thread, state) -> {
+			assertEquals("1", fThread, thread);
+			states.add(state);
+		});
+		assertEquals("2", 2, states.size());
+		TopFrameState state = states.get(0);
+		assertTrue("3", state.suspended());
+		assertEquals("4", fThread.status(), state.status());
+		assertEquals("5", fThread.frameCount(), state.frameCount());
+		assertEquals("6", fThread.frame(0), state.topFrame());
+	}
 	/**
 	 * Test JDI interrupt()().
 	 */
@@ -0,0 +1,29 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.testplugin;
+
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.jdt.launching.StandardClasspathProvider;
+
+/**
+ * Standard classpath provider whose resolved classpath must not be reused
+ */
+public class NotReusableClasspathProvider extends StandardClasspathProvider {
+
+	@Override
+	public boolean isResolvedClasspathReusable(ILaunchConfiguration configuration) {
+		return false;
+	}
+
+}
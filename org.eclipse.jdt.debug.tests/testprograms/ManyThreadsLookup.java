@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Keeps 5000 threads alive while another thread keeps starting short lived
+ * threads, producing a steady stream of thread start and death events.
+ */
+public class ManyThreadsLookup {
+
+	public static void main(String[] args) throws Exception {
+		final CountDownLatch done = new CountDownLatch(1);
+		final CountDownLatch started = new CountDownLatch(5000);
+		for (int i = 0; i < 5000; i++) {
+			Thread thread = new Thread(new Runnable() {
+				public void run() {
+					started.countDown();
+					await(done);
+				}
+			}, "waiting-" + i);
+			thread.setDaemon(true);
+			thread.start();
+		}
+		started.await();
+		Thread churn = new Thread(new Runnable() {
+			public void run() {
+				while (done.getCount() > 0) {
+					Thread thread = new Thread("short-lived");
+					thread.start();
+					try {
+						thread.join();
+					} catch (InterruptedException e) {
+						return;
+					}
+				}
+			}
+		}, "churn");
+		churn.setDaemon(true);
+		churn.start();
+		System.out.println("threads started");
+		done.countDown();
+	}
+
+	static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+		}
+	}
+}
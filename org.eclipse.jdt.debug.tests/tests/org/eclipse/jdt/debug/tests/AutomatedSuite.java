@@ -34,6 +34,7 @@ import org.eclipse.jdt.debug.tests.breakpoints.DisableOnHitTest;
 import org.eclipse.jdt.debug.tests.breakpoints.ExceptionBreakpointTests;
 import org.eclipse.jdt.debug.tests.breakpoints.HitCountBreakpointsTests;
 import org.eclipse.jdt.debug.tests.breakpoints.ImportBreakpointsTest;
+import org.eclipse.jdt.debug.tests.breakpoints.InitialBreakpointsInstallTests;
 import org.eclipse.jdt.debug.tests.breakpoints.JavaBreakpointListenerTests;
 import org.eclipse.jdt.debug.tests.breakpoints.JavaThreadEventHandlerTests;
 import org.eclipse.jdt.debug.tests.breakpoints.LambdaBreakpointsInJava8Tests;
@@ -86,6 +87,7 @@ import org.eclipse.jdt.debug.tests.core.JavaDebugTargetTests;
 import org.eclipse.jdt.debug.tests.core.JavaLibraryPathTests;
 import org.eclipse.jdt.debug.tests.core.LineTrackerTests;
 import org.eclipse.jdt.debug.tests.core.LiteralTests17;
+import org.eclipse.jdt.debug.tests.core.LoadedTypesIndexTests;
 import org.eclipse.jdt.debug.tests.core.LocalVariableTests;
 import org.eclipse.jdt.debug.tests.core.ModuleOptionsTests;
 import org.eclipse.jdt.debug.tests.core.MultiReleaseLaunchTests;
@@ -95,8 +97,10 @@ import org.eclipse.jdt.debug.tests.core.RuntimeClasspathEntryTests;
 import org.eclipse.jdt.debug.tests.core.StaticVariableTests;
 import org.eclipse.jdt.debug.tests.core.StratumTests;
 import org.eclipse.jdt.debug.tests.core.StringSubstitutionTests;
+import org.eclipse.jdt.debug.tests.core.TopStackFramesTests;
 import org.eclipse.jdt.debug.tests.core.TypeTests;
 import org.eclipse.jdt.debug.tests.core.VMInstallTests;
+import org.eclipse.jdt.debug.tests.core.VirtualThreadDiscoveryTests;
 import org.eclipse.jdt.debug.tests.core.WatchExpressionTests;
 import org.eclipse.jdt.debug.tests.core.WorkingDirectoryTests;
 import org.eclipse.jdt.debug.tests.core.WorkspaceSourceContainerTests;
@@ -140,6 +144,7 @@ import org.eclipse.jdt.debug.tests.sourcelookup.DefaultSourceContainerTests;
 import org.eclipse.jdt.debug.tests.sourcelookup.DirectorySourceContainerTests;
 import org.eclipse.jdt.debug.tests.sourcelookup.DirectorySourceLookupTests;
 import org.eclipse.jdt.debug.tests.sourcelookup.ExternalArchiveSourceContainerTests;
+import org.eclipse.jdt.debug.tests.sourcelookup.FileHashingTests;
 import org.eclipse.jdt.debug.tests.sourcelookup.FolderSourceContainerTests;
 import org.eclipse.jdt.debug.tests.sourcelookup.JarSourceLookupTests;
 import org.eclipse.jdt.debug.tests.sourcelookup.JavaProjectSourceContainerTests;
@@ -231,6 +236,7 @@ public class AutomatedSuite extends DebugSuite {
 		addTest(new TestSuite(TypeResolutionTests.class));
 		addTest(new TestSuite(JarSourceLookupTests.class));
 		addTest(new TestSuite(Bug565462Tests.class));
+		addTest(new TestSuite(FileHashingTests.class));
 		addTest(new TestSuite(DebugSelectionTests.class));
 		addTest(new TestSuite(ClassFileEditorHighlightingTest.class));
 
@@ -297,6 +303,8 @@ public class AutomatedSuite extends DebugSuite {
 		addTest(new TestSuite(WatchExpressionTests.class));
 		addTest(new TestSuite(StratumTests.class));
 		addTest(new TestSuite(JavaDebugTargetTests.class));
+		addTest(new TestSuite(TopStackFramesTests.class));
+		addTest(new TestSuite(LoadedTypesIndexTests.class));
 		addTest(new TestSuite(WorkingDirectoryTests.class));
 		addTest(new TestSuite(EventDispatcherTest.class));
 		addTest(new TestSuite(SyntheticVariableTests.class));
@@ -397,6 +405,7 @@ public class AutomatedSuite extends DebugSuite {
 		addTest(new TestSuite(SuspendVMBreakpointsTests.class));
 		addTest(new TestSuite(SuspendVMConditionalBreakpointsTests.class));
 		addTest(new TestSuite(PreLaunchBreakpointTest.class));
+		addTest(new TestSuite(InitialBreakpointsInstallTests.class));
 		addTest(new TestSuite(ImportBreakpointsTest.class));
 		addTest(new TestSuite(BreakpointWorkingSetTests.class));
 		addTest(new TestSuite(MethodBreakpointTests.class));
@@ -440,6 +449,7 @@ public class AutomatedSuite extends DebugSuite {
 		}
 		if (JavaProjectHelper.isJava23_Compatible()) {
 			addTest(new TestSuite(VirtualThreadsDebugViewTests.class));
+			addTest(new TestSuite(VirtualThreadDiscoveryTests.class));
 		}
 	}
 }
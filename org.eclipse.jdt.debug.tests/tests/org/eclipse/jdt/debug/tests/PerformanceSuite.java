@@ -21,7 +21,9 @@ import org.eclipse.jdt.debug.tests.performance.PerfBreakpointTests;
 import org.eclipse.jdt.debug.tests.performance.PerfConditionalBreakpointsTests;
 import org.eclipse.jdt.debug.tests.performance.PerfConsoleTests;
 import org.eclipse.jdt.debug.tests.performance.PerfContextualLaunchMenu;
+import org.eclipse.jdt.debug.tests.performance.PerfFileHashingTests;
 import org.eclipse.jdt.debug.tests.performance.PerfSteppingTests;
+import org.eclipse.jdt.debug.tests.performance.PerfThreadLookupTests;
 import org.eclipse.jdt.debug.tests.performance.PerfVariableDetailTests;
 
 /**
@@ -50,5 +52,7 @@ public class PerformanceSuite extends DebugSuite {
         addTest(new TestSuite(PerfConsoleTests.class));
         addTest(new TestSuite(PerfVariableDetailTests.class));
         addTest(new TestSuite(BreakpointManagerPerfTests.class));
+        addTest(new TestSuite(PerfFileHashingTests.class));
+        addTest(new TestSuite(PerfThreadLookupTests.class));
     }
 }
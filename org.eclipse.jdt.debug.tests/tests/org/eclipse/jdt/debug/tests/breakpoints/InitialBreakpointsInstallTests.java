@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.breakpoints;
+
+import org.eclipse.jdt.debug.core.IJavaLineBreakpoint;
+import org.eclipse.jdt.debug.core.IJavaThread;
+import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+
+import com.sun.jdi.request.BreakpointRequest;
+import com.sun.jdi.request.EventRequestManager;
+
+/**
+ * Tests the installation in bulk of the breakpoints which exist when a target is launched.
+ */
+public class InitialBreakpointsInstallTests extends AbstractDebugTest {
+
+	public InitialBreakpointsInstallTests(String name) {
+		super(name);
+	}
+
+	/**
+	 * Tests that the requests of enabled breakpoints are enabled in bulk, and that the requests of disabled breakpoints are not.
+	 */
+	public void testInitialBreakpointsEnabledInBulk() throws Exception {
+		String typeName = "StepFilterOne";
+		IJavaLineBreakpoint first = createLineBreakpoint(18, typeName);
+		IJavaLineBreakpoint disabled = createLineBreakpoint(19, typeName);
+		disabled.setEnabled(false);
+		IJavaLineBreakpoint second = createLineBreakpoint(23, typeName);
+
+		IJavaThread thread = null;
+		try {
+			thread = launchToLineBreakpoint(typeName, first);
+			assertNotNull("Breakpoint not hit within timeout period", thread);
+			JDIDebugTarget target = (JDIDebugTarget) thread.getDebugTarget();
+			assertTrue("Install time should be recorded", target.getBreakpointInstallTime() >= 0);
+
+			EventRequestManager manager = target.getEventRequestManager();
+			int requests = 0;
+			int enabled = 0;
+			for (BreakpointRequest request : manager.breakpointRequests()) {
+				if (typeName.equals(request.location().declaringType().name())) {
+					requests++;
+					if (request.isEnabled()) {
+						enabled++;
+					}
+				}
+			}
+			assertEquals("Wrong number of breakpoint requests", 3, requests);
+			assertEquals("Only the requests of enabled breakpoints should be enabled", 2, enabled);
+
+			// the disabled breakpoint at line 19 is not hit
+			thread = resumeToLineBreakpoint(thread, second);
+			assertEquals("Wrong line", 23, thread.getTopStackFrame().getLineNumber());
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Tests that a breakpoint disabled after the target is launched has its request disabled.
+	 */
+	public void testDisableInitialBreakpoint() throws Exception {
+		String typeName = "StepFilterOne";
+		IJavaLineBreakpoint first = createLineBreakpoint(18, typeName);
+		IJavaLineBreakpoint disabled = createLineBreakpoint(19, typeName);
+		IJavaLineBreakpoint second = createLineBreakpoint(23, typeName);
+
+		IJavaThread thread = null;
+		try {
+			thread = launchToLineBreakpoint(typeName, first);
+			assertNotNull("Breakpoint not hit within timeout period", thread);
+			disabled.setEnabled(false);
+			thread = resumeToLineBreakpoint(thread, second);
+			assertEquals("Wrong line", 23, thread.getTopStackFrame().getLineNumber());
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,17 +15,25 @@ package org.eclipse.jdt.debug.tests.core;
 
 import static org.junit.Assert.assertNotEquals;
 
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.InstanceScope;
 import org.eclipse.debug.core.model.ILineBreakpoint;
 import org.eclipse.debug.core.model.IVariable;
 import org.eclipse.jdt.debug.core.IJavaArray;
 import org.eclipse.jdt.debug.core.IJavaArrayType;
+import org.eclipse.jdt.debug.core.IJavaBreakpoint;
 import org.eclipse.jdt.debug.core.IJavaDebugTarget;
+import org.eclipse.jdt.debug.core.IJavaLineBreakpoint;
 import org.eclipse.jdt.debug.core.IJavaPrimitiveValue;
 import org.eclipse.jdt.debug.core.IJavaStackFrame;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.core.IJavaValue;
 import org.eclipse.jdt.debug.core.IJavaVariable;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
+import org.eclipse.jdt.internal.debug.core.model.JDIObjectValue;
+
+import com.sun.jdi.ArrayReference;
 
 /**
  * Tests indexed collection API
@@ -103,6 +111,79 @@ public class ArrayTests extends AbstractDebugTest {
 		}
 	}
 
+	public void testGetValueAfterSetValue() throws Exception {
+		String typeName = "ArrayTests";
+		ILineBreakpoint bp = createLineBreakpoint(22, typeName);
+
+		IJavaThread thread = null;
+		try {
+			thread= launchToLineBreakpoint(typeName, bp);
+			IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+			assertNotNull(frame);
+			IJavaVariable v = findVariable(frame, "array");
+			assertNotNull(v);
+			IJavaArray array = (IJavaArray) v.getValue();
+			assertNotNull(array);
+			IJavaDebugTarget target = (IJavaDebugTarget) frame.getDebugTarget();
+			assertEquals("Wrong value", target.newValue(10), array.getValue(10));
+			array.setValue(10, target.newValue(-10));
+			assertEquals("Modified value should not be cached", target.newValue(-10), array.getValue(10));
+			assertEquals("Wrong value", target.newValue(-10), array.getVariable(10).getValue());
+			assertEquals("Wrong value", target.newValue(11), array.getVariable(11).getValue());
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Tests that array elements are cached in chunks while the VM is suspended, and
+	 * that setting an element discards the cached elements of the array
+	 */
+	public void testGetValueCachedInChunks() throws Exception {
+		IEclipsePreferences prefs = InstanceScope.INSTANCE.getNode(JDIDebugPlugin.getUniqueIdentifier());
+		// chunks of 10 elements, the array has 100
+		prefs.putInt(JDIDebugPlugin.PREF_ARRAY_CHUNK_SIZE, 10);
+		String typeName = "ArrayTests";
+		IJavaLineBreakpoint bp = createLineBreakpoint(22, typeName);
+		// elements are only cached while all threads are suspended
+		bp.setSuspendPolicy(IJavaBreakpoint.SUSPEND_VM);
+
+		IJavaThread thread = null;
+		try {
+			thread= launchToLineBreakpoint(typeName, bp);
+			IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+			assertNotNull(frame);
+			IJavaVariable v = findVariable(frame, "array");
+			assertNotNull(v);
+			IJavaArray array = (IJavaArray) v.getValue();
+			assertNotNull(array);
+			IJavaDebugTarget target = (IJavaDebugTarget) frame.getDebugTarget();
+			// the first chunk, then the second one along with the third one
+			assertEquals("Wrong value", target.newValue(9), array.getValue(9));
+			assertEquals("Wrong value", target.newValue(10), array.getValue(10));
+
+			// change the elements in the VM without the cache knowing
+			ArrayReference reference = (ArrayReference) ((JDIObjectValue) array).getUnderlyingObject();
+			for (int index : new int[] { 9, 10, 25 }) {
+				reference.setValue(index, reference.virtualMachine().mirrorOf(-index));
+			}
+			assertEquals("Element should be cached", target.newValue(9), array.getValue(9));
+			assertEquals("Element should be cached", target.newValue(10), array.getValue(10));
+			assertEquals("Element should be cached", target.newValue(25), array.getValue(25));
+
+			array.setValue(11, target.newValue(-11));
+			assertEquals("Cached elements should be discarded", target.newValue(-9), array.getValue(9));
+			assertEquals("Cached elements should be discarded", target.newValue(-10), array.getValue(10));
+			assertEquals("Cached elements should be discarded", target.newValue(-11), array.getValue(11));
+			assertEquals("Cached elements should be discarded", target.newValue(-25), array.getValue(25));
+		} finally {
+			prefs.remove(JDIDebugPlugin.PREF_ARRAY_CHUNK_SIZE);
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
 	public void testSetValueRange() throws Exception {
 		String typeName = "ByteArrayTests";
 		ILineBreakpoint bp = createLineBreakpoint(30, typeName);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,12 @@ package org.eclipse.jdt.debug.tests.core;
 
 import static org.junit.Assert.assertNotEquals;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.eclipse.debug.core.DebugEvent;
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.jdt.core.IBuffer;
@@ -242,6 +248,81 @@ public class HcrTests extends AbstractDebugTest {
 		}
 	}
 
+	/**
+	 * Tests that the targets of several launches are updated by one hot code replace, and that listeners are notified
+	 * of each target from a single thread.
+	 */
+	public void testHcrListenerMultipleTargets() throws Exception {
+		String typeName = "org.eclipse.debug.tests.targets.HcrClass";
+		createLineBreakpoint(42, typeName);
+		List<IJavaDebugTarget> succeeded = Collections.synchronizedList(new ArrayList<>());
+		Set<Thread> notifiers = ConcurrentHashMap.newKeySet();
+		IJavaHotCodeReplaceListener listener = new IJavaHotCodeReplaceListener() {
+			@Override
+			public void hotCodeReplaceSucceeded(IJavaDebugTarget target) {
+				notifiers.add(Thread.currentThread());
+				succeeded.add(target);
+			}
+
+			@Override
+			public void hotCodeReplaceFailed(IJavaDebugTarget target, DebugException exception) {
+				notifiers.add(Thread.currentThread());
+			}
+
+			@Override
+			public void obsoleteMethods(IJavaDebugTarget target) {
+				notifiers.add(Thread.currentThread());
+			}
+		};
+		JDIDebugModel.addHotCodeReplaceListener(listener);
+		IJavaThread thread1 = null;
+		IJavaThread thread2 = null;
+		try {
+			thread1 = launchToBreakpoint(typeName);
+			assertNotNull("Breakpoint not hit within timeout period", thread1);
+			thread2 = launchToBreakpoint(typeName);
+			assertNotNull("Breakpoint not hit within timeout period", thread2);
+
+			IJavaDebugTarget target1 = (IJavaDebugTarget) thread1.getDebugTarget();
+			IJavaDebugTarget target2 = (IJavaDebugTarget) thread2.getDebugTarget();
+			assertNotSame("Launches should have different targets", target1, target2);
+			if (target1.supportsHotCodeReplace()) {
+				removeAllBreakpoints();
+				// now do the HCR
+				ICompilationUnit cu = getCompilationUnit(get14Project(), "src", "org.eclipse.debug.tests.targets", "HcrClass.java");
+				cu = cu.getPrimary();
+				if (!cu.isWorkingCopy()) {
+					cu = cu.getWorkingCopy(null);
+				}
+				assertTrue("HcrClass.java does not exist", cu.exists());
+				IBuffer buffer = cu.getBuffer();
+				String contents = buffer.getContents();
+				int index = contents.indexOf("\"One\"");
+				assertTrue("Could not find code to replace", index > 0);
+				String newCode = contents.substring(0, index) + "\"Two\"" + contents.substring(index + 5);
+				buffer.setContents(newCode);
+
+				// save contents
+				cu.commitWorkingCopy(true, null);
+				waitForBuild();
+				long start = System.currentTimeMillis();
+				while (succeeded.size() < 2 && System.currentTimeMillis() - start <= DEFAULT_TIMEOUT) {
+					Thread.sleep(50);
+				}
+				assertTrue("First target should have been replaced", succeeded.contains(target1));
+				assertTrue("Second target should have been replaced", succeeded.contains(target2));
+				assertEquals("Listeners should be notified from a single thread", 1, notifiers.size());
+			} else {
+				System.err.println("Warning: HCR test skipped since target VM does not support HCR.");
+			}
+		} finally {
+			terminateAndRemove(thread1);
+			terminateAndRemove(thread2);
+			removeAllBreakpoints();
+			JDIDebugModel.removeHotCodeReplaceListener(listener);
+		}
+	}
+
 	/**
 	 * Tests that a target specific listener overrides a generic listener.
 	 */
@@ -17,6 +17,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.eclipse.debug.core.model.ILineBreakpoint;
+import org.eclipse.debug.core.model.IStackFrame;
 import org.eclipse.debug.core.model.IVariable;
 import org.eclipse.jdt.debug.core.IJavaDebugTarget;
 import org.eclipse.jdt.debug.core.IJavaObject;
@@ -68,6 +69,41 @@ public class InstanceVariableTests extends AbstractDebugTest {
 		}
 	}
 
+	/**
+	 * Tests the receivers and receiving types of all frames of a stack, which are retrieved for all frames at once.
+	 */
+	public void testReceiversOfAllFrames() throws Exception {
+		String typeName = "DropTests";
+
+		ILineBreakpoint bp = createLineBreakpoint(35, typeName);
+
+		IJavaThread thread= null;
+		try {
+			thread= launchToLineBreakpoint(typeName, bp);
+
+			IStackFrame[] frames = thread.getStackFrames();
+			assertEquals("Wrong number of frames", 5, frames.length);
+			IJavaStackFrame[] javaFrames = new IJavaStackFrame[frames.length];
+			for (int i = 0; i < frames.length; i++) {
+				javaFrames[i] = (IJavaStackFrame) frames[i];
+			}
+			IJavaObject receiver = javaFrames[0].getThis();
+			assertNotNull("'this' is null", receiver);
+			for (int i = 0; i < 4; i++) {
+				assertEquals("Wrong method", "method" + (4 - i), javaFrames[i].getMethodName());
+				assertEquals("Wrong receiving type", typeName, javaFrames[i].getReceivingTypeName());
+				assertEquals("Wrong receiver", receiver, javaFrames[i].getThis());
+			}
+			assertEquals("Wrong method", "main", javaFrames[4].getMethodName());
+			assertNull("'this' should be null in static method", javaFrames[4].getThis());
+			assertEquals("Wrong receiving type", typeName, javaFrames[4].getReceivingTypeName());
+			assertEquals("Wrong line number", 19, javaFrames[4].getLineNumber());
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
 	public void testGetDeclaredFieldNames() throws Exception {
 		String typeName = "InstanceVariablesTests";
 
@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.debug.core.IJavaStackFrame;
+import org.eclipse.jdt.debug.core.IJavaThread;
+import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+import org.eclipse.jdt.internal.debug.core.model.LoadedTypesIndex;
+
+import com.sun.jdi.ReferenceType;
+
+/**
+ * Tests the index of the types loaded in a debug target.
+ */
+public class LoadedTypesIndexTests extends AbstractDebugTest {
+
+	public LoadedTypesIndexTests(String name) {
+		super(name);
+	}
+
+	private static List<String> names(List<ReferenceType> types) {
+		List<String> names = new ArrayList<>(types.size());
+		for (ReferenceType type : types) {
+			names.add(type.name());
+		}
+		return names;
+	}
+
+	public void testClassesByName() throws Exception {
+		String typeName = "StepFilterOne";
+		createLineBreakpoint(23, typeName);
+
+		IJavaThread thread = null;
+		try {
+			thread = launchToBreakpoint(typeName);
+			assertNotNull("Breakpoint not hit within timeout period", thread);
+			LoadedTypesIndex index = ((JDIDebugTarget) thread.getDebugTarget()).getLoadedTypes();
+			assertNotNull("Missing index", index);
+
+			assertEquals("Wrong types", List.of(typeName), names(index.classesByName(typeName)));
+			assertEquals("Runtime types are answered by the VM", List.of("java.lang.String"), names(index.classesByName("java.lang.String")));
+			assertTrue("Type should not be loaded", index.classesByName("StepFilterTwo").isEmpty());
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	public void testClassLoadedAfterSeeding() throws Exception {
+		String typeName = "StepFilterOne";
+		createLineBreakpoint(23, typeName);
+
+		IJavaThread thread = null;
+		try {
+			thread = launchToBreakpoint(typeName);
+			assertNotNull("Breakpoint not hit within timeout period", thread);
+			JDIDebugTarget target = (JDIDebugTarget) thread.getDebugTarget();
+			LoadedTypesIndex index = target.getLoadedTypes();
+			assertTrue("Type should not be loaded", index.classesByName("StepFilterTwo").isEmpty());
+
+			// loads StepFilterTwo
+			thread = stepOver((IJavaStackFrame) thread.getTopStackFrame());
+			assertEquals("Type loaded after seeding should be found", List.of("StepFilterTwo"), names(index.classesByName("StepFilterTwo")));
+			assertEquals("Type loaded after seeding should be found", List.of("StepFilterTwo"), names(target.jdiClassesByName("StepFilterTwo")));
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	public void testClassesByPrefixAndPattern() throws Exception {
+		String typeName = "StepFilterOne";
+		createLineBreakpoint(23, typeName);
+
+		IJavaThread thread = null;
+		try {
+			thread = launchToBreakpoint(typeName);
+			assertNotNull("Breakpoint not hit within timeout period", thread);
+			LoadedTypesIndex index = ((JDIDebugTarget) thread.getDebugTarget()).getLoadedTypes();
+
+			assertEquals("Wrong types", List.of(typeName), names(index.classesByPrefix("StepFilter")));
+			assertEquals("Wrong types", List.of(typeName), names(index.classesMatching("StepFilter*")));
+			assertTrue("Suffix patterns should match", names(index.classesMatching("*FilterOne")).contains(typeName));
+			assertTrue("Runtime types should match", names(index.classesByPrefix("java.lang.Stri")).contains("java.lang.String"));
+			assertTrue("Runtime types should match", names(index.classesMatching("*.String")).contains("java.lang.String"));
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Ole Osterhagen and others.
+ * Copyright (c) 2023, 2026 Ole Osterhagen and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.jdt.debug.tests.core;
 
+import java.util.Arrays;
+
 import org.eclipse.core.resources.IFolder;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IWorkspaceRoot;
@@ -20,12 +22,19 @@ import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.Path;
+import org.eclipse.core.variables.IStringVariableManager;
+import org.eclipse.core.variables.IValueVariable;
+import org.eclipse.core.variables.VariablesPlugin;
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.debug.core.ILaunchConfigurationWorkingCopy;
 import org.eclipse.jdt.core.IAccessRule;
 import org.eclipse.jdt.core.IClasspathAttribute;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.debug.testplugin.JavaProjectHelper;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.launching.RuntimeClasspathCache;
+import org.eclipse.jdt.launching.IJavaLaunchConfigurationConstants;
 import org.eclipse.jdt.launching.IRuntimeClasspathEntry;
 import org.eclipse.jdt.launching.JavaRuntime;
 
@@ -102,6 +111,95 @@ public class ResolveRuntimeClasspathTests extends AbstractDebugTest {
 		assertFalse(isOnRuntimeClasspath(resolved, "/projectA/bin/test"));
 	}
 
+	public void testResolvedClasspathCachedUntilClasspathChanges() throws Exception {
+		IJavaProject project = createProjectWithProjectDependency(false);
+		ILaunchConfiguration configuration = createLaunchConfiguration(project, "ResolveRuntimeClasspathTests");
+		RuntimeClasspathCache cache = RuntimeClasspathCache.getDefault();
+		assertNotNull("Classpath cache not started", cache);
+
+		IRuntimeClasspathEntry[] unresolved = JavaRuntime.computeUnresolvedRuntimeClasspath(configuration);
+		IRuntimeClasspathEntry[] resolved = JavaRuntime.resolveRuntimeClasspath(unresolved, configuration);
+		long hits = cache.getHitCount();
+		long misses = cache.getMissCount();
+		IRuntimeClasspathEntry[] cached = JavaRuntime.resolveRuntimeClasspath(JavaRuntime.computeUnresolvedRuntimeClasspath(configuration), configuration);
+		assertEquals("Classpath should be cached", hits + 1, cache.getHitCount());
+		assertEquals(Arrays.asList(resolved), Arrays.asList(cached));
+
+		IFolder libFolder = createFolders(projectB, "lib");
+		JavaProjectHelper.addToClasspath(project, JavaCore.newLibraryEntry(libFolder.getFullPath(), null, null));
+		resolved = JavaRuntime.resolveRuntimeClasspath(JavaRuntime.computeUnresolvedRuntimeClasspath(configuration), configuration);
+		assertEquals("Classpath change should invalidate the cache", misses + 1, cache.getMissCount());
+		assertTrue(isOnRuntimeClasspath(resolved, "/projectB/lib"));
+	}
+
+	public void testCachedClasspathNotChangedByCallers() throws Exception {
+		IJavaProject project = createProjectWithProjectDependency(false);
+		ILaunchConfiguration configuration = createLaunchConfiguration(project, "ResolveRuntimeClasspathTests");
+		RuntimeClasspathCache cache = RuntimeClasspathCache.getDefault();
+
+		IRuntimeClasspathEntry[] resolved = JavaRuntime.resolveRuntimeClasspath(JavaRuntime.computeUnresolvedRuntimeClasspath(configuration), configuration);
+		int[] properties = new int[resolved.length];
+		for (int i = 0; i < resolved.length; i++) {
+			properties[i] = resolved[i].getClasspathProperty();
+			resolved[i].setClasspathProperty(IRuntimeClasspathEntry.BOOTSTRAP_CLASSES);
+		}
+		long hits = cache.getHitCount();
+		IRuntimeClasspathEntry[] cached = JavaRuntime.resolveRuntimeClasspath(JavaRuntime.computeUnresolvedRuntimeClasspath(configuration), configuration);
+		assertEquals("Classpath should be cached", hits + 1, cache.getHitCount());
+		for (int i = 0; i < cached.length; i++) {
+			assertEquals("Cached entry changed by a caller", properties[i], cached[i].getClasspathProperty());
+			cached[i].setClasspathProperty(IRuntimeClasspathEntry.BOOTSTRAP_CLASSES);
+		}
+		cached = JavaRuntime.resolveRuntimeClasspath(JavaRuntime.computeUnresolvedRuntimeClasspath(configuration), configuration);
+		for (int i = 0; i < cached.length; i++) {
+			assertEquals("Cached entry changed by a caller", properties[i], cached[i].getClasspathProperty());
+		}
+	}
+
+	public void testStringVariableChangeInvalidatesCache() throws Exception {
+		IJavaProject project = createProjectWithProjectDependency(false);
+		ILaunchConfiguration configuration = createLaunchConfiguration(project, "ResolveRuntimeClasspathTests");
+		RuntimeClasspathCache cache = RuntimeClasspathCache.getDefault();
+
+		JavaRuntime.resolveRuntimeClasspath(JavaRuntime.computeUnresolvedRuntimeClasspath(configuration), configuration);
+		long misses = cache.getMissCount();
+		IStringVariableManager manager = VariablesPlugin.getDefault().getStringVariableManager();
+		IValueVariable variable = manager.newValueVariable("ResolveRuntimeClasspathTests", null, false, "value");
+		manager.addVariables(new IValueVariable[] { variable });
+		try {
+			JavaRuntime.resolveRuntimeClasspath(JavaRuntime.computeUnresolvedRuntimeClasspath(configuration), configuration);
+			assertEquals("String variable change should invalidate the cache", misses + 1, cache.getMissCount());
+		} finally {
+			manager.removeVariables(new IValueVariable[] { variable });
+		}
+	}
+
+	public void testClasspathReferencingStringVariablesNotCached() throws Exception {
+		IJavaProject project = createProjectWithProjectDependency(false);
+		ILaunchConfiguration configuration = createLaunchConfiguration(project, "ResolveRuntimeClasspathTests");
+		RuntimeClasspathCache cache = RuntimeClasspathCache.getDefault();
+
+		IRuntimeClasspathEntry[] unresolved = { JavaRuntime.newStringVariableClasspathEntry("${workspace_loc:/projectB}") };
+		JavaRuntime.resolveRuntimeClasspath(unresolved, configuration);
+		long hits = cache.getHitCount();
+		JavaRuntime.resolveRuntimeClasspath(unresolved, configuration);
+		assertEquals("Classpath referencing string variables should not be cached", hits, cache.getHitCount());
+	}
+
+	public void testClasspathOfNotReusableProviderNotCached() throws Exception {
+		IJavaProject project = createProjectWithProjectDependency(false);
+		ILaunchConfigurationWorkingCopy workingCopy = createLaunchConfiguration(project, "ResolveRuntimeClasspathTests").getWorkingCopy();
+		workingCopy.setAttribute(IJavaLaunchConfigurationConstants.ATTR_CLASSPATH_PROVIDER, "org.eclipse.jdt.debug.tests.NotReusableClasspathProvider");
+		ILaunchConfiguration configuration = workingCopy.doSave();
+		RuntimeClasspathCache cache = RuntimeClasspathCache.getDefault();
+
+		JavaRuntime.resolveRuntimeClasspath(JavaRuntime.computeUnresolvedRuntimeClasspath(configuration), configuration);
+		long hits = cache.getHitCount();
+		IRuntimeClasspathEntry[] resolved = JavaRuntime.resolveRuntimeClasspath(JavaRuntime.computeUnresolvedRuntimeClasspath(configuration), configuration);
+		assertEquals("Classpath of a provider opting out should not be cached", hits, cache.getHitCount());
+		assertTrue(isOnRuntimeClasspath(resolved, "/projectA/bin/main"));
+	}
+
 	private boolean isOnRuntimeClasspath(IRuntimeClasspathEntry[] runtimeClasspathEntries, String path) {
 		for (IRuntimeClasspathEntry runtimeClasspathEntry : runtimeClasspathEntries) {
 			if (runtimeClasspathEntry.getPath().equals(new Path(path))) {
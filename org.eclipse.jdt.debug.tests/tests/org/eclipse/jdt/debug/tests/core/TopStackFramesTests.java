@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.core;
+
+import java.util.List;
+
+import org.eclipse.debug.core.model.IStackFrame;
+import org.eclipse.jdt.debug.core.IJavaStackFrame;
+import org.eclipse.jdt.debug.core.IJavaThread;
+import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.debug.core.model.JDIThread;
+
+/**
+ * Tests the retrieval of the frames at the top of the stack only.
+ */
+public class TopStackFramesTests extends AbstractDebugTest {
+
+	public TopStackFramesTests(String name) {
+		super(name);
+	}
+
+	public void testTopFramesThenAllFrames() throws Exception {
+		String typeName = "DropTests";
+		createLineBreakpoint(35, typeName);
+
+		IJavaThread thread = null;
+		try {
+			thread = launchToBreakpoint(typeName);
+			assertNotNull("Breakpoint not hit within timeout period", thread);
+			JDIThread jdiThread = (JDIThread) thread;
+
+			List<IJavaStackFrame> top = jdiThread.computeTopStackFrames(2);
+			assertEquals("Wrong number of top frames", 2, top.size());
+			assertEquals("Wrong method", "method4", top.get(0).getMethodName());
+			assertEquals("Wrong method", "method3", top.get(1).getMethodName());
+
+			IStackFrame[] frames = thread.getStackFrames();
+			assertEquals("Wrong number of frames", 5, frames.length);
+			assertSame("Top frame should be re-used", top.get(0), frames[0]);
+			assertSame("Second frame should be re-used", top.get(1), frames[1]);
+			assertEquals("Wrong method", "main", ((IJavaStackFrame) frames[4]).getMethodName());
+			assertEquals("Wrong number of top frames", 5, jdiThread.computeTopStackFrames(10).size());
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	public void testTopFramesReusedAfterStep() throws Exception {
+		String typeName = "DropTests";
+		createLineBreakpoint(27, typeName);
+
+		IJavaThread thread = null;
+		try {
+			thread = launchToBreakpoint(typeName);
+			assertNotNull("Breakpoint not hit within timeout period", thread);
+			JDIThread jdiThread = (JDIThread) thread;
+
+			List<IJavaStackFrame> top = jdiThread.computeTopStackFrames(1);
+			IJavaStackFrame method2 = top.get(0);
+			assertEquals("Wrong method", "method2", method2.getMethodName());
+
+			thread = stepInto(method2);
+			top = jdiThread.computeTopStackFrames(2);
+			assertEquals("Wrong method", "method3", top.get(0).getMethodName());
+			assertSame("Frame of method2 should be re-used", method2, top.get(1));
+
+			thread = stepReturn(top.get(0));
+			top = jdiThread.computeTopStackFrames(1);
+			assertSame("Frame of method2 should be re-used", method2, top.get(0));
+			assertEquals("Wrong number of frames", 3, thread.getStackFrames().length);
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.jdt.debug.tests.core;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assume.assumeNotNull;
 
@@ -38,6 +39,7 @@ import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.debug.testplugin.JavaTestPlugin;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
 import org.eclipse.jdt.internal.launching.LaunchingPlugin;
+import org.eclipse.jdt.internal.launching.LibraryInfo;
 import org.eclipse.jdt.internal.launching.StandardVMType;
 import org.eclipse.jdt.launching.ILibraryLocationResolver;
 import org.eclipse.jdt.launching.IVMInstall;
@@ -296,6 +298,71 @@ public class VMInstallTests extends AbstractDebugTest {
 		}
 	}
 
+	/**
+	 * Tests that the library information read from the files of a modular JDK
+	 * matches the information reported by running the library detector
+	 */
+	public void testModularLibraryInfoMatchesLibraryDetector() {
+		IVMInstall def = JavaRuntime.getDefaultVMInstall();
+		if (!JavaRuntime.isModularJava(def)) {
+			return;
+		}
+		File javaHome = def.getInstallLocation();
+		File javaExecutable = StandardVMType.findJavaExecutable(javaHome);
+		assertNotNull("Java executable not found in " + javaHome, javaExecutable);
+		DetectingVMType vmType = new DetectingVMType();
+		LibraryInfo read = vmType.readModularLibraryInfo(javaHome);
+		assertNotNull("Modular layout not recognized in " + javaHome, read);
+		LibraryInfo detected = vmType.detectLibraryInfo(javaHome, javaExecutable);
+		assertNotNull("Library detector failed for " + javaHome, detected);
+		assertEquals("Wrong version", detected.getVersion(), read.getVersion());
+		assertArrayEquals("Wrong boot path", detectedPaths(detected.getBootpath()), read.getBootpath());
+		assertArrayEquals("Wrong extension directories", detectedPaths(detected.getExtensionDirs()), read.getExtensionDirs());
+		assertArrayEquals("Wrong endorsed directories", detectedPaths(detected.getEndorsedDirs()), read.getEndorsedDirs());
+	}
+
+	/**
+	 * Returns the paths reported by the library detector, without the
+	 * <code>null</code> it prints for system properties the VM does not define.
+	 */
+	private static String[] detectedPaths(String[] paths) {
+		return Arrays.stream(paths).filter(path -> !path.isEmpty() && !"null".equals(path)).toArray(String[]::new);
+	}
+
+	/**
+	 * Tests that stored library information is discarded once the release file
+	 * of the install changes, as when a JDK is upgraded in place
+	 */
+	public void testLibraryInfoDiscardedWhenReleaseChanges() throws IOException {
+		Path javaHome = Files.createTempDirectory("libraryInfo");
+		Path release = javaHome.resolve("release");
+		String installPath = javaHome.toFile().getAbsolutePath();
+		try {
+			Files.writeString(release, "JAVA_VERSION=\"17.0.1\"\n");
+			LibraryInfo info = new LibraryInfo("17.0.1", new String[0], new String[0], new String[0]);
+			LaunchingPlugin.setLibraryInfo(installPath, info);
+			LibraryInfo stored = LaunchingPlugin.getLibraryInfo(installPath);
+			assertNotNull("Library info not stored", stored);
+			assertEquals("Wrong version", "17.0.1", stored.getVersion());
+
+			Files.writeString(release, "JAVA_VERSION=\"17.0.12\"\n");
+			assertNull("Stale library info returned", LaunchingPlugin.getLibraryInfo(installPath));
+		} finally {
+			LaunchingPlugin.setLibraryInfo(installPath, null);
+			Files.deleteIfExists(release);
+			Files.deleteIfExists(javaHome);
+		}
+	}
+
+	/**
+	 * Standard VM type giving access to the library detector
+	 */
+	private static class DetectingVMType extends StandardVMType {
+		LibraryInfo detectLibraryInfo(File javaHome, File javaExecutable) {
+			return generateLibraryInfo(javaHome, javaExecutable);
+		}
+	}
+
 	private void assertContainsAllCommonPackages(IVMInstall vm, Set<String> packages) {
 		Set<String> missing = new LinkedHashSet<>(COMMON_JAVA_PACKAGES);
 		missing.removeAll(packages);
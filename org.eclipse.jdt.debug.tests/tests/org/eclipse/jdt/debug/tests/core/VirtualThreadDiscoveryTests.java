@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.core;
+
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.eclipse.debug.core.model.IThread;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.debug.core.IJavaThread;
+import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+import org.eclipse.jdt.internal.debug.core.model.JDIThread;
+
+/**
+ * Tests the discovery of virtual threads when thread start and death events are only requested for platform threads.
+ */
+public class VirtualThreadDiscoveryTests extends AbstractDebugTest {
+
+	public VirtualThreadDiscoveryTests(String name) {
+		super(name);
+	}
+
+	@Override
+	protected IJavaProject getProjectContext() {
+		return get23Project();
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		IEclipsePreferences prefs = InstanceScope.INSTANCE.getNode(JDIDebugPlugin.getUniqueIdentifier());
+		prefs.putBoolean(JDIDebugPlugin.PREF_DISCOVER_VIRTUAL_THREADS_LAZILY, true);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		IEclipsePreferences prefs = InstanceScope.INSTANCE.getNode(JDIDebugPlugin.getUniqueIdentifier());
+		prefs.remove(JDIDebugPlugin.PREF_DISCOVER_VIRTUAL_THREADS_LAZILY);
+		super.tearDown();
+	}
+
+	public void testVirtualThreadDiscoveredAtBreakpoint() throws Exception {
+		String typeName = "Main21";
+		createLineBreakpoint(19, typeName);
+
+		IJavaThread thread = null;
+		try {
+			thread = launchToBreakpoint(typeName);
+			assertNotNull("Breakpoint not hit within timeout period", thread);
+			JDIThread virtualThread = (JDIThread) thread;
+			assertTrue("Not a virtual thread", virtualThread.isVirtualThread());
+			JDIDebugTarget target = (JDIDebugTarget) thread.getDebugTarget();
+			assertSame(virtualThread, target.findThread(virtualThread.getUnderlyingThread()));
+			boolean listed = false;
+			for (IThread listedThread : target.getThreads()) {
+				listed |= listedThread == virtualThread;
+			}
+			assertTrue("Virtual thread not listed in debug target", listed);
+			for (IThread listedThread : target.getThreads()) {
+				assertTrue("Only the discovered thread should be virtual", listedThread == virtualThread
+						|| !((JDIThread) listedThread).isVirtualThread());
+			}
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018, 2020 Cedric Chabanois and others.
+ * Copyright (c) 2018, 2026 Cedric Chabanois and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -40,6 +40,7 @@ import org.eclipse.core.runtime.URIUtil;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
 import org.eclipse.jdt.debug.tests.connectors.MockLaunch;
 import org.eclipse.jdt.internal.launching.ClasspathShortener;
+import org.eclipse.jdt.internal.launching.SharedProcessTempFiles;
 
 public class ClasspathShortenerTests extends AbstractDebugTest {
 	private static final String MAIN_CLASS = "my.package.MainClass";
@@ -151,6 +152,34 @@ public class ClasspathShortenerTests extends AbstractDebugTest {
 				+ classpathShortener.quoteWindowsPath(classpath), getFileContents(classpathShortener.getProcessTempFiles().get(0)));
 	}
 
+	public void testArgFileReusedForSameClasspath() throws Exception {
+		// Given
+		String classpath = getClasspathOrModulePath(userHomePath("/workspace/myProject/bin"), userHomePath("/workspace/myProject/lib/lib 4.jar"));
+		String[] cmdLine = new String[] { JAVA_10_PATH, ENCODING_ARG, "-cp", classpath, MAIN_CLASS, "-arg1", "arg2" };
+		classpathShortener = new ClasspathShortenerForTest(Platform.OS_LINUX, "10.0.1", cmdLine, 4, null);
+		classpathShortener.setMaxCommandLineLength(100);
+		ClasspathShortenerForTest otherClasspathShortener = new ClasspathShortenerForTest(Platform.OS_LINUX, "10.0.1", cmdLine, 4, null);
+		otherClasspathShortener.setMaxCommandLineLength(100);
+		SharedProcessTempFiles sharedFiles = SharedProcessTempFiles.getDefault();
+
+		// When
+		classpathShortener.shortenCommandLineIfNecessary();
+		File argFile = classpathShortener.getProcessTempFiles().get(0);
+		long lastModified = argFile.lastModified();
+		otherClasspathShortener.shortenCommandLineIfNecessary();
+
+		// Then
+		assertEquals(argFile, otherClasspathShortener.getProcessTempFiles().get(0));
+		assertEquals(lastModified, argFile.lastModified());
+		assertTrue(sharedFiles.release(argFile));
+		assertTrue(sharedFiles.isReferenced(argFile));
+		assertTrue(sharedFiles.release(argFile));
+		assertFalse(sharedFiles.isReferenced(argFile));
+		assertTrue(argFile.exists());
+		sharedFiles.deleteUnused();
+		assertFalse(argFile.exists());
+	}
+
 	public void testArgFileUsedForLongModulePath() throws Exception {
 		// Given
 		String modulepath = getClasspathOrModulePath(userHomePath("/workspace/myProject/bin"), userHomePath("/workspace/myProject/lib/lib 1.jar"));
@@ -330,16 +359,6 @@ public class ClasspathShortenerTests extends AbstractDebugTest {
 			this.forceUseClasspathOnlyJar = forceUseClasspathOnlyJar;
 		}
 
-		@Override
-		protected String getLaunchConfigurationName() {
-			return "launch";
-		}
-
-		@Override
-		protected String getLaunchTimeStamp() {
-			return Long.toString(System.currentTimeMillis());
-		}
-
 		@Override
 		protected boolean handleClasspathTooLongStatus() throws CoreException {
 			return allowToUseClasspathOnlyJar;
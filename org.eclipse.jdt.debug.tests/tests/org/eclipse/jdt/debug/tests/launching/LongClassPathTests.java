@@ -46,6 +46,7 @@ import org.eclipse.jdt.debug.testplugin.JavaProjectHelper;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
 import org.eclipse.jdt.debug.tests.TestUtil;
 import org.eclipse.jdt.internal.launching.LaunchingPlugin;
+import org.eclipse.jdt.internal.launching.SharedProcessTempFiles;
 import org.eclipse.jdt.launching.AbstractVMInstall;
 import org.eclipse.jdt.launching.IJavaLaunchConfigurationConstants;
 import org.eclipse.jdt.launching.IVMInstall;
@@ -142,6 +143,8 @@ public class LongClassPathTests extends AbstractDebugTest {
 		resumeAndExit(thread);
 
 		// Then
+		assertFalse(SharedProcessTempFiles.getDefault().isReferenced(tempFile));
+		SharedProcessTempFiles.getDefault().deleteUnused();
 		if (!Platform.OS.isWindows()) {
 			// On windows, temp file deletion may fail
 			assertFalse(tempFile.exists());
@@ -177,6 +180,8 @@ public class LongClassPathTests extends AbstractDebugTest {
 		resumeAndExit(thread);
 
 		// Then
+		assertFalse(SharedProcessTempFiles.getDefault().isReferenced(tempFile));
+		SharedProcessTempFiles.getDefault().deleteUnused();
 		if (!Platform.OS.isWindows()) {
 			// On windows, temp file deletion may fail
 			assertFalse(tempFile.exists());
@@ -23,6 +23,7 @@ import org.eclipse.debug.core.ILaunchConfiguration;
 import org.eclipse.debug.core.ILaunchConfigurationWorkingCopy;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.debug.testplugin.JavaProjectHelper;
+import org.eclipse.jdt.internal.launching.SharedProcessTempFiles;
 import org.eclipse.jdt.launching.IJavaLaunchConfigurationConstants;
 
 import junit.framework.Test;
@@ -75,6 +76,8 @@ public class LongCommandLineTests extends LongClassPathTests {
 		resumeAndExit(thread);
 
 		// Then
+		assertFalse(SharedProcessTempFiles.getDefault().isReferenced(tempFile));
+		SharedProcessTempFiles.getDefault().deleteUnused();
 		if (!Platform.OS.isWindows()) {
 			// On windows, temp file deletion may fail
 			assertFalse(tempFile.exists());
@@ -39,6 +39,7 @@ import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.testplugin.JavaProjectHelper;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
 import org.eclipse.jdt.internal.launching.LaunchingPlugin;
+import org.eclipse.jdt.internal.launching.SharedProcessTempFiles;
 import org.eclipse.jdt.internal.ui.wizards.buildpaths.BuildPathSupport;
 import org.eclipse.jdt.launching.IJavaLaunchConfigurationConstants;
 import org.eclipse.jdt.launching.JavaRuntime;
@@ -107,6 +108,8 @@ public class LongModulePathTests extends AbstractDebugTest {
 		resumeAndExit(thread);
 
 		// Then
+		assertFalse(SharedProcessTempFiles.getDefault().isReferenced(tempFile));
+		SharedProcessTempFiles.getDefault().deleteUnused();
 		if (!Platform.OS.isWindows()) {
 			// On windows, temp file deletion may fail
 			assertFalse(tempFile.exists());
@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.performance;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.internal.launching.sourcelookup.advanced.FileHashing;
+import org.eclipse.jdt.internal.launching.sourcelookup.advanced.FileHashing.Digest;
+import org.eclipse.test.performance.Dimension;
+import org.eclipse.test.performance.PerformanceTestCase;
+
+/**
+ * Tests the performance of hashing the jars of the local Maven repository with each digest supported by advanced source lookup. The repository is
+ * taken from the {@code maven.repo.local} system property, or {@code ~/.m2/repository}; the tests do nothing if it holds no jars.
+ */
+public class PerfFileHashingTests extends PerformanceTestCase {
+
+	private static final int MAX_JARS = 2000;
+
+	/**
+	 * Tests the performance of hashing jars with SHA-256
+	 */
+	public void testSha256() throws Exception {
+		hashJars("Hashing jars with SHA-256", Digest.SHA256);
+	}
+
+	/**
+	 * Tests the performance of hashing jars with MurmurHash3
+	 */
+	public void testMurmur3() throws Exception {
+		hashJars("Hashing jars with MurmurHash3", Digest.MURMUR3);
+	}
+
+	/**
+	 * Tests the performance of hashing the central directory of jars
+	 */
+	public void testJarDirectory() throws Exception {
+		hashJars("Hashing central directory of jars", Digest.JAR_DIRECTORY);
+	}
+
+	private void hashJars(String summary, Digest digest) throws IOException {
+		List<File> jars = findJars();
+		if (jars.isEmpty()) {
+			return;
+		}
+		tagAsSummary(summary, Dimension.ELAPSED_PROCESS);
+
+		// warm up the file system cache and the JIT
+		for (File jar : jars) {
+			FileHashing.hash(jar, digest);
+		}
+
+		try {
+			for (int i = 0; i < 5; i++) {
+				fPerformanceMeter.start();
+				for (File jar : jars) {
+					FileHashing.hash(jar, digest);
+				}
+				fPerformanceMeter.stop();
+			}
+			fPerformanceMeter.commit();
+		} finally {
+			fPerformanceMeter.dispose();
+		}
+	}
+
+	private static List<File> findJars() throws IOException {
+		String location = System.getProperty("maven.repo.local");
+		Path repository = location != null ? Paths.get(location) : Paths.get(System.getProperty("user.home"), ".m2", "repository");
+		if (!Files.isDirectory(repository)) {
+			return List.of();
+		}
+		try (Stream<Path> files = Files.walk(repository)) {
+			return files.filter(file -> file.getFileName().toString().endsWith(".jar") && Files.isRegularFile(file)) //
+					.sorted().limit(MAX_JARS).map(Path::toFile).collect(Collectors.toList());
+		}
+	}
+}
@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.performance;
+
+import java.util.List;
+
+import org.eclipse.debug.core.model.IThread;
+import org.eclipse.jdt.debug.core.IJavaThread;
+import org.eclipse.jdt.debug.tests.AbstractDebugPerformanceTest;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+import org.eclipse.test.performance.Dimension;
+
+import com.sun.jdi.ThreadReference;
+
+/**
+ * Tests performance of looking up and iterating the threads of a debug target with many live threads, while threads keep starting and ending.
+ */
+public class PerfThreadLookupTests extends AbstractDebugPerformanceTest {
+
+	/**
+	 * Constructor
+	 */
+	public PerfThreadLookupTests(String name) {
+		super(name);
+	}
+
+	/**
+	 * Tests the performance of finding the model thread of thread references and of getting all threads, as done for each event.
+	 */
+	public void testThreadLookup() throws Exception {
+		tagAsSummary("Looking up threads of a target with 5000 threads", Dimension.ELAPSED_PROCESS);
+		String typeName = "ManyThreadsLookup";
+		createLineBreakpoint(52, typeName);
+
+		IJavaThread thread = null;
+		try {
+			thread = launchToBreakpoint(typeName, false);
+			assertNotNull("Breakpoint not hit within timeout period", thread);
+			JDIDebugTarget target = (JDIDebugTarget) thread.getDebugTarget();
+			List<ThreadReference> references = target.getVM().allThreads();
+			assertTrue("Expected at least 5000 threads", references.size() >= 5000);
+
+			// warm up
+			for (int n = 0; n < 10; n++) {
+				lookup(target, references);
+			}
+
+			// real test
+			for (int n = 0; n < 100; n++) {
+				startMeasuring();
+				lookup(target, references);
+				stopMeasuring();
+			}
+			commitMeasurements();
+			assertPerformance();
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	private void lookup(JDIDebugTarget target, List<ThreadReference> references) {
+		for (int i = 0; i < 10; i++) {
+			for (ThreadReference reference : references) {
+				target.findThread(reference);
+			}
+			IThread[] threads = target.getThreads();
+			assertTrue("Expected at least 5000 threads", threads.length >= 5000);
+		}
+	}
+}
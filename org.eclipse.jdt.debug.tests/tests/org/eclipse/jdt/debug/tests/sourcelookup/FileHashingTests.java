@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.sourcelookup;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.launching.LaunchingPlugin;
+import org.eclipse.jdt.internal.launching.sourcelookup.advanced.FileHashing;
+import org.eclipse.jdt.internal.launching.sourcelookup.advanced.FileHashing.Digest;
+
+/**
+ * Tests the persistent index of file hashes used by advanced source lookup
+ */
+public class FileHashingTests extends AbstractDebugTest {
+
+	private Path fDirectory;
+
+	public FileHashingTests(String name) {
+		super(name);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		fDirectory = Files.createTempDirectory("fileHashing");
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		try (var files = Files.list(fDirectory)) {
+			for (Path file : files.toList()) {
+				Files.delete(file);
+			}
+		}
+		Files.delete(fDirectory);
+		super.tearDown();
+	}
+
+	/**
+	 * Tests that a new hasher answers the hash of a file whose size and
+	 * modification time did not change from the persistent index instead of
+	 * hashing the file again.
+	 */
+	public void testIndexedHashReused() throws Exception {
+		Path file = fDirectory.resolve("a.txt");
+		Files.writeString(file, "hello world");
+		Object saved = FileHashing.newHasher().hash(file.toFile());
+		assertNotNull("File not hashed", saved);
+
+		// same size and modification time, so the indexed hash is used
+		FileTime lastModified = Files.getLastModifiedTime(file);
+		Files.writeString(file, "HELLO WORLD");
+		Files.setLastModifiedTime(file, lastModified);
+		assertFalse("Content should hash differently", saved.equals(FileHashing.hash(file.toFile(), Digest.MURMUR3)));
+		assertEquals("Hash not answered from index", saved, FileHashing.newHasher().hash(file.toFile()));
+	}
+
+	/**
+	 * Tests that files which changed are hashed again rather than answered
+	 * from the index.
+	 */
+	public void testChangedFileHashedAgain() throws Exception {
+		Path file = fDirectory.resolve("a.txt");
+		Files.writeString(file, "hello world");
+		Object saved = FileHashing.newHasher().hash(file.toFile());
+
+		Files.writeString(file, "hello world, again");
+		Object hashed = FileHashing.newHasher().hash(file.toFile());
+		assertEquals("Changed file not hashed again", FileHashing.hash(file.toFile(), Digest.MURMUR3), hashed);
+		assertFalse("Stale hash returned", saved.equals(hashed));
+	}
+
+	/**
+	 * Tests that the index is saved to the plug-in state location and can be
+	 * replaced when saved again, as it is not kept open once loaded.
+	 */
+	public void testIndexSaved() throws Exception {
+		Path index = LaunchingPlugin.getDefault().getStateLocation().append("fileHashes.idx").toFile().toPath();
+		Path file = fDirectory.resolve("a.txt");
+		Files.writeString(file, "hello world");
+		FileHashing.newHasher().hash(file.toFile());
+		FileHashing.saveIndex();
+		assertTrue("Index not saved", Files.isRegularFile(index));
+		assertTrue("Index is empty", Files.size(index) > 0);
+
+		Path other = fDirectory.resolve("b.txt");
+		Files.writeString(other, "other content");
+		FileHashing.newHasher().hash(other.toFile());
+		FileHashing.saveIndex();
+		assertTrue("Index not saved again", Files.isRegularFile(index));
+	}
+}
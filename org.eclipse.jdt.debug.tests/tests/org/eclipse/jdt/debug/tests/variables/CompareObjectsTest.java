@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2025 IBM Corporation and others.
+ * Copyright (c) 2025, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,13 +21,16 @@ import static org.eclipse.jdt.internal.debug.ui.ObjectComparison.compareSelected
 import static org.eclipse.jdt.internal.debug.ui.ObjectComparison.customObjectValueExtraction;
 import static org.eclipse.jdt.internal.debug.ui.ObjectComparison.listElementsExtraction;
 import static org.eclipse.jdt.internal.debug.ui.ObjectComparison.mapElementsExtraction;
+import static org.eclipse.jdt.internal.debug.ui.ObjectComparison.mapExtraction;
 import static org.eclipse.jdt.internal.debug.ui.ObjectComparison.objectValueExtraction;
 import static org.eclipse.jdt.internal.debug.ui.ObjectComparison.setElementsExtraction;
 import static org.eclipse.jdt.internal.debug.ui.ObjectComparison.stringCompare;
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.MatcherAssert.assertThat;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.jdt.core.IJavaProject;
@@ -37,6 +40,7 @@ import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.core.IJavaValue;
 import org.eclipse.jdt.debug.core.IJavaVariable;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jface.viewers.IStructuredSelection;
 
 public class CompareObjectsTest extends AbstractDebugTest {
 
@@ -527,4 +531,31 @@ public class CompareObjectsTest extends AbstractDebugTest {
 		}
 	}
 
+	/**
+	 * Tests that maps extracted together in the target have the same contents as maps extracted one element at a time
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void testMapsExtractedTogether() throws Exception {
+		String typeName = "compare.CompareMapObjects";
+		createLineBreakpoint(37, typeName);
+		IJavaThread mainThread = null;
+		try {
+			mainThread = launchToBreakpoint(typeName);
+			assertNotNull("The program did not suspend", mainThread);
+			List selections = new ArrayList();
+			for (int i = 2; i <= 7; i++) {
+				selections.add(mainThread.getTopStackFrame().getVariables()[i]);
+			}
+			Map<IJavaVariable, Object> result = mapExtraction((List<IStructuredSelection>) selections);
+			assertEquals("All maps should be extracted", 6, result.size());
+			for (Object selection : selections) {
+				IJavaVariable map = (IJavaVariable) selection;
+				assertEquals("Wrong contents of " + map.getName(), mapElementsExtraction(map), result.get(map));
+			}
+		} finally {
+			terminateAndRemove(mainThread);
+			removeAllBreakpoints();
+		}
+	}
+
 }
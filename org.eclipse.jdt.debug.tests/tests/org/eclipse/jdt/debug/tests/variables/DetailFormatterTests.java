@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2025 IBM Corporation and others.
+ * Copyright (c) 2016, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,10 +13,18 @@
  *******************************************************************************/
 package org.eclipse.jdt.debug.tests.variables;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import org.eclipse.debug.core.model.IValue;
 import org.eclipse.debug.ui.IValueDetailListener;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.Signature;
+import org.eclipse.jdt.debug.core.IJavaBreakpoint;
+import org.eclipse.jdt.debug.core.IJavaDebugTarget;
+import org.eclipse.jdt.debug.core.IJavaLineBreakpoint;
+import org.eclipse.jdt.debug.core.IJavaObject;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.core.IJavaValue;
 import org.eclipse.jdt.debug.core.IJavaVariable;
@@ -514,4 +522,72 @@ public class DetailFormatterTests extends AbstractDebugTest {
 		}
 	}
 
+	/**
+	 * Tests computing the details of several objects with a single method invocation
+	 */
+	public void testComputeToStrings() throws Exception {
+		IJavaThread thread = null;
+		JavaDetailFormattersManager jdfm = JavaDetailFormattersManager.getDefault();
+		try {
+			String typename = "a.b.c.bug403028";
+			createLineBreakpoint(10, typename);
+			thread = launchToBreakpoint(typename);
+			assertNotNull("The program did not suspend", thread);
+			IJavaVariable var = thread.findVariable("map");
+			assertNotNull("the variable 'map' must exist in the frame", var);
+			IJavaObject map = (IJavaObject) var.getValue();
+			IJavaObject keys = (IJavaObject) map.sendMessage("keySet", "()Ljava/util/Set;", null, thread, false);
+			IJavaObject values = (IJavaObject) map.sendMessage("values", "()Ljava/util/Collection;", null, thread, false);
+			String[] details = jdfm.computeToStrings(new IJavaObject[] { map, keys, values, map }, thread);
+			assertEquals("{one=1, two=2, three=3}", details[0]);
+			assertEquals("[one, two, three]", details[1]);
+			assertEquals("[1, 2, 3]", details[2]);
+			assertEquals("{one=1, two=2, three=3}", details[3]);
+			List<String> results = Collections.synchronizedList(new ArrayList<>());
+			jdfm.computeValueDetails(new IJavaValue[] { keys, values }, thread, (value, result) -> results.add(result));
+			long timeoutNanos = System.nanoTime() + 5000 * 1_000_000L;
+			while (results.size() < 2 && System.nanoTime() < timeoutNanos) {
+				Thread.sleep(1);
+			}
+			assertEquals(List.of("[one, two, three]", "[1, 2, 3]"), results);
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Tests that <code>toString()</code> is not invoked again for the details of an
+	 * object while the VM stays suspended
+	 */
+	public void testValueDetailCachedWhileVMSuspended() throws Exception {
+		IJavaThread thread = null;
+		JavaDetailFormattersManager jdfm = JavaDetailFormattersManager.getDefault();
+		try {
+			String typename = "a.b.c.bug403028";
+			IJavaLineBreakpoint bp = createLineBreakpoint(10, typename);
+			// details are only cached while all threads are suspended
+			bp.setSuspendPolicy(IJavaBreakpoint.SUSPEND_VM);
+			thread = launchToBreakpoint(typename);
+			assertNotNull("The program did not suspend", thread);
+			IJavaVariable var = thread.findVariable("map");
+			assertNotNull("the variable 'map' must exist in the frame", var);
+			IJavaObject map = (IJavaObject) var.getValue();
+			jdfm.computeValueDetail(map, thread, fListener);
+			waitForListenerValue();
+			assertEquals("{one=1, two=2, three=3}", fListener.result);
+
+			// a method invocation does not end the suspend epoch, so the details of the map are not computed again
+			IJavaValue[] args = { ((IJavaDebugTarget) thread.getDebugTarget()).newValue("one") };
+			map.sendMessage("remove", "(Ljava/lang/Object;)Ljava/lang/Object;", args, thread, false);
+			fListener.reset();
+			jdfm.computeValueDetail(map, thread, fListener);
+			waitForListenerValue();
+			assertEquals("toString() should not be invoked again", "{one=1, two=2, three=3}", fListener.result);
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
 }
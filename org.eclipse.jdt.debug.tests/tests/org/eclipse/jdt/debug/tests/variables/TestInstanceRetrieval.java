@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.jdt.debug.tests.variables;
 
+import java.util.Arrays;
+
 import org.eclipse.debug.core.model.IBreakpoint;
 import org.eclipse.jdt.debug.core.IJavaDebugTarget;
 import org.eclipse.jdt.debug.core.IJavaLineBreakpoint;
@@ -22,6 +24,8 @@ import org.eclipse.jdt.debug.core.IJavaStackFrame;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.core.IJavaVariable;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+import org.eclipse.jdt.internal.debug.core.model.JDIReferenceType;
 
 /**
  * Tests for instance retrieval
@@ -95,4 +99,34 @@ public class TestInstanceRetrieval extends AbstractDebugTest {
 		}
 	}
 
+	/**
+	 * Tests counting the instances of several types together.
+	 */
+	public void testGetInstanceCounts() throws Exception {
+		String typeName = "java6.AllInstancesTests";
+		createLineBreakpoint(66, typeName);
+		IJavaThread thread= null;
+		try {
+			thread= launchToBreakpoint(typeName);
+			assertNotNull("Breakpoint not hit within timeout period", thread);
+			JDIDebugTarget target = (JDIDebugTarget) thread.getDebugTarget();
+			if (target.supportsInstanceRetrieval()) {
+				IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+				assertNotNull("missing top frame", frame);
+				JDIReferenceType roType = (JDIReferenceType) ((IJavaObject) frame.findVariable("ro").getValue()).getJavaType();
+				JDIReferenceType rcType = (JDIReferenceType) ((IJavaObject) frame.findVariable("rc").getValue()).getJavaType();
+
+				long[] counts = JDIReferenceType.getInstanceCounts(target, Arrays.asList(roType, rcType, roType));
+				assertEquals("Wrong number of counts", 3, counts.length);
+				assertEquals("Wrong instance count", 13, counts[0]);
+				assertEquals("Wrong instance count", 1002, counts[1]);
+				assertEquals("Wrong instance count", 13, counts[2]);
+				assertEquals("Wrong instance count", 1002, rcType.getInstanceCount());
+			}
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
 }
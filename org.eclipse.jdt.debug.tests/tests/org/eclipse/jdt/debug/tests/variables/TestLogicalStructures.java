@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -26,10 +26,13 @@ import org.eclipse.debug.core.model.IBreakpoint;
 import org.eclipse.debug.core.model.IValue;
 import org.eclipse.debug.core.model.IVariable;
 import org.eclipse.jdt.debug.core.IJavaArray;
+import org.eclipse.jdt.debug.core.IJavaBreakpoint;
 import org.eclipse.jdt.debug.core.IJavaDebugTarget;
+import org.eclipse.jdt.debug.core.IJavaLineBreakpoint;
 import org.eclipse.jdt.debug.core.IJavaObject;
 import org.eclipse.jdt.debug.core.IJavaStackFrame;
 import org.eclipse.jdt.debug.core.IJavaThread;
+import org.eclipse.jdt.debug.core.IJavaValue;
 import org.eclipse.jdt.debug.core.IJavaVariable;
 import org.eclipse.jdt.debug.eval.IAstEvaluationEngine;
 import org.eclipse.jdt.debug.eval.IEvaluationListener;
@@ -161,6 +164,43 @@ public class TestLogicalStructures extends AbstractDebugTest {
 		}
 	}
 
+	/**
+	 * Test the logical structure of a map entry is evaluated once per suspension, with the types of its variables.
+	 */
+	public void testEntryLogicalStructureRemembered() throws Exception {
+		String typeName = "LogicalStructures";
+		IJavaLineBreakpoint bp = createLineBreakpoint(32, typeName);
+		// logical values are only remembered while all threads are suspended
+		bp.setSuspendPolicy(IJavaBreakpoint.SUSPEND_VM);
+		IJavaThread thread= null;
+		try {
+			thread= launchToBreakpoint(typeName);
+			assertNotNull("Breakpoint not hit within timeout period", thread);
+
+			IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+			assertNotNull("missing top frame", frame);
+
+			IJavaVariable variable = frame.findVariable("entry");
+			assertNotNull("Missing variable 'entry'", variable);
+
+			IValue value = variable.getValue();
+			ILogicalStructureType[] types = DebugPlugin.getLogicalStructureTypes(value);
+			assertEquals("Should be one logical structure type", 1, types.length);
+
+			IJavaObject logicalValue = (IJavaObject) types[0].getLogicalStructure(value);
+			gcInSnippet(frame);
+			assertSame("Logical value should be remembered", logicalValue, types[0].getLogicalStructure(value));
+
+			IVariable[] children = logicalValue.getVariables();
+			assertEquals("Should be two elements in the structure", 2, children.length);
+			assertEquals("Wrong key type", "java.lang.String", ((IJavaValue) children[0].getValue()).getReferenceTypeName());
+			assertEquals("Wrong value type", "java.lang.Integer", ((IJavaValue) children[1].getValue()).getReferenceTypeName());
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
 	private void gcInSnippet(IJavaStackFrame stackFrame) throws CoreException, InterruptedException {
 		IAstEvaluationEngine engine = JDIDebugPlugin.getDefault().getEvaluationEngine(getProjectContext(), (IJavaDebugTarget) stackFrame.getDebugTarget());
 		EvaluationListener listener = new EvaluationListener();
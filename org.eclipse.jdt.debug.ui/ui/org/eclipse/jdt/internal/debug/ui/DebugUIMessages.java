@@ -89,6 +89,7 @@ public class DebugUIMessages extends NLS {
 	public static String JavaDebugPreferencePage_28;
 
 	public static String JavaDebugPreferencePage_advancedSourcelookup;
+	public static String JavaDebugPreferencePage_discoverVirtualThreadsLazily;
 	public static String JavaDebugPreferencePage_listenToThreadNameChanges;
 
 	public static String JavaDebugPreferencePage_only_include_exported_entries;
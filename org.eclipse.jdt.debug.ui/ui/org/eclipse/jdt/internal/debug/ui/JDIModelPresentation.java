@@ -198,6 +198,23 @@ public class JDIModelPresentation extends LabelProvider implements IDebugModelPr
 		}
 	}
 
+	/**
+	 * Computes asynchronously the 'toString' of the values of the given variables together,
+	 * so that their details shown in labels are computed without invoking a method for each of them.
+	 *
+	 * @param variables
+	 *            variables of the same debug target, which labels are computed next
+	 */
+	public void prefetchDetails(IJavaVariable[] variables) {
+		if (variables.length < 2) {
+			return;
+		}
+		IJavaThread thread = getEvaluationThread((IJavaDebugTarget) variables[0].getDebugTarget());
+		if (thread != null) {
+			JavaDetailFormattersManager.getDefault().prefetchValueDetails(variables, thread);
+		}
+	}
+
 	/**
 	 * Returns a thread from the specified VM that can be used for an evaluation or <code>null</code> if none.
 	 *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -101,6 +101,7 @@ public class JavaDebugPreferencePage extends PreferencePage implements IWorkbenc
 	private Button fShowStepResult;
 	private Button fShowStepResultRemote;
 	private Button fAdvancedSourcelookup;
+	private Button fDiscoverVirtualThreadsLazily;
 	private Button fExceptionBreakpoint;
 
 	// Timeout preference widgets
@@ -209,6 +210,7 @@ public class JavaDebugPreferencePage extends PreferencePage implements IWorkbenc
 
 		SWTFactory.createVerticalSpacer(composite, 1);
 		fAdvancedSourcelookup = SWTFactory.createCheckButton(composite, DebugUIMessages.JavaDebugPreferencePage_advancedSourcelookup, null, false, 1);
+		fDiscoverVirtualThreadsLazily = SWTFactory.createCheckButton(composite, DebugUIMessages.JavaDebugPreferencePage_discoverVirtualThreadsLazily, null, false, 1);
 
 		setValues();
 
@@ -253,6 +255,7 @@ public class JavaDebugPreferencePage extends PreferencePage implements IWorkbenc
 			prefs.putInt(JDIDebugModel.PREF_REQUEST_TIMEOUT, fTimeoutText.getIntValue());
 			prefs.putBoolean(JDIDebugModel.PREF_FILTER_BREAKPOINTS_FROM_UNRELATED_SOURCES, fFilterUnrelatedBreakpoints.getSelection());
 			prefs.putBoolean(JDIDebugPlugin.PREF_ENABLE_ADVANCED_SOURCELOOKUP, fAdvancedSourcelookup.getSelection());
+			prefs.putBoolean(JDIDebugPlugin.PREF_DISCOVER_VIRTUAL_THREADS_LAZILY, fDiscoverVirtualThreadsLazily.getSelection());
 			prefs.putBoolean(JDIDebugModel.PREF_CREATE_EXCEPTION_BREAKPOINTS_ON_CLICK, fExceptionBreakpoint.getSelection());
 			try {
 				prefs.flush();
@@ -305,6 +308,7 @@ public class JavaDebugPreferencePage extends PreferencePage implements IWorkbenc
 			fFilterUnrelatedBreakpoints.setSelection(prefs.getBoolean(JDIDebugModel.PREF_FILTER_BREAKPOINTS_FROM_UNRELATED_SOURCES, true));
 			fExceptionBreakpoint.setSelection(prefs.getBoolean(JDIDebugModel.PREF_CREATE_EXCEPTION_BREAKPOINTS_ON_CLICK, true));
 			fAdvancedSourcelookup.setSelection(prefs.getBoolean(JDIDebugPlugin.PREF_ENABLE_ADVANCED_SOURCELOOKUP, true));
+			fDiscoverVirtualThreadsLazily.setSelection(prefs.getBoolean(JDIDebugPlugin.PREF_DISCOVER_VIRTUAL_THREADS_LAZILY, false));
 		}
 		prefs = DefaultScope.INSTANCE.getNode(LaunchingPlugin.ID_PLUGIN);
 		if(prefs != null) {
@@ -349,6 +353,7 @@ public class JavaDebugPreferencePage extends PreferencePage implements IWorkbenc
 		fFilterUnrelatedBreakpoints.setSelection(prefs.getBoolean(bundleId, JDIDebugModel.PREF_FILTER_BREAKPOINTS_FROM_UNRELATED_SOURCES, true, null));
 		fExceptionBreakpoint.setSelection(prefs.getBoolean(bundleId, JDIDebugModel.PREF_CREATE_EXCEPTION_BREAKPOINTS_ON_CLICK, true, null));
 		fAdvancedSourcelookup.setSelection(prefs.getBoolean(bundleId, JDIDebugPlugin.PREF_ENABLE_ADVANCED_SOURCELOOKUP, true, null));
+		fDiscoverVirtualThreadsLazily.setSelection(prefs.getBoolean(bundleId, JDIDebugPlugin.PREF_DISCOVER_VIRTUAL_THREADS_LAZILY, false, null));
 
 		bundleId = LaunchingPlugin.ID_PLUGIN;
 		fConnectionTimeoutText.setStringValue(Integer.toString(prefs.getInt(bundleId, JavaRuntime.PREF_CONNECT_TIMEOUT, JavaRuntime.DEF_CONNECT_TIMEOUT, null)));
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,9 +13,14 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.debug.ui;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IAdaptable;
@@ -46,6 +51,7 @@ import org.eclipse.jdt.debug.core.IJavaStackFrame;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.core.IJavaType;
 import org.eclipse.jdt.debug.core.IJavaValue;
+import org.eclipse.jdt.debug.core.IJavaVariable;
 import org.eclipse.jdt.debug.eval.IAstEvaluationEngine;
 import org.eclipse.jdt.debug.eval.ICompiledExpression;
 import org.eclipse.jdt.debug.eval.IEvaluationListener;
@@ -53,6 +59,7 @@ import org.eclipse.jdt.debug.eval.IEvaluationResult;
 import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
 import org.eclipse.jdt.internal.debug.core.JavaDebugUtils;
 import org.eclipse.jdt.internal.debug.core.logicalstructures.JDIAllInstancesValue;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
 import org.eclipse.jdt.internal.debug.core.model.JDINullValue;
 import org.eclipse.jdt.internal.debug.core.model.JDIReferenceListValue;
 import org.eclipse.jdt.internal.debug.core.model.JDIType;
@@ -96,6 +103,21 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 	 */
 	private final HashMap<Key, Expression> fCacheMap;
 
+	/**
+	 * Formatter of the details of objects without detail formatter, <code>toString()</code>
+	 * for objects and the details of the elements for arrays.
+	 */
+	private static final Object DEFAULT_FORMATTER = new Object();
+
+	/**
+	 * Cache of computed details.
+	 * Associate an object, the formatter used and the suspend epoch of the debug
+	 * target to the details of the object. Details computed during a previous
+	 * suspend epoch are never looked up again and are discarded when a thread
+	 * of the target suspends.
+	 */
+	private final Map<DetailKey, String> fDetailCache = new ConcurrentHashMap<>();
+
 	/**
 	 * JavaDetailFormattersManager constructor.
 	 */
@@ -141,6 +163,260 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 		});
 	}
 
+	/**
+	 * Compute asynchronously the details of the given values, as {@link #computeValueDetail(IJavaValue, IJavaThread, IValueDetailListener)}
+	 * does for each of them. The 'toString' of the values without formatter are computed
+	 * together, with a single method invocation in the given thread.
+	 * The results are returned through the listener.
+	 *
+	 * @param values the values to 'format'
+	 * @param thread the thread to use to performed the evaluations
+	 * @param listener the listener
+	 */
+	public void computeValueDetails(final IJavaValue[] values, final IJavaThread thread, final IValueDetailListener listener) {
+		thread.queueRunnable(new Runnable() {
+			@Override
+			public void run() {
+				cacheToStrings(values, thread);
+				for (IJavaValue value : values) {
+					resolveFormatter(value, thread, listener);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Compute asynchronously the 'toString' of the values of the given variables which have
+	 * no formatter, with a single method invocation in the given thread, so that computing
+	 * their details afterwards with {@link #computeValueDetail(IJavaValue, IJavaThread, IValueDetailListener)}
+	 * does not invoke a method for each of them.
+	 *
+	 * @param variables the variables which value details are computed next
+	 * @param thread the thread to use to performed the evaluation
+	 */
+	public void prefetchValueDetails(final IJavaVariable[] variables, final IJavaThread thread) {
+		thread.queueRunnable(new Runnable() {
+			@Override
+			public void run() {
+				List<IJavaValue> values = new ArrayList<>(variables.length);
+				for (IJavaVariable variable : variables) {
+					try {
+						if (variable.getValue() instanceof IJavaValue value) {
+							values.add(value);
+						}
+					} catch (DebugException e) {
+						// reported with the label of the variable
+					}
+				}
+				cacheToStrings(values.toArray(new IJavaValue[values.size()]), thread);
+			}
+		});
+	}
+
+	/**
+	 * Returns the result of <code>toString()</code> for each of the given objects, ignoring
+	 * detail formatters. The results which are not cached are computed with a single method
+	 * invocation in the given thread.
+	 *
+	 * @param objects the objects
+	 * @param thread the thread to use to invoke methods, suspended
+	 * @return the result of <code>toString()</code> for each object
+	 * @throws DebugException if unable to invoke <code>toString()</code>
+	 */
+	public String[] computeToStrings(IJavaObject[] objects, IJavaThread thread) throws DebugException {
+		String[] results = new String[objects.length];
+		List<IJavaObject> missing = new ArrayList<>();
+		List<DetailKey> keys = new ArrayList<>();
+		for (int i = 0; i < objects.length; i++) {
+			IJavaObject object = objects[i];
+			if (object.isNull()) {
+				results[i] = DebugUIMessages.JavaDetailFormattersManager_null;
+			} else if (EvaluationListener.STRING_SIGNATURE.equals(object.getSignature())) {
+				results[i] = object.getValueString();
+			} else {
+				DetailKey key = getDetailKey(object, DEFAULT_FORMATTER);
+				results[i] = key == null ? null : fDetailCache.get(key);
+				if (results[i] == null && (key == null || !keys.contains(key))) {
+					missing.add(object);
+					keys.add(key);
+				}
+			}
+		}
+		if (!missing.isEmpty()) {
+			String[] computed = null;
+			if (missing.size() > 1) {
+				try {
+					computed = invokeToStrings(missing.toArray(new IJavaObject[missing.size()]), thread);
+				} catch (DebugException e) {
+					// one of the objects failed, let it report the failure
+				}
+			}
+			if (computed == null) {
+				computed = new String[missing.size()];
+				for (int i = 0; i < computed.length; i++) {
+					IJavaValue toStringValue = missing.get(i).sendMessage(EvaluationListener.fgToString, EvaluationListener.fgToStringSignature, null, thread, false);
+					computed[i] = toStringValue == null ? DebugUIMessages.JavaDetailFormattersManager__unknown_ : toStringValue.getValueString();
+				}
+			}
+			for (int i = 0; i < computed.length; i++) {
+				if (keys.get(i) != null) {
+					fDetailCache.put(keys.get(i), computed[i]);
+				}
+			}
+			for (int i = 0; i < objects.length; i++) {
+				if (results[i] == null) {
+					results[i] = computed[missing.indexOf(objects[i])];
+				}
+			}
+		}
+		return results;
+	}
+
+	/**
+	 * Computes and caches the 'toString' of the given values which have no formatter and
+	 * which details are not cached yet, if there are several of them. Failures are ignored,
+	 * the details are then computed one at a time.
+	 */
+	private void cacheToStrings(IJavaValue[] values, IJavaThread thread) {
+		if (!thread.isSuspended()) {
+			return;
+		}
+		final List<IJavaObject> objects = new ArrayList<>();
+		final List<DetailKey> keys = new ArrayList<>();
+		IJavaDebugTarget debugTarget= (IJavaDebugTarget) thread.getDebugTarget();
+		for (IJavaValue value : values) {
+			if (!(value instanceof IJavaObject object) || value instanceof IJavaArray || value instanceof JDIAllInstancesValue
+					|| value instanceof JDIReferenceListValue || value.isNull()) {
+				continue;
+			}
+			try {
+				if (EvaluationListener.STRING_SIGNATURE.equals(object.getSignature()) || getCompiledExpression(object, debugTarget, thread) != null) {
+					continue;
+				}
+				DetailKey key = getDetailKey(object, DEFAULT_FORMATTER);
+				if (key != null && !fDetailCache.containsKey(key) && !keys.contains(key)) {
+					objects.add(object);
+					keys.add(key);
+				}
+			} catch (CoreException e) {
+				// computed with the details
+			}
+		}
+		if (objects.size() < 2) {
+			return;
+		}
+		IEvaluationRunnable eval = new IEvaluationRunnable() {
+			@Override
+			public void run(IJavaThread evaluationThread, IProgressMonitor monitor) throws DebugException {
+				String[] details = invokeToStrings(objects.toArray(new IJavaObject[objects.size()]), evaluationThread);
+				if (details != null) {
+					for (int i = 0; i < details.length; i++) {
+						fDetailCache.put(keys.get(i), details[i]);
+					}
+				}
+			}
+		};
+		try {
+			thread.runEvaluation(eval, null, DebugEvent.EVALUATION_IMPLICIT, false);
+		} catch (DebugException e) {
+			// computed one at a time with the details
+		}
+	}
+
+	/**
+	 * Returns the result of <code>toString()</code> for each of the given objects, computed
+	 * with a single invocation of <code>java.util.Arrays.toString(Object[])</code> on an array
+	 * holding the objects separated by a unique marker string, or <code>null</code> if the
+	 * target cannot compute them this way.
+	 *
+	 * @param objects the objects, at least one
+	 * @param thread the thread to use to invoke the method
+	 * @return the result of <code>toString()</code> for each object or <code>null</code>
+	 * @throws DebugException if the invocation fails, for example because one of the objects throws an exception
+	 */
+	private static String[] invokeToStrings(IJavaObject[] objects, IJavaThread thread) throws DebugException {
+		IJavaDebugTarget debugTarget= (IJavaDebugTarget) thread.getDebugTarget();
+		IJavaType[] arraysTypes = debugTarget.getJavaTypes("java.util.Arrays"); //$NON-NLS-1$
+		IJavaType[] arrayTypes = debugTarget.getJavaTypes("java.lang.Object[]"); //$NON-NLS-1$
+		if (arraysTypes == null || arraysTypes.length == 0 || !(arraysTypes[0] instanceof IJavaClassType arraysType)
+				|| arrayTypes == null || arrayTypes.length == 0 || !(arrayTypes[0] instanceof IJavaArrayType arrayType)) {
+			return null;
+		}
+		String marker = "\u0000" + UUID.randomUUID() + "\u0000"; //$NON-NLS-1$ //$NON-NLS-2$
+		IJavaValue separator = debugTarget.newValue(marker);
+		if (!(separator instanceof IJavaObject separatorObject)) {
+			return null;
+		}
+		separatorObject.disableCollection();
+		try {
+			IJavaArray array = arrayType.newInstance(2 * objects.length - 1);
+			array.disableCollection();
+			try {
+				IJavaValue[] elements = new IJavaValue[2 * objects.length - 1];
+				for (int i = 0; i < objects.length; i++) {
+					if (i > 0) {
+						elements[2 * i - 1] = separatorObject;
+					}
+					elements[2 * i] = objects[i];
+				}
+				array.setValues(elements);
+				IJavaValue result = arraysType.sendMessage("toString", "([Ljava/lang/Object;)Ljava/lang/String;", new IJavaValue[] { array }, thread); //$NON-NLS-1$ //$NON-NLS-2$
+				if (result == null || result.isNull()) {
+					return null;
+				}
+				return splitToStrings(result.getValueString(), marker, objects.length);
+			} finally {
+				array.enableCollection();
+			}
+		} finally {
+			separatorObject.enableCollection();
+		}
+	}
+
+	/**
+	 * Splits the result of <code>java.util.Arrays.toString(Object[])</code> on an array holding
+	 * the given number of elements separated by the given marker.
+	 */
+	private static String[] splitToStrings(String joined, String marker, int count) {
+		if (joined.length() < 2 || joined.charAt(0) != '[' || joined.charAt(joined.length() - 1) != ']') {
+			return null;
+		}
+		String separator = ", " + marker + ", "; //$NON-NLS-1$ //$NON-NLS-2$
+		String[] results = new String[count];
+		int start = 1;
+		for (int i = 0; i < count - 1; i++) {
+			int end = joined.indexOf(separator, start);
+			if (end < 0) {
+				return null;
+			}
+			results[i] = joined.substring(start, end);
+			start = end + separator.length();
+		}
+		if (joined.indexOf(separator, start) >= 0) {
+			return null;
+		}
+		results[count - 1] = joined.substring(start, joined.length() - 1);
+		return results;
+	}
+
+	/**
+	 * Returns the key of the details of the given object computed with the given formatter
+	 * during the current suspend epoch of its debug target, or <code>null</code> if the details
+	 * of the object are not cached.
+	 *
+	 * @see JDIDebugTarget#getCacheEpoch()
+	 */
+	private static DetailKey getDetailKey(IJavaObject object, Object formatter) throws DebugException {
+		if (object.isNull() || !(object.getDebugTarget() instanceof JDIDebugTarget debugTarget)) {
+			return null;
+		}
+		long epoch = debugTarget.getCacheEpoch();
+		if (epoch == -1) {
+			return null;
+		}
+		return new DetailKey(debugTarget, object.getUniqueId(), formatter, epoch);
+	}
+
 	private void resolveFormatter(final IJavaValue value, final IJavaThread thread, final IValueDetailListener listener) {
 		EvaluationListener evaluationListener = new EvaluationListener(value, thread, listener);
 		if (value instanceof IJavaObject) {
@@ -157,6 +433,17 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 				IJavaDebugTarget debugTarget= (IJavaDebugTarget) thread.getDebugTarget();
 				// get the compiled expression to use
 				Expression expression= getCompiledExpression(objectValue, debugTarget, thread);
+				if (!EvaluationListener.STRING_SIGNATURE.equals(objectValue.getSignature())) {
+					DetailKey key = getDetailKey(objectValue, expression != null ? expression : DEFAULT_FORMATTER);
+					if (key != null) {
+						String detail = fDetailCache.get(key);
+						if (detail != null) {
+							listener.detailComputed(value, detail);
+							return;
+						}
+						evaluationListener.setCache(fDetailCache, key);
+					}
+				}
 				if (expression != null) {
 					expression.getEngine().evaluateExpression(expression.getExpression(), objectValue, thread,
 							evaluationListener, DebugEvent.EVALUATION_IMPLICIT, false);
@@ -590,6 +877,7 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 				property.equals(IDebugUIConstants.PREF_MAX_DETAIL_LENGTH)) {
 			populateDetailFormattersMap();
 			fCacheMap.clear();
+			fDetailCache.clear();
 			// If a Java stack frame is selected in the Debug view, fire a change event on
 			// it so the variables view will update for any formatter changes.
             IAdaptable selected = DebugUITools.getDebugContext();
@@ -612,6 +900,15 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 			DebugEvent event = events[i];
 			if (event.getSource() instanceof IJavaDebugTarget && event.getKind() == DebugEvent.TERMINATE) {
 				deleteCacheForTarget((IJavaDebugTarget) event.getSource());
+			} else if (event.getSource() instanceof IJavaThread thread && event.getKind() == DebugEvent.SUSPEND && !event.isEvaluation()
+					&& thread.getDebugTarget() instanceof JDIDebugTarget debugTarget) {
+				long epoch = debugTarget.getSuspendEpoch();
+				fDetailCache.keySet().removeIf(key -> key.debugTarget() == debugTarget && key.suspendEpoch() != epoch);
+			} else if (event.getSource() instanceof IJavaThread thread && event.getKind() == DebugEvent.RESUME && event.getDetail() == DebugEvent.EVALUATION) {
+				// explicit evaluations may change objects without changing the suspend epoch
+				deleteDetailsForTarget(thread.getDebugTarget());
+			} else if (event.getSource() instanceof IJavaVariable variable && event.getKind() == DebugEvent.CHANGE && event.getDetail() == DebugEvent.CONTENT) {
+				deleteDetailsForTarget(variable.getDebugTarget());
 			}
 		}
 	}
@@ -659,6 +956,16 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 				iter.remove();
 			}
 		}
+		deleteDetailsForTarget(debugTarget);
+	}
+
+	/**
+	 * Remove from the cache details computed in the given debug target.
+	 *
+	 * @param debugTarget the target
+	 */
+	private void deleteDetailsForTarget(IDebugTarget debugTarget) {
+		fDetailCache.keySet().removeIf(key -> key.debugTarget() == debugTarget);
 	}
 
 	/**
@@ -689,6 +996,14 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 		}
 	}
 
+	/**
+	 * Key of the details of an object in the cache map, associating the object with the
+	 * formatter used, a compiled expression or {@link #DEFAULT_FORMATTER}, and the
+	 * suspend epoch during which the details were computed.
+	 */
+	private record DetailKey(JDIDebugTarget debugTarget, long objectId, Object formatter, long suspendEpoch) {
+	}
+
 	/**
 	 * Stores a compiled expression and evaluation engine used to evaluate the expression.
 	 */
@@ -738,12 +1053,41 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 
 		private final IJavaThread fThread;
 
+		/**
+		 * Cache of computed details and key of the computed details in the cache,
+		 * <code>null</code> if the details are not cached
+		 */
+		private Map<DetailKey, String> fCache;
+
+		private DetailKey fCacheKey;
+
 		public EvaluationListener(IJavaValue value, IJavaThread thread, IValueDetailListener listener) {
 			fValue= value;
 			fThread= thread;
 			fListener= listener;
 		}
 
+		/**
+		 * Caches the details once successfully computed.
+		 *
+		 * @param cache the cache of computed details
+		 * @param key the key of the details in the cache
+		 */
+		void setCache(Map<DetailKey, String> cache, DetailKey key) {
+			fCache= cache;
+			fCacheKey= key;
+		}
+
+		/**
+		 * Reports the successfully computed details, caching them if required.
+		 */
+		private void detailComputed(String detail) {
+			if (fCache != null) {
+				fCache.put(fCacheKey, detail);
+			}
+			fListener.detailComputed(fValue, detail);
+		}
+
 		@Override
 		public void evaluationComplete(IEvaluationResult result) {
 			if (result.hasErrors()) {
@@ -779,6 +1123,7 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 		public void valueToString(final IJavaValue objectValue) throws DebugException {
 			String nonEvalResult = null;
 			StringBuilder result= null;
+			boolean computed = true;
 			if (objectValue.getSignature() == null) {
 				// no need to spawn evaluate for a null fValue
 				nonEvalResult = DebugUIMessages.JavaDetailFormattersManager_null;
@@ -788,6 +1133,7 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 				appendJDIPrimitiveValueString(result, objectValue);
 			} else if (fThread == null || !fThread.isSuspended()) {
 				// no thread available
+				computed = false;
 				result = new StringBuilder();
 				result.append(DebugUIMessages.JavaDetailFormattersManager_no_suspended_threads);
 				appendJDIValueString(result, objectValue);
@@ -800,7 +1146,11 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 				nonEvalResult = result.toString();
 			}
 			if (nonEvalResult != null) {
-				fListener.detailComputed(fValue, nonEvalResult);
+				if (computed) {
+					detailComputed(nonEvalResult);
+				} else {
+					fListener.detailComputed(fValue, nonEvalResult);
+				}
 				return;
 			}
 
@@ -815,7 +1165,7 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 					} else {
 						appendJDIValueString(buf, objectValue);
 					}
-					fListener.detailComputed(fValue, buf.toString());
+					detailComputed(buf.toString());
 				}
 			};
 			fThread.runEvaluation(eval, null, DebugEvent.EVALUATION_IMPLICIT, false);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2025 IBM Corporation and others.
+ * Copyright (c) 2025, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -31,6 +31,7 @@ import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.core.IJavaValue;
 import org.eclipse.jdt.debug.core.IJavaVariable;
 import org.eclipse.jdt.internal.debug.core.model.JDIStackFrame;
+import org.eclipse.jdt.internal.debug.ui.ObjectSnapshots.Snapshot;
 import org.eclipse.jface.viewers.IStructuredSelection;
 import org.eclipse.osgi.util.NLS;
 
@@ -79,6 +80,38 @@ public final class ObjectComparison {
 		return value.toString();
 	}
 
+	/**
+	 * Takes snapshots of the collections or maps of the selected variables with a single evaluation in the target
+	 *
+	 * @param selections
+	 *            List of selected objects
+	 * @throws DebugException
+	 * @return Returns a Map of IJavaVariable and the snapshot of its value, empty if the snapshots cannot be taken in the target
+	 */
+	private static Map<IJavaVariable, Snapshot> takeSnapshots(List<IStructuredSelection> selections) throws DebugException {
+		List<IJavaVariable> variables = new ArrayList<>();
+		List<IJavaObject> objects = new ArrayList<>();
+		for (Object selection : selections) {
+			if (selection instanceof IJavaVariable selectedObject && selectedObject.getValue() instanceof IJavaObject javaObject && !javaObject.isNull()) {
+				variables.add(selectedObject);
+				objects.add(javaObject);
+			}
+		}
+		Map<IJavaVariable, Snapshot> result = new HashMap<>();
+		if (objects.isEmpty()) {
+			return result;
+		}
+		Snapshot[] snapshots = ObjectSnapshots.take(objects.toArray(new IJavaObject[objects.size()]), getSuspendedThread(objects.get(0)));
+		if (snapshots != null) {
+			for (int i = 0; i < snapshots.length; i++) {
+				if (snapshots[i] != null) {
+					result.put(variables.get(i), snapshots[i]);
+				}
+			}
+		}
+		return result;
+	}
+
 	/**
 	 * Extracts actual String contents from any CharSequence implementations
 	 *
@@ -87,11 +120,33 @@ public final class ObjectComparison {
 	 * @throws DebugException
 	 * @return Returns string content
 	 */
-	@SuppressWarnings("nls")
 	private static String stringValueExtraction(IJavaObject value) throws DebugException {
 		IJavaThread thread = getSuspendedThread(value);
-		IJavaValue stringVal = value.sendMessage("toString", "()Ljava/lang/String;", null, thread, false);
-		return stringVal.getValueString();
+		return JavaDetailFormattersManager.getDefault().computeToStrings(new IJavaObject[] { value }, thread)[0];
+	}
+
+	/**
+	 * Computes together the string contents of the given elements implementing CharSequence, so that extracting their values one at a time does
+	 * not invoke a method for each of them
+	 *
+	 * @param elements
+	 *            variables of the elements
+	 * @param thread
+	 *            suspended thread used to invoke methods
+	 * @throws DebugException
+	 */
+	@SuppressWarnings("nls")
+	private static void prefetchStringValues(IVariable[] elements, IJavaThread thread) throws DebugException {
+		List<IJavaObject> objects = new ArrayList<>();
+		for (IVariable element : elements) {
+			if (element.getValue() instanceof IJavaObject object && !object.isNull()
+					&& getInterfaces(object.getReferenceTypeName()).contains("java.lang.CharSequence")) {
+				objects.add(object);
+			}
+		}
+		if (objects.size() > 1) {
+			JavaDetailFormattersManager.getDefault().computeToStrings(objects.toArray(new IJavaObject[objects.size()]), thread);
+		}
 	}
 
 	/**
@@ -104,10 +159,12 @@ public final class ObjectComparison {
 	 */
 	public static Map<IJavaVariable, Object> setExtraction(List<IStructuredSelection> selections) throws DebugException {
 		Map<IJavaVariable, Object> result = new HashMap<>();
+		Map<IJavaVariable, Snapshot> snapshots = takeSnapshots(selections);
 		for (Object selection : selections) {
 			if (selection instanceof IJavaVariable selectedObject) {
 				if (selectedObject.getValue() instanceof IJavaObject javaObject) {
-					List<String> contents = setElementsExtraction(javaObject);
+					Snapshot snapshot = snapshots.get(selectedObject);
+					List<String> contents = snapshot != null ? snapshot.elements() : setElementsExtraction(javaObject);
 					result.put(selectedObject, contents);
 				}
 			}
@@ -128,7 +185,9 @@ public final class ObjectComparison {
 		List<String> contents = new ArrayList<>();
 		IJavaThread thread = getSuspendedThread(javaObject1);
 		IJavaValue toArray = javaObject1.sendMessage("toArray", "()[Ljava/lang/Object;", null, thread, false);
-		for (IVariable ob : toArray.getVariables()) {
+		IVariable[] elements = toArray.getVariables();
+		prefetchStringValues(elements, thread);
+		for (IVariable ob : elements) {
 			contents.add(objectValueExtraction((IJavaValue) ob.getValue()));
 		}
 		return contents;
@@ -402,7 +461,11 @@ public final class ObjectComparison {
 	public static List<String> arrayElementsExtraction(IJavaVariable selectedObject1) throws DebugException {
 		List<String> arrayElements1 = new ArrayList<>();
 		if (selectedObject1.getValue() instanceof IJavaValue javaVal1) {
-			for (IVariable jv : javaVal1.getVariables()) {
+			IVariable[] elements = javaVal1.getVariables();
+			if (elements.length > 1) {
+				prefetchStringValues(elements, getSuspendedThread(javaVal1));
+			}
+			for (IVariable jv : elements) {
 				String val1 = objectValueExtraction((IJavaValue) jv.getValue());
 				arrayElements1.add(val1);
 			}
@@ -689,10 +752,12 @@ public final class ObjectComparison {
 	 */
 	public static Map<IJavaVariable, Object> listExtraction(List<IStructuredSelection> selections) throws Exception {
 		Map<IJavaVariable, Object> result = new HashMap<>();
+		Map<IJavaVariable, Snapshot> snapshots = takeSnapshots(selections);
 		for (Object selection : selections) {
 			if (selection instanceof IJavaVariable selectedObject) {
 				if (selectedObject.getValue() instanceof IJavaObject javaObject1) {
-					List<String> contents = listElementsExtraction(javaObject1);
+					Snapshot snapshot = snapshots.get(selectedObject);
+					List<String> contents = snapshot != null ? snapshot.elements() : listElementsExtraction(javaObject1);
 					result.put(selectedObject, contents);
 				}
 			}
@@ -713,7 +778,9 @@ public final class ObjectComparison {
 		List<String> contents = new ArrayList<>();
 		IJavaThread thread = getSuspendedThread(javaObject1);
 		IJavaValue toArray = javaObject1.sendMessage("toArray", "()[Ljava/lang/Object;", null, thread, false);
-		for (IVariable ob : toArray.getVariables()) {
+		IVariable[] elements = toArray.getVariables();
+		prefetchStringValues(elements, thread);
+		for (IVariable ob : elements) {
 			contents.add(objectValueExtraction((IJavaValue) ob.getValue()));
 		}
 		return contents;
@@ -729,9 +796,18 @@ public final class ObjectComparison {
 	 */
 	public static Map<IJavaVariable, Object> mapExtraction(List<IStructuredSelection> selections) throws Exception {
 		Map<IJavaVariable, Object> result = new HashMap<>();
+		Map<IJavaVariable, Snapshot> snapshots = takeSnapshots(selections);
 		for (Object selection : selections) {
 			if (selection instanceof IJavaVariable selectedObject) {
-				Map<String, Object> mapData = mapElementsExtraction(selectedObject);
+				Snapshot snapshot = snapshots.get(selectedObject);
+				Map<String, Object> mapData;
+				if (snapshot != null && snapshot.values() != null) {
+					mapData = new HashMap<>();
+					mapData.put(KEYSET_1, snapshot.elements());
+					mapData.put(VALUESET_1, snapshot.values());
+				} else {
+					mapData = mapElementsExtraction(selectedObject);
+				}
 				result.put(selectedObject, mapData);
 			}
 		}
@@ -748,6 +824,15 @@ public final class ObjectComparison {
 	 */
 	public static Map<IJavaVariable, Object> stringExtraction(List<IStructuredSelection> selections) throws Exception {
 		Map<IJavaVariable, Object> result = new HashMap<>();
+		List<IVariable> selected = new ArrayList<>();
+		for (Object selection : selections) {
+			if (selection instanceof IJavaVariable selectedObject) {
+				selected.add(selectedObject);
+			}
+		}
+		if (selected.size() > 1 && selected.get(0).getValue() instanceof IJavaValue value) {
+			prefetchStringValues(selected.toArray(new IVariable[selected.size()]), getSuspendedThread(value));
+		}
 		for (Object selection : selections) {
 			if (selection instanceof IJavaVariable selectedObject) {
 				if (selectedObject.getValue() instanceof IJavaObject javaObject1) {
@@ -775,14 +860,18 @@ public final class ObjectComparison {
 			List<String> keySet = new ArrayList<>();
 			IJavaObject keySetObject = (IJavaObject) javaObject1.sendMessage("keySet", "()Ljava/util/Set;", null, thread, false);
 			IJavaValue keyToArray = keySetObject.sendMessage("toArray", "()[Ljava/lang/Object;", null, thread, false);
-			for (IVariable ob : keyToArray.getVariables()) {
+			IVariable[] keys = keyToArray.getVariables();
+			prefetchStringValues(keys, thread);
+			for (IVariable ob : keys) {
 				keySet.add(objectValueExtraction((IJavaValue) ob.getValue()));
 			}
 
 			List<String> valueSet = new ArrayList<>();
 			IJavaObject valueSetObject = (IJavaObject) javaObject1.sendMessage("values", "()Ljava/util/Collection;", null, thread, false);
 			IJavaValue valToArray = valueSetObject.sendMessage("toArray", "()[Ljava/lang/Object;", null, thread, false);
-			for (IVariable ob : valToArray.getVariables()) {
+			IVariable[] values = valToArray.getVariables();
+			prefetchStringValues(values, thread);
+			for (IVariable ob : values) {
 				valueSet.add(objectValueExtraction((IJavaValue) ob.getValue()));
 			}
 
@@ -0,0 +1,248 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.ui;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.debug.core.DebugEvent;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.IDebugEventSetListener;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.debug.core.IJavaArray;
+import org.eclipse.jdt.debug.core.IJavaArrayType;
+import org.eclipse.jdt.debug.core.IJavaDebugTarget;
+import org.eclipse.jdt.debug.core.IJavaObject;
+import org.eclipse.jdt.debug.core.IJavaStackFrame;
+import org.eclipse.jdt.debug.core.IJavaThread;
+import org.eclipse.jdt.debug.core.IJavaType;
+import org.eclipse.jdt.debug.core.IJavaValue;
+import org.eclipse.jdt.internal.debug.core.JavaDebugUtils;
+import org.eclipse.jdt.internal.debug.eval.RemoteEvaluator;
+import org.eclipse.jdt.internal.debug.eval.RemoteEvaluatorBuilder;
+
+/**
+ * Takes structural snapshots of collections and maps for {@link ObjectComparison}. The elements of all compared objects are extracted with a
+ * single evaluation of a code snippet deployed in the debug target with a {@link RemoteEvaluator}, instead of invoking methods on each element
+ * from the debugger.
+ * <p>
+ * Elements which are character sequences or boxed primitives are converted to strings in the target. Other elements are extracted with
+ * {@link ObjectComparison#objectValueExtraction(IJavaValue)}.
+ * </p>
+ */
+final class ObjectSnapshots {
+
+	/**
+	 * Maximum number of elements of a collection, or of keys of a map, in a snapshot
+	 */
+	static final int MAX_ELEMENTS = 100000;
+
+	/**
+	 * Elements of a collection, or keys and values of a map.
+	 *
+	 * @param elements
+	 *            elements or keys
+	 * @param values
+	 *            values, <code>null</code> for collections
+	 */
+	record Snapshot(List<String> elements, List<String> values) {
+	}
+
+	/**
+	 * The snippet deployed in a debug target, along with the type whose class loader loaded it
+	 */
+	private record Helper(IJavaDebugTarget target, String typeName, RemoteEvaluator evaluator) {
+	}
+
+	/**
+	 * The last deployed snippet, forgotten when its target terminates
+	 */
+	private static Helper fgHelper;
+
+	/**
+	 * Forgets the last deployed snippet when its target terminates, registered while there is one
+	 */
+	private static final IDebugEventSetListener fgTerminateListener = events -> {
+		for (DebugEvent event : events) {
+			if (event.getKind() == DebugEvent.TERMINATE && event.getSource() instanceof IJavaDebugTarget target) {
+				forget(target);
+			}
+		}
+	};
+
+	private ObjectSnapshots() {
+	}
+
+	/**
+	 * Returns snapshots of the given objects taken with a single evaluation in the given thread. The snapshot of an object which is neither a
+	 * collection nor a map, or which has more than {@link #MAX_ELEMENTS} elements, is <code>null</code>.
+	 *
+	 * @param objects
+	 *            the objects
+	 * @param thread
+	 *            suspended thread used for the evaluation
+	 * @return a snapshot for each object, or <code>null</code> if the snapshots cannot be taken in the target
+	 */
+	static Snapshot[] take(IJavaObject[] objects, IJavaThread thread) {
+		try {
+			Helper helper = getHelper(thread);
+			if (helper == null) {
+				return null;
+			}
+			IJavaDebugTarget target = (IJavaDebugTarget) thread.getDebugTarget();
+			IJavaType[] arrayTypes = target.getJavaTypes("java.lang.Object[]"); //$NON-NLS-1$
+			if (arrayTypes == null || arrayTypes.length == 0 || !(arrayTypes[0] instanceof IJavaArrayType arrayType)) {
+				return null;
+			}
+			IJavaArray array = arrayType.newInstance(objects.length);
+			array.disableCollection();
+			try {
+				array.setValues(objects);
+				IJavaValue result = helper.evaluator().evaluate(thread, new IJavaValue[] { array, target.newValue(MAX_ELEMENTS) });
+				if (!(result instanceof IJavaArray snapshots)) {
+					return null;
+				}
+				return read(snapshots.getValues(), objects.length);
+			} finally {
+				array.enableCollection();
+			}
+		} catch (CoreException | RuntimeException e) {
+			// taken one element at a time instead
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the snippet deployed in the target of the given thread, compiled in the context of the declaring type of its top stack frame, or
+	 * <code>null</code> if it cannot be compiled.
+	 */
+	private static synchronized Helper getHelper(IJavaThread thread) throws CoreException {
+		if (!(thread.getTopStackFrame() instanceof IJavaStackFrame frame)) {
+			return null;
+		}
+		IJavaDebugTarget target = (IJavaDebugTarget) thread.getDebugTarget();
+		String typeName = frame.getDeclaringTypeName();
+		int nested = typeName.indexOf('$');
+		if (nested > 0) {
+			// top level types share the class loader of their member types
+			typeName = typeName.substring(0, nested);
+		}
+		if (fgHelper != null && fgHelper.target() == target && fgHelper.typeName().equals(typeName)) {
+			return fgHelper;
+		}
+		IJavaProject project = JavaDebugUtils.resolveJavaProject(frame);
+		if (project == null) {
+			return null;
+		}
+		IType type = project.findType(typeName);
+		if (type == null) {
+			return null;
+		}
+		RemoteEvaluatorBuilder builder = new RemoteEvaluatorBuilder(project, typeName, type.getPackageFragment().getElementName());
+		String objectsName = builder.allocateNewVariable("java.lang.Object[]", "objects"); //$NON-NLS-1$ //$NON-NLS-2$
+		String limitName = builder.allocateNewVariable("int", "limit"); //$NON-NLS-1$ //$NON-NLS-2$
+		builder.acceptSnippet(getSnippet(objectsName, limitName));
+		RemoteEvaluator evaluator = builder.build();
+		if (target.isTerminated()) {
+			return null;
+		}
+		if (fgHelper == null) {
+			DebugPlugin.getDefault().addDebugEventListener(fgTerminateListener);
+		}
+		fgHelper = new Helper(target, typeName, evaluator);
+		return fgHelper;
+	}
+
+	/**
+	 * Forgets the snippet deployed in the given target, if it is the last deployed one.
+	 */
+	private static synchronized void forget(IJavaDebugTarget target) {
+		if (fgHelper != null && fgHelper.target() == target) {
+			fgHelper = null;
+			DebugPlugin.getDefault().removeDebugEventListener(fgTerminateListener);
+		}
+	}
+
+	/**
+	 * Returns the snippet which flattens the snapshots of the given objects into an <code>Object[]</code>. The snippet is compiled at the compliance
+	 * of the project, so it does not use generics or boxing.
+	 */
+	private static String getSnippet(String objectsName, String limitName) {
+		return """
+				java.util.List result = new java.util.ArrayList();
+				for (int i = 0; i < %1$s.length; i++) {
+					Object[][] parts;
+					if (%1$s[i] instanceof java.util.Map) {
+						java.util.Map map = (java.util.Map) %1$s[i];
+						parts = new Object[][] { map.keySet().toArray(), map.values().toArray() };
+					} else if (%1$s[i] instanceof java.util.Collection) {
+						parts = new Object[][] { ((java.util.Collection) %1$s[i]).toArray() };
+					} else {
+						parts = new Object[0][];
+					}
+					result.add(String.valueOf(parts.length));
+					for (int j = 0; j < parts.length; j++) {
+						result.add(String.valueOf(parts[j].length));
+						for (int k = 0; k < parts[j].length && k < %2$s; k++) {
+							Object element = parts[j][k];
+							if (element instanceof CharSequence || element instanceof Boolean || element instanceof Character
+									|| (element instanceof Number && element.getClass().getName().startsWith("java.lang."))) {
+								result.add(element.toString());
+							} else {
+								result.add(element);
+							}
+						}
+					}
+				}
+				return result.toArray();
+				""".formatted(objectsName, limitName);
+	}
+
+	/**
+	 * Reads the flattened snapshots of the given number of objects. Each object is described by the number of its parts, and each part by the
+	 * number of its elements followed by at most {@link #MAX_ELEMENTS} elements.
+	 */
+	private static Snapshot[] read(IJavaValue[] values, int count) throws CoreException {
+		Snapshot[] snapshots = new Snapshot[count];
+		int index = 0;
+		for (int i = 0; i < count; i++) {
+			int parts = Integer.parseInt(values[index++].getValueString());
+			List<List<String>> contents = new ArrayList<>(parts);
+			boolean complete = true;
+			for (int j = 0; j < parts; j++) {
+				int length = Integer.parseInt(values[index++].getValueString());
+				int read = Math.min(length, MAX_ELEMENTS);
+				complete &= read == length;
+				List<String> elements = new ArrayList<>(read);
+				for (int k = 0; k < read; k++) {
+					IJavaValue element = values[index++];
+					if (element instanceof IJavaObject && "Ljava/lang/String;".equals(element.getSignature())) { //$NON-NLS-1$
+						elements.add(element.getValueString());
+					} else {
+						elements.add(ObjectComparison.objectValueExtraction(element));
+					}
+				}
+				contents.add(elements);
+			}
+			if (complete && parts == 1) {
+				snapshots[i] = new Snapshot(contents.get(0), null);
+			} else if (complete && parts == 2) {
+				snapshots[i] = new Snapshot(contents.get(0), contents.get(1));
+			}
+		}
+		return snapshots;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2012 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,12 +13,23 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.debug.ui.heapwalking;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.debug.core.model.IValue;
 import org.eclipse.jdt.debug.core.IJavaDebugTarget;
+import org.eclipse.jdt.debug.core.IJavaType;
+import org.eclipse.jdt.debug.core.IJavaValue;
+import org.eclipse.jdt.debug.core.IJavaVariable;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
 import org.eclipse.jdt.internal.debug.core.model.JDIReferenceType;
 import org.eclipse.jdt.internal.debug.ui.JDIDebugUIPlugin;
 import org.eclipse.jface.action.IAction;
 import org.eclipse.jface.dialogs.MessageDialog;
+import org.eclipse.jface.viewers.ISelection;
+import org.eclipse.jface.viewers.ISelectionProvider;
+import org.eclipse.jface.viewers.IStructuredSelection;
 import org.eclipse.osgi.util.NLS;
 
 /**
@@ -28,6 +39,71 @@ import org.eclipse.osgi.util.NLS;
  */
 public class InstanceCountActionDelegate extends AllInstancesActionDelegate {
 
+	/**
+	 * Counts the instances of the types of all selected variables together when
+	 * several variables are selected.
+	 */
+	@Override
+	public void run(IAction action) {
+		if (getPart() != null) {
+			ISelectionProvider provider = getPart().getSite().getSelectionProvider();
+			if (provider != null) {
+				ISelection selection = provider.getSelection();
+				if (selection instanceof IStructuredSelection structured && structured.size() > 1) {
+					displayInstanceCounts(structured);
+					return;
+				}
+			}
+		}
+		super.run(action);
+	}
+
+	/**
+	 * Displays the number of instances of the types of the selected variables,
+	 * counted with batched requests.
+	 *
+	 * @param selection selected variables
+	 */
+	private void displayInstanceCounts(IStructuredSelection selection) {
+		JDIDebugTarget target = null;
+		List<JDIReferenceType> types = new ArrayList<>();
+		try {
+			for (Object element : selection) {
+				if (element instanceof IJavaVariable var) {
+					IJavaType type = null;
+					IValue val = var.getValue();
+					if (val instanceof IJavaValue javaValue) {
+						type = javaValue.getJavaType();
+					}
+					if (type == null) {
+						type = var.getJavaType();
+					}
+					if (type instanceof JDIReferenceType rtype && !types.contains(rtype)
+							&& (target == null || target.equals(rtype.getDebugTarget()))) {
+						target = (JDIDebugTarget) rtype.getDebugTarget();
+						types.add(rtype);
+					}
+				}
+			}
+			if (types.isEmpty()) {
+				report(Messages.AllInstancesActionDelegate_3, getPart());
+				return;
+			}
+			long[] counts = JDIReferenceType.getInstanceCounts(target, types);
+			StringBuilder message = new StringBuilder();
+			for (int i = 0; i < counts.length; i++) {
+				if (i > 0) {
+					message.append('\n');
+				}
+				message.append(getNumInstancesMessage(types.get(i).getName(), counts[i]));
+			}
+			MessageDialog.openInformation(getShell(), Messages.InstanceCountActionDelegate_3, message.toString());
+		} catch (CoreException e) {
+			JDIDebugUIPlugin.log(e);
+			report(Messages.AllInstancesActionDelegate_0, getPart());
+		}
+	}
+
 	/* (non-Javadoc)
 	 * @see org.eclipse.jdt.internal.debug.ui.heapwalking.AllInstancesActionDelegate#displayInstaces(org.eclipse.jdt.debug.core.IJavaDebugTarget, org.eclipse.jdt.internal.debug.core.model.JDIReferenceType)
 	 */
@@ -56,14 +132,22 @@ public class InstanceCountActionDelegate extends AllInstancesActionDelegate {
 	 * @param instanceCount number of instances
 	 */
 	protected void displayNumInstances(String typeName, long instanceCount) {
-		String message = null;
+		MessageDialog.openInformation(getShell(), Messages.InstanceCountActionDelegate_3, getNumInstancesMessage(typeName, instanceCount));
+	}
+
+	/**
+	 * Returns the message describing the number of instances of a type.
+	 *
+	 * @param typeName type name
+	 * @param instanceCount number of instances
+	 * @return message
+	 */
+	private static String getNumInstancesMessage(String typeName, long instanceCount) {
 		if (instanceCount == 0L) {
-			message = NLS.bind(Messages.InstanceCountActionDelegate_0, typeName);
+			return NLS.bind(Messages.InstanceCountActionDelegate_0, typeName);
 		} else if (instanceCount == 1L) {
-			message = NLS.bind(Messages.InstanceCountActionDelegate_1, typeName);
-		} else {
-			message = NLS.bind(Messages.InstanceCountActionDelegate_2, Long.toString(instanceCount), typeName);
+			return NLS.bind(Messages.InstanceCountActionDelegate_1, typeName);
 		}
-		MessageDialog.openInformation(getShell(), Messages.InstanceCountActionDelegate_3, message);
+		return NLS.bind(Messages.InstanceCountActionDelegate_2, Long.toString(instanceCount), typeName);
 	}
 }
@@ -95,10 +95,18 @@ public class JavaThreadContentProvider extends JavaElementContentProvider {
 		if (!thread.isSuspended()) {
 			return EMPTY;
 		}
-		return getElements(getChildren(thread), index, length);
+		return getElements(getChildren(thread, (int) Math.min((long) index + length, Integer.MAX_VALUE)), index, length);
 	}
 
 	protected Object[] getChildren(IJavaThread thread) {
+		return getChildren(thread, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Returns the children of the given thread, of which only the given number of first children are needed. Only the frames at the top of the
+	 * stack needed to provide these children are retrieved, if possible.
+	 */
+	private Object[] getChildren(IJavaThread thread, int count) {
 		try {
 			if (thread instanceof JDIThread) {
 				JDIThread jThread = (JDIThread) thread;
@@ -108,7 +116,7 @@ public class JavaThreadContentProvider extends JavaElementContentProvider {
 					}
 				}
 			}
-			List<IDebugElement> frames = getStackFrames(thread);
+			List<IDebugElement> frames = getStackFrames(thread, count);
 			if (!isDisplayMonitors()) {
 				return frames.toArray();
 			}
@@ -139,8 +147,19 @@ public class JavaThreadContentProvider extends JavaElementContentProvider {
 	 * expanded on demand by the user.
 	 */
 	private List<IDebugElement> getStackFrames(IJavaThread thread) throws DebugException {
-		IStackFrame[] frames = thread.getStackFrames();
+		return getStackFrames(thread, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Return the stack frames for the given {@link IJavaThread}, of which only the given number of first ones are needed. Without stack frame
+	 * grouping, only the needed frames at the top of the stack are retrieved.
+	 */
+	private List<IDebugElement> getStackFrames(IJavaThread thread, int count) throws DebugException {
 		var stackFrameProvider = getStackFrameProvider();
+		if (!stackFrameProvider.isCollapseStackFrames() && count < Integer.MAX_VALUE && thread instanceof JDIThread jThread) {
+			return new ArrayList<>(jThread.computeTopStackFrames(count));
+		}
+		IStackFrame[] frames = thread.getStackFrames();
 		var result = new ArrayList<IDebugElement>(frames.length);
 		if (!stackFrameProvider.isCollapseStackFrames()) {
 			result.addAll(Arrays.asList(frames));
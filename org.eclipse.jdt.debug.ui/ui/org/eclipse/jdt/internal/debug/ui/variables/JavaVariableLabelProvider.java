@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2015 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,8 +13,13 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.debug.ui.variables;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.WeakHashMap;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
@@ -26,6 +31,7 @@ import org.eclipse.core.runtime.preferences.IEclipsePreferences.PreferenceChange
 import org.eclipse.core.runtime.preferences.InstanceScope;
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.model.IDebugTarget;
 import org.eclipse.debug.core.model.IValue;
 import org.eclipse.debug.core.model.IVariable;
 import org.eclipse.debug.internal.ui.model.elements.VariableLabelProvider;
@@ -40,7 +46,9 @@ import org.eclipse.jdt.debug.core.IJavaType;
 import org.eclipse.jdt.debug.core.IJavaValue;
 import org.eclipse.jdt.debug.core.IJavaVariable;
 import org.eclipse.jdt.debug.core.JDIDebugModel;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
 import org.eclipse.jdt.internal.debug.core.model.JDIObjectValue;
+import org.eclipse.jdt.internal.debug.core.model.JDIReferenceType;
 import org.eclipse.jdt.internal.debug.core.model.JDIThread;
 import org.eclipse.jdt.internal.debug.ui.DebugUIMessages;
 import org.eclipse.jdt.internal.debug.ui.IJDIPreferencesConstants;
@@ -73,6 +81,49 @@ public class JavaVariableLabelProvider extends VariableLabelProvider implements
 	private static final int SERIALIZE_NONE = 1; // all toString()'s in line, so don't serialize labels (evaluations will be serialized)
 	private static final int SERIALIZE_SOME = 2; // some - only serialize those that don't have formatters (ones with formatters will be serialized by evaluation)
 
+	/**
+	 * Instance count batches of pending label updates that show instance counts
+	 */
+	private final Map<ILabelUpdate, InstanceCountBatch> fInstanceCountBatches = Collections.synchronizedMap(new WeakHashMap<>());
+
+	/**
+	 * Instance count batch of the label update being retrieved by the current thread
+	 */
+	private final ThreadLocal<InstanceCountBatch> fInstanceCountBatch = new ThreadLocal<>();
+
+	/**
+	 * Instance counts of the types of the variables of a batch of label updates,
+	 * counted with batched requests the first time one of them is needed.
+	 */
+	private static final class InstanceCountBatch {
+		private final JDIDebugTarget fTarget;
+		private final List<IJavaVariable> fVariables;
+		private Map<JDIReferenceType, Long> fCounts;
+
+		InstanceCountBatch(JDIDebugTarget target, List<IJavaVariable> variables) {
+			fTarget = target;
+			fVariables = variables;
+		}
+
+		synchronized long getInstanceCount(IJavaReferenceType type) throws CoreException {
+			if (fCounts == null) {
+				List<JDIReferenceType> types = new ArrayList<>();
+				for (IJavaVariable variable : fVariables) {
+					if (getInstanceCountType(variable, variable.getValue()) instanceof JDIReferenceType refType && !types.contains(refType)) {
+						types.add(refType);
+					}
+				}
+				long[] counts = JDIReferenceType.getInstanceCounts(fTarget, types);
+				fCounts = new HashMap<>();
+				for (int i = 0; i < counts.length; i++) {
+					fCounts.put(types.get(i), Long.valueOf(counts[i]));
+				}
+			}
+			Long count = fCounts.get(type);
+			return count != null ? count.longValue() : type.getInstanceCount();
+		}
+	}
+
 	public JavaVariableLabelProvider() {
 		IEclipsePreferences prefs = InstanceScope.INSTANCE.getNode(JDIDebugUIPlugin.getUniqueIdentifier());
 		if(prefs != null) {
@@ -160,20 +211,16 @@ public class JavaVariableLabelProvider extends VariableLabelProvider implements
 			return ""; //$NON-NLS-1$
 		}
 		if (JavaVariableColumnPresentation.COLUMN_INSTANCE_COUNT.equals(columnId)) {
-			if (value instanceof IJavaObject javaObject) {
-				IJavaType jType = javaObject.getJavaType();
-				if (jType == null && variable instanceof IJavaVariable javaVariable) {
-					jType = javaVariable.getJavaType();
-				}
-				if (jType instanceof IJavaReferenceType refType && !(jType instanceof IJavaInterfaceType)) {
-					long count = refType.getInstanceCount();
-					if (count == -1) {
-						return DebugUIMessages.JavaVariableLabelProvider_0;
-					}
-					StringBuilder buffer = new StringBuilder();
-					buffer.append(count);
-					return buffer.toString();
+			IJavaReferenceType refType = getInstanceCountType(variable, value);
+			if (refType != null) {
+				InstanceCountBatch batch = fInstanceCountBatch.get();
+				long count = batch != null ? batch.getInstanceCount(refType) : refType.getInstanceCount();
+				if (count == -1) {
+					return DebugUIMessages.JavaVariableLabelProvider_0;
 				}
+				StringBuilder buffer = new StringBuilder();
+				buffer.append(count);
+				return buffer.toString();
 			}
 			return ""; //$NON-NLS-1$
 		}
@@ -189,6 +236,23 @@ public class JavaVariableLabelProvider extends VariableLabelProvider implements
 		return super.getColumnText(variable, value, context, columnId);
 	}
 
+	/**
+	 * Returns the type whose instances are counted in the instance count column
+	 * for the given variable, or <code>null</code> if none.
+	 */
+	private static IJavaReferenceType getInstanceCountType(IVariable variable, IValue value) throws DebugException {
+		if (value instanceof IJavaObject javaObject) {
+			IJavaType jType = javaObject.getJavaType();
+			if (jType == null && variable instanceof IJavaVariable javaVariable) {
+				jType = javaVariable.getJavaType();
+			}
+			if (jType instanceof IJavaReferenceType refType && !(jType instanceof IJavaInterfaceType)) {
+				return refType;
+			}
+		}
+		return null;
+	}
+
 	/**
 	 * Sets qualified name setting before building label
 	 */
@@ -197,7 +261,61 @@ public class JavaVariableLabelProvider extends VariableLabelProvider implements
 		Boolean showQ = isShowQualifiedNames(update.getPresentationContext());
 		fQualifiedNames = showQ.booleanValue();
 		fLabelProvider.setAttribute(JDIModelPresentation.DISPLAY_QUALIFIED_NAMES, showQ);
-		super.retrieveLabel(update);
+		fInstanceCountBatch.set(fInstanceCountBatches.remove(update));
+		try {
+			super.retrieveLabel(update);
+		} finally {
+			fInstanceCountBatch.remove();
+		}
+	}
+
+	/**
+	 * Computes the details shown in line of all updated variables together before building labels,
+	 * and counts the instances shown in the instance count column together
+	 */
+	@Override
+	public void update(ILabelUpdate[] updates) {
+		batchInstanceCounts(updates);
+		if (fSerializeMode == SERIALIZE_NONE) {
+			List<IJavaVariable> variables = new ArrayList<>(updates.length);
+			IDebugTarget target = null;
+			for (ILabelUpdate update : updates) {
+				if (update.getElement() instanceof IJavaVariable variable && (target == null || target.equals(variable.getDebugTarget()))) {
+					target = variable.getDebugTarget();
+					variables.add(variable);
+				}
+			}
+			fLabelProvider.prefetchDetails(variables.toArray(new IJavaVariable[variables.size()]));
+		}
+		super.update(updates);
+	}
+
+	/**
+	 * Associates the updates of variables of one target that show the instance count column
+	 * with a batch counting the instances of all their types together.
+	 *
+	 * @param updates label updates
+	 */
+	private void batchInstanceCounts(ILabelUpdate[] updates) {
+		List<ILabelUpdate> batched = new ArrayList<>(updates.length);
+		List<IJavaVariable> variables = new ArrayList<>(updates.length);
+		JDIDebugTarget target = null;
+		for (ILabelUpdate update : updates) {
+			String[] columnIds = update.getColumnIds();
+			if (columnIds != null && Arrays.asList(columnIds).contains(JavaVariableColumnPresentation.COLUMN_INSTANCE_COUNT)
+					&& update.getElement() instanceof IJavaVariable variable && variable.getDebugTarget() instanceof JDIDebugTarget debugTarget
+					&& (target == null || target.equals(debugTarget))) {
+				target = debugTarget;
+				batched.add(update);
+				variables.add(variable);
+			}
+		}
+		if (batched.size() > 1) {
+			InstanceCountBatch batch = new InstanceCountBatch(target, variables);
+			for (ILabelUpdate update : batched) {
+				fInstanceCountBatches.put(update, batch);
+			}
+		}
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Jesper Steen Møller and others.
+ * Copyright (c) 2019, 2026 Jesper Steen Møller and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -74,6 +74,38 @@ public class RemoteEvaluatorBuilder {
 		this.isConstructor = isConstructor;
 	}
 
+	/**
+	 * Creates a builder for a code snippet which does not refer to the enclosing type or to local variables of the current stack frame, see
+	 * {@link #acceptSnippet(String)}.
+	 *
+	 * @param javaProject
+	 *            the project to compile the snippet in
+	 * @param enclosingTypeName
+	 *            qualified name of a type of the project, which class loader is used to load the snippet
+	 * @param packageName
+	 *            package of the enclosing type
+	 */
+	public RemoteEvaluatorBuilder(IJavaProject javaProject, String enclosingTypeName, String packageName) {
+		this.javaProject = javaProject;
+		this.binder = null;
+		this.enclosingClass = null;
+		this.enclosingTypeName = enclosingTypeName;
+		this.packageName = packageName;
+		this.isStatic = true;
+		this.isConstructor = false;
+	}
+
+	/**
+	 * Sets the source of the code snippet, statements ending with a <code>return</code> statement. The snippet may only refer to the variables
+	 * allocated with {@link #allocateNewVariable(String, String)}.
+	 *
+	 * @param source
+	 *            the code snippet
+	 */
+	public void acceptSnippet(String source) {
+		this.snippet = source;
+	}
+
 	public void acceptLambda(LambdaExpression lambda, ITypeBinding expectedResult) {
 		acceptFunctionalExpression(lambda, expectedResult);
 	}
@@ -169,9 +201,13 @@ public class RemoteEvaluatorBuilder {
 	}
 
 	public String allocateNewVariable(ITypeBinding binding, String hint) {
+		return allocateNewVariable(binding.getQualifiedName(), hint);
+	}
+
+	public String allocateNewVariable(String typeName, String hint) {
 		String varName = hint + "$" + argumentNames.size(); //$NON-NLS-1$
 		argumentNames.add(varName);
-		argumentTypeNames.add(binding.getQualifiedName());
+		argumentTypeNames.add(typeName);
 		return varName;
 	}
 
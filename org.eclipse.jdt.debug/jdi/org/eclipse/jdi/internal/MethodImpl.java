@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -62,8 +62,6 @@ public class MethodImpl extends TypeComponentImpl implements Method, Locatable {
 	private List<LocalVariable> fVariables = null;
 	private long fLowestValidCodeIndex = -1;
 	private long fHighestValidCodeIndex = -1;
-	private Map<Long, Integer> fCodeIndexToLine = null;
-	private Map<Integer, List<Long>> fLineToCodeIndexes = null;
 	private Map<String, Map<String, List<Location>>> fStratumAllLineLocations = null;
 	private int fArgumentSlotsCount = -1;
 	private List<LocalVariable> fArguments = null;
@@ -71,8 +69,19 @@ public class MethodImpl extends TypeComponentImpl implements Method, Locatable {
 	private List<String> fArgumentTypeNames = null;
 	private List<String> fArgumentTypeSignatures = null;
 	private byte[] fByteCodes = null;
+	/**
+	 * Line table of the method, sorted by code index: entry <code>i</code>
+	 * maps code index <code>fCodeIndexTable[i]</code> to line
+	 * <code>fJavaStratumLineNumberTable[i]</code>.
+	 */
 	private long[] fCodeIndexTable;
 	private int[] fJavaStratumLineNumberTable;
+	/**
+	 * Same line table, sorted by line then code index, to look up the code
+	 * indexes of a line.
+	 */
+	private int[] fLineTableLines;
+	private long[] fLineTableCodeIndexes;
 
 	private String fReturnTypeName = null;
 
@@ -95,11 +104,11 @@ public class MethodImpl extends TypeComponentImpl implements Method, Locatable {
 		fVariables = null;
 		fLowestValidCodeIndex = -1;
 		fHighestValidCodeIndex = -1;
-		fCodeIndexToLine = null;
-		fLineToCodeIndexes = null;
 		fStratumAllLineLocations = null;
 		fCodeIndexTable = null;
 		fJavaStratumLineNumberTable = null;
+		fLineTableLines = null;
+		fLineTableCodeIndexes = null;
 		fArgumentSlotsCount = -1;
 		fArguments = null;
 		fArgumentTypes = null;
@@ -116,27 +125,40 @@ public class MethodImpl extends TypeComponentImpl implements Method, Locatable {
 	}
 
 	/**
-	 * @return Returns map of location to line number.
+	 * @return Returns the lines of the java stratum which have code in this
+	 *         method, in ascending order and possibly repeated.
 	 */
-	protected Map<Long, Integer> javaStratumCodeIndexToLine()
-			throws AbsentInformationException {
-		if (isAbstract()) {
-			return Collections.EMPTY_MAP;
+	protected int[] javaStratumLines() throws AbsentInformationException {
+		if (isAbstract() || isNative()) {
+			return new int[0];
 		}
 		getLineTable();
-		return fCodeIndexToLine;
+		return fLineTableLines;
 	}
 
 	/**
-	 * @return Returns map of line number to locations.
+	 * Adds the code indexes assigned to the given line to the given set.
 	 */
-	protected List<Long> javaStratumLineToCodeIndexes(int line) throws AbsentInformationException {
+	private void javaStratumLineToCodeIndexes(int line, Set<Long> codeIndexes) throws AbsentInformationException {
 		if (isAbstract() || isNative()) {
-			return null;
+			return;
 		}
 		getLineTable();
-
-		return fLineToCodeIndexes.get(Integer.valueOf(line));
+		int[] lines = fLineTableLines;
+		// find the first entry for the line
+		int low = 0;
+		int high = lines.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (lines[mid] < line) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		for (int i = low; i < lines.length && lines[i] == line; i++) {
+			codeIndexes.add(Long.valueOf(fLineTableCodeIndexes[i]));
+		}
 	}
 
 	/**
@@ -146,8 +168,8 @@ public class MethodImpl extends TypeComponentImpl implements Method, Locatable {
 		if (isObsolete()) {
 			return;
 		}
-		if (fCodeIndexToLine != null) {
-			if (fCodeIndexToLine.isEmpty()) {
+		if (fCodeIndexTable != null) {
+			if (fCodeIndexTable.length == 0) {
 				throw new AbsentInformationException(
 						JDIMessages.MethodImpl_Got_empty_line_number_table_for_this_method_1);
 			}
@@ -156,12 +178,39 @@ public class MethodImpl extends TypeComponentImpl implements Method, Locatable {
 
 		initJdwpRequest();
 		try {
-			ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
-			DataOutputStream outData = new DataOutputStream(outBytes);
-			writeWithReferenceType(this, outData);
+			readLineTable(requestVM(JdwpCommandPacket.M_LINE_TABLE, writeLineTableRequest()));
+		} catch (IOException e) {
+			defaultIOExceptionHandler(e);
+		} finally {
+			handledJdwpRequest();
+		}
+	}
 
-			JdwpReplyPacket replyPacket = requestVM(
-					JdwpCommandPacket.M_LINE_TABLE, outBytes);
+	/**
+	 * Returns whether the line table of this method has not been retrieved
+	 * from the VM yet.
+	 */
+	boolean needsLineTable() {
+		return fCodeIndexTable == null && !isObsolete();
+	}
+
+	/**
+	 * Writes the data of the <code>M_LINE_TABLE</code> command for this
+	 * method.
+	 */
+	ByteArrayOutputStream writeLineTableRequest() throws IOException {
+		ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+		DataOutputStream outData = new DataOutputStream(outBytes);
+		writeWithReferenceType(this, outData);
+		return outBytes;
+	}
+
+	/**
+	 * Reads the reply to the <code>M_LINE_TABLE</code> command for this
+	 * method.
+	 */
+	void readLineTable(JdwpReplyPacket replyPacket) throws AbsentInformationException {
+		try {
 			switch (replyPacket.errorCode()) {
 			case JdwpReplyPacket.ABSENT_INFORMATION:
 				throw new AbsentInformationException(
@@ -176,42 +225,68 @@ public class MethodImpl extends TypeComponentImpl implements Method, Locatable {
 			fLowestValidCodeIndex = readLong("lowest index", replyData); //$NON-NLS-1$
 			fHighestValidCodeIndex = readLong("highest index", replyData); //$NON-NLS-1$
 			int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
-			fCodeIndexToLine = new HashMap<>();
-			fLineToCodeIndexes = new HashMap<>();
 			if (nrOfElements == 0) {
+				fCodeIndexTable = new long[0];
+				fJavaStratumLineNumberTable = new int[0];
+				fLineTableLines = new int[0];
+				fLineTableCodeIndexes = new long[0];
 				throw new AbsentInformationException(
 						JDIMessages.MethodImpl_Got_empty_line_number_table_for_this_method_3);
 			}
-			fCodeIndexTable = new long[nrOfElements];
-			fJavaStratumLineNumberTable = new int[nrOfElements];
+			long[] codeIndexes = new long[nrOfElements];
+			int[] lines = new int[nrOfElements];
+			boolean sorted = true;
 			for (int i = 0; i < nrOfElements; i++) {
-				long lineCodeIndex = readLong("code index", replyData); //$NON-NLS-1$
-				Long lineCodeIndexLong = Long.valueOf(lineCodeIndex);
-				int lineNr = readInt("line nr", replyData); //$NON-NLS-1$
-				Integer lineNrInt = Integer.valueOf(lineNr);
-
-				// Add entry to code-index to line mapping.
-				fCodeIndexToLine.put(lineCodeIndexLong, lineNrInt);
-
-				fCodeIndexTable[i] = lineCodeIndex;
-				fJavaStratumLineNumberTable[i] = lineNr;
-
-				List<Long> lineNrEntry = fLineToCodeIndexes.get(lineNrInt);
-				if (lineNrEntry == null) {
-					lineNrEntry = new ArrayList<>();
-					fLineToCodeIndexes.put(lineNrInt, lineNrEntry);
-				}
-				lineNrEntry.add(lineCodeIndexLong);
+				codeIndexes[i] = readLong("code index", replyData); //$NON-NLS-1$
+				lines[i] = readInt("line nr", replyData); //$NON-NLS-1$
+				sorted &= i == 0 || codeIndexes[i - 1] <= codeIndexes[i];
+			}
+			if (!sorted) {
+				sortLineTable(codeIndexes, lines, false);
 			}
+			long[] lineCodeIndexes = codeIndexes.clone();
+			int[] sortedLines = lines.clone();
+			sortLineTable(lineCodeIndexes, sortedLines, true);
+			fJavaStratumLineNumberTable = lines;
+			fLineTableLines = sortedLines;
+			fLineTableCodeIndexes = lineCodeIndexes;
+			fCodeIndexTable = codeIndexes;
 		} catch (IOException e) {
-			fCodeIndexToLine = null;
-			fLineToCodeIndexes = null;
+			fCodeIndexTable = null;
+			fJavaStratumLineNumberTable = null;
+			fLineTableLines = null;
+			fLineTableCodeIndexes = null;
 			defaultIOExceptionHandler(e);
-		} finally {
-			handledJdwpRequest();
 		}
 	}
 
+	/**
+	 * Sorts the given parallel line table arrays in place, by code index or by
+	 * line. Each sort key is packed with its original position into a
+	 * <code>long</code> so that no boxing is needed; equal keys keep their
+	 * original order, so sorting a code index ordered table by line yields
+	 * line then code index order. Code indexes of class file methods are
+	 * below 65536 and always fit into the upper 32 bits.
+	 */
+	private static void sortLineTable(long[] codeIndexes, int[] lines, boolean byLine) {
+		int length = codeIndexes.length;
+		long[] order = new long[length];
+		for (int i = 0; i < length; i++) {
+			int key = byLine ? lines[i] : (int) codeIndexes[i];
+			order[i] = ((long) key << 32) | i;
+		}
+		Arrays.sort(order);
+		long[] sortedCodeIndexes = new long[length];
+		int[] sortedLines = new int[length];
+		for (int i = 0; i < length; i++) {
+			int index = (int) order[i];
+			sortedCodeIndexes[i] = codeIndexes[index];
+			sortedLines[i] = lines[index];
+		}
+		System.arraycopy(sortedCodeIndexes, 0, codeIndexes, 0, length);
+		System.arraycopy(sortedLines, 0, lines, 0, length);
+	}
+
 	/**
 	 * @return Returns the line number that corresponds to the given
 	 *         lineCodeIndex.
@@ -226,28 +301,22 @@ public class MethodImpl extends TypeComponentImpl implements Method, Locatable {
 			throw new AbsentInformationException(JDIMessages.MethodImpl_Invalid_code_index_of_a_location_given_4);
 		}
 
-		Long lineCodeIndexObj;
-		Integer lineNrObj;
-		long index = lineCodeIndex;
-		// Search for the line where this code index is located.
-		do {
-			lineCodeIndexObj = Long.valueOf(index);
-			lineNrObj = javaStratumCodeIndexToLine().get(lineCodeIndexObj);
-		} while (lineNrObj == null && --index >= fLowestValidCodeIndex);
-		if (lineNrObj == null) {
-			if (lineCodeIndex >= fLowestValidCodeIndex) {
-				index = lineCodeIndex;
-				do {
-					lineCodeIndexObj = Long.valueOf(index);
-					lineNrObj = javaStratumCodeIndexToLine().get(lineCodeIndexObj);
-				} while (lineNrObj == null && ++index <= fHighestValidCodeIndex);
-				if (lineNrObj != null) {
-					return lineNrObj.intValue();
-				}
-			}
-			throw new AbsentInformationException(JDIMessages.MethodImpl_Invalid_code_index_of_a_location_given_4);
+		long[] codeIndexes = fCodeIndexTable;
+		int position = Arrays.binarySearch(codeIndexes, lineCodeIndex);
+		if (position >= 0) {
+			return fJavaStratumLineNumberTable[position];
+		}
+		// Search for the line where this code index is located: the closest
+		// entry before the code index, else the first entry after it.
+		int insertion = -position - 1;
+		if (insertion > 0 && codeIndexes[insertion - 1] >= fLowestValidCodeIndex) {
+			return fJavaStratumLineNumberTable[insertion - 1];
 		}
-		return lineNrObj.intValue();
+		if (lineCodeIndex >= fLowestValidCodeIndex && insertion < codeIndexes.length
+				&& codeIndexes[insertion] <= fHighestValidCodeIndex) {
+			return fJavaStratumLineNumberTable[insertion];
+		}
+		throw new AbsentInformationException(JDIMessages.MethodImpl_Invalid_code_index_of_a_location_given_4);
 	}
 
 	/* (non-Javadoc)
@@ -467,8 +536,8 @@ public class MethodImpl extends TypeComponentImpl implements Method, Locatable {
 			return null;
 		}
 		try {
-			Integer lineNrInt = javaStratumCodeIndexToLine().get(Long.valueOf(index));
-			if (lineNrInt == null) {
+			getLineTable();
+			if (fCodeIndexTable == null || Arrays.binarySearch(fCodeIndexTable, index) < 0) {
 				throw new AbsentInformationException(MessageFormat.format(JDIMessages.MethodImpl_No_valid_location_at_the_specified_code_index__0__2, new Object[] { Long.toString(index) }));
 			}
 		} catch (AbsentInformationException e) {
@@ -876,10 +945,7 @@ public class MethodImpl extends TypeComponentImpl implements Method, Locatable {
 	protected List<Location> javaStratumLocationsOfLines(List<Integer> javaLines)	throws AbsentInformationException {
 		Set<Long> tmpLocations = new TreeSet<>();
 		for (Integer key : javaLines) {
-			List<Long> indexes = javaStratumLineToCodeIndexes(key.intValue());
-			if (indexes != null) {
-				tmpLocations.addAll(indexes);
-			}
+			javaStratumLineToCodeIndexes(key.intValue(), tmpLocations);
 		}
 		List<Location> locations = new ArrayList<>();
 		for (Long location : tmpLocations) {
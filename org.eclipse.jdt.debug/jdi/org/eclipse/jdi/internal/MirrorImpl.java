@@ -196,13 +196,49 @@ public class MirrorImpl implements Mirror {
 	 * @return Returns reply data.
 	 */
 	public JdwpReplyPacket requestVM(int command, byte[] outData) {
+		long sent = System.currentTimeMillis();
+		JdwpCommandPacket commandPacket = sendRequestVM(command, outData);
+		return receiveReplyVM(commandPacket, sent);
+	}
+
+	/**
+	 * Sends a VM request without waiting for its reply. Several requests can be
+	 * sent this way before their replies are retrieved in order with
+	 * {@link #receiveReplyVM(JdwpCommandPacket)}, so that the round trips to
+	 * the VM overlap.
+	 *
+	 * @return Returns the sent command packet.
+	 */
+	public JdwpCommandPacket sendRequestVM(int command, byte[] outData) {
 		JdwpCommandPacket commandPacket = new JdwpCommandPacket(command);
 		commandPacket.setData(outData);
-		long sent = System.currentTimeMillis();
 		fVirtualMachineImpl.packetSendManager().sendPacket(commandPacket);
 		fPendingJdwpRequest = true;
 		writeVerboseCommandPacketHeader(commandPacket);
+		return commandPacket;
+	}
+
+	/**
+	 * Sends a VM request without waiting for its reply.
+	 *
+	 * @return Returns the sent command packet.
+	 * @see #sendRequestVM(int, byte[])
+	 */
+	public JdwpCommandPacket sendRequestVM(int command, ByteArrayOutputStream outData) {
+		return sendRequestVM(command, outData.toByteArray());
+	}
+
+	/**
+	 * Waits for the reply to a request sent with
+	 * {@link #sendRequestVM(int, byte[])}.
+	 *
+	 * @return Returns reply data.
+	 */
+	public JdwpReplyPacket receiveReplyVM(JdwpCommandPacket commandPacket) {
+		return receiveReplyVM(commandPacket, System.currentTimeMillis());
+	}
 
+	private JdwpReplyPacket receiveReplyVM(JdwpCommandPacket commandPacket, long sent) {
 		JdwpReplyPacket reply = fVirtualMachineImpl.packetReceiveManager()
 				.getReply(commandPacket);
 		long recieved = System.currentTimeMillis();
@@ -527,10 +527,7 @@ public class ObjectReferenceImpl extends ValueImpl implements ObjectReference {
 		try {
 			JdwpReplyPacket replyPacket = requestVM(
 					JdwpCommandPacket.OR_REFERENCE_TYPE, this);
-			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
-			fReferenceType = ReferenceTypeImpl.readWithTypeTag(this, replyData);
-			return fReferenceType;
+			return readReferenceType(replyPacket);
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
 			return null;
@@ -539,6 +536,35 @@ public class ObjectReferenceImpl extends ValueImpl implements ObjectReference {
 		}
 	}
 
+	/**
+	 * Returns whether the type of this object has not been retrieved from the
+	 * VM yet.
+	 */
+	boolean needsReferenceType() {
+		return fReferenceType == null;
+	}
+
+	/**
+	 * Writes the data of the <code>OR_REFERENCE_TYPE</code> command for this
+	 * object.
+	 */
+	ByteArrayOutputStream writeReferenceTypeRequest() throws IOException {
+		ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+		write(this, new DataOutputStream(outBytes));
+		return outBytes;
+	}
+
+	/**
+	 * Reads the reply to the <code>OR_REFERENCE_TYPE</code> command for this
+	 * object.
+	 */
+	ReferenceType readReferenceType(JdwpReplyPacket replyPacket) throws IOException {
+		defaultReplyErrorHandler(replyPacket.errorCode());
+		DataInputStream replyData = replyPacket.dataInStream();
+		fReferenceType = ReferenceTypeImpl.readWithTypeTag(this, replyData);
+		return fReferenceType;
+	}
+
 	/**
 	 * @return Returns the Type that mirrors the type of this object.
 	 */
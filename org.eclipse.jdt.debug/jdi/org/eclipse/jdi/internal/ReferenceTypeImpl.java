@@ -15,20 +15,24 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.lang.reflect.Modifier;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.RandomAccess;
 import java.util.Set;
 
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
@@ -343,6 +347,46 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 
 	}
 
+	/**
+	 * Read-only list of the instances of an RT_INSTANCES reply. The mirror of
+	 * an instance is read from the reply data each time it is accessed.
+	 */
+	private static class InstanceList extends AbstractList<ObjectReference> implements RandomAccess {
+
+		private final MirrorImpl fMirror;
+		private final byte[] fData;
+		private final int fOffset;
+		private final int fEntrySize;
+		private final int fSize;
+
+		InstanceList(MirrorImpl mirror, byte[] data, int offset, int entrySize, int size) {
+			fMirror = mirror;
+			fData = data;
+			fOffset = offset;
+			fEntrySize = entrySize;
+			fSize = size;
+		}
+
+		@Override
+		public ObjectReference get(int index) {
+			if (index < 0 || index >= fSize) {
+				throw new IndexOutOfBoundsException(index);
+			}
+			DataInputStream in = new DataInputStream(new ByteArrayInputStream(fData, fOffset + index * fEntrySize, fEntrySize));
+			try {
+				return (ObjectReference) ValueImpl.readWithTag(fMirror, in);
+			} catch (IOException e) {
+				fMirror.defaultIOExceptionHandler(e);
+				return null;
+			}
+		}
+
+		@Override
+		public int size() {
+			return fSize;
+		}
+	}
+
 	/** ReferenceTypeID that corresponds to this reference. */
 	private final JdwpReferenceTypeID fReferenceTypeID;
 
@@ -357,6 +401,12 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 	private List<Field> fVisibleFields = null;
 	private List<InterfaceType> fAllInterfaces = null;
 	private Map<String, Map<String, List<Location>>> fStratumAllLineLocations = null;
+	/**
+	 * Methods with code for each line of the java stratum, to answer
+	 * locationsOfLine() without querying the line table of every method.
+	 */
+	private Map<Integer, List<MethodImpl>> fJavaLineToMethods = null;
+	private AbsentInformationException fJavaLineToMethodsException = null;
 	private String fSourceName = null;
 	private int fModifierBits = -1;
 	private ClassLoaderReferenceImpl fClassLoader = null;
@@ -442,6 +492,8 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 		fVisibleFields = null;
 		fAllInterfaces = null;
 		fStratumAllLineLocations = null;
+		fJavaLineToMethods = null;
+		fJavaLineToMethodsException = null;
 		fSourceName = null;
 		fModifierBits = -1;
 		fClassLoader = null;
@@ -1640,31 +1692,68 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 	 */
 	@Override
 	public List<Location> locationsOfLine(String stratum, String sourceName, int lineNumber) throws AbsentInformationException {
-		Iterator<Method> allMethods = methods().iterator();
+		Map<Integer, List<MethodImpl>> lineToMethods = javaLineToMethods();
 		List<Location> locations = new ArrayList<>();
-		boolean hasLineInformation = false;
-		AbsentInformationException exception = null;
-		while (allMethods.hasNext()) {
-			MethodImpl method = (MethodImpl) allMethods.next();
-			if (method.isAbstract() || method.isNative()) {
-				continue;
-			}
-			// one line in the input source can be translate in multiple lines
-			// in different
-			// methods in the output source. We need all these locations.
-			try {
-				locations.addAll(locationsOfLine(stratum, sourceName, lineNumber, method));
-				hasLineInformation = true;
-			} catch (AbsentInformationException e) {
-				exception = e;
+		if (lineToMethods.isEmpty()) {
+			return locations;
+		}
+		// one line in the input source can be translate in multiple lines
+		// in different
+		// methods in the output source. We need all these locations.
+		List<Integer> javaLines = javaLinesOfLine(stratum, sourceName, lineNumber);
+		Set<MethodImpl> methods = new LinkedHashSet<>();
+		for (Integer javaLine : javaLines) {
+			List<MethodImpl> lineMethods = lineToMethods.get(javaLine);
+			if (lineMethods != null) {
+				methods.addAll(lineMethods);
 			}
 		}
-		if (!hasLineInformation && exception != null) {
-			throw exception;
+		for (MethodImpl method : methods) {
+			locations.addAll(method.javaStratumLocationsOfLines(javaLines));
 		}
 		return locations;
 	}
 
+	/**
+	 * Returns the methods with code for each line of the java stratum, building
+	 * the index from the line tables of the methods on first use.
+	 *
+	 * @return the methods by java stratum line, empty if this type has no
+	 *         method with code
+	 * @throws AbsentInformationException
+	 *             if no method of this type has line number information
+	 */
+	private Map<Integer, List<MethodImpl>> javaLineToMethods() throws AbsentInformationException {
+		if (fJavaLineToMethods == null) {
+			Map<Integer, List<MethodImpl>> lineToMethods = new HashMap<>();
+			boolean hasLineInformation = false;
+			AbsentInformationException exception = null;
+			for (Method m : methods()) {
+				MethodImpl method = (MethodImpl) m;
+				if (method.isAbstract() || method.isNative()) {
+					continue;
+				}
+				try {
+					int[] lines = method.javaStratumLines();
+					for (int i = 0; i < lines.length; i++) {
+						if (i == 0 || lines[i] != lines[i - 1]) {
+							lineToMethods.computeIfAbsent(Integer.valueOf(lines[i]), k -> new ArrayList<>(1)).add(method);
+						}
+					}
+					hasLineInformation = true;
+				} catch (AbsentInformationException e) {
+					exception = e;
+				}
+			}
+			fJavaLineToMethodsException = hasLineInformation ? null : exception;
+			fJavaLineToMethods = lineToMethods;
+		}
+		if (fJavaLineToMethodsException != null) {
+			throw fJavaLineToMethodsException;
+		}
+		return fJavaLineToMethods;
+	}
+
 	/* (non-Javadoc)
 	 * @see com.sun.jdi.ReferenceType#availableStrata()
 	 */
@@ -1998,6 +2087,25 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 	 *             if the specified sourceName is not valid.
 	 */
 	public List<Location> locationsOfLine(String stratumId, String sourceName, int lineNumber, MethodImpl method)	throws AbsentInformationException {
+		return method.javaStratumLocationsOfLines(javaLinesOfLine(stratumId, sourceName, lineNumber));
+	}
+
+	/**
+	 * Return the lines of the java stratum which are part of the translation of
+	 * the given line, in the given stratum in the source file with the given
+	 * source name. If sourceName is <code>null</code>, return the lines for all
+	 * source file in the given stratum.
+	 *
+	 * @param stratumId
+	 *            the stratum id.
+	 * @param sourceName
+	 *            the name of the source file.
+	 * @param lineNumber
+	 *            the number of the line.
+	 * @throws AbsentInformationException
+	 *             if the specified sourceName is not valid.
+	 */
+	private List<Integer> javaLinesOfLine(String stratumId, String sourceName, int lineNumber) throws AbsentInformationException {
 		Stratum stratum = getStratum(stratumId);
 		List<Integer> javaLines = new ArrayList<>();
 		if (stratum != null) {
@@ -2014,7 +2122,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 		} else { // Java stratum
 			javaLines.add(Integer.valueOf(lineNumber));
 		}
-		return method.javaStratumLocationsOfLines(javaLines);
+		return javaLines;
 	}
 
 	/**
@@ -2156,6 +2264,23 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 	 */
 	@Override
 	public List<ObjectReference> instances(long maxInstances) {
+		List<ObjectReference> instances = lazyInstances(maxInstances);
+		return instances == null ? null : new ArrayList<>(instances);
+	}
+
+	/**
+	 * Returns the instances of this type, as {@link #instances(long)}. The
+	 * returned list keeps the reply of the VM in its compact form and creates
+	 * the mirror of an instance only when the instance is accessed, so that
+	 * clients can walk a large number of instances in windows.
+	 *
+	 * @param maxInstances
+	 *            the maximum number of instances to return, or 0 for all
+	 *            instances
+	 * @return an unmodifiable list of the instances of this type
+	 * @see #instances(long)
+	 */
+	public List<ObjectReference> lazyInstances(long maxInstances) {
 		try {
 			int max = (int) maxInstances;
 			if (maxInstances >= Integer.MAX_VALUE) {
@@ -2189,11 +2314,8 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 			if (max > 0 && elements > max) {
 				elements = max;
 			}
-			ArrayList<ObjectReference> list = new ArrayList<>();
-			for (int i = 0; i < elements; i++) {
-				list.add((ObjectReference) ValueImpl.readWithTag(this, replyData));
-			}
-			return list;
+			// each instance is a tagged object id
+			return new InstanceList(this, replyPacket.data(), 4, 1 + virtualMachineImpl().objectIDSize(), elements);
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
 			return null;
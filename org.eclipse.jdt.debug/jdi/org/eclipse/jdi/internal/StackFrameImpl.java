@@ -19,9 +19,11 @@ import java.io.DataOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpFrameID;
@@ -264,6 +266,98 @@ public class StackFrameImpl extends MirrorImpl implements StackFrame, Locatable
 		}
 	}
 
+	/**
+	 * Retrieves the data shown in the labels of the given frames of a suspended
+	 * thread: the receivers of the frames, the types of the receivers and the
+	 * line tables of the methods of the frames. The requests for all frames are
+	 * sent before their replies are read, so that the data of any number of
+	 * frames is retrieved in two round trips to the VM, the second one for the
+	 * types of the receivers, instead of up to three round trips per frame.
+	 * Types and line tables are cached by their mirrors. Frames whose data
+	 * cannot be retrieved are skipped, for the caller to retrieve it again and
+	 * report the failure.
+	 *
+	 * @param frames
+	 *            frames of a suspended thread
+	 * @return the receivers of the frames whose receiver could be retrieved,
+	 *         <code>null</code> for frames of static methods
+	 */
+	public static Map<StackFrame, ObjectReference> prefetchLabelData(List<? extends StackFrame> frames) {
+		Map<StackFrame, ObjectReference> receivers = new HashMap<>();
+		if (frames.isEmpty()) {
+			return receivers;
+		}
+		MirrorImpl mirror = (StackFrameImpl) frames.get(0);
+		List<StackFrameImpl> receiverFrames = new ArrayList<>();
+		List<JdwpCommandPacket> receiverPackets = new ArrayList<>();
+		List<MethodImpl> methods = new ArrayList<>();
+		List<JdwpCommandPacket> methodPackets = new ArrayList<>();
+		Set<MethodImpl> requestedMethods = new HashSet<>();
+		mirror.initJdwpRequest();
+		try {
+			for (StackFrame stackFrame : frames) {
+				StackFrameImpl frame = (StackFrameImpl) stackFrame;
+				MethodImpl method = (MethodImpl) frame.location().method();
+				if (method.isStatic()) {
+					receivers.put(frame, null);
+				} else {
+					ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+					frame.writeWithThread(mirror, new DataOutputStream(outBytes));
+					receiverPackets.add(mirror.sendRequestVM(JdwpCommandPacket.SF_THIS_OBJECT, outBytes));
+					receiverFrames.add(frame);
+				}
+				if (method.needsLineTable() && requestedMethods.add(method)) {
+					methodPackets.add(mirror.sendRequestVM(JdwpCommandPacket.M_LINE_TABLE, method.writeLineTableRequest()));
+					methods.add(method);
+				}
+			}
+
+			// read all replies, even if some of the requests failed
+			Map<Long, ObjectReferenceImpl> objects = new HashMap<>();
+			List<ObjectReferenceImpl> typeObjects = new ArrayList<>();
+			List<JdwpCommandPacket> typePackets = new ArrayList<>();
+			for (int i = 0; i < receiverPackets.size(); i++) {
+				JdwpReplyPacket replyPacket = mirror.receiveReplyVM(receiverPackets.get(i));
+				if (replyPacket.errorCode() != JdwpReplyPacket.NONE) {
+					continue;
+				}
+				ObjectReferenceImpl object = ObjectReferenceImpl.readObjectRefWithTag(mirror, replyPacket.dataInStream());
+				if (object != null) {
+					// share the mirror between the frames of the same receiver, so that its type is requested once
+					ObjectReferenceImpl known = objects.putIfAbsent(Long.valueOf(object.uniqueID()), object);
+					if (known != null) {
+						object = known;
+					} else if (object.needsReferenceType()) {
+						typePackets.add(mirror.sendRequestVM(JdwpCommandPacket.OR_REFERENCE_TYPE, object.writeReferenceTypeRequest()));
+						typeObjects.add(object);
+					}
+				}
+				receivers.put(receiverFrames.get(i), object);
+			}
+			for (int i = 0; i < methodPackets.size(); i++) {
+				JdwpReplyPacket replyPacket = mirror.receiveReplyVM(methodPackets.get(i));
+				try {
+					methods.get(i).readLineTable(replyPacket);
+				} catch (AbsentInformationException | RuntimeException e) {
+					// reported when the line number is asked for
+				}
+			}
+			for (int i = 0; i < typePackets.size(); i++) {
+				JdwpReplyPacket replyPacket = mirror.receiveReplyVM(typePackets.get(i));
+				try {
+					typeObjects.get(i).readReferenceType(replyPacket);
+				} catch (RuntimeException e) {
+					// reported when the type is asked for
+				}
+			}
+		} catch (IOException e) {
+			mirror.defaultIOExceptionHandler(e);
+		} finally {
+			mirror.handledJdwpRequest();
+		}
+		return receivers;
+	}
+
 	/* (non-Javadoc)
 	 * @see com.sun.jdi.StackFrame#thread()
 	 */
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,8 +13,14 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal;
 
+import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpID;
@@ -53,16 +59,16 @@ public class StringReferenceImpl extends ObjectReferenceImpl implements
 	 */
 	@Override
 	public String value() {
-		// Note that this information should not be cached.
+		// strings are immutable and object IDs are never reused
+		String cached = virtualMachineImpl().getCachedStringValue(getObjectID());
+		if (cached != null) {
+			return cached;
+		}
 		initJdwpRequest();
 		try {
 			JdwpReplyPacket replyPacket = requestVM(JdwpCommandPacket.SR_VALUE,
 					this);
-			defaultReplyErrorHandler(replyPacket.errorCode());
-
-			DataInputStream replyData = replyPacket.dataInStream();
-			String result = readString("value", replyData); //$NON-NLS-1$
-			return result;
+			return readValue(replyPacket);
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
 			return null;
@@ -71,6 +77,68 @@ public class StringReferenceImpl extends ObjectReferenceImpl implements
 		}
 	}
 
+	/**
+	 * Reads the reply to the <code>SR_VALUE</code> command for this string and
+	 * caches the result.
+	 */
+	private String readValue(JdwpReplyPacket replyPacket) throws IOException {
+		defaultReplyErrorHandler(replyPacket.errorCode());
+
+		DataInputStream replyData = replyPacket.dataInStream();
+		String result = readString("value", replyData); //$NON-NLS-1$
+		virtualMachineImpl().addCachedStringValue(getObjectID(), result);
+		return result;
+	}
+
+	/**
+	 * Retrieves the contents of the given strings which are not cached yet. The
+	 * requests for all strings are sent before their replies are read, so that
+	 * any number of strings is retrieved in a single round trip to the VM
+	 * instead of one round trip per string. Strings whose contents cannot be
+	 * retrieved are skipped, for the caller to retrieve them again and report
+	 * the failure.
+	 *
+	 * @param strings
+	 *            strings of the same VM
+	 */
+	public static void prefetchValues(List<? extends StringReference> strings) {
+		Set<StringReferenceImpl> distinct = new LinkedHashSet<>();
+		for (StringReference string : strings) {
+			StringReferenceImpl stringImpl = (StringReferenceImpl) string;
+			if (stringImpl.virtualMachineImpl().getCachedStringValue(stringImpl.getObjectID()) == null) {
+				distinct.add(stringImpl);
+			}
+		}
+		List<StringReferenceImpl> uncached = new ArrayList<>(distinct);
+		if (uncached.size() < 2) {
+			// retrieved when asked for
+			return;
+		}
+		MirrorImpl mirror = uncached.get(0);
+		List<JdwpCommandPacket> packets = new ArrayList<>(uncached.size());
+		mirror.initJdwpRequest();
+		try {
+			for (StringReferenceImpl string : uncached) {
+				ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+				string.write(mirror, new DataOutputStream(outBytes));
+				packets.add(mirror.sendRequestVM(JdwpCommandPacket.SR_VALUE, outBytes));
+			}
+			// read all replies, even if some of the requests failed
+			for (int i = 0; i < packets.size(); i++) {
+				JdwpReplyPacket replyPacket = mirror.receiveReplyVM(packets.get(i));
+				try {
+					uncached.get(i).readValue(replyPacket);
+				} catch (RuntimeException e) {
+					// reported when the value is asked for
+				}
+			}
+		} catch (IOException e) {
+			mirror.defaultIOExceptionHandler(e);
+		} finally {
+			mirror.handledJdwpRequest();
+		}
+	}
+
 	/**
 	 * @return Reads JDWP representation and returns new instance.
 	 */
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,6 +24,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiConsumer;
 
 import org.eclipse.jdi.OpaqueFrameException;
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
@@ -544,23 +545,7 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 			int threadStatus = readInt(
 					"thread status", threadStatusMap(), replyData); //$NON-NLS-1$
 			readInt("suspend status", suspendStatusStrings(), replyData); //$NON-NLS-1$
-			switch (threadStatus) {
-			case JDWP_THREAD_STATUS_ZOMBIE:
-				return THREAD_STATUS_ZOMBIE;
-			case JDWP_THREAD_STATUS_RUNNING:
-				return THREAD_STATUS_RUNNING;
-			case JDWP_THREAD_STATUS_SLEEPING:
-				return THREAD_STATUS_SLEEPING;
-			case JDWP_THREAD_STATUS_MONITOR:
-				return THREAD_STATUS_MONITOR;
-			case JDWP_THREAD_STATUS_WAIT:
-				return THREAD_STATUS_WAIT;
-			case -1: // see bug 30816
-				return THREAD_STATUS_UNKNOWN;
-			}
-			throw new InternalException(
-					JDIMessages.ThreadReferenceImpl_Unknown_thread_status_received___6
-							+ threadStatus);
+			return toThreadStatus(threadStatus);
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
 			return 0;
@@ -569,6 +554,132 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 		}
 	}
 
+	/**
+	 * @return Returns the thread status corresponding to the given JDWP thread
+	 *         status.
+	 */
+	private static int toThreadStatus(int threadStatus) {
+		switch (threadStatus) {
+		case JDWP_THREAD_STATUS_ZOMBIE:
+			return THREAD_STATUS_ZOMBIE;
+		case JDWP_THREAD_STATUS_RUNNING:
+			return THREAD_STATUS_RUNNING;
+		case JDWP_THREAD_STATUS_SLEEPING:
+			return THREAD_STATUS_SLEEPING;
+		case JDWP_THREAD_STATUS_MONITOR:
+			return THREAD_STATUS_MONITOR;
+		case JDWP_THREAD_STATUS_WAIT:
+			return THREAD_STATUS_WAIT;
+		case -1: // see bug 30816
+			return THREAD_STATUS_UNKNOWN;
+		}
+		throw new InternalException(
+				JDIMessages.ThreadReferenceImpl_Unknown_thread_status_received___6
+						+ threadStatus);
+	}
+
+	/**
+	 * Status of a thread along with its top stack frame.
+	 *
+	 * @param status
+	 *            status of the thread, one of the <code>THREAD_STATUS_*</code>
+	 *            constants
+	 * @param suspended
+	 *            whether the thread is suspended and its stack frames are
+	 *            available
+	 * @param frameCount
+	 *            number of stack frames of the thread, <code>0</code> if it
+	 *            is not suspended
+	 * @param topFrame
+	 *            top stack frame of the thread, or <code>null</code> if it
+	 *            is not suspended or has no stack frames
+	 */
+	public record TopFrameState(int status, boolean suspended, int frameCount, StackFrame topFrame) {
+	}
+
+	/**
+	 * Retrieves the status, the number of stack frames and the top stack frame
+	 * of the given threads with pipelined requests: the requests for all
+	 * threads are sent before any reply is read, so that the round trips to
+	 * the VM overlap. The consumer is called for each thread as soon as its
+	 * replies are read, in the order of the given threads. Threads which
+	 * cannot be queried, for instance because they have terminated, are
+	 * skipped.
+	 *
+	 * @param threads
+	 *            threads of the same VM
+	 * @param consumer
+	 *            receives the state of each thread
+	 */
+	public static void prefetchTopFrames(List<? extends ThreadReference> threads, BiConsumer<ThreadReference, TopFrameState> consumer) {
+		if (threads.isEmpty()) {
+			return;
+		}
+		MirrorImpl mirror = (ThreadReferenceImpl) threads.get(0);
+		List<JdwpCommandPacket> packets = new ArrayList<>(threads.size() * 3);
+		mirror.initJdwpRequest();
+		try {
+			for (ThreadReference thread : threads) {
+				ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+				DataOutputStream outData = new DataOutputStream(outBytes);
+				((ThreadReferenceImpl) thread).write(mirror, outData);
+				packets.add(mirror.sendRequestVM(JdwpCommandPacket.TR_STATUS, outBytes));
+				packets.add(mirror.sendRequestVM(JdwpCommandPacket.TR_FRAME_COUNT, outBytes));
+				mirror.writeInt(0, "start", outData); //$NON-NLS-1$
+				mirror.writeInt(1, "length", outData); //$NON-NLS-1$
+				packets.add(mirror.sendRequestVM(JdwpCommandPacket.TR_FRAMES, outBytes));
+			}
+			// read all replies, even if some of the requests failed
+			for (int i = 0; i < threads.size(); i++) {
+				JdwpReplyPacket statusReply = mirror.receiveReplyVM(packets.get(3 * i));
+				JdwpReplyPacket frameCountReply = mirror.receiveReplyVM(packets.get(3 * i + 1));
+				JdwpReplyPacket framesReply = mirror.receiveReplyVM(packets.get(3 * i + 2));
+				ThreadReferenceImpl thread = (ThreadReferenceImpl) threads.get(i);
+				TopFrameState state;
+				try {
+					state = thread.readTopFrameState(statusReply, frameCountReply, framesReply);
+				} catch (RuntimeException e) {
+					// reported when the thread is asked for
+					continue;
+				}
+				if (state != null) {
+					consumer.accept(thread, state);
+				}
+			}
+		} catch (IOException e) {
+			mirror.defaultIOExceptionHandler(e);
+		} finally {
+			mirror.handledJdwpRequest();
+		}
+	}
+
+	/**
+	 * @return Returns the state read from the replies to the status, frame
+	 *         count and top frame requests of this thread, or
+	 *         <code>null</code> if this thread cannot be queried.
+	 */
+	private TopFrameState readTopFrameState(JdwpReplyPacket statusReply, JdwpReplyPacket frameCountReply, JdwpReplyPacket framesReply) throws IOException {
+		if (statusReply.errorCode() != JdwpReplyPacket.NONE) {
+			return null;
+		}
+		DataInputStream replyData = statusReply.dataInStream();
+		int status = toThreadStatus(readInt("thread status", threadStatusMap(), replyData)); //$NON-NLS-1$
+		boolean suspended = readInt("suspend status", suspendStatusStrings(), replyData) == SUSPEND_STATUS_SUSPENDED; //$NON-NLS-1$
+		if (frameCountReply.errorCode() != JdwpReplyPacket.NONE) {
+			// the stack frames are not available
+			return new TopFrameState(status, false, 0, null);
+		}
+		int frameCount = readInt("frame count", frameCountReply.dataInStream()); //$NON-NLS-1$
+		StackFrame topFrame = null;
+		if (frameCount > 0 && framesReply.errorCode() == JdwpReplyPacket.NONE) {
+			replyData = framesReply.dataInStream();
+			if (readInt("elements", replyData) > 0) { //$NON-NLS-1$
+				topFrame = StackFrameImpl.readWithLocation(this, this, replyData);
+			}
+		}
+		return new TopFrameState(status, suspended, frameCount, topFrame);
+	}
+
 	/**
 	 * Stops this thread with an asynchronous exception.
 	 *
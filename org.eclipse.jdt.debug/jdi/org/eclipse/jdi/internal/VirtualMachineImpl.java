@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -98,6 +98,13 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 	private final ValueCache fCachedReftypes = new ValueCache();
 	private final ValueCache fCachedObjects = new ValueCache();
 
+	/**
+	 * Contents of strings by object ID, guarded by the cache. Strings are
+	 * immutable and object IDs are never disposed, so the contents remain
+	 * valid as long as the VM runs.
+	 */
+	private final ValueCache fCachedStrings = new ValueCache();
+
 	/** The following are the stored results of JDWP calls. */
 	private String fVersionDescription = null; // Text information on the VM
 												// version.
@@ -252,6 +259,27 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 		fCachedObjects.put(mirror.getObjectID(), mirror);
 	}
 
+	/**
+	 * @return Returns the cached contents of the string with the given ID, or
+	 *         null if they are not in cache.
+	 */
+	public String getCachedStringValue(JdwpObjectID ID) {
+		synchronized (fCachedStrings) {
+			return (String) fCachedStrings.get(ID);
+		}
+	}
+
+	/**
+	 * Adds the contents of the string with the given ID to cache.
+	 */
+	public void addCachedStringValue(JdwpObjectID ID, String value) {
+		if (value != null) {
+			synchronized (fCachedStrings) {
+				fCachedStrings.put(ID, value);
+			}
+		}
+	}
+
 	/**
 	 * Flushes all stored Jdwp results.
 	 */
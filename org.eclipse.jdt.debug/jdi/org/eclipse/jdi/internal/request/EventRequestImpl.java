@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,6 +21,7 @@ import java.io.IOException;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.jdi.internal.FieldImpl;
@@ -107,6 +108,15 @@ public abstract class EventRequestImpl extends MirrorImpl implements
 	 * Reuqest Set command, null if request had not yet been enabled.
 	 */
 	protected RequestID fRequestID = null;
+	/**
+	 * Whether the <code>ER_SET</code> command enabling this request has been
+	 * sent by {@link #enable(MirrorImpl, List)} and its reply is not read yet.
+	 */
+	private boolean fEnablePending = false;
+	/**
+	 * Whether this request has been deleted from the event request manager.
+	 */
+	private boolean fDeleted = false;
 	/**
 	 * Determines the threads to suspend when the requested event occurs in the
 	 * target VM.
@@ -226,6 +236,7 @@ public abstract class EventRequestImpl extends MirrorImpl implements
 	 */
 	@Override
 	public synchronized void disable() {
+		awaitEnablePending();
 		if (!isEnabled()) {
 			return;
 		}
@@ -261,28 +272,16 @@ public abstract class EventRequestImpl extends MirrorImpl implements
 	 */
 	@Override
 	public synchronized void enable() {
+		awaitEnablePending();
 		if (isEnabled()) {
 			return;
 		}
 
 		initJdwpRequest();
 		try {
-			ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
-			DataOutputStream outData = new DataOutputStream(outBytes);
-			writeByte(eventKind(),
-					"event kind", EventImpl.eventKindMap(), outData); //$NON-NLS-1$
-			writeByte(
-					suspendPolicyJDWP(),
-					"suspend policy", EventRequestImpl.suspendPolicyMap(), outData); //$NON-NLS-1$
-			writeInt(modifierCount(), "modifiers", outData); //$NON-NLS-1$
-			writeModifiers(outData);
-
 			JdwpReplyPacket replyPacket = requestVM(JdwpCommandPacket.ER_SET,
-					outBytes);
-			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
-			fRequestID = RequestID.read(this, replyData);
-			virtualMachineImpl().eventRequestManagerImpl().addRequestIDMapping(this);
+					writeRequestSet());
+			readRequestSet(replyPacket);
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
 		} finally {
@@ -290,6 +289,129 @@ public abstract class EventRequestImpl extends MirrorImpl implements
 		}
 	}
 
+	/**
+	 * Enables the given event requests. The <code>ER_SET</code> commands for
+	 * all requests are sent before any reply is awaited, so that enabling many
+	 * requests costs about one round trip to the VM. Requests which are already
+	 * enabled or have been deleted are ignored.
+	 * <p>
+	 * The state of each request is checked and its command written while
+	 * holding the lock of the request. Until its reply is read, the request is
+	 * reported as enabled, and {@link #enable()} and {@link #disable()} wait for
+	 * the reply, so that a request disabled meanwhile is disabled in the VM as
+	 * well.
+	 * </p>
+	 *
+	 * @param mirror
+	 *            the mirror used to communicate with the VM
+	 * @param requests
+	 *            the requests to enable
+	 */
+	static void enable(MirrorImpl mirror, List<EventRequestImpl> requests) {
+		List<EventRequestImpl> sentRequests = new ArrayList<>(requests.size());
+		List<JdwpCommandPacket> sentPackets = new ArrayList<>(requests.size());
+		int read = 0;
+		mirror.initJdwpRequest();
+		try {
+			for (EventRequestImpl request : requests) {
+				synchronized (request) {
+					if (request.isEnabled() || request.fDeleted) {
+						continue;
+					}
+					sentPackets.add(mirror.sendRequestVM(JdwpCommandPacket.ER_SET, request.writeRequestSet()));
+					request.fEnablePending = true;
+					sentRequests.add(request);
+				}
+			}
+			RuntimeException failure = null;
+			for (; read < sentPackets.size(); read++) {
+				// read all replies, even if one of the requests failed
+				JdwpReplyPacket replyPacket = mirror.receiveReplyVM(sentPackets.get(read));
+				EventRequestImpl request = sentRequests.get(read);
+				synchronized (request) {
+					request.fEnablePending = false;
+					request.notifyAll();
+					try {
+						request.readRequestSet(replyPacket);
+					} catch (RuntimeException e) {
+						if (failure == null) {
+							failure = e;
+						}
+					}
+				}
+			}
+			if (failure != null) {
+				throw failure;
+			}
+		} catch (IOException e) {
+			mirror.defaultIOExceptionHandler(e);
+		} finally {
+			// release the waiters of the requests whose reply was not read
+			for (int i = read; i < sentRequests.size(); i++) {
+				EventRequestImpl request = sentRequests.get(i);
+				synchronized (request) {
+					request.fEnablePending = false;
+					request.notifyAll();
+				}
+			}
+			mirror.handledJdwpRequest();
+		}
+	}
+
+	/**
+	 * Waits until the reply to the <code>ER_SET</code> command sent for this
+	 * request by {@link #enable(MirrorImpl, List)} is read. Must be called
+	 * while holding the lock of this request.
+	 */
+	private void awaitEnablePending() {
+		boolean interrupted = false;
+		while (fEnablePending) {
+			try {
+				wait();
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Marks this request as deleted from the event request manager, so that it
+	 * is no longer enabled in bulk.
+	 */
+	synchronized void markDeleted() {
+		fDeleted = true;
+	}
+
+	/**
+	 * Writes the data of the <code>ER_SET</code> command for this request.
+	 */
+	private ByteArrayOutputStream writeRequestSet() throws IOException {
+		ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+		DataOutputStream outData = new DataOutputStream(outBytes);
+		writeByte(eventKind(),
+				"event kind", EventImpl.eventKindMap(), outData); //$NON-NLS-1$
+		writeByte(
+				suspendPolicyJDWP(),
+				"suspend policy", EventRequestImpl.suspendPolicyMap(), outData); //$NON-NLS-1$
+		writeInt(modifierCount(), "modifiers", outData); //$NON-NLS-1$
+		writeModifiers(outData);
+		return outBytes;
+	}
+
+	/**
+	 * Reads the reply of the <code>ER_SET</code> command for this request and
+	 * registers the returned request id.
+	 */
+	private synchronized void readRequestSet(JdwpReplyPacket replyPacket) throws IOException {
+		defaultReplyErrorHandler(replyPacket.errorCode());
+		DataInputStream replyData = replyPacket.dataInStream();
+		fRequestID = RequestID.read(this, replyData);
+		virtualMachineImpl().eventRequestManagerImpl().addRequestIDMapping(this);
+	}
+
 	/**
 	 * Clear all breakpoints (used by EventRequestManager).
 	 */
@@ -309,7 +431,7 @@ public abstract class EventRequestImpl extends MirrorImpl implements
 	 */
 	@Override
 	public synchronized final boolean isEnabled() {
-		return fRequestID != null;
+		return fRequestID != null || fEnablePending;
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -372,6 +372,7 @@ public class EventRequestManagerImpl extends MirrorImpl implements EventRequestM
 	private void deleteEventRequest(EventRequestType<? extends EventRequest> type, EventRequestImpl req) throws VMMismatchException {
 		// Remove request from list of requests and from the mapping of requestIDs to requests.
 		checkVM(req);
+		req.markDeleted();
 		type.requests.remove(req);
 		RequestID id = req.requestID();
 		if(id != null) {
@@ -437,6 +438,25 @@ public class EventRequestManagerImpl extends MirrorImpl implements EventRequestM
 		}
 	}
 
+	/**
+	 * Enables all given event requests, pipelining the commands sent to the VM
+	 * instead of waiting for each reply in turn. Requests that are already
+	 * enabled are ignored.
+	 *
+	 * @param requests
+	 *            the requests to enable
+	 * @throws VMMismatchException
+	 *             if one of the requests does not belong to this VM
+	 */
+	public void enableEventRequests(List<? extends EventRequest> requests) throws VMMismatchException {
+		List<EventRequestImpl> impls = new ArrayList<>(requests.size());
+		for (EventRequest request : requests) {
+			checkVM(request);
+			impls.add((EventRequestImpl) request);
+		}
+		EventRequestImpl.enable(this, impls);
+	}
+
 	/* (non-Javadoc)
 	 * @see com.sun.jdi.request.EventRequestManager#accessWatchpointRequests()
 	 */
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -121,6 +121,34 @@ public class JDIDebugPlugin extends Plugin implements IEclipsePreferences.IPrefe
 	public static final String PREF_ENABLE_ADVANCED_SOURCELOOKUP = JDIDebugPlugin
 			.getUniqueIdentifier() + ".enable_advanced_sourcelookup"; //$NON-NLS-1$
 
+	/**
+	 * Boolean preference controlling if thread start and death events are only
+	 * requested for platform threads, virtual threads being discovered when
+	 * they hit a breakpoint. Allows to debug VMs starting large numbers of
+	 * virtual threads.
+	 * <p>
+	 * The JDWP agent does not list virtual threads unless started with
+	 * {@code includevirtualthreads=y}, so a virtual thread that never hit a
+	 * breakpoint is not shown when the target is suspended by the user. Such
+	 * threads are suspended along with the VM and resumed with it.
+	 * </p>
+	 */
+	public static final String PREF_DISCOVER_VIRTUAL_THREADS_LAZILY = JDIDebugPlugin
+			.getUniqueIdentifier() + ".discover_virtual_threads_lazily"; //$NON-NLS-1$
+
+	/**
+	 * Integer preference determining the number of consecutive array elements
+	 * retrieved from the VM with a single request and cached until the target
+	 * resumes. Array elements are not cached if the value is not positive.
+	 */
+	public static final String PREF_ARRAY_CHUNK_SIZE = JDIDebugPlugin
+			.getUniqueIdentifier() + ".array_chunk_size"; //$NON-NLS-1$
+
+	/**
+	 * The default value of {@link #PREF_ARRAY_CHUNK_SIZE}.
+	 */
+	public static final int DEF_ARRAY_CHUNK_SIZE = 1000;
+
 	/**
 	 * Extension point for java logical structures.
 	 *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -309,7 +309,7 @@ public abstract class JavaBreakpoint extends Breakpoint implements IJavaBreakpoi
 		ThreadReference threadRef = ((LocatableEvent) event).thread();
 		JDIThread thread = target.findThread(threadRef);
 		if (thread == null) {
-			thread = target.findThread(threadRef);
+			thread = target.discoverThread(threadRef);
 		}
 		if (thread == null || thread.isIgnoringBreakpoints()) {
 			return true;
@@ -826,13 +826,23 @@ public abstract class JavaBreakpoint extends Breakpoint implements IJavaBreakpoi
 	 */
 	protected void internalUpdateEnabledState(EventRequest request,
 			boolean enabled, JDIDebugTarget target) {
+		if (!enabled) {
+			// a deferred request is not enabled yet
+			target.cancelDeferredEnable(request);
+		}
 		if (request.isEnabled() != enabled) {
 			// change the enabled state
 			try {
 				// if the request has expired, do not disable.
 				// BreakpointRequests that have expired cannot be deleted.
 				if (!isExpired(request)) {
-					request.setEnabled(enabled);
+					// while installing the initial breakpoints of a target,
+					// requests are enabled in bulk by the target
+					if (!enabled) {
+						request.setEnabled(false);
+					} else if (!target.deferEnable(request)) {
+						request.setEnabled(true);
+					}
 				}
 			} catch (VMDisconnectedException e) {
 			} catch (RuntimeException e) {
@@ -216,7 +216,7 @@ public class JavaClassPrepareBreakpoint extends JavaBreakpoint implements
 			}
 			if (isEnabled() && pattern.matcher(event.referenceType().name()).find()){
 				ThreadReference threadRef = event.thread();
-				JDIThread thread = target.findThread(threadRef);
+				JDIThread thread = target.discoverThread(threadRef);
 				if (thread == null || thread.isIgnoringBreakpoints()) {
 					return true;
 				}
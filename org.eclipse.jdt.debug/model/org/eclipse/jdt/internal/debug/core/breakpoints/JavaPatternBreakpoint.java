@@ -14,7 +14,6 @@
 package org.eclipse.jdt.internal.debug.core.breakpoints;
 
 import java.text.MessageFormat;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -26,11 +25,11 @@ import org.eclipse.jdt.debug.core.IJavaPatternBreakpoint;
 import org.eclipse.jdt.debug.core.JDIDebugModel;
 import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
 import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+import org.eclipse.jdt.internal.debug.core.model.LoadedTypesIndex;
 
 import com.sun.jdi.AbsentInformationException;
 import com.sun.jdi.ReferenceType;
 import com.sun.jdi.VMDisconnectedException;
-import com.sun.jdi.VirtualMachine;
 
 @SuppressWarnings("deprecation")
 public class JavaPatternBreakpoint extends JavaLineBreakpoint implements
@@ -198,29 +197,22 @@ public class JavaPatternBreakpoint extends JavaLineBreakpoint implements
 				target);
 
 		// create breakpoint requests for each class currently loaded
-		VirtualMachine vm = target.getVM();
-		if (vm == null) {
+		LoadedTypesIndex loadedTypes = target.getLoadedTypes();
+		if (loadedTypes == null) {
 			target.requestFailed(
 					JDIDebugBreakpointMessages.JavaPatternBreakpoint_Unable_to_add_breakpoint___VM_disconnected__1,
 					new VMDisconnectedException());
 		}
 		List<ReferenceType> classes = null;
 		try {
-			classes = vm.allClasses();
+			classes = loadedTypes.classesByPrefix(referenceTypeName);
 		} catch (RuntimeException e) {
 			target.targetRequestFailed(
 					JDIDebugBreakpointMessages.JavaPatternBreakpoint_0, e);
 		}
 		if (classes != null) {
-			Iterator<ReferenceType> iter = classes.iterator();
-			String typeName = null;
-			ReferenceType type = null;
-			while (iter.hasNext()) {
-				type = iter.next();
-				typeName = type.name();
-				if (typeName != null && typeName.startsWith(referenceTypeName)) {
-					createRequest(target, type);
-				}
+			for (ReferenceType type : classes) {
+				createRequest(target, type);
 			}
 		}
 	}
@@ -13,9 +13,12 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.debug.core.breakpoints;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IWorkspaceRunnable;
@@ -28,6 +31,7 @@ import org.eclipse.debug.core.IStatusHandler;
 import org.eclipse.jdt.debug.core.IJavaStratumLineBreakpoint;
 import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
 import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+import org.eclipse.jdt.internal.debug.core.model.LoadedTypesIndex;
 
 import com.sun.jdi.AbsentInformationException;
 import com.sun.jdi.ClassNotPreparedException;
@@ -35,7 +39,6 @@ import com.sun.jdi.Location;
 import com.sun.jdi.NativeMethodException;
 import com.sun.jdi.ReferenceType;
 import com.sun.jdi.VMDisconnectedException;
-import com.sun.jdi.VirtualMachine;
 
 /**
  * A line breakpoint identified by its source file name and/or path, and stratum
@@ -383,15 +386,27 @@ public class JavaStratumLineBreakpoint extends JavaLineBreakpoint implements
 		}
 
 		// create breakpoint requests for each class currently loaded
-		VirtualMachine vm = target.getVM();
-		if (vm == null) {
+		LoadedTypesIndex loadedTypes = target.getLoadedTypes();
+		if (loadedTypes == null) {
 			target.requestFailed(
 					JDIDebugBreakpointMessages.JavaPatternBreakpoint_Unable_to_add_breakpoint___VM_disconnected__1,
 					new VMDisconnectedException());
 		}
 		List<ReferenceType> classes = null;
 		try {
-			classes = vm.allClasses();
+			Set<ReferenceType> candidates = new LinkedHashSet<>();
+			for (String pattern : patterns) {
+				// patterns without a leading '*' match as prefixes, see #validType(String)
+				if (pattern.startsWith("*")) { //$NON-NLS-1$
+					candidates.addAll(loadedTypes.classesMatching(pattern));
+				} else if (pattern.endsWith("*")) { //$NON-NLS-1$
+					candidates.addAll(loadedTypes.classesByPrefix(pattern.substring(0, pattern.length() - 1)));
+				} else {
+					candidates.addAll(loadedTypes.classesByPrefix(pattern));
+				}
+			}
+			// the source name is checked by #installableReferenceType
+			classes = new ArrayList<>(candidates);
 		} catch (RuntimeException e) {
 			target.targetRequestFailed(
 					JDIDebugBreakpointMessages.JavaPatternBreakpoint_0, e);
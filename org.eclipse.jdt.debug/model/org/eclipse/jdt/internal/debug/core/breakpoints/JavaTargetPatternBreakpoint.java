@@ -15,7 +15,6 @@ package org.eclipse.jdt.internal.debug.core.breakpoints;
 
 import java.text.MessageFormat;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 import org.eclipse.core.resources.IResource;
@@ -27,11 +26,11 @@ import org.eclipse.jdt.debug.core.IJavaTargetPatternBreakpoint;
 import org.eclipse.jdt.debug.core.JDIDebugModel;
 import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
 import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+import org.eclipse.jdt.internal.debug.core.model.LoadedTypesIndex;
 
 import com.sun.jdi.AbsentInformationException;
 import com.sun.jdi.ReferenceType;
 import com.sun.jdi.VMDisconnectedException;
-import com.sun.jdi.VirtualMachine;
 
 public class JavaTargetPatternBreakpoint extends JavaLineBreakpoint implements
 		IJavaTargetPatternBreakpoint {
@@ -105,17 +104,10 @@ public class JavaTargetPatternBreakpoint extends JavaLineBreakpoint implements
 				target);
 
 		// create breakpoint requests for each class currently loaded
-		VirtualMachine vm = target.getVM();
-		if (vm != null) {
-			List<ReferenceType> classes = vm.allClasses();
-			if (classes != null) {
-				String typeName = null;
-				for(ReferenceType type : classes) {
-					typeName = type.name();
-					if (typeName != null && typeName.startsWith(referenceTypeName)) {
-						createRequest(target, type);
-					}
-				}
+		LoadedTypesIndex loadedTypes = target.getLoadedTypes();
+		if (loadedTypes != null) {
+			for (ReferenceType type : loadedTypes.classesByPrefix(referenceTypeName)) {
+				createRequest(target, type);
 			}
 		} else {
 			target.requestFailed(
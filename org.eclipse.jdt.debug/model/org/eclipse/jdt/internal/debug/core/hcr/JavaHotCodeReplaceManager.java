@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,6 +23,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IMarker;
@@ -44,6 +45,8 @@ import org.eclipse.core.runtime.MultiStatus;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobGroup;
 import org.eclipse.debug.core.DebugEvent;
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.DebugPlugin;
@@ -98,6 +101,11 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 	 * The class file extension
 	 */
 	private static final String CLASS_FILE_EXTENSION = "class"; //$NON-NLS-1$
+	/**
+	 * The maximum number of debug targets that are updated concurrently during
+	 * a single hot code replace
+	 */
+	private static final int MAX_CONCURRENT_HCR_TARGETS = Math.max(1, Math.min(8, Runtime.getRuntime().availableProcessors()));
 
 	/**
 	 * The list of <code>IJavaHotCodeReplaceListeners</code> which this hot code
@@ -122,9 +130,17 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 	private static Date fStartupDate = new Date();
 
 	/**
-	 * Cache of compilation unit deltas renewed on each HCR attempt.
+	 * Cache of compilation unit deltas renewed on each HCR attempt. Shared by
+	 * all targets updated during one attempt.
+	 */
+	private final Map<ICompilationUnit, CompilationUnitDelta> fDeltaCache = new ConcurrentHashMap<>();
+
+	/**
+	 * Cache of class file contents renewed on each HCR attempt, so that each
+	 * changed class file is read at most once no matter how many targets are
+	 * updated.
 	 */
-	private final Map<ICompilationUnit, CompilationUnitDelta> fDeltaCache = new HashMap<>();
+	private final Map<IResource, byte[]> fClassFileContents = new ConcurrentHashMap<>();
 
 	/**
 	 * Utility object used for tracking build times of projects. The HCR manager
@@ -281,13 +297,15 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 	private void updateProjectBuildTime(List<IProject> projects) {
 		Date currentDate = new Date();
 		ProjectBuildTime buildTime = null;
-		for(IProject project : projects) {
-			buildTime = fProjectBuildTimes.get(project);
-			if (buildTime == null) {
-				buildTime = new ProjectBuildTime();
-				fProjectBuildTimes.put(project, buildTime);
+		synchronized (fProjectBuildTimes) {
+			for (IProject project : projects) {
+				buildTime = fProjectBuildTimes.get(project);
+				if (buildTime == null) {
+					buildTime = new ProjectBuildTime();
+					fProjectBuildTimes.put(project, buildTime);
+				}
+				buildTime.setCurrentBuildDate(currentDate);
 			}
-			buildTime.setCurrentBuildDate(currentDate);
 		}
 	}
 
@@ -297,14 +315,15 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 	 * is set to the hot code replace manager's startup time.
 	 */
 	protected long getLastProjectBuildTime(IProject project) {
-		ProjectBuildTime time = fProjectBuildTimes
-				.get(project);
-		if (time == null) {
-			time = new ProjectBuildTime();
-			time.setLastBuildDate(fStartupDate);
-			fProjectBuildTimes.put(project, time);
-		}
-		return time.getLastBuildDate().getTime();
+		synchronized (fProjectBuildTimes) {
+			ProjectBuildTime time = fProjectBuildTimes.get(project);
+			if (time == null) {
+				time = new ProjectBuildTime();
+				time.setLastBuildDate(fStartupDate);
+				fProjectBuildTimes.put(project, time);
+			}
+			return time.getLastBuildDate().getTime();
+		}
 	}
 
 	/**
@@ -418,97 +437,188 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 				JDIDebugPlugin.getUniqueIdentifier(),
 				DebugException.TARGET_REQUEST_FAILED,
 				"At least one target failed to drop to frame after successful hot code replace.", null); //$NON-NLS-1$
-		Iterator<JDIDebugTarget> iter = targets.iterator();
-		while (iter.hasNext()) {
-			JDIDebugTarget target = iter.next();
+		List<JDIDebugTarget> hcrTargets = new ArrayList<>(targets.size());
+		for (JDIDebugTarget target : targets) {
 			if (!target.isAvailable()) {
 				deregisterTarget(target);
 				continue;
 			}
-			if (!isHCREnabled(target)) {
-				continue;
-			}
-			// Make a local copy of the resources/names to swap so we can filter
-			// unloaded types on a per-target basis.
-			List<IResource> resourcesToReplace = new ArrayList<>(resources);
-			List<String> qualifiedNamesToReplace = new ArrayList<>(qualifiedNames);
-
-			// Make sure we only try to replace types from related projects
-			target.filterUnrelatedResources(resourcesToReplace, qualifiedNamesToReplace);
-			if (qualifiedNamesToReplace.isEmpty()) {
-				// If none of the changed types are related to our target, do nothing.
-				continue;
-			}
-
-			target.filterNotLoadedTypes(resourcesToReplace, qualifiedNamesToReplace);
-			if (qualifiedNamesToReplace.isEmpty()) {
-				// If none of the changed types are loaded, do nothing.
-				continue;
+			if (isHCREnabled(target)) {
+				hcrTargets.add(target);
 			}
-
-			List<IThread> poppedThreads = new ArrayList<>();
-			target.setIsPerformingHotCodeReplace(true);
-			try {
-				boolean framesPopped = false;
-				if (target.canPopFrames()) {
-					// JDK 1.4 drop to frame support:
-					// JDK 1.4 spec is faulty around methods that have
-					// been rendered obsolete after class redefinition.
-					// Thus, pop the frames that contain affected methods
-					// *before* the class redefinition to avoid problems.
-					try {
-						attemptPopFrames(target, resourcesToReplace,
-								qualifiedNamesToReplace, poppedThreads);
-						framesPopped = true; // No exception occurred
-					} catch (DebugException de) {
-						if (shouldLogHCRException(de)) {
-							ms.merge(de.getStatus());
+		}
+		Map<JDIDebugTarget, HCRResult> results = new ConcurrentHashMap<>();
+		try {
+			if (hcrTargets.size() == 1) {
+				JDIDebugTarget target = hcrTargets.get(0);
+				HCRResult result = doHotCodeReplace(target, resources, qualifiedNames, ms);
+				if (result != null) {
+					results.put(target, result);
+				}
+			} else if (!hcrTargets.isEmpty()) {
+				// Targets are independent of each other, so update them concurrently.
+				// Class file contents and compilation unit deltas are shared.
+				JobGroup group = new JobGroup(JDIDebugHCRMessages.JavaHotCodeReplaceManager_hcr_job_group, MAX_CONCURRENT_HCR_TARGETS, hcrTargets.size());
+				for (JDIDebugTarget target : hcrTargets) {
+					Job job = Job.createSystem(JDIDebugHCRMessages.JavaHotCodeReplaceManager_hcr_job_group, monitor -> {
+						if (monitor.isCanceled()) {
+							return;
 						}
-					}
+						HCRResult result = doHotCodeReplace(target, resources, qualifiedNames, ms);
+						if (result != null) {
+							results.put(target, result);
+						}
+					});
+					job.setJobGroup(group);
+					job.schedule();
 				}
-				target.removeOutOfSynchTypes(qualifiedNamesToReplace);
-				if (target.supportsJDKHotCodeReplace()) {
-					redefineTypesJDK(target, resourcesToReplace,
-							qualifiedNamesToReplace);
-				} else if (target.supportsJ9HotCodeReplace()) {
-					redefineTypesJ9(target, qualifiedNamesToReplace);
+				try {
+					group.join(0, null);
+				} catch (InterruptedException e) {
+					group.cancel();
+					Thread.currentThread().interrupt();
 				}
-				if (containsObsoleteMethods(target)) {
+			}
+		} finally {
+			fDeltaCache.clear();
+			fClassFileContents.clear();
+		}
+		// Listeners are notified from this thread only, in the order of the targets
+		for (JDIDebugTarget target : hcrTargets) {
+			HCRResult result = results.get(target);
+			if (result != null) {
+				if (result.obsoleteMethods()) {
 					fireObsoleteMethods(target);
 				}
+				if (result.failure() == null) {
+					fireHCRSucceeded(target);
+				} else {
+					fireHCRFailed(target, result.failure());
+				}
+				target.fireChangeEvent(DebugEvent.CONTENT);
+			}
+		}
+		if (!ms.isOK()) {
+			JDIDebugPlugin.log(ms);
+		}
+	}
+
+	/**
+	 * Outcome of a hot code replace in a single target, notified to the hot
+	 * code replace listeners once all targets are updated.
+	 *
+	 * @param obsoleteMethods
+	 *            whether obsolete methods remain on the stack
+	 * @param failure
+	 *            the exception the update failed with, or <code>null</code> if
+	 *            it succeeded
+	 */
+	private record HCRResult(boolean obsoleteMethods, DebugException failure) {
+	}
+
+	/**
+	 * Performs a hot code replace with the given resources in a single target.
+	 * May be called concurrently for different targets; problems which should be
+	 * logged are merged into the given status. Listeners are not notified, the
+	 * outcome is returned instead.
+	 *
+	 * @param target
+	 *            the target in which to perform HCR
+	 * @param resources
+	 *            the resources which correspond to the changed classes
+	 * @param qualifiedNames
+	 *            the fully qualified names of the changed classes
+	 * @param ms
+	 *            status collecting failures of all targets
+	 * @return the outcome of the update, or <code>null</code> if none of the
+	 *         changed types is loaded in the target
+	 */
+	private HCRResult doHotCodeReplace(JDIDebugTarget target, List<IResource> resources,
+			List<String> qualifiedNames, MultiStatus ms) {
+		// Make a local copy of the resources/names to swap so we can filter
+		// unloaded types on a per-target basis.
+		List<IResource> resourcesToReplace = new ArrayList<>(resources);
+		List<String> qualifiedNamesToReplace = new ArrayList<>(qualifiedNames);
+
+		// Make sure we only try to replace types from related projects
+		target.filterUnrelatedResources(resourcesToReplace, qualifiedNamesToReplace);
+		if (qualifiedNamesToReplace.isEmpty()) {
+			// If none of the changed types are related to our target, do nothing.
+			return null;
+		}
+
+		target.filterNotLoadedTypes(resourcesToReplace, qualifiedNamesToReplace);
+		if (qualifiedNamesToReplace.isEmpty()) {
+			// If none of the changed types are loaded, do nothing.
+			return null;
+		}
+
+		List<IThread> poppedThreads = new ArrayList<>();
+		boolean obsoleteMethods = false;
+		DebugException failure = null;
+		target.setIsPerformingHotCodeReplace(true);
+		try {
+			boolean framesPopped = false;
+			if (target.canPopFrames()) {
+				// JDK 1.4 drop to frame support:
+				// JDK 1.4 spec is faulty around methods that have
+				// been rendered obsolete after class redefinition.
+				// Thus, pop the frames that contain affected methods
+				// *before* the class redefinition to avoid problems.
 				try {
-					if (target.canPopFrames() && framesPopped) {
-						// Second half of JDK 1.4 drop to frame support:
-						// All affected frames have been popped and the classes
-						// have been reloaded. Step into the first changed
-						// frame of each affected thread.
-						// must re-set 'is doing HCR' to be able to step
-						target.setIsPerformingHotCodeReplace(false);
-						attemptStepIn(poppedThreads);
-					} else {
-						// J9 drop to frame support:
-						// After redefining classes, drop to frame
-						attemptDropToFrame(target, resourcesToReplace,
-								qualifiedNamesToReplace);
-					}
+					attemptPopFrames(target, resourcesToReplace,
+							qualifiedNamesToReplace, poppedThreads);
+					framesPopped = true; // No exception occurred
 				} catch (DebugException de) {
 					if (shouldLogHCRException(de)) {
-						ms.merge(de.getStatus());
+						mergeStatus(ms, de.getStatus());
 					}
 				}
-				fireHCRSucceeded(target);
+			}
+			target.removeOutOfSynchTypes(qualifiedNamesToReplace);
+			if (target.supportsJDKHotCodeReplace()) {
+				redefineTypesJDK(target, resourcesToReplace,
+						qualifiedNamesToReplace);
+			} else if (target.supportsJ9HotCodeReplace()) {
+				redefineTypesJ9(target, qualifiedNamesToReplace);
+			}
+			obsoleteMethods = containsObsoleteMethods(target);
+			try {
+				if (target.canPopFrames() && framesPopped) {
+					// Second half of JDK 1.4 drop to frame support:
+					// All affected frames have been popped and the classes
+					// have been reloaded. Step into the first changed
+					// frame of each affected thread.
+					// must re-set 'is doing HCR' to be able to step
+					target.setIsPerformingHotCodeReplace(false);
+					attemptStepIn(poppedThreads);
+				} else {
+					// J9 drop to frame support:
+					// After redefining classes, drop to frame
+					attemptDropToFrame(target, resourcesToReplace,
+							qualifiedNamesToReplace);
+				}
 			} catch (DebugException de) {
-				// target update failed
-				fireHCRFailed(target, de);
+				if (shouldLogHCRException(de)) {
+					mergeStatus(ms, de.getStatus());
+				}
 			}
-			// also re-set 'is doing HCR' here in case HCR failed
-			target.setIsPerformingHotCodeReplace(false);
-			target.fireChangeEvent(DebugEvent.CONTENT);
+		} catch (DebugException de) {
+			// target update failed
+			failure = de;
 		}
-		if (!ms.isOK()) {
-			JDIDebugPlugin.log(ms);
+		// also re-set 'is doing HCR' here in case HCR failed
+		target.setIsPerformingHotCodeReplace(false);
+		return new HCRResult(obsoleteMethods, failure);
+	}
+
+	/**
+	 * Merges the given status into the given status shared by all targets.
+	 */
+	private void mergeStatus(MultiStatus ms, IStatus status) {
+		synchronized (ms) {
+			ms.merge(status);
 		}
-		fDeltaCache.clear();
 	}
 
 	private boolean isHCREnabled(JDIDebugTarget target) {
@@ -708,10 +818,8 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 			resource = resourceIter.next();
 			name = nameIter.next();
 			List<ReferenceType> classes = target.jdiClassesByName(name);
-			byte[] bytes = null;
-			try {
-				bytes = Util.getResourceContentsAsByteArray((IFile) resource);
-			} catch (JavaModelException jme) {
+			byte[] bytes = getClassFileContents(resource);
+			if (bytes == null) {
 				continue;
 			}
 			for(ReferenceType type : classes) {
@@ -721,6 +829,26 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 		return typesToBytes;
 	}
 
+	/**
+	 * Returns the contents of the given class file, reading it at most once per
+	 * hot code replace attempt, or <code>null</code> if it cannot be read.
+	 */
+	private byte[] getClassFileContents(IResource resource) {
+		byte[] bytes = fClassFileContents.get(resource);
+		if (bytes == null) {
+			try {
+				bytes = Util.getResourceContentsAsByteArray((IFile) resource);
+			} catch (JavaModelException jme) {
+				return null;
+			}
+			byte[] existing = fClassFileContents.putIfAbsent(resource, bytes);
+			if (existing != null) {
+				bytes = existing;
+			}
+		}
+		return bytes;
+	}
+
 	/**
 	 * Return the listeners to notify for the given target. Target specific
 	 * listeners take precedence over generic listeners registered with the
@@ -975,7 +1103,10 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 		CompilationUnitDelta delta = fDeltaCache.get(cu);
 		if (delta == null) {
 			delta = new CompilationUnitDelta(cu, time);
-			fDeltaCache.put(cu, delta);
+			CompilationUnitDelta existing = fDeltaCache.putIfAbsent(cu, delta);
+			if (existing != null) {
+				delta = existing;
+			}
 		}
 		return delta;
 	}
@@ -15,6 +15,10 @@
 package org.eclipse.jdt.internal.debug.core.logicalstructures;
 
 import java.text.MessageFormat;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.model.IVariable;
@@ -28,18 +32,64 @@ import org.eclipse.jdt.internal.debug.core.model.JDIArrayValue;
 import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
 import org.eclipse.jdt.internal.debug.core.model.JDIPlaceholderValue;
 import org.eclipse.jdt.internal.debug.core.model.JDIReferenceType;
+import org.eclipse.jdt.internal.debug.core.model.JDIValue;
 
+import com.sun.jdi.ObjectReference;
 
 
 /**
  * Java value containing an array of java objects. This value is used to hold a
  * list of all instances of a specific java type.
+ * <p>
+ * The instances are retrieved once, in compact form, and the java objects are
+ * created by pages as they are displayed. Only the most recently used pages are
+ * kept, so that pages which are no longer displayed can be collected.
+ * </p>
  *
  * @since 3.3
  */
 public class JDIAllInstancesValue extends JDIArrayValue {
 
-	private IJavaObject[] fInstances;
+	/**
+	 * Number of java objects created together
+	 */
+	private static final int PAGE_SIZE = 100;
+
+	/**
+	 * Maximum number of pages of java objects kept
+	 */
+	private static final int MAX_PAGES = 10;
+
+	/**
+	 * The instances of the root type, or <code>null</code> if not yet
+	 * retrieved
+	 */
+	private List<ObjectReference> fInstances;
+
+	/**
+	 * The number of elements of this value, including the placeholder
+	 * indicating more instances than the preference
+	 */
+	private int fLength;
+
+	/**
+	 * Placeholder indicating that there are more instances than displayed, or
+	 * <code>null</code>
+	 */
+	private IJavaObject fPlaceholder;
+
+	/**
+	 * Recently used pages of java objects, by page index
+	 */
+	private final Map<Integer, IJavaObject[]> fPages = new LinkedHashMap<>(MAX_PAGES + 1, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Integer, IJavaObject[]> eldest) {
+			return size() > MAX_PAGES;
+		}
+	};
+
 	private final JDIReferenceType fRoot;
 	private IJavaArrayType fType;
 	private boolean fIsMoreThanPreference;
@@ -69,21 +119,35 @@ public class JDIAllInstancesValue extends JDIArrayValue {
 	 * @return an array of java objects that are instances of the root type
 	 */
 	protected IJavaObject[] getInstances() {
+		int length = getInstanceCount();
+		IJavaObject[] instances = new IJavaObject[length];
+		for (int i = 0; i < length; i++) {
+			instances[i] = getInstance(i);
+		}
+		return instances;
+	}
+
+	/**
+	 * Retrieves the instances of the root type, if not already done.
+	 *
+	 * @return the number of elements of this value
+	 */
+	private synchronized int getInstanceCount() {
 		if (fInstances != null) {
-			return fInstances;
+			return fLength;
 		}
-		IJavaObject[] instances = new IJavaObject[0];
+		List<ObjectReference> instances = null;
 		fIsMoreThanPreference = false;
 		if (fRoot != null) {
 			int max = HeapWalkingManager.getDefault()
 					.getAllInstancesMaxCount();
 			try {
 				if (max == 0) {
-					instances = fRoot.getInstances(max);
+					instances = fRoot.getInstanceList(max);
 				} else {
-					instances = fRoot.getInstances(max + 1);
-					if (instances.length > max) {
-						instances[max] = new JDIPlaceholderValue(
+					instances = fRoot.getInstanceList(max + 1);
+					if (instances != null && instances.size() > max) {
+						fPlaceholder = new JDIPlaceholderValue(
 								(JDIDebugTarget) fRoot.getDebugTarget(),
 								MessageFormat.format(LogicalStructuresMessages.JDIAllInstancesValue_2, Integer.toString(max)));
 						fIsMoreThanPreference = true;
@@ -93,8 +157,39 @@ public class JDIAllInstancesValue extends JDIArrayValue {
 				JDIDebugPlugin.log(e);
 			}
 		}
+		if (instances == null) {
+			instances = Collections.emptyList();
+		}
 		fInstances = instances;
-		return instances;
+		fLength = instances.size();
+		return fLength;
+	}
+
+	/**
+	 * Returns the element of this value at the given index, creating the java
+	 * objects of its page if needed.
+	 *
+	 * @param index
+	 *            index of an element, in range
+	 * @return the java object at the given index
+	 */
+	private synchronized IJavaObject getInstance(int index) {
+		if (fPlaceholder != null && index == fLength - 1) {
+			return fPlaceholder;
+		}
+		Integer page = Integer.valueOf(index / PAGE_SIZE);
+		IJavaObject[] objects = fPages.get(page);
+		if (objects == null) {
+			int start = page.intValue() * PAGE_SIZE;
+			int end = Math.min(start + PAGE_SIZE, fPlaceholder == null ? fLength : fLength - 1);
+			objects = new IJavaObject[end - start];
+			JDIDebugTarget target = (JDIDebugTarget) fRoot.getDebugTarget();
+			for (int i = 0; i < objects.length; i++) {
+				objects[i] = (IJavaObject) JDIValue.createValue(target, fInstances.get(start + i));
+			}
+			fPages.put(page, objects);
+		}
+		return objects[index - page.intValue() * PAGE_SIZE];
 	}
 
 	/*
@@ -104,7 +199,7 @@ public class JDIAllInstancesValue extends JDIArrayValue {
 	 */
 	@Override
 	public synchronized int getLength() throws DebugException {
-		return getInstances().length;
+		return getInstanceCount();
 	}
 
 	/*
@@ -114,7 +209,7 @@ public class JDIAllInstancesValue extends JDIArrayValue {
 	 */
 	@Override
 	public int getSize() throws DebugException {
-		return getInstances().length;
+		return getInstanceCount();
 	}
 
 	/*
@@ -125,10 +220,10 @@ public class JDIAllInstancesValue extends JDIArrayValue {
 	 */
 	@Override
 	public IJavaValue getValue(int index) throws DebugException {
-		if (index > getInstances().length - 1 || index < 0) {
+		if (index > getInstanceCount() - 1 || index < 0) {
 			internalError(LogicalStructuresMessages.JDIAllInstancesValue_0);
 		}
-		return getInstances()[index];
+		return getInstance(index);
 	}
 
 	/*
@@ -149,17 +244,17 @@ public class JDIAllInstancesValue extends JDIArrayValue {
 	 */
 	@Override
 	public IVariable getVariable(int offset) throws DebugException {
-		if (offset > getInstances().length - 1 || offset < 0) {
+		if (offset > getInstanceCount() - 1 || offset < 0) {
 			internalError(LogicalStructuresMessages.JDIAllInstancesValue_1);
 		}
-		if (isMoreThanPreference() && offset == getInstances().length - 1) {
+		if (isMoreThanPreference() && offset == getInstanceCount() - 1) {
 			return new JDIPlaceholderVariable(
 					LogicalStructuresMessages.JDIAllInstancesValue_4,
-					getInstances()[offset]);
+					getInstance(offset));
 		}
 		return new JDIPlaceholderVariable(MessageFormat.format(LogicalStructuresMessages.JDIAllInstancesValue_5,
 				Integer.toString(offset)),
-				getInstances()[offset]);
+				getInstance(offset));
 	}
 
 	/*
@@ -175,7 +270,7 @@ public class JDIAllInstancesValue extends JDIArrayValue {
 		if (length == 0) {
 			return new IVariable[0];
 		}
-		if (offset > getInstances().length - 1 || offset < 0) {
+		if (offset > getInstanceCount() - 1 || offset < 0) {
 			internalError(LogicalStructuresMessages.JDIAllInstancesValue_1);
 		}
 		IVariable[] vars = new JDIPlaceholderVariable[length];
@@ -192,7 +287,7 @@ public class JDIAllInstancesValue extends JDIArrayValue {
 	 */
 	@Override
 	public IVariable[] getVariables() throws DebugException {
-		return getVariables(0, getInstances().length);
+		return getVariables(0, getInstanceCount());
 	}
 
 	/*
@@ -237,7 +332,7 @@ public class JDIAllInstancesValue extends JDIArrayValue {
 	 */
 	@Override
 	public boolean hasVariables() throws DebugException {
-		return getInstances().length > 0;
+		return getInstanceCount() > 0;
 	}
 
 	/*
@@ -281,13 +376,13 @@ public class JDIAllInstancesValue extends JDIArrayValue {
 	public String getValueString() throws DebugException {
 		if (isMoreThanPreference()) {
 			return MessageFormat.format(LogicalStructuresMessages.JDIAllInstancesValue_7,
-							Integer.toString(getInstances().length - 1));
-		} else if (getInstances().length == 1) {
+							Integer.toString(getInstanceCount() - 1));
+		} else if (getInstanceCount() == 1) {
 			return MessageFormat.format(LogicalStructuresMessages.JDIAllInstancesValue_8,
-					Integer.toString(getInstances().length));
+					Integer.toString(getInstanceCount()));
 		} else {
 			return MessageFormat.format(LogicalStructuresMessages.JDIAllInstancesValue_9,
-					Integer.toString(getInstances().length));
+					Integer.toString(getInstanceCount()));
 		}
 	}
 
@@ -328,8 +423,8 @@ public class JDIAllInstancesValue extends JDIArrayValue {
 	 *         displayed
 	 */
 	protected boolean isMoreThanPreference() {
-		getInstances(); // The instances must be requested to know if there are
-						// more than the preference
+		getInstanceCount(); // The instances must be requested to know if there
+							// are more than the preference
 		return fIsMoreThanPreference;
 	}
 
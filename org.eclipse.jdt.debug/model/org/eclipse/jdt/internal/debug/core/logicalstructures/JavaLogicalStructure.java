@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2022 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,10 @@ import java.text.MessageFormat;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import org.eclipse.core.runtime.CoreException;
@@ -27,23 +31,29 @@ import org.eclipse.core.runtime.Status;
 import org.eclipse.debug.core.DebugEvent;
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.IDebugEventSetListener;
 import org.eclipse.debug.core.ILogicalStructureType;
 import org.eclipse.debug.core.IStatusHandler;
+import org.eclipse.debug.core.model.IDebugElement;
 import org.eclipse.debug.core.model.IDebugTarget;
 import org.eclipse.debug.core.model.ILogicalStructureTypeDelegate3;
 import org.eclipse.debug.core.model.IThread;
 import org.eclipse.debug.core.model.IValue;
+import org.eclipse.debug.core.model.IVariable;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.debug.core.IJavaArray;
 import org.eclipse.jdt.debug.core.IJavaClassType;
 import org.eclipse.jdt.debug.core.IJavaDebugTarget;
 import org.eclipse.jdt.debug.core.IJavaInterfaceType;
 import org.eclipse.jdt.debug.core.IJavaObject;
+import org.eclipse.jdt.debug.core.IJavaPrimitiveValue;
 import org.eclipse.jdt.debug.core.IJavaReferenceType;
 import org.eclipse.jdt.debug.core.IJavaStackFrame;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.core.IJavaType;
 import org.eclipse.jdt.debug.core.IJavaValue;
+import org.eclipse.jdt.debug.core.IJavaVariable;
 import org.eclipse.jdt.debug.eval.IAstEvaluationEngine;
 import org.eclipse.jdt.debug.eval.ICompiledExpression;
 import org.eclipse.jdt.debug.eval.IEvaluationListener;
@@ -51,6 +61,7 @@ import org.eclipse.jdt.debug.eval.IEvaluationResult;
 import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
 import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
 import org.eclipse.jdt.internal.debug.core.JavaDebugUtils;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
 import org.eclipse.jdt.internal.debug.core.model.JDIValue;
 
 import com.sun.jdi.VMDisconnectedException;
@@ -61,6 +72,55 @@ public class JavaLogicalStructure implements ILogicalStructureType, ILogicalStru
 
 	private static IStatusHandler fgStackFrameProvider;
 
+	/**
+	 * A code snippet of a logical structure, compiled in the context of a type
+	 * of a debug target.
+	 */
+	private record CompiledKey(JavaLogicalStructure structure, IJavaDebugTarget target, IJavaProject project, String typeName, String snippet) {
+	}
+
+	/**
+	 * The logical value of an object computed by a logical structure while its
+	 * debug target was in the given suspend epoch.
+	 */
+	private record LogicalValueKey(JavaLogicalStructure structure, JDIDebugTarget target, long objectId, long suspendEpoch) {
+	}
+
+	/**
+	 * Compiled code snippets, until their debug target terminates.
+	 */
+	private static final Map<CompiledKey, ICompiledExpression> fgCompiledExpressions = new ConcurrentHashMap<>();
+
+	/**
+	 * Whether the variable snippets which yielded a boxed primitive in a
+	 * combined evaluation return a primitive value when evaluated alone.
+	 */
+	private static final Map<CompiledKey, Boolean> fgPrimitiveResults = new ConcurrentHashMap<>();
+
+	/**
+	 * Logical values of objects, valid during the suspend epoch of their
+	 * debug target.
+	 */
+	private static final Map<LogicalValueKey, IJavaValue> fgLogicalValues = new ConcurrentHashMap<>();
+
+	/**
+	 * Listens for the debug events which invalidate the caches, registered
+	 * when the first value is cached.
+	 */
+	private static IDebugEventSetListener fgCacheListener;
+
+	/**
+	 * Variable snippets which consist of a single return statement, whose
+	 * expressions can be evaluated together.
+	 */
+	private static final Pattern RETURN_STATEMENT = Pattern.compile("\\s*return\\s+([^;]+);\\s*"); //$NON-NLS-1$
+
+	/**
+	 * Names of the types which box primitive values.
+	 */
+	private static final Set<String> BOXED_PRIMITIVES = Set.of("java.lang.Boolean", "java.lang.Byte", "java.lang.Character", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			"java.lang.Short", "java.lang.Integer", "java.lang.Long", "java.lang.Float", "java.lang.Double"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+
 	/**
 	 * Fully qualified type name.
 	 */
@@ -134,10 +194,134 @@ public class JavaLogicalStructure implements ILogicalStructureType, ILogicalStru
 		 * @return the <code>IJavaValue</code> from the evaluation
 		 */
 		public IJavaValue evaluate(String snippet) throws DebugException {
-			Map<String, String> compileOptions =
-					Collections.singletonMap(CompilerOptions.OPTION_JdtDebugCompileMode, JavaCore.ENABLED);
-			ICompiledExpression compiledExpression = fEvaluationEngine
-					.getCompiledExpression(snippet, fEvaluationType, compileOptions);
+			return evaluate(getCompiledExpression(getCompiledKey(snippet)));
+		}
+
+		/**
+		 * Evaluates the specified variable snippets and returns the
+		 * <code>IJavaValue</code> of each variable. Variables whose snippets
+		 * consist of a single return statement are evaluated together.
+		 *
+		 * @param variables
+		 *            the names and snippets of the variables
+		 * @return the <code>IJavaValue</code> of each variable
+		 */
+		public IJavaValue[] evaluateVariables(String[][] variables) throws DebugException {
+			IJavaValue[] values = null;
+			if (variables.length > 1) {
+				values = evaluateCombined(variables);
+			}
+			if (values == null) {
+				values = new IJavaValue[variables.length];
+				for (int i = 0; i < variables.length; i++) {
+					values[i] = evaluate(variables[i][1]);
+				}
+			}
+			return values;
+		}
+
+		/**
+		 * Evaluates the expressions returned by the specified variable
+		 * snippets as the elements of one array, or returns <code>null</code>
+		 * if they cannot be evaluated together.
+		 */
+		private IJavaValue[] evaluateCombined(String[][] variables) throws DebugException {
+			StringBuilder snippet = new StringBuilder("return new Object[] {"); //$NON-NLS-1$
+			for (int i = 0; i < variables.length; i++) {
+				Matcher matcher = RETURN_STATEMENT.matcher(variables[i][1]);
+				if (!matcher.matches()) {
+					return null;
+				}
+				snippet.append(i == 0 ? " " : ", ").append('(').append(matcher.group(1)).append(')'); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			snippet.append(" };"); //$NON-NLS-1$
+			ICompiledExpression compiledExpression = getCompiledExpression(getCompiledKey(snippet.toString()));
+			if (compiledExpression.hasErrors()) {
+				// the errors are reported for each variable
+				return null;
+			}
+			IJavaValue result = evaluate(compiledExpression);
+			if (!(result instanceof IJavaArray array)) {
+				return null;
+			}
+			try {
+				IJavaValue[] elements = array.getValues();
+				if (elements.length != variables.length) {
+					return null;
+				}
+				IJavaValue[] values = new IJavaValue[elements.length];
+				for (int i = 0; i < elements.length; i++) {
+					values[i] = unbox(elements[i], variables[i][1]);
+					if (values[i] instanceof IJavaObject object) {
+						object.disableCollection();
+					}
+				}
+				return values;
+			} finally {
+				array.enableCollection();
+			}
+		}
+
+		/**
+		 * Returns the value of the specified variable snippet given the
+		 * element of a combined evaluation, which boxes primitive values.
+		 */
+		private IJavaValue unbox(IJavaValue element, String snippet) throws DebugException {
+			if (!(element instanceof IJavaObject object) || element.isNull()
+					|| !BOXED_PRIMITIVES.contains(element.getReferenceTypeName())) {
+				return element;
+			}
+			CompiledKey key = getCompiledKey(snippet);
+			Boolean primitive = fgPrimitiveResults.get(key);
+			if (primitive == null) {
+				// learn whether the snippet boxes the value itself
+				IJavaValue value = evaluate(getCompiledExpression(key));
+				if (!(value instanceof JavaStructureErrorValue)) {
+					fgPrimitiveResults.put(key, Boolean.valueOf(value instanceof IJavaPrimitiveValue));
+				}
+				return value;
+			}
+			if (primitive.booleanValue()) {
+				return (IJavaValue) object.getField("value", false).getValue(); //$NON-NLS-1$
+			}
+			return element;
+		}
+
+		/**
+		 * Returns the key of the specified snippet compiled in the context of
+		 * the evaluation type.
+		 */
+		private CompiledKey getCompiledKey(String snippet) throws DebugException {
+			return new CompiledKey(JavaLogicalStructure.this, fEvaluationEngine.getDebugTarget(), fEvaluationEngine.getJavaProject(),
+					fEvaluationType.getName(), snippet);
+		}
+
+		/**
+		 * Returns the compiled snippet of the specified key, compiling it the
+		 * first time it is evaluated against its debug target.
+		 */
+		private ICompiledExpression getCompiledExpression(CompiledKey key) throws DebugException {
+			ICompiledExpression compiledExpression = fgCompiledExpressions.get(key);
+			if (compiledExpression == null) {
+				Map<String, String> compileOptions =
+						Collections.singletonMap(CompilerOptions.OPTION_JdtDebugCompileMode, JavaCore.ENABLED);
+				compiledExpression = fEvaluationEngine
+						.getCompiledExpression(key.snippet(), fEvaluationType, compileOptions);
+				addCacheListener();
+				fgCompiledExpressions.put(key, compiledExpression);
+			}
+			return compiledExpression;
+		}
+
+		/**
+		 * Evaluates the specified compiled snippet and returns the
+		 * <code>IJavaValue</code> from the evaluation
+		 *
+		 * @param compiledExpression
+		 *            the compiled snippet to evaluate
+		 * @return the <code>IJavaValue</code> from the evaluation
+		 */
+		private IJavaValue evaluate(ICompiledExpression compiledExpression) throws DebugException {
 			if (compiledExpression.hasErrors()) {
 				String[] errorMessages = compiledExpression.getErrorMessages();
 				log(errorMessages);
@@ -287,6 +471,13 @@ public class JavaLogicalStructure implements ILogicalStructureType, ILogicalStru
 			if (type == null) {
 				return value;
 			}
+			LogicalValueKey key = getLogicalValueKey(javaValue);
+			if (key != null) {
+				IJavaValue logicalValue = fgLogicalValues.get(key);
+				if (logicalValue != null && retain(logicalValue)) {
+					return logicalValue;
+				}
+			}
 			IJavaStackFrame stackFrame = getStackFrame(javaValue);
 			if (stackFrame == null) {
 				return value;
@@ -304,21 +495,22 @@ public class JavaLogicalStructure implements ILogicalStructureType, ILogicalStru
 					type, (IJavaThread) stackFrame.getThread(),
 					evaluationEngine);
 			if (fValue == null) {
-				// evaluate each variable
+				// evaluate the variables
+				IJavaValue[] values = evaluationBlock.evaluateVariables(fVariables);
 				JDIPlaceholderVariable[] variables = new JDIPlaceholderVariable[fVariables.length];
 				for (int i = 0; i < fVariables.length; i++) {
 					variables[i] = new JDIPlaceholderVariable(fVariables[i][0],
-							evaluationBlock.evaluate(fVariables[i][1]),
+							values[i],
 							javaValue);
 				}
-				return new LogicalObjectStructureValue(javaValue, variables);
+				return remember(key, new LogicalObjectStructureValue(javaValue, variables));
 			}
 			// evaluate the logical value
 			IJavaValue logicalValue = evaluationBlock.evaluate(fValue);
 			if (logicalValue instanceof JDIValue) {
 				((JDIValue) logicalValue).setLogicalParent(javaValue);
 			}
-			return logicalValue;
+			return remember(key, logicalValue);
 
 		} catch (CoreException e) {
 			if (e.getStatus().getCode() == IJavaThread.ERR_THREAD_NOT_SUSPENDED) {
@@ -343,6 +535,103 @@ public class JavaLogicalStructure implements ILogicalStructureType, ILogicalStru
 		}
 	}
 
+	/**
+	 * Returns the key of the logical value of the specified object in the
+	 * current suspend epoch of its debug target, or <code>null</code> if its
+	 * logical value cannot be remembered.
+	 *
+	 * @see JDIDebugTarget#getCacheEpoch()
+	 */
+	private LogicalValueKey getLogicalValueKey(IJavaObject value) throws DebugException {
+		if (!(value.getDebugTarget() instanceof JDIDebugTarget target) || value.isNull()) {
+			return null;
+		}
+		long epoch = target.getCacheEpoch();
+		if (epoch == -1) {
+			return null;
+		}
+		return new LogicalValueKey(this, target, value.getUniqueId(), epoch);
+	}
+
+	/**
+	 * Remembers the specified logical value until its debug target resumes,
+	 * unless its evaluation failed.
+	 *
+	 * @return the logical value
+	 */
+	private static IJavaValue remember(LogicalValueKey key, IJavaValue logicalValue) {
+		if (key != null && !(logicalValue instanceof JavaStructureErrorValue)) {
+			addCacheListener();
+			// values of previous suspend epochs are stale
+			fgLogicalValues.keySet().removeIf(k -> k.target() == key.target() && k.suspendEpoch() != key.suspendEpoch());
+			fgLogicalValues.put(key, logicalValue);
+		}
+		return logicalValue;
+	}
+
+	/**
+	 * Prevents the objects of a remembered logical value from being garbage
+	 * collected again, as they may have been released since it was computed.
+	 *
+	 * @return whether the logical value is still valid
+	 */
+	private static boolean retain(IJavaValue logicalValue) {
+		try {
+			if (logicalValue instanceof IJavaObject object) {
+				object.disableCollection();
+			}
+			if (logicalValue instanceof LogicalObjectStructureValue structure) {
+				for (IVariable variable : structure.getVariables()) {
+					if (variable.getValue() instanceof IJavaObject object) {
+						object.disableCollection();
+					}
+				}
+			}
+			return true;
+		} catch (DebugException e) {
+			// collected, computed again
+			return false;
+		}
+	}
+
+	/**
+	 * Forgets the logical values remembered by this logical structure.
+	 */
+	private void forgetLogicalValues() {
+		fgLogicalValues.keySet().removeIf(k -> k.structure() == this);
+	}
+
+	/**
+	 * Registers the listener which invalidates the caches of logical
+	 * structures, if not already done.
+	 */
+	private static synchronized void addCacheListener() {
+		if (fgCacheListener == null) {
+			fgCacheListener = JavaLogicalStructure::handleDebugEvents;
+			DebugPlugin.getDefault().addDebugEventListener(fgCacheListener);
+		}
+	}
+
+	/**
+	 * Forgets the logical values computed in a debug target whose objects may
+	 * have been modified by an explicit evaluation or a variable
+	 * modification, and the compiled snippets of terminated debug targets.
+	 */
+	private static void handleDebugEvents(DebugEvent[] events) {
+		for (DebugEvent event : events) {
+			Object source = event.getSource();
+			if (event.getKind() == DebugEvent.TERMINATE && source instanceof IJavaDebugTarget target) {
+				fgCompiledExpressions.keySet().removeIf(k -> k.target() == target);
+				fgPrimitiveResults.keySet().removeIf(k -> k.target() == target);
+				fgLogicalValues.keySet().removeIf(k -> k.target() == target);
+			} else if ((event.getKind() == DebugEvent.RESUME && event.getDetail() == DebugEvent.EVALUATION && source instanceof IJavaThread)
+					|| (event.getKind() == DebugEvent.CHANGE && event.getDetail() == DebugEvent.CONTENT && source instanceof IJavaVariable)) {
+				IDebugTarget target = ((IDebugElement) source).getDebugTarget();
+				fgLogicalValues.keySet().removeIf(k -> k.target() == target);
+			}
+		}
+	}
+
 	/**
 	 * Returns the <code>IJavaReferenceType</code> from the specified
 	 * <code>IJavaObject</code>
@@ -445,6 +734,7 @@ public class JavaLogicalStructure implements ILogicalStructureType, ILogicalStru
 	 */
 	public void setSubtypes(boolean subtypes) {
 		fSubtypes = subtypes;
+		forgetLogicalValues();
 	}
 
 	/**
@@ -461,6 +751,7 @@ public class JavaLogicalStructure implements ILogicalStructureType, ILogicalStru
 	 */
 	public void setType(String type) {
 		fType = type;
+		forgetLogicalValues();
 	}
 
 	/**
@@ -477,6 +768,7 @@ public class JavaLogicalStructure implements ILogicalStructureType, ILogicalStru
 	 */
 	public void setValue(String value) {
 		fValue = value;
+		forgetLogicalValues();
 	}
 
 	/**
@@ -493,6 +785,7 @@ public class JavaLogicalStructure implements ILogicalStructureType, ILogicalStru
 	 */
 	public void setVariables(String[][] variables) {
 		fVariables = variables;
+		forgetLogicalValues();
 	}
 
 	/**
@@ -0,0 +1,325 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.core.model;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.jdi.internal.StringReferenceImpl;
+import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
+
+import com.sun.jdi.ArrayReference;
+import com.sun.jdi.BooleanValue;
+import com.sun.jdi.ByteValue;
+import com.sun.jdi.CharValue;
+import com.sun.jdi.DoubleValue;
+import com.sun.jdi.FloatValue;
+import com.sun.jdi.IntegerValue;
+import com.sun.jdi.LongValue;
+import com.sun.jdi.ShortValue;
+import com.sun.jdi.StringReference;
+import com.sun.jdi.VMDisconnectedException;
+import com.sun.jdi.Value;
+import com.sun.jdi.VirtualMachine;
+
+/**
+ * Cache of the elements of the arrays of a debug target, retrieved in chunks of
+ * consecutive elements.
+ * <p>
+ * Each chunk is retrieved with a single request. When the chunk following the
+ * last retrieved chunk of an array is requested, the next one is retrieved
+ * along with it, so that scrolling through an array takes one request for two
+ * chunks. Elements of primitive arrays are stored as primitive bits and only
+ * mirrored when requested. The contents of the strings of a retrieved chunk
+ * are retrieved along with it. The cache is cleared when the suspend epoch of the
+ * target changes, after explicit evaluations, and when an array is modified.
+ * Elements are only cached while {@link JDIDebugTarget#getCacheEpoch()} allows
+ * it.
+ * </p>
+ */
+class ArrayChunkCache {
+
+	/**
+	 * Maximum number of chunks kept in the cache of a target
+	 */
+	private static final int MAX_CHUNKS = 64;
+
+	/**
+	 * A chunk of an array
+	 */
+	private record ChunkKey(ArrayReference array, int chunk) {
+	}
+
+	/**
+	 * Elements of a chunk. The elements of primitive arrays are stored as bits
+	 * of the given primitive type, other elements as mirrors.
+	 *
+	 * @param type
+	 *            signature of the primitive type, or <code>0</code>
+	 * @param primitives
+	 *            bits of primitive elements, or <code>null</code>
+	 * @param values
+	 *            mirrors of elements, or <code>null</code>
+	 */
+	private record Chunk(char type, long[] primitives, List<Value> values) {
+	}
+
+	/**
+	 * The target this cache belongs to
+	 */
+	private final JDIDebugTarget fTarget;
+
+	/**
+	 * Number of elements of a chunk, elements are not cached if not positive
+	 */
+	private final int fChunkSize;
+
+	/**
+	 * Cached chunks, least recently used first. Guarded by this cache.
+	 */
+	private final Map<ChunkKey, Chunk> fChunks = new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<ChunkKey, Chunk> eldest) {
+			return size() > MAX_CHUNKS;
+		}
+	};
+
+	/**
+	 * The suspend epoch of the target in which the chunks were retrieved
+	 */
+	private long fEpoch = -1;
+
+	/**
+	 * Last retrieved chunk, to detect sequential access
+	 */
+	private ChunkKey fLastChunk;
+
+	/**
+	 * Creates a cache for the arrays of the given target.
+	 *
+	 * @param target
+	 *            debug target
+	 */
+	ArrayChunkCache(JDIDebugTarget target) {
+		fTarget = target;
+		fChunkSize = Platform.getPreferencesService().getInt(
+				JDIDebugPlugin.getUniqueIdentifier(),
+				JDIDebugPlugin.PREF_ARRAY_CHUNK_SIZE,
+				JDIDebugPlugin.DEF_ARRAY_CHUNK_SIZE,
+				null);
+	}
+
+	/**
+	 * Returns the element of the given array at the given index, retrieving the
+	 * chunk containing it if it is not cached.
+	 *
+	 * @param array
+	 *            array
+	 * @param index
+	 *            index of the element
+	 * @return the element
+	 * @throws IndexOutOfBoundsException
+	 *             if the index is outside the bounds of the array
+	 * @throws RuntimeException
+	 *             if the elements cannot be retrieved
+	 */
+	Value getValue(ArrayReference array, int index) {
+		if (fChunkSize <= 0) {
+			return array.getValue(index);
+		}
+		long epoch = fTarget.getCacheEpoch();
+		if (epoch == -1) {
+			clear();
+			return array.getValue(index);
+		}
+		int length = array.length();
+		if (index < 0 || index >= length) {
+			throw new IndexOutOfBoundsException(Integer.toString(index));
+		}
+		ChunkKey key = new ChunkKey(array, index / fChunkSize);
+		Chunk chunk;
+		synchronized (this) {
+			if (fEpoch != epoch) {
+				fChunks.clear();
+				fLastChunk = null;
+				fEpoch = epoch;
+			}
+			chunk = fChunks.get(key);
+			if (chunk == null) {
+				chunk = retrieveChunks(key, length);
+			}
+			fLastChunk = key;
+		}
+		int offset = index - key.chunk() * fChunkSize;
+		if (chunk.values() != null) {
+			return chunk.values().get(offset);
+		}
+		return mirrorOf(chunk.type(), chunk.primitives()[offset]);
+	}
+
+	/**
+	 * Forgets the cached elements of the given array.
+	 *
+	 * @param array
+	 *            array which was modified
+	 */
+	synchronized void invalidate(ArrayReference array) {
+		fChunks.keySet().removeIf(key -> key.array().equals(array));
+		fLastChunk = null;
+	}
+
+	/**
+	 * Forgets all cached elements.
+	 */
+	synchronized void clear() {
+		fChunks.clear();
+		fLastChunk = null;
+	}
+
+	/**
+	 * Returns the number of elements of a chunk, not positive if elements are
+	 * not cached.
+	 *
+	 * @return the number of elements of a chunk
+	 */
+	int getChunkSize() {
+		return fChunkSize;
+	}
+
+	/**
+	 * Retrieves the chunk of the given key with a single request, along with
+	 * the next chunk of the array if the previous one was the last retrieved.
+	 *
+	 * @return the chunk of the given key
+	 */
+	private Chunk retrieveChunks(ChunkKey key, int length) {
+		int count = 1;
+		if (fLastChunk != null && fLastChunk.array().equals(key.array()) && fLastChunk.chunk() + 1 == key.chunk()) {
+			// sequential access, look ahead
+			count = 2;
+		}
+		int start = key.chunk() * fChunkSize;
+		int end = (int) Math.min((long) start + (long) count * fChunkSize, length);
+		List<Value> values = key.array().getValues(start, end - start);
+		Chunk first = null;
+		for (int i = 0; i < count && start + i * fChunkSize < end; i++) {
+			List<Value> elements = values.subList(i * fChunkSize, Math.min((i + 1) * fChunkSize, end - start));
+			Chunk chunk = toChunk(elements);
+			fChunks.put(new ChunkKey(key.array(), key.chunk() + i), chunk);
+			if (first == null) {
+				first = chunk;
+				prefetchStrings(elements);
+			}
+		}
+		return first;
+	}
+
+	/**
+	 * Retrieves the contents of the strings among the given elements with
+	 * pipelined requests, so that rendering them does not take one round trip
+	 * per string.
+	 *
+	 * @param elements
+	 *            elements of an array
+	 */
+	static void prefetchStrings(List<Value> elements) {
+		List<StringReference> strings = new ArrayList<>();
+		for (Value element : elements) {
+			if (element instanceof StringReferenceImpl string) {
+				strings.add(string);
+			}
+		}
+		try {
+			StringReferenceImpl.prefetchValues(strings);
+		} catch (RuntimeException e) {
+			// reported when the strings are rendered
+		}
+	}
+
+	/**
+	 * Returns a chunk of the given elements, storing primitive elements as bits.
+	 */
+	private static Chunk toChunk(List<Value> elements) {
+		char type = elements.isEmpty() ? 0 : typeOf(elements.get(0));
+		if (type == 0) {
+			return new Chunk(type, null, new ArrayList<>(elements));
+		}
+		long[] primitives = new long[elements.size()];
+		for (int i = 0; i < primitives.length; i++) {
+			Value value = elements.get(i);
+			primitives[i] = switch (type) {
+				case 'Z' -> ((BooleanValue) value).value() ? 1 : 0;
+				case 'B' -> ((ByteValue) value).value();
+				case 'C' -> ((CharValue) value).value();
+				case 'S' -> ((ShortValue) value).value();
+				case 'I' -> ((IntegerValue) value).value();
+				case 'J' -> ((LongValue) value).value();
+				case 'F' -> Float.floatToRawIntBits(((FloatValue) value).value());
+				default -> Double.doubleToRawLongBits(((DoubleValue) value).value());
+			};
+		}
+		return new Chunk(type, primitives, null);
+	}
+
+	/**
+	 * Returns the signature of the primitive type of the given element, or
+	 * <code>0</code> if it is not primitive.
+	 */
+	private static char typeOf(Value value) {
+		if (value instanceof BooleanValue) {
+			return 'Z';
+		} else if (value instanceof ByteValue) {
+			return 'B';
+		} else if (value instanceof CharValue) {
+			return 'C';
+		} else if (value instanceof ShortValue) {
+			return 'S';
+		} else if (value instanceof IntegerValue) {
+			return 'I';
+		} else if (value instanceof LongValue) {
+			return 'J';
+		} else if (value instanceof FloatValue) {
+			return 'F';
+		} else if (value instanceof DoubleValue) {
+			return 'D';
+		}
+		return 0;
+	}
+
+	/**
+	 * Returns a mirror of the primitive value of the given type stored as the
+	 * given bits.
+	 */
+	private Value mirrorOf(char type, long bits) {
+		VirtualMachine vm = fTarget.getVM();
+		if (vm == null) {
+			throw new VMDisconnectedException();
+		}
+		return switch (type) {
+			case 'Z' -> vm.mirrorOf(bits != 0);
+			case 'B' -> vm.mirrorOf((byte) bits);
+			case 'C' -> vm.mirrorOf((char) bits);
+			case 'S' -> vm.mirrorOf((short) bits);
+			case 'I' -> vm.mirrorOf((int) bits);
+			case 'J' -> vm.mirrorOf(bits);
+			case 'F' -> vm.mirrorOf(Float.intBitsToFloat((int) bits));
+			default -> vm.mirrorOf(Double.longBitsToDouble(bits));
+		};
+	}
+}
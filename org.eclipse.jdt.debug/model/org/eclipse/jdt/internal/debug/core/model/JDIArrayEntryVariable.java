@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -88,7 +88,7 @@ public class JDIArrayEntryVariable extends JDIModificationVariable {
 	protected Value retrieveValue() {
 		ArrayReference ar = getArrayReference();
 		if (ar != null) {
-			return ar.getValue(getIndex());
+			return getJavaDebugTarget().getArrayChunkCache().getValue(ar, getIndex());
 		}
 		return null;
 	}
@@ -110,6 +110,7 @@ public class JDIArrayEntryVariable extends JDIModificationVariable {
 					null);
 		}
 		try {
+			getJavaDebugTarget().getArrayChunkCache().invalidate(ar);
 			ar.setValue(getIndex(), value);
 			fireChangeEvent(DebugEvent.CONTENT);
 		} catch (ClassNotLoadedException e) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -52,6 +52,11 @@ public class JDIArrayValue extends JDIObjectValue implements IJavaArray,
 	@Override
 	public IJavaValue[] getValues() throws DebugException {
 		List<Value> list = getUnderlyingValues();
+		// at most a chunk of elements is likely to be rendered
+		int prefetched = Math.min(list.size(), getJavaDebugTarget().getArrayChunkCache().getChunkSize());
+		if (prefetched > 0) {
+			ArrayChunkCache.prefetchStrings(list.subList(0, prefetched));
+		}
 
 		int count = list.size();
 		IJavaValue[] values = new IJavaValue[count];
@@ -96,6 +101,7 @@ public class JDIArrayValue extends JDIObjectValue implements IJavaArray,
 	@Override
 	public void setValue(int index, IJavaValue value) throws DebugException {
 		try {
+			getJavaDebugTarget().getArrayChunkCache().invalidate(getArrayReference());
 			getArrayReference().setValue(index,
 					((JDIValue) value).getUnderlyingValue());
 		} catch (IndexOutOfBoundsException e) {
@@ -145,7 +151,7 @@ public class JDIArrayValue extends JDIObjectValue implements IJavaArray,
 	 */
 	protected Value getUnderlyingValue(int index) throws DebugException {
 		try {
-			return getArrayReference().getValue(index);
+			return getJavaDebugTarget().getArrayChunkCache().getValue(getArrayReference(), index);
 		} catch (IndexOutOfBoundsException e) {
 			throw e;
 		} catch (RuntimeException e) {
@@ -269,6 +275,7 @@ public class JDIArrayValue extends JDIObjectValue implements IJavaArray,
 			for (IJavaValue value : values) {
 				list.add(((JDIValue) value).getUnderlyingValue());
 			}
+			getJavaDebugTarget().getArrayChunkCache().invalidate(getArrayReference());
 			getArrayReference().setValues(offset, list, startOffset, length);
 		} catch (IndexOutOfBoundsException e) {
 			throw e;
@@ -19,10 +19,12 @@ import java.io.IOException;
 import java.net.URI;
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -30,7 +32,10 @@ import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IMarker;
@@ -66,7 +71,10 @@ import org.eclipse.debug.core.model.IProcess;
 import org.eclipse.debug.core.model.ISuspendResume;
 import org.eclipse.debug.core.model.IThread;
 import org.eclipse.jdi.TimeoutException;
+import org.eclipse.jdi.internal.ThreadReferenceImpl;
 import org.eclipse.jdi.internal.VirtualMachineImpl;
+import org.eclipse.jdi.internal.request.EventRequestManagerImpl;
+import org.eclipse.jdi.internal.request.ThreadLifecycleRequestImpl;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
 import org.eclipse.jdt.core.IClasspathEntry;
 import org.eclipse.jdt.core.IJavaElement;
@@ -95,6 +103,7 @@ import org.eclipse.jdt.debug.eval.EvaluationManager;
 import org.eclipse.jdt.debug.eval.IAstEvaluationEngine;
 import org.eclipse.jdt.internal.debug.core.EventDispatcher;
 import org.eclipse.jdt.internal.debug.core.IJDIEventListener;
+import org.eclipse.jdt.internal.debug.core.JDIDebugOptions;
 import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
 import org.eclipse.jdt.internal.debug.core.breakpoints.JavaBreakpoint;
 import org.eclipse.jdt.internal.debug.core.breakpoints.JavaLineBreakpoint;
@@ -121,6 +130,8 @@ import com.sun.jdi.event.VMStartEvent;
 import com.sun.jdi.request.ClassPrepareRequest;
 import com.sun.jdi.request.EventRequest;
 import com.sun.jdi.request.EventRequestManager;
+import com.sun.jdi.request.InvalidRequestStateException;
+import com.sun.jdi.request.ThreadDeathRequest;
 
 /**
  * Debug target for JDI debug model.
@@ -130,13 +141,31 @@ public class JDIDebugTarget extends JDIDebugElement implements
 		IDebugEventSetListener {
 
 	/**
-	 * Threads contained in this debug target. When a thread starts it is added
-	 * to the list. When a thread ends it is removed from the list.
+	 * Threads contained in this debug target, ordered by unique id of their
+	 * underlying thread reference, which is the order in which the VM first
+	 * reported them. When a thread starts it is added to the map. When a thread
+	 * ends it is removed from the map. Iteration does not copy the map and is
+	 * weakly consistent.
 	 *
-	 * TODO investigate making this a synchronized collection, to remove all this copying
 	 * @see #getThreadIterator()
 	 */
-	private final List<JDIThread> fThreads;
+	private final ConcurrentSkipListMap<Long, JDIThread> fThreads = new ConcurrentSkipListMap<>();
+
+	/**
+	 * Threads contained in this debug target, by unique id of their underlying
+	 * thread reference, for constant time lookup of the thread of an event.
+	 * Updated along with {@link #fThreads} while holding the lock of this map.
+	 */
+	private final Map<Long, JDIThread> fThreadsById = new ConcurrentHashMap<>();
+
+	/**
+	 * Whether thread start and death events are only requested for platform
+	 * threads, virtual threads being added to this target when they are first
+	 * seen in a breakpoint event.
+	 *
+	 * @see #discoverThread(ThreadReference)
+	 */
+	private boolean fDiscoverVirtualThreadsLazily;
 
 	/**
 	 * List of thread groups in this target.
@@ -221,6 +250,75 @@ public class JDIDebugTarget extends JDIDebugElement implements
 	 */
 	private ThreadNameChangeHandler fThreadNameChangeHandler;
 
+	/**
+	 * The thread death event handler
+	 */
+	private ThreadDeathHandler fThreadDeathHandler;
+
+	/**
+	 * Index of the types loaded in the underlying VM
+	 */
+	private volatile LoadedTypesIndex fLoadedTypes;
+
+	/**
+	 * Cache of array elements retrieved during the current suspend epoch
+	 */
+	private final ArrayChunkCache fArrayChunks = new ArrayChunkCache(this);
+
+	/**
+	 * Job retrieving the top stack frames of all threads after the VM was
+	 * suspended
+	 */
+	private final ThreadsRefreshJob fThreadsRefreshJob = new ThreadsRefreshJob();
+
+	/**
+	 * The thread installing the initial breakpoints in bulk, or
+	 * <code>null</code> when breakpoints are installed one at a time
+	 */
+	private volatile Thread fBulkInstallThread;
+
+	/**
+	 * Event requests whose enablement is deferred until the end of the bulk
+	 * installation of breakpoints
+	 */
+	private final Set<EventRequest> fDeferredRequests = new LinkedHashSet<>();
+
+	/**
+	 * Deferred event requests being enabled, guarded by the lock of
+	 * {@link #fDeferredRequests}
+	 */
+	private final Set<EventRequest> fEnablingRequests = new HashSet<>();
+
+	/**
+	 * Event requests cancelled while being enabled, to disable once they are,
+	 * guarded by the lock of {@link #fDeferredRequests}
+	 */
+	private final Set<EventRequest> fCancelledRequests = new HashSet<>();
+
+	/**
+	 * Time in milliseconds it took to install the initial breakpoints
+	 */
+	private volatile long fBreakpointInstallTime;
+
+	/**
+	 * Incremented each time a thread of this target resumes, other than to
+	 * invoke a method. Values retrieved from the VM while suspended can be
+	 * reused as long as the epoch does not change.
+	 */
+	private final AtomicLong fSuspendEpoch = new AtomicLong();
+
+	/**
+	 * Instance counts by type, retrieved during the suspend epoch
+	 * <code>fInstanceCountsEpoch</code>. Guarded by the map.
+	 */
+	private final Map<ReferenceType, Long> fInstanceCounts = new HashMap<>();
+	private long fInstanceCountsEpoch = -1;
+
+	/**
+	 * Maximum number of types whose instances are counted by a single request
+	 */
+	private static final int INSTANCE_COUNT_BATCH_SIZE = 256;
+
 	/**
 	 * Whether this VM is suspended.
 	 */
@@ -401,7 +499,6 @@ public class JDIDebugTarget extends JDIDebugElement implements
 		setName(name);
 		fScope = prepareBreakpointsSearchScope();
 		fBreakpoints = Collections.synchronizedList(new ArrayList<>(5));
-		fThreads = Collections.synchronizedList(new ArrayList<>());
 		fGroups = Collections.synchronizedList(new ArrayList<>(5));
 		fOutOfSynchTypes = Collections.synchronizedSet(new HashSet<>());
 		setHCROccurred(false);
@@ -478,18 +575,14 @@ public class JDIDebugTarget extends JDIDebugElement implements
 
 	/**
 	 * Returns an iterator over the collection of threads. The returned iterator
-	 * is made on a copy of the thread list so that it is thread safe. This
-	 * method should always be used instead of getThreadList().iterator()
+	 * is weakly consistent: it is thread safe and never throws
+	 * <code>ConcurrentModificationException</code>, but may or may not reflect
+	 * threads added or removed while iterating.
 	 *
 	 * @return an iterator over the collection of threads
 	 */
 	private Iterator<JDIThread> getThreadIterator() {
-		List<JDIThread> threadList;
-		synchronized (fThreads) {
-			//TODO investigate making fThreads be a synchronized collection, to remove all this copying
-			threadList = new ArrayList<>(fThreads);
-		}
-		return threadList.iterator();
+		return fThreads.values().iterator();
 	}
 
 	/**
@@ -614,9 +707,15 @@ public class JDIDebugTarget extends JDIDebugElement implements
 	 * Registers event handlers for thread creation, thread termination.
 	 */
 	protected void initializeRequests() {
+		fLoadedTypes = new LoadedTypesIndex(this);
+		fDiscoverVirtualThreadsLazily = Platform.getPreferencesService().getBoolean(
+				JDIDebugPlugin.getUniqueIdentifier(),
+				JDIDebugPlugin.PREF_DISCOVER_VIRTUAL_THREADS_LAZILY,
+				false,
+				null) && getVM() instanceof VirtualMachineImpl vm && vm.mayCreateVirtualThreads();
 		setThreadStartHandler(new ThreadStartHandler());
 		setThreadNameChangeHandler(new ThreadNameChangeHandler());
-		new ThreadDeathHandler();
+		fThreadDeathHandler = new ThreadDeathHandler();
 	}
 
 	/**
@@ -629,9 +728,137 @@ public class JDIDebugTarget extends JDIDebugElement implements
 		manager.addBreakpointListener(this);
 		IBreakpoint[] bps = manager.getBreakpoints(JDIDebugModel
 				.getPluginIdentifier());
-		for (IBreakpoint bp : bps) {
-			if (bp instanceof IJavaBreakpoint) {
-				breakpointAdded(bp);
+		long start = System.currentTimeMillis();
+		// Enabling the requests is deferred and pipelined at the end
+		int count = 0;
+		fBulkInstallThread = Thread.currentThread();
+		try {
+			for (IBreakpoint bp : bps) {
+				if (bp instanceof IJavaBreakpoint) {
+					breakpointAdded(bp);
+					count++;
+				}
+			}
+		} finally {
+			fBulkInstallThread = null;
+			enableDeferredRequests();
+		}
+		fBreakpointInstallTime = System.currentTimeMillis() - start;
+		if (JDIDebugOptions.DEBUG_BREAKPOINT_INSTALL_TIMES) {
+			JDIDebugOptions.trace(JDIDebugOptions.DEBUG_BREAKPOINT_INSTALL_TIMES_FLAG, "Installed " + count + " breakpoints in " //$NON-NLS-1$ //$NON-NLS-2$
+					+ fBreakpointInstallTime + "ms in " + this, null); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Returns the time in milliseconds it took to install the breakpoints
+	 * which existed when this target was created.
+	 *
+	 * @return initial breakpoint installation time in milliseconds
+	 */
+	public long getBreakpointInstallTime() {
+		return fBreakpointInstallTime;
+	}
+
+	/**
+	 * Defers enabling the given request if the calling thread is installing the
+	 * initial breakpoints of this target. Deferred requests are enabled
+	 * together, pipelining the commands sent to the VM, once all initial
+	 * breakpoints are installed.
+	 *
+	 * @param request
+	 *            the request to enable
+	 * @return whether enabling the request has been deferred
+	 */
+	public boolean deferEnable(EventRequest request) {
+		synchronized (fDeferredRequests) {
+			// enabled again after a cancellation
+			fCancelledRequests.remove(request);
+			if (fBulkInstallThread != Thread.currentThread()) {
+				return false;
+			}
+			fDeferredRequests.add(request);
+		}
+		return true;
+	}
+
+	/**
+	 * Cancels enabling the given request if it was deferred by
+	 * {@link #deferEnable(EventRequest)}. If the deferred requests are being
+	 * enabled, the request is disabled again once they are.
+	 *
+	 * @param request
+	 *            the request to disable
+	 */
+	public void cancelDeferredEnable(EventRequest request) {
+		synchronized (fDeferredRequests) {
+			if (!fDeferredRequests.remove(request) && fEnablingRequests.contains(request)) {
+				fCancelledRequests.add(request);
+			}
+		}
+	}
+
+	/**
+	 * Enables all requests deferred during the bulk installation of
+	 * breakpoints. The commands are sent without holding the lock of the
+	 * deferred requests, requests cancelled meanwhile are disabled afterwards.
+	 */
+	private void enableDeferredRequests() {
+		List<EventRequest> requests;
+		synchronized (fDeferredRequests) {
+			if (fDeferredRequests.isEmpty()) {
+				return;
+			}
+			requests = new ArrayList<>(fDeferredRequests);
+			fDeferredRequests.clear();
+			fEnablingRequests.addAll(requests);
+		}
+		List<EventRequest> cancelled;
+		try {
+			enableRequests(requests);
+		} finally {
+			synchronized (fDeferredRequests) {
+				fEnablingRequests.clear();
+				cancelled = new ArrayList<>(fCancelledRequests);
+				fCancelledRequests.clear();
+			}
+		}
+		for (EventRequest request : cancelled) {
+			try {
+				request.disable();
+			} catch (VMDisconnectedException e) {
+				return;
+			} catch (InvalidRequestStateException e) {
+				// deleted meanwhile
+			} catch (RuntimeException e) {
+				internalError(e);
+			}
+		}
+	}
+
+	/**
+	 * Enables the given requests, pipelining the commands sent to the VM when
+	 * possible.
+	 */
+	private void enableRequests(List<EventRequest> requests) {
+		EventRequestManager manager = getEventRequestManager();
+		if (manager instanceof EventRequestManagerImpl) {
+			try {
+				((EventRequestManagerImpl) manager).enableEventRequests(requests);
+				return;
+			} catch (VMDisconnectedException e) {
+				return;
+			} catch (RuntimeException e) {
+				// enable the remaining requests one by one to report each failure
+			}
+		}
+		for (EventRequest request : requests) {
+			try {
+				request.enable();
+			} catch (VMDisconnectedException e) {
+				return;
+			} catch (RuntimeException e) {
+				internalError(e);
 			}
 		}
 	}
@@ -654,8 +881,10 @@ public class JDIDebugTarget extends JDIDebugElement implements
 		if (isDisconnected()) {
 			return null;
 		}
-		synchronized (fThreads) {
-			fThreads.add(jdiThread);
+		Long id = Long.valueOf(thread.uniqueID());
+		synchronized (fThreadsById) {
+			fThreadsById.put(id, jdiThread);
+			fThreads.put(id, jdiThread);
 		}
 		jdiThread.fireCreationEvent();
 		return jdiThread;
@@ -681,23 +910,17 @@ public class JDIDebugTarget extends JDIDebugElement implements
 
 	@Override
 	public IThread[] getThreads() {
-		synchronized (fThreads) {
-			IThread[] threads = new IThread[fThreads.size()];
-			int index = 0;
-			for (JDIThread thread : fThreads) {
-				if (!thread.isSystemThread()) {
-					threads[index] = thread;
-					++index;
-				}
-			}
-			for (JDIThread thread : fThreads) {
-				if (thread.isSystemThread()) {
-					threads[index] = thread;
-					++index;
-				}
+		List<IThread> threads = new ArrayList<>(fThreadsById.size());
+		List<IThread> systemThreads = new ArrayList<>();
+		for (JDIThread thread : fThreads.values()) {
+			if (thread.isSystemThread()) {
+				systemThreads.add(thread);
+			} else {
+				threads.add(thread);
 			}
-			return threads;
 		}
+		threads.addAll(systemThreads);
+		return threads.toArray(new IThread[threads.size()]);
 	}
 
 	@Override
@@ -1014,14 +1237,59 @@ public class JDIDebugTarget extends JDIDebugElement implements
 	 * @return the associated model thread
 	 */
 	public JDIThread findThread(ThreadReference tr) {
-		Iterator<JDIThread> iter = getThreadIterator();
-		while (iter.hasNext()) {
-			JDIThread thread = iter.next();
-			if (thread.getUnderlyingThread().equals(tr)) {
+		JDIThread thread = fThreadsById.get(Long.valueOf(tr.uniqueID()));
+		if (thread != null && thread.getUnderlyingThread().equals(tr)) {
+			return thread;
+		}
+		return null;
+	}
+
+	/**
+	 * Finds and returns the JDI thread for the associated thread reference. If
+	 * virtual threads are discovered lazily and the thread is a virtual thread
+	 * not known yet, a model thread is created for it and a request is made to
+	 * be notified of its death. Returns <code>null</code> if the thread is not
+	 * known otherwise.
+	 *
+	 * @param tr
+	 *            the underlying thread reference
+	 * @return the associated model thread or <code>null</code>
+	 */
+	public JDIThread discoverThread(ThreadReference tr) {
+		JDIThread thread = findThread(tr);
+		if (thread != null || !fDiscoverVirtualThreadsLazily) {
+			return thread;
+		}
+		try {
+			if (!(tr instanceof ThreadReferenceImpl impl) || !impl.isVirtual()) {
+				return null;
+			}
+		} catch (VMDisconnectedException | ObjectCollectedException e) {
+			return null;
+		} catch (RuntimeException e) {
+			logError(e);
+			return null;
+		}
+		// initializing the thread queries the VM, so it is done before taking the lock
+		JDIThread created = newThread(tr);
+		if (created == null || isDisconnected()) {
+			return null;
+		}
+		Long id = Long.valueOf(tr.uniqueID());
+		synchronized (fThreadsById) {
+			thread = fThreadsById.putIfAbsent(id, created);
+			if (thread != null) {
+				// discovered concurrently by another event
 				return thread;
 			}
+			fThreads.put(id, created);
 		}
-		return null;
+		created.fireCreationEvent();
+		ThreadDeathHandler handler = fThreadDeathHandler;
+		if (handler != null) {
+			handler.createRequest(tr);
+		}
+		return created;
 	}
 
 	@Override
@@ -1662,6 +1930,7 @@ public class JDIDebugTarget extends JDIDebugElement implements
 			suspendThreads();
 			setSuspended(true);
 			fireSuspendEvent(DebugEvent.CLIENT_REQUEST);
+			fThreadsRefreshJob.schedule();
 		} catch (RuntimeException e) {
 			setSuspended(false);
 			resumeThreads();
@@ -1737,6 +2006,7 @@ public class JDIDebugTarget extends JDIDebugElement implements
 		} else {
 			fireSuspendEvent(DebugEvent.BREAKPOINT);
 		}
+		fThreadsRefreshJob.schedule();
 		// We need to remember how many times VM was suspended, to call
 		// resume as many times as needed
 		extraResumeCount.incrementAndGet();
@@ -1844,6 +2114,13 @@ public class JDIDebugTarget extends JDIDebugElement implements
 			return true;
 		});
 		fVirtualMachine = null;
+		LoadedTypesIndex loadedTypes = fLoadedTypes;
+		if (loadedTypes != null) {
+			loadedTypes.dispose();
+			fLoadedTypes = null;
+		}
+		fArrayChunks.clear();
+		fThreadsRefreshJob.cancel();
 		setThreadStartHandler(null);
 		setEventDispatcher(null);
 		setStepFilters(new String[0]);
@@ -1863,7 +2140,8 @@ public class JDIDebugTarget extends JDIDebugElement implements
 			JDIThread child = itr.next();
 			child.terminated();
 		}
-		synchronized (fThreads) {
+		synchronized (fThreadsById) {
+			fThreadsById.clear();
 			fThreads.clear();
 		}
 	}
@@ -1902,15 +2180,41 @@ public class JDIDebugTarget extends JDIDebugElement implements
 		}
 	}
 
+	/**
+	 * Returns the index of types loaded in the underlying VM, or
+	 * <code>null</code> if this target is no longer available.
+	 *
+	 * @return loaded types index or <code>null</code>
+	 */
+	public LoadedTypesIndex getLoadedTypes() {
+		return fLoadedTypes;
+	}
+
+	/**
+	 * Returns the cache of the elements of the arrays of this target.
+	 *
+	 * @return array element cache
+	 */
+	ArrayChunkCache getArrayChunkCache() {
+		return fArrayChunks;
+	}
+
 	/**
 	 * Returns VirtualMachine.classesByName(String), logging any JDI exceptions.
+	 * The result is answered by the loaded types index of this target when
+	 * available, which asks the VM for the types it has not indexed.
 	 *
 	 * @see com.sun.jdi.VirtualMachine
+	 * @see #getLoadedTypes()
 	 */
 	public List<ReferenceType> jdiClassesByName(String className) {
 		VirtualMachine vm = getVM();
 		if (vm != null) {
 			try {
+				LoadedTypesIndex loadedTypes = fLoadedTypes;
+				if (loadedTypes != null) {
+					return loadedTypes.classesByName(className);
+				}
 				return vm.classesByName(className);
 			} catch (VMDisconnectedException e) {
 				if (!isAvailable()) {
@@ -2218,6 +2522,9 @@ public class JDIDebugTarget extends JDIDebugElement implements
 				try {
 					EventRequest req = manager.createThreadStartRequest();
 					req.setSuspendPolicy(EventRequest.SUSPEND_NONE);
+					if (fDiscoverVirtualThreadsLazily && req instanceof ThreadLifecycleRequestImpl lifecycleRequest) {
+						lifecycleRequest.addPlatformThreadsOnlyFilter();
+					}
 					req.enable();
 					addJDIEventListener(this, req);
 					setRequest(req);
@@ -2301,9 +2608,12 @@ public class JDIDebugTarget extends JDIDebugElement implements
 	 */
 	class ThreadDeathHandler implements IJDIEventListener {
 
-		// terminated threads marked for removal from the fThreads list
+		// terminated threads marked for removal from the fThreads map
 		private final Map<Event, JDIThread> toRemove = Collections.synchronizedMap(new HashMap<>());
 
+		// requests for the death of lazily discovered virtual threads, by thread id
+		private final Map<Long, EventRequest> virtualThreadRequests = new ConcurrentHashMap<>();
+
 		protected ThreadDeathHandler() {
 			createRequest();
 		}
@@ -2317,6 +2627,9 @@ public class JDIDebugTarget extends JDIDebugElement implements
 				try {
 					EventRequest req = manager.createThreadDeathRequest();
 					req.setSuspendPolicy(EventRequest.SUSPEND_NONE);
+					if (fDiscoverVirtualThreadsLazily && req instanceof ThreadLifecycleRequestImpl lifecycleRequest) {
+						lifecycleRequest.addPlatformThreadsOnlyFilter();
+					}
 					req.enable();
 					addJDIEventListener(this, req);
 				} catch (RuntimeException e) {
@@ -2325,6 +2638,31 @@ public class JDIDebugTarget extends JDIDebugElement implements
 			}
 		}
 
+		/**
+		 * Creates and registers a request to listen to the death of the given
+		 * thread, which is not reported by the request for platform threads.
+		 *
+		 * @param thread
+		 *            a virtual thread
+		 */
+		protected void createRequest(ThreadReference thread) {
+			EventRequestManager manager = getEventRequestManager();
+			if (manager != null) {
+				try {
+					ThreadDeathRequest req = manager.createThreadDeathRequest();
+					req.addThreadFilter(thread);
+					req.setSuspendPolicy(EventRequest.SUSPEND_NONE);
+					req.enable();
+					addJDIEventListener(this, req);
+					virtualThreadRequests.put(Long.valueOf(thread.uniqueID()), req);
+				} catch (VMDisconnectedException e) {
+					// the thread is gone with the VM
+				} catch (RuntimeException e) {
+					logError(e);
+				}
+			}
+		}
+
 		/**
 		 * Locates the model thread associated with the underlying JDI thread that has terminated, and marks it for removal from the collection of
 		 * threads belonging to this debug target. A terminate event is fired for the model thread.
@@ -2364,8 +2702,25 @@ public class JDIDebugTarget extends JDIDebugElement implements
 		public void eventSetComplete(Event event, JDIDebugTarget target, boolean suspendVote, EventSet eventSet) {
 			JDIThread thread = toRemove.remove(event);
 			if (thread != null) {
-				synchronized (fThreads) {
-					fThreads.remove(thread);
+				Long id = Long.valueOf(thread.getUnderlyingThread().uniqueID());
+				synchronized (fThreadsById) {
+					fThreadsById.remove(id, thread);
+					fThreads.remove(id, thread);
+				}
+			}
+			ThreadReference ref = ((ThreadDeathEvent) event).thread();
+			EventRequest request = ref != null ? virtualThreadRequests.remove(Long.valueOf(ref.uniqueID())) : null;
+			if (request != null) {
+				removeJDIEventListener(this, request);
+				try {
+					EventRequestManager manager = getEventRequestManager();
+					if (manager != null) {
+						manager.deleteEventRequest(request);
+					}
+				} catch (VMDisconnectedException e) {
+					// nothing to delete
+				} catch (RuntimeException e) {
+					logError(e);
 				}
 			}
 		}
@@ -2537,6 +2892,94 @@ public class JDIDebugTarget extends JDIDebugElement implements
 		}
 	}
 
+	/**
+	 * Job retrieving the status and the top stack frame of all suspended
+	 * threads after the VM was suspended, with pipelined requests rather than
+	 * one round trip per thread, see
+	 * {@link ThreadReferenceImpl#prefetchTopFrames(List, BiConsumer)}. Threads
+	 * are notified to change as soon as their top frame is bound, so that the
+	 * views do not retrieve the state of each thread in turn. The rest of the
+	 * stacks is retrieved when a thread is expanded.
+	 */
+	class ThreadsRefreshJob extends Job {
+
+		/**
+		 * Number of threads whose top frames are retrieved with one batch of
+		 * pipelined requests
+		 */
+		private static final int BATCH_SIZE = 256;
+
+		/**
+		 * Maximum number of threads notified with one event set
+		 */
+		private static final int EVENTS_SIZE = 64;
+
+		ThreadsRefreshJob() {
+			super(JDIDebugModelMessages.JDIDebugTarget_ThreadsRefresh);
+			setSystem(true);
+			setPriority(Job.INTERACTIVE);
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			long epoch = getSuspendEpoch();
+			List<JDIThread> threads = new ArrayList<>();
+			Iterator<JDIThread> iterator = getThreadIterator();
+			while (iterator.hasNext()) {
+				JDIThread thread = iterator.next();
+				if (thread.isSuspended() && thread.getUnderlyingThread() instanceof ThreadReferenceImpl) {
+					threads.add(thread);
+				}
+			}
+			List<DebugEvent> events = new ArrayList<>();
+			for (int i = 0; i < threads.size(); i += BATCH_SIZE) {
+				if (monitor.isCanceled() || !isSuspended() || getSuspendEpoch() != epoch) {
+					break;
+				}
+				Map<ThreadReference, JDIThread> batch = new LinkedHashMap<>();
+				for (JDIThread thread : threads.subList(i, Math.min(i + BATCH_SIZE, threads.size()))) {
+					batch.put(thread.getUnderlyingThread(), thread);
+				}
+				try {
+					ThreadReferenceImpl.prefetchTopFrames(new ArrayList<>(batch.keySet()), (reference, state) -> {
+						JDIThread thread = batch.get(reference);
+						if (state.suspended() && thread.bindTopStackFrame(state.topFrame(), state.frameCount(), epoch)) {
+							events.add(new DebugEvent(thread, DebugEvent.CHANGE, DebugEvent.STATE));
+							if (events.size() >= EVENTS_SIZE) {
+								fireEvents(events);
+							}
+						}
+					});
+				} catch (RuntimeException e) {
+					// remaining threads are refreshed when asked for
+					break;
+				}
+			}
+			fireEvents(events);
+			return Status.OK_STATUS;
+		}
+
+		/**
+		 * Fires and clears the given events.
+		 */
+		private void fireEvents(List<DebugEvent> events) {
+			if (!events.isEmpty()) {
+				DebugPlugin.getDefault().fireDebugEventSet(events.toArray(new DebugEvent[events.size()]));
+				events.clear();
+			}
+		}
+
+		@Override
+		public boolean shouldRun() {
+			return isAvailable() && isSuspended();
+		}
+
+		@Override
+		public boolean belongsTo(Object family) {
+			return family == JDIDebugTarget.this;
+		}
+	}
+
 	class CleanUpJob extends Job {
 
 		/**
@@ -2765,7 +3208,7 @@ public class JDIDebugTarget extends JDIDebugElement implements
 
 	@Override
 	public boolean hasThreads() {
-		return fThreads.size() > 0;
+		return !fThreads.isEmpty();
 	}
 
 	@Override
@@ -3004,6 +3447,135 @@ public class JDIDebugTarget extends JDIDebugElement implements
 		return false;
 	}
 
+	/**
+	 * Returns the current suspend epoch of this target. The epoch changes each
+	 * time a thread of this target resumes, other than to invoke a method.
+	 *
+	 * @return current suspend epoch
+	 */
+	public long getSuspendEpoch() {
+		return fSuspendEpoch.get();
+	}
+
+	/**
+	 * Returns the suspend epoch within which values retrieved from the VM may
+	 * be cached, or -1 if they must not be cached. Values may only be cached
+	 * while the entire target is suspended, since the epoch does not change
+	 * while other threads keep running, for example after a breakpoint that
+	 * suspends only its thread.
+	 *
+	 * @return current suspend epoch, or -1 if values must not be cached
+	 * @see #isEntirelySuspended()
+	 */
+	public long getCacheEpoch() {
+		// read first, so that a resume while checking makes the epoch stale
+		long epoch = getSuspendEpoch();
+		return isEntirelySuspended() ? epoch : -1;
+	}
+
+	/**
+	 * Returns whether this target and all of its threads are suspended, and no
+	 * thread is invoking a method.
+	 *
+	 * @return whether no thread of this target is running
+	 */
+	public boolean isEntirelySuspended() {
+		if (!isSuspended() || !isAvailable()) {
+			return false;
+		}
+		for (JDIThread thread : fThreads.values()) {
+			if (!thread.isSuspended() || thread.isInvokingMethod()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Notes that a thread of this target resumed, which invalidates values
+	 * retrieved during the current suspend epoch.
+	 */
+	void incrementSuspendEpoch() {
+		fSuspendEpoch.incrementAndGet();
+	}
+
+	/**
+	 * Returns the number of instances of each of the given types. Instances are
+	 * counted in batches of types, and each batch is reported to the given
+	 * listener as soon as it is retrieved so that clients can display the
+	 * counts progressively. Counts are cached until a thread of this target
+	 * resumes, and only while the entire target is suspended.
+	 *
+	 * @param types
+	 *            types to count the instances of
+	 * @param batchListener
+	 *            receives the index of the first type of each batch and the
+	 *            counts of the batch, or <code>null</code>
+	 * @return the number of instances of each type, or -1 for each type if the
+	 *         VM does not support instance retrieval
+	 * @throws DebugException
+	 *             if the instances cannot be counted
+	 */
+	public long[] getInstanceCounts(List<? extends ReferenceType> types, BiConsumer<Integer, long[]> batchListener) throws DebugException {
+		long[] counts = new long[types.size()];
+		VirtualMachine vm = getVM();
+		if (vm == null || !supportsInstanceRetrieval()) {
+			Arrays.fill(counts, -1);
+			return counts;
+		}
+		long epoch = getSuspendEpoch();
+		for (int start = 0; start < counts.length; start += INSTANCE_COUNT_BATCH_SIZE) {
+			int end = Math.min(start + INSTANCE_COUNT_BATCH_SIZE, counts.length);
+			List<ReferenceType> uncounted = new ArrayList<>();
+			boolean cached = isEntirelySuspended();
+			synchronized (fInstanceCounts) {
+				if (fInstanceCountsEpoch != epoch || !cached) {
+					// running threads may have created or released instances
+					fInstanceCounts.clear();
+					fInstanceCountsEpoch = epoch;
+				}
+				for (int i = start; i < end; i++) {
+					Long count = cached ? fInstanceCounts.get(types.get(i)) : null;
+					if (count == null) {
+						counts[i] = -1;
+						if (!uncounted.contains(types.get(i))) {
+							uncounted.add(types.get(i));
+						}
+					} else {
+						counts[i] = count.longValue();
+					}
+				}
+			}
+			if (!uncounted.isEmpty()) {
+				long[] batch = null;
+				try {
+					batch = vm.instanceCounts(uncounted);
+				} catch (RuntimeException e) {
+					targetRequestFailed(JDIDebugModelMessages.JDIReferenceType_5, e);
+					return counts;
+				}
+				Map<ReferenceType, Long> retrieved = new HashMap<>();
+				for (int i = 0; i < batch.length; i++) {
+					retrieved.put(uncounted.get(i), Long.valueOf(batch[i]));
+				}
+				synchronized (fInstanceCounts) {
+					if (cached && fInstanceCountsEpoch == epoch && getSuspendEpoch() == epoch) {
+						fInstanceCounts.putAll(retrieved);
+					}
+				}
+				for (int i = start; i < end; i++) {
+					if (counts[i] == -1) {
+						counts[i] = retrieved.get(types.get(i)).longValue();
+					}
+				}
+			}
+			if (batchListener != null) {
+				batchListener.accept(Integer.valueOf(start), Arrays.copyOfRange(counts, start, end));
+			}
+		}
+		return counts;
+	}
+
 	/**
 	 * Sends a JDWP command to the back end and returns the JDWP reply packet as
 	 * bytes. This method creates an appropriate command header and packet id,
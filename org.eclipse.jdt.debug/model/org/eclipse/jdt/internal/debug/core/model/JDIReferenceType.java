@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,6 +21,7 @@ import java.util.Iterator;
 import java.util.List;
 
 import org.eclipse.debug.core.DebugException;
+import org.eclipse.jdi.internal.ReferenceTypeImpl;
 import org.eclipse.jdt.core.Signature;
 import org.eclipse.jdt.debug.core.IJavaClassObject;
 import org.eclipse.jdt.debug.core.IJavaFieldVariable;
@@ -37,7 +38,6 @@ import com.sun.jdi.ObjectReference;
 import com.sun.jdi.ReferenceType;
 import com.sun.jdi.Type;
 import com.sun.jdi.Value;
-import com.sun.jdi.VirtualMachine;
 
 /**
  * References a class, interface, or array type.
@@ -381,6 +381,32 @@ public abstract class JDIReferenceType extends JDIType implements
 		return null;
 	}
 
+	/**
+	 * Returns the instances of this type, at most the given number. The mirror
+	 * of an instance is created when the instance is accessed in the returned
+	 * list, so that a large number of instances can be walked in windows.
+	 *
+	 * @param max
+	 *            the maximum number of instances to retrieve or 0 to retrieve
+	 *            all instances
+	 * @return the instances of this type
+	 * @throws DebugException
+	 *             if the instances cannot be retrieved
+	 * @see #getInstances(long)
+	 */
+	public List<ObjectReference> getInstanceList(long max) throws DebugException {
+		try {
+			ReferenceType type = getReferenceType();
+			if (type instanceof ReferenceTypeImpl) {
+				return ((ReferenceTypeImpl) type).lazyInstances(max);
+			}
+			return type.instances(max);
+		} catch (RuntimeException e) {
+			targetRequestFailed(JDIDebugModelMessages.JDIReferenceType_5, e);
+		}
+		return null;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 *
@@ -392,20 +418,33 @@ public abstract class JDIReferenceType extends JDIType implements
 		if (target.supportsInstanceRetrieval()) {
 			Type type = getUnderlyingType();
 			if(type instanceof ReferenceType) {
-				ArrayList<ReferenceType> list = new ArrayList<>(2);
-				list.add((ReferenceType) type);
-				VirtualMachine vm = getVM();
-				try {
-					long[] counts = vm.instanceCounts(list);
-					return counts[0];
-				} catch (RuntimeException e) {
-					targetRequestFailed(JDIDebugModelMessages.JDIReferenceType_5, e);
-				}
+				return target.getInstanceCounts(Collections.singletonList((ReferenceType) type), null)[0];
 			}
 		}
 		return -1;
 	}
 
+	/**
+	 * Returns the number of instances of each of the given types, counted with
+	 * as few requests as possible.
+	 *
+	 * @param target
+	 *            the debug target the types belong to
+	 * @param types
+	 *            types to count the instances of
+	 * @return the number of instances of each type, or -1 for each type if the
+	 *         target does not support instance retrieval
+	 * @throws DebugException
+	 *             if the instances cannot be counted
+	 */
+	public static long[] getInstanceCounts(JDIDebugTarget target, List<? extends JDIReferenceType> types) throws DebugException {
+		List<ReferenceType> referenceTypes = new ArrayList<>(types.size());
+		for (JDIReferenceType type : types) {
+			referenceTypes.add(type.getReferenceType());
+		}
+		return target.getInstanceCounts(referenceTypes, null);
+	}
+
 	/**
 	 * Utility method to convert argument array to an argument list.
 	 *
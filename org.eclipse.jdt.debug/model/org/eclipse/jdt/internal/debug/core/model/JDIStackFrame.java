@@ -104,10 +104,16 @@ public class JDIStackFrame extends JDIDebugElement implements IJavaStackFrame {
 
 	/**
 	 * The underlying Object associated with this stack frame. Cached lazily on
-	 * first access.
+	 * first access, along with the receivers of the other frames of the thread.
 	 */
 	private ObjectReference fThisObject;
 
+	/**
+	 * The suspend epoch in which {@link #fThisObject} was retrieved, or -1 if it
+	 * was not retrieved.
+	 */
+	private long fThisObjectEpoch = -1;
+
 	/**
 	 * The name of the type of the object that received the method call
 	 * associated with this stack frame. Cached lazily on first access.
@@ -1010,9 +1016,15 @@ public class JDIStackFrame extends JDIDebugElement implements IJavaStackFrame {
 	 */
 	protected ObjectReference getUnderlyingThisObject() throws DebugException {
 		synchronized (fThread) {
-			if ((fStackFrame == null || fThisObject == null) && !isStatic() && !(getUnderlyingStackFrame() == null)) {
+			long epoch = getJavaDebugTarget().getSuspendEpoch();
+			if ((fStackFrame == null || fThisObjectEpoch != epoch) && !isStatic() && !(getUnderlyingStackFrame() == null)) {
+				fThread.prefetchLabelData();
+				if (fThisObjectEpoch == epoch) {
+					return fThisObject;
+				}
 				try {
 					fThisObject = getUnderlyingStackFrame().thisObject();
+					fThisObjectEpoch = epoch;
 				} catch (RuntimeException e) {
 					targetRequestFailed(
 							MessageFormat.format(
@@ -1517,9 +1529,36 @@ public class JDIStackFrame extends JDIDebugElement implements IJavaStackFrame {
 	 */
 	private void clearCachedData() {
 		fThisObject = null;
+		fThisObjectEpoch = -1;
 		fReceivingTypeName = null;
 	}
 
+	/**
+	 * Returns the underlying frame if its receiver was not retrieved in the
+	 * given suspend epoch, <code>null</code> otherwise.
+	 *
+	 * @param epoch
+	 *            suspend epoch
+	 * @return underlying frame or <code>null</code>
+	 */
+	StackFrame getFrameToPrefetch(long epoch) {
+		return fThisObjectEpoch != epoch ? fStackFrame : null;
+	}
+
+	/**
+	 * Sets the receiver of the underlying frame, retrieved in the given suspend
+	 * epoch.
+	 *
+	 * @param thisObject
+	 *            receiver, <code>null</code> for static methods
+	 * @param epoch
+	 *            suspend epoch
+	 */
+	void setUnderlyingThisObject(ObjectReference thisObject, long epoch) {
+		fThisObject = thisObject;
+		fThisObjectEpoch = epoch;
+	}
+
 	/**
 	 * @see IJavaStackFrame#wereLocalsAvailable()
 	 */
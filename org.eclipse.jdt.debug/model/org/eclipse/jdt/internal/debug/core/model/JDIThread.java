@@ -17,9 +17,12 @@
 package org.eclipse.jdt.internal.debug.core.model;
 
 import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Vector;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -43,6 +46,7 @@ import org.eclipse.debug.core.model.IStepFilter;
 import org.eclipse.debug.core.model.ISuspendResume;
 import org.eclipse.debug.core.model.ITerminate;
 import org.eclipse.debug.core.model.IThread;
+import org.eclipse.jdi.internal.StackFrameImpl;
 import org.eclipse.jdt.core.Signature;
 import org.eclipse.jdt.debug.core.IEvaluationRunnable;
 import org.eclipse.jdt.debug.core.IJavaBreakpoint;
@@ -143,9 +147,15 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 	 */
 	private String fPreviousName;
 	/**
-	 * Collection of stack frames
+	 * Collection of stack frames, starting from the top of the stack. Only the
+	 * top frames may have been retrieved, see {@link #computeTopStackFrames(int)}.
 	 */
 	private volatile List<IJavaStackFrame> fStackFrames;
+	/**
+	 * Number of frames on the stack when {@link #fStackFrames} were last
+	 * computed.
+	 */
+	private int fFrameCount;
 	/**
 	 * Underlying thread group, cached on first access.
 	 */
@@ -654,45 +664,13 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 		if (isSuspended()) {
 			if (isTerminated()) {
 				fStackFrames.clear();
+				fFrameCount = 0;
 			} else if (refreshChildren) {
-				List<StackFrame> frames = getUnderlyingFrames();
-				int oldSize = fStackFrames.size();
-				if (oldSize > 0) {
-					((JDIStackFrame) fStackFrames.get(0)).setIsTop(false);
-				}
-				int newSize = frames.size();
-				int discard = oldSize - newSize; // number of old frames to
-													// discard, if any
-				for (int i = 0; i < discard; i++) {
-					JDIStackFrame invalid = (JDIStackFrame) fStackFrames
-							.remove(0);
-					invalid.bind(null, -1);
-				}
-				int newFrames = newSize - oldSize; // number of frames to
-													// create, if any
-				int depth = oldSize;
-				for (int i = newFrames - 1; i >= 0; i--) {
-					fStackFrames.add(0, newJDIStackFrame(frames.get(i), depth));
-					depth++;
-				}
-				int numToRebind = Math.min(newSize, oldSize); // number of
-																// frames to
-																// attempt to
-																// re-bind
-				int offset = newSize - 1;
-				for (depth = 0; depth < numToRebind; depth++) {
-					JDIStackFrame oldFrame = (JDIStackFrame) fStackFrames
-							.get(offset);
-					StackFrame frame = frames.get(offset);
-					JDIStackFrame newFrame = oldFrame.bind(frame, depth);
-					if (newFrame != oldFrame) {
-						fStackFrames.set(offset, newFrame);
-					}
-					offset--;
-				}
-				if (newSize > 0) {
-					((JDIStackFrame) fStackFrames.get(0)).setIsTop(true);
-				}
+				List<StackFrame> frames = getUnderlyingFrames(0, -1);
+				bindStackFrames(frames, frames.size());
+			} else if (fStackFrames.size() < fFrameCount) {
+				// only the top of the stack was retrieved so far
+				appendStackFrames(fFrameCount - fStackFrames.size());
 			}
 			fRefreshChildren = false;
 		} else {
@@ -701,6 +679,168 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 		return fStackFrames;
 	}
 
+	/**
+	 * Returns the given number of frames from the top of this thread's stack,
+	 * or all frames if the stack is not as deep, computing them if required.
+	 * Unlike {@link #computeStackFrames()}, only the requested frames are
+	 * retrieved from the VM, so that a suspend or a step in a very deep stack
+	 * does not transfer and wrap every frame. Frames which were retrieved on
+	 * the previous suspend and are still on the stack are retrieved as well, so
+	 * that they are re-used. Returns an empty collection if this thread is not
+	 * currently suspended.
+	 *
+	 * @param count
+	 *            the number of frames to return
+	 * @return list of <code>IJavaStackFrame</code>, a copy
+	 * @throws DebugException
+	 *             if an exception occurs retrieving frames
+	 */
+	public synchronized List<IJavaStackFrame> computeTopStackFrames(int count) throws DebugException {
+		if (!isSuspended()) {
+			return Collections.EMPTY_LIST;
+		}
+		if (isTerminated()) {
+			return new ArrayList<>(computeStackFrames(fRefreshChildren));
+		}
+		if (fRefreshChildren) {
+			int frameCount = getUnderlyingFrameCount();
+			int retrieved = fStackFrames.size();
+			// depth of the deepest frame retrieved on the previous suspend
+			int deepest = retrieved == 0 ? frameCount : fFrameCount - retrieved;
+			int length = Math.min(frameCount, Math.max(count, frameCount - deepest));
+			bindStackFrames(getUnderlyingFrames(0, length), frameCount);
+			fRefreshChildren = false;
+		} else {
+			int wanted = Math.min(count, fFrameCount);
+			if (fStackFrames.size() < wanted) {
+				appendStackFrames(wanted - fStackFrames.size());
+			}
+		}
+		List<IJavaStackFrame> frames = fStackFrames;
+		return new ArrayList<>(frames.subList(0, Math.min(count, frames.size())));
+	}
+
+	/**
+	 * Binds the top stack frame of this thread, retrieved along with the top
+	 * frames of the other threads after the VM was suspended. The rest of the
+	 * stack is retrieved when asked for, see {@link #computeStackFrames()}.
+	 * Has no effect if the frames were already computed in this suspend, if
+	 * the VM was resumed since the given suspend epoch, or if more than the
+	 * top frame is required to re-use the frames of the previous suspend.
+	 *
+	 * @param frame
+	 *            underlying top frame, or <code>null</code> if the stack is
+	 *            empty
+	 * @param frameCount
+	 *            number of frames on the stack
+	 * @param epoch
+	 *            suspend epoch of the target in which the frame was retrieved
+	 * @return whether the frame was bound
+	 */
+	synchronized boolean bindTopStackFrame(StackFrame frame, int frameCount, long epoch) {
+		if (!fRefreshChildren || !isSuspended() || isTerminated() || getJavaDebugTarget().getSuspendEpoch() != epoch) {
+			return false;
+		}
+		int retrieved = fStackFrames.size();
+		// depth of the deepest frame retrieved on the previous suspend
+		int deepest = retrieved == 0 ? frameCount : fFrameCount - retrieved;
+		int length = Math.min(frameCount, Math.max(1, frameCount - deepest));
+		if (length != (frame == null ? 0 : 1)) {
+			return false;
+		}
+		bindStackFrames(frame == null ? Collections.emptyList() : List.of(frame), frameCount);
+		fRefreshChildren = false;
+		return true;
+	}
+
+	/**
+	 * Replaces the stack frames by frames for the given top frames of the
+	 * stack. Frames of the previous suspend at the same depth in the same
+	 * method are re-bound rather than re-created, other frames of the previous
+	 * suspend are invalidated.
+	 *
+	 * @param frames
+	 *            underlying frames, from the top of the stack
+	 * @param frameCount
+	 *            number of frames on the stack
+	 */
+	private void bindStackFrames(List<StackFrame> frames, int frameCount) {
+		List<IJavaStackFrame> oldFrames = new ArrayList<>(fStackFrames);
+		if (!oldFrames.isEmpty()) {
+			((JDIStackFrame) oldFrames.get(0)).setIsTop(false);
+		}
+		List<IJavaStackFrame> newFrames = new Vector<>(frames.size());
+		for (int i = 0; i < frames.size(); i++) {
+			int depth = frameCount - 1 - i; // 0 is bottom
+			int oldIndex = fFrameCount - 1 - depth;
+			if (oldIndex >= 0 && oldIndex < oldFrames.size()) {
+				JDIStackFrame oldFrame = (JDIStackFrame) oldFrames.set(oldIndex, null);
+				newFrames.add(oldFrame.bind(frames.get(i), depth));
+			} else {
+				newFrames.add(newJDIStackFrame(frames.get(i), depth));
+			}
+		}
+		for (IJavaStackFrame oldFrame : oldFrames) {
+			if (oldFrame != null) {
+				((JDIStackFrame) oldFrame).bind(null, -1);
+			}
+		}
+		if (!newFrames.isEmpty()) {
+			((JDIStackFrame) newFrames.get(0)).setIsTop(true);
+		}
+		fStackFrames = newFrames;
+		fFrameCount = frameCount;
+	}
+
+	/**
+	 * Retrieves the given number of frames below the frames retrieved so far.
+	 *
+	 * @param length
+	 *            number of frames to retrieve
+	 * @throws DebugException
+	 *             if an exception occurs retrieving frames
+	 */
+	private void appendStackFrames(int length) throws DebugException {
+		int start = fStackFrames.size();
+		List<StackFrame> frames = getUnderlyingFrames(start, length);
+		for (int i = 0; i < frames.size(); i++) {
+			fStackFrames.add(newJDIStackFrame(frames.get(i), fFrameCount - 1 - (start + i)));
+		}
+	}
+
+	/**
+	 * Retrieves the receivers of all stack frames whose receiver is not known
+	 * in the current suspend epoch, along with the types of the receivers and
+	 * the line tables of the methods of the frames, in a few pipelined requests
+	 * to the VM. Rendering the labels of a deep stack then does not take round
+	 * trips to the VM for each frame.
+	 *
+	 * @see StackFrameImpl#prefetchLabelData(List)
+	 */
+	synchronized void prefetchLabelData() {
+		if (!isSuspended() || fStackFrames.size() < 2) {
+			return;
+		}
+		long epoch = getJavaDebugTarget().getSuspendEpoch();
+		Map<StackFrame, JDIStackFrame> frames = new LinkedHashMap<>();
+		for (IJavaStackFrame javaFrame : fStackFrames) {
+			JDIStackFrame frame = (JDIStackFrame) javaFrame;
+			StackFrame underlyingFrame = frame.getFrameToPrefetch(epoch);
+			if (underlyingFrame instanceof StackFrameImpl) {
+				frames.put(underlyingFrame, frame);
+			}
+		}
+		if (frames.size() < 2) {
+			return;
+		}
+		try {
+			Map<StackFrame, ObjectReference> receivers = StackFrameImpl.prefetchLabelData(new ArrayList<>(frames.keySet()));
+			receivers.forEach((frame, receiver) -> frames.get(frame).setUnderlyingThisObject(receiver, epoch));
+		} catch (RuntimeException e) {
+			// the receivers are retrieved frame by frame, reporting the failure
+		}
+	}
+
 	/**
 	 * Creates new {@link JDIStackFrame} linked to current thread
 	 *
@@ -762,7 +902,18 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 		return computeStackFrames(true);
 	}
 
-	private List<StackFrame> getUnderlyingFrames() throws DebugException {
+	/**
+	 * Returns the given range of underlying frames, from the top of the stack.
+	 *
+	 * @param start
+	 *            index of the first frame
+	 * @param length
+	 *            number of frames, or -1 for all remaining frames
+	 * @return underlying frames
+	 * @throws DebugException
+	 *             if an exception occurs retrieving frames
+	 */
+	private List<StackFrame> getUnderlyingFrames(int start, int length) throws DebugException {
 		if (!isSuspended()) {
 			// Checking isSuspended here eliminates a race condition in resume
 			// between the time stack frames are preserved and the time the
@@ -772,7 +923,10 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 					null, IJavaThread.ERR_THREAD_NOT_SUSPENDED);
 		}
 		try {
-			return fThread.frames();
+			if (start == 0 && length == -1) {
+				return fThread.frames();
+			}
+			return fThread.frames(start, length);
 		} catch (IncompatibleThreadStateException e) {
 			requestFailed(
 					JDIDebugModelMessages.JDIThread_Unable_to_retrieve_stack_frame___thread_not_suspended__1,
@@ -884,6 +1038,10 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 					addCurrentBreakpoint(breakpoint);
 				}
 			}
+			if (evaluationDetail != DebugEvent.EVALUATION_IMPLICIT) {
+				// explicit evaluations may modify arrays
+				getJavaDebugTarget().getArrayChunkCache().clear();
+			}
 			if (quiet) {
 				fireEvent(new DebugEvent(this, DebugEvent.MODEL_SPECIFIC,
 						SUSPEND_QUIET));
@@ -1033,8 +1191,8 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 				}
 				// set the request timeout to be infinite
 				setRequestTimeout(Integer.MAX_VALUE);
-				setRunning(true);
 				setInvokingMethod(true);
+				setRunning(true);
 			}
 			preserveStackFrames();
 			int flags = ClassType.INVOKE_SINGLE_THREADED;
@@ -1141,8 +1299,8 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 				}
 				// set the request timeout to be infinite
 				setRequestTimeout(Integer.MAX_VALUE);
-				setRunning(true);
 				setInvokingMethod(true);
+				setRunning(true);
 			}
 			preserveStackFrames();
 			int flags = ClassType.INVOKE_SINGLE_THREADED;
@@ -1219,8 +1377,8 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 		try {
 			// set the request timeout to be infinite
 			setRequestTimeout(Integer.MAX_VALUE);
-			setRunning(true);
 			setInvokingMethod(true);
+			setRunning(true);
 			preserveStackFrames();
 			result = receiverClass.newInstance(fThread, constructor, args,
 					ClassType.INVOKE_SINGLE_THREADED);
@@ -1313,7 +1471,7 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 		setRequestTimeout(restoreTimeout);
 		// update preserved stack frames
 		try {
-			computeStackFrames();
+			computeTopStackFrames(1);
 		} catch (DebugException e) {
 			logError(e);
 		}
@@ -1386,7 +1544,7 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 
 	@Override
 	public synchronized IStackFrame getTopStackFrame() throws DebugException {
-		List<IJavaStackFrame> c = computeStackFrames();
+		List<IJavaStackFrame> c = computeTopStackFrames(1);
 		if (c.isEmpty()) {
 			return null;
 		}
@@ -1763,7 +1921,9 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 
 	/**
 	 * Sets whether this thread is currently executing. When set to
-	 * <code>true</code>, this thread's current breakpoints are cleared.
+	 * <code>true</code>, this thread's current breakpoints are cleared and,
+	 * unless a method is being invoked, the suspend epoch of the target
+	 * changes.
 	 *
 	 * @param running
 	 *            whether this thread is executing
@@ -1771,6 +1931,9 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 	protected void setRunning(boolean running) {
 		fRunning = running;
 		if (running) {
+			if (!isInvokingMethod()) {
+				getJavaDebugTarget().incrementSuspendEpoch();
+			}
 			synchronized (breakpointAcessLock) {
 				fCurrentBreakpoints.clear();
 			}
@@ -1805,6 +1968,7 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 	 */
 	protected synchronized void disposeStackFrames() {
 		fStackFrames.clear();
+		fFrameCount = 0;
 		fRefreshChildren = true;
 	}
 
@@ -2185,11 +2349,12 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 			try {
 				// Pop the frame and all frames above it
 				StackFrame jdiFrame = null;
-				int desiredSize = fStackFrames.size()
-						- fStackFrames.indexOf(frame) - 1;
-				int lastSize = fStackFrames.size() + 1; // Set up to pass the
+				List<IJavaStackFrame> frames = computeStackFrames();
+				int desiredSize = frames.size()
+						- frames.indexOf(frame) - 1;
+				int lastSize = frames.size() + 1; // Set up to pass the
 														// first test
-				int size = fStackFrames.size();
+				int size = frames.size();
 				while (size < lastSize && size > desiredSize) {
 					// Keep popping frames until the stack stops getting smaller
 					// or popFrame is gone.
@@ -2469,7 +2634,7 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 				}
 				Location location = frame.location();
 				setOriginalStepLocation(location);
-				setOriginalStepStackDepth(computeStackFrames().size());
+				setOriginalStepStackDepth(fFrameCount);
 				setStepRequest(createStepRequest());
 				setPendingStepHandler(this);
 				addJDIEventListener(this, getStepRequest());
@@ -2583,11 +2748,11 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 					}
 					fStepResultCandidate = null;
 					fStepResultTimeoutTriggered.set(false);
-					List<IJavaStackFrame> frames = computeStackFrames();
+					List<IJavaStackFrame> frames = computeTopStackFrames(1);
 					int frameCount = 0;
 					StackFrame currentFrame = null;
 					if (!frames.isEmpty()) {
-						frameCount = frames.size();
+						frameCount = fFrameCount;
 						currentFrame = ((JDIStackFrame) frames.get(0)).getUnderlyingStackFrame();
 					} else {
 						// can happen, e.g. when step filters are active.
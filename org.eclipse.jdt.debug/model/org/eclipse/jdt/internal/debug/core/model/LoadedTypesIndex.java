@@ -0,0 +1,382 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.core.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.eclipse.jdt.internal.debug.core.IJDIEventListener;
+
+import com.sun.jdi.ReferenceType;
+import com.sun.jdi.VirtualMachine;
+import com.sun.jdi.event.ClassPrepareEvent;
+import com.sun.jdi.event.ClassUnloadEvent;
+import com.sun.jdi.event.Event;
+import com.sun.jdi.event.EventSet;
+import com.sun.jdi.request.ClassPrepareRequest;
+import com.sun.jdi.request.ClassUnloadRequest;
+import com.sun.jdi.request.EventRequest;
+import com.sun.jdi.request.EventRequestManager;
+
+/**
+ * Index of the reference types loaded in a debug target.
+ * <p>
+ * The index is seeded with a single {@link VirtualMachine#allClasses()} on first
+ * use and is then kept current with class prepare and class unload events, so
+ * that breakpoints do not have to transfer all loaded classes from the VM each
+ * time they are installed. If the events cannot be requested, queries are
+ * answered directly by the VM.
+ * </p>
+ * <p>
+ * Types of the Java runtime packages listed in {@link #EXCLUDED_PACKAGES} are
+ * not indexed, so that the many classes the runtime loads do not each send an
+ * event. Queries which may match such types are answered by the VM. As events
+ * are delivered asynchronously, a type which is not found in the index is
+ * looked up in the VM as well.
+ * </p>
+ */
+public class LoadedTypesIndex implements IJDIEventListener {
+
+	/**
+	 * Prefixes of the names of the types which are not indexed
+	 */
+	static final String[] EXCLUDED_PACKAGES = { "java.", "javax.", "jdk.", "sun.", "com.sun." }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+
+	/**
+	 * The target this index belongs to
+	 */
+	private final JDIDebugTarget fTarget;
+
+	/**
+	 * Loaded types by name, sorted by name to allow prefix lookups. Values are
+	 * immutable lists, replaced on each change.
+	 */
+	private final ConcurrentSkipListMap<String, List<ReferenceType>> fTypes = new ConcurrentSkipListMap<>();
+
+	/**
+	 * Lock guarding updates of the index
+	 */
+	private final Object fLock = new Object();
+
+	/**
+	 * Requests used to track class loading and unloading, or <code>null</code>
+	 */
+	private EventRequest fPrepareRequest;
+	private EventRequest fUnloadRequest;
+
+	/**
+	 * Whether the index has been seeded with the types loaded in the VM
+	 */
+	private volatile boolean fSeeded;
+
+	/**
+	 * Creates an index for the given target and registers the requests which
+	 * keep it current.
+	 *
+	 * @param target
+	 *            debug target
+	 */
+	LoadedTypesIndex(JDIDebugTarget target) {
+		fTarget = target;
+		createRequests();
+	}
+
+	/**
+	 * Creates and registers the class prepare and class unload requests. The
+	 * requests do not suspend the target VM.
+	 */
+	private void createRequests() {
+		EventRequestManager manager = fTarget.getEventRequestManager();
+		if (manager == null) {
+			return;
+		}
+		try {
+			ClassPrepareRequest prepare = manager.createClassPrepareRequest();
+			ClassUnloadRequest unload = manager.createClassUnloadRequest();
+			for (String excluded : EXCLUDED_PACKAGES) {
+				prepare.addClassExclusionFilter(excluded + '*');
+				unload.addClassExclusionFilter(excluded + '*');
+			}
+			prepare.setSuspendPolicy(EventRequest.SUSPEND_NONE);
+			prepare.enable();
+			fTarget.addJDIEventListener(this, prepare);
+			fPrepareRequest = prepare;
+			unload.setSuspendPolicy(EventRequest.SUSPEND_NONE);
+			unload.enable();
+			fTarget.addJDIEventListener(this, unload);
+			fUnloadRequest = unload;
+		} catch (RuntimeException e) {
+			fTarget.logError(e);
+			dispose();
+		}
+	}
+
+	/**
+	 * Unregisters the requests of this index and clears it.
+	 */
+	void dispose() {
+		if (fPrepareRequest != null) {
+			fTarget.removeJDIEventListener(this, fPrepareRequest);
+			fPrepareRequest = null;
+		}
+		if (fUnloadRequest != null) {
+			fTarget.removeJDIEventListener(this, fUnloadRequest);
+			fUnloadRequest = null;
+		}
+		synchronized (fLock) {
+			fSeeded = false;
+			fTypes.clear();
+		}
+	}
+
+	/**
+	 * Returns whether this index is kept current with class prepare and unload
+	 * events.
+	 */
+	private boolean isTracking() {
+		return fPrepareRequest != null && fUnloadRequest != null;
+	}
+
+	/**
+	 * Returns whether types with the given name are indexed.
+	 *
+	 * @param name
+	 *            fully qualified type name
+	 * @return whether the name is outside of the excluded packages
+	 */
+	static boolean isIndexed(String name) {
+		for (String excluded : EXCLUDED_PACKAGES) {
+			if (name.startsWith(excluded)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns whether all types whose names start with the given prefix are
+	 * indexed.
+	 *
+	 * @param prefix
+	 *            type name prefix
+	 * @return whether no excluded type can have a name with the given prefix
+	 */
+	static boolean isIndexedPrefix(String prefix) {
+		for (String excluded : EXCLUDED_PACKAGES) {
+			if (prefix.startsWith(excluded) || excluded.startsWith(prefix)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Seeds this index with the types currently loaded in the VM, if not
+	 * already done.
+	 *
+	 * @return whether this index can answer queries
+	 */
+	private boolean seed() {
+		if (fSeeded) {
+			return true;
+		}
+		if (!isTracking()) {
+			return false;
+		}
+		synchronized (fLock) {
+			if (!fSeeded) {
+				VirtualMachine vm = fTarget.getVM();
+				if (vm == null) {
+					return false;
+				}
+				List<ReferenceType> classes = vm.allClasses();
+				if (classes == null) {
+					return false;
+				}
+				for (ReferenceType type : classes) {
+					add(type);
+				}
+				fSeeded = true;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns all types loaded in the VM, as retrieved from the VM.
+	 */
+	private Collection<ReferenceType> allTypes() {
+		VirtualMachine vm = fTarget.getVM();
+		if (vm == null) {
+			return Collections.emptyList();
+		}
+		List<ReferenceType> classes = vm.allClasses();
+		return classes == null ? Collections.emptyList() : classes;
+	}
+
+	/**
+	 * Returns the loaded types with the given fully qualified name.
+	 *
+	 * @param name
+	 *            fully qualified type name
+	 * @return loaded types with the given name, possibly empty
+	 * @see VirtualMachine#classesByName(String)
+	 */
+	public List<ReferenceType> classesByName(String name) {
+		boolean indexed = isIndexed(name) && seed();
+		if (indexed) {
+			List<ReferenceType> types = fTypes.get(name);
+			if (types != null) {
+				return types;
+			}
+		}
+		// not indexed, or loaded but its event is not handled yet
+		VirtualMachine vm = fTarget.getVM();
+		if (vm == null) {
+			return Collections.emptyList();
+		}
+		List<ReferenceType> classes = vm.classesByName(name);
+		if (classes == null) {
+			return Collections.emptyList();
+		}
+		if (indexed) {
+			for (ReferenceType type : classes) {
+				add(type);
+			}
+		}
+		return classes;
+	}
+
+	/**
+	 * Returns the loaded types whose names start with the given prefix.
+	 *
+	 * @param prefix
+	 *            type name prefix
+	 * @return loaded types with a matching name, possibly empty
+	 */
+	public List<ReferenceType> classesByPrefix(String prefix) {
+		List<ReferenceType> matches = new ArrayList<>();
+		if (!isIndexedPrefix(prefix) || !seed()) {
+			for (ReferenceType type : allTypes()) {
+				String name = type.name();
+				if (name != null && name.startsWith(prefix)) {
+					matches.add(type);
+				}
+			}
+			return matches;
+		}
+		for (List<ReferenceType> types : fTypes.subMap(prefix, true, prefix + Character.MAX_VALUE, true).values()) {
+			matches.addAll(types);
+		}
+		return matches;
+	}
+
+	/**
+	 * Returns the loaded types whose names match the given class pattern. As for
+	 * class prepare requests, the pattern may begin with a '*', end with a '*',
+	 * or be an exact match. Patterns beginning with a '*' are matched against
+	 * the types retrieved from the VM.
+	 *
+	 * @param pattern
+	 *            class name pattern
+	 * @return loaded types with a matching name, possibly empty
+	 */
+	public List<ReferenceType> classesMatching(String pattern) {
+		if (pattern.equals("*")) { //$NON-NLS-1$
+			return new ArrayList<>(allTypes());
+		}
+		if (pattern.startsWith("*")) { //$NON-NLS-1$
+			String suffix = pattern.substring(1);
+			List<ReferenceType> matches = new ArrayList<>();
+			for (ReferenceType type : allTypes()) {
+				String name = type.name();
+				if (name != null && name.endsWith(suffix)) {
+					matches.add(type);
+				}
+			}
+			return matches;
+		}
+		if (pattern.endsWith("*")) { //$NON-NLS-1$
+			return classesByPrefix(pattern.substring(0, pattern.length() - 1));
+		}
+		return new ArrayList<>(classesByName(pattern));
+	}
+
+	/**
+	 * Adds the given type to this index.
+	 */
+	private void add(ReferenceType type) {
+		String name = type.name();
+		if (name == null || !isIndexed(name)) {
+			return;
+		}
+		synchronized (fLock) {
+			List<ReferenceType> types = fTypes.get(name);
+			if (types == null) {
+				fTypes.put(name, Collections.singletonList(type));
+			} else if (!types.contains(type)) {
+				List<ReferenceType> updated = new ArrayList<>(types.size() + 1);
+				updated.addAll(types);
+				updated.add(type);
+				fTypes.put(name, Collections.unmodifiableList(updated));
+			}
+		}
+	}
+
+	/**
+	 * Updates this index after a type with the given name was unloaded. As the
+	 * unload event does not identify which of the types with the given name was
+	 * unloaded, the remaining types are retrieved from the VM.
+	 */
+	private void unloaded(String name) {
+		synchronized (fLock) {
+			fTypes.remove(name);
+			if (!fSeeded) {
+				return;
+			}
+			VirtualMachine vm = fTarget.getVM();
+			if (vm == null) {
+				return;
+			}
+			try {
+				List<ReferenceType> remaining = vm.classesByName(name);
+				if (remaining != null) {
+					for (ReferenceType type : remaining) {
+						add(type);
+					}
+				}
+			} catch (RuntimeException e) {
+				// the VM will report the problem on next access
+			}
+		}
+	}
+
+	@Override
+	public boolean handleEvent(Event event, JDIDebugTarget target, boolean suspendVote, EventSet eventSet) {
+		if (event instanceof ClassPrepareEvent) {
+			add(((ClassPrepareEvent) event).referenceType());
+		} else if (event instanceof ClassUnloadEvent) {
+			unloaded(((ClassUnloadEvent) event).className());
+		}
+		return true;
+	}
+
+	@Override
+	public void eventSetComplete(Event event, JDIDebugTarget target, boolean suspend, EventSet eventSet) {
+		// do nothing
+	}
+}
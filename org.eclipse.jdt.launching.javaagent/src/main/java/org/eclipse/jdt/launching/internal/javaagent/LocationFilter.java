@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.launching.internal.javaagent;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decides which class locations are instrumented. Locations are matched against the include and exclude locations given as agent options: a
+ * location is instrumented if it is within one of the include locations, or if there are none, and not within any of the exclude locations. A
+ * location is within another one if it is the same or if it continues it with a new path segment, so {@code /bin} contains {@code /bin/a} but not
+ * {@code /bin2}.
+ * <p>
+ * Locations are compared in a normalized form, without the {@code file:} scheme and leading slashes, with {@code /} as separator and with percent
+ * escapes decoded, as class loaders do not agree on how file URLs are spelled.
+ * </p>
+ */
+public class LocationFilter {
+
+	private final List<String> includes = new ArrayList<>();
+
+	private final List<String> excludes = new ArrayList<>();
+
+	/**
+	 * Decisions by location, there are few distinct locations
+	 */
+	private final Map<String, Boolean> decisions = new ConcurrentHashMap<>();
+
+	/**
+	 * Adds a location prefix of classes to instrument.
+	 */
+	public void include(String location) {
+		includes.add(normalize(location));
+	}
+
+	/**
+	 * Adds a location prefix of classes not to instrument.
+	 */
+	public void exclude(String location) {
+		excludes.add(normalize(location));
+	}
+
+	/**
+	 * Returns whether this filter lets all locations through.
+	 */
+	public boolean isEmpty() {
+		return includes.isEmpty() && excludes.isEmpty();
+	}
+
+	/**
+	 * Returns whether classes from the given location are instrumented.
+	 */
+	public boolean accept(String location) {
+		if (isEmpty()) {
+			return true;
+		}
+		Boolean decision = decisions.get(location);
+		if (decision == null) {
+			decision = Boolean.valueOf(matches(normalize(location)));
+			decisions.put(location, decision);
+		}
+		return decision.booleanValue();
+	}
+
+	private boolean matches(String location) {
+		if (!includes.isEmpty() && !startsWithAny(location, includes)) {
+			return false;
+		}
+		return !startsWithAny(location, excludes);
+	}
+
+	private static boolean startsWithAny(String location, List<String> prefixes) {
+		for (String prefix : prefixes) {
+			if (isWithin(location, prefix)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean isWithin(String location, String prefix) {
+		if (!location.startsWith(prefix)) {
+			return false;
+		}
+		return location.length() == prefix.length() || prefix.endsWith("/") || location.charAt(prefix.length()) == '/'; //$NON-NLS-1$
+	}
+
+	static String normalize(String location) {
+		String normalized = location.replace('\\', '/');
+		int start = normalized.startsWith("file:") ? 5 : 0; //$NON-NLS-1$
+		while (start < normalized.length() && normalized.charAt(start) == '/') {
+			start++;
+		}
+		normalized = normalized.substring(start);
+		if (normalized.indexOf('%') < 0) {
+			return normalized;
+		}
+		// decode percent escapes, which encode UTF-8 bytes
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(normalized.length());
+		StringBuilder sb = new StringBuilder(normalized.length());
+		for (int i = 0; i < normalized.length(); i++) {
+			char c = normalized.charAt(i);
+			if (c == '%' && i + 2 < normalized.length() && Character.digit(normalized.charAt(i + 1), 16) >= 0 && Character.digit(normalized.charAt(i + 2), 16) >= 0) {
+				bytes.write((Character.digit(normalized.charAt(i + 1), 16) << 4) | Character.digit(normalized.charAt(i + 2), 16));
+				i += 2;
+				continue;
+			}
+			if (bytes.size() > 0) {
+				sb.append(new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+				bytes.reset();
+			}
+			sb.append(c);
+		}
+		if (bytes.size() > 0) {
+			sb.append(new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+		}
+		return sb.toString();
+	}
+}
@@ -21,14 +21,53 @@ import java.lang.instrument.Instrumentation;
 import java.net.URL;
 import java.security.CodeSource;
 import java.security.ProtectionDomain;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.jdt.launching.internal.weaving.ClassfileTransformer;
 
 public class Premain {
-	private static final ClassfileTransformer transformer = new ClassfileTransformer();
+
+	/**
+	 * Agent option enabling debug output
+	 */
+	private static final String OPTION_DEBUGLOG = "debuglog"; //$NON-NLS-1$
+
+	/**
+	 * Agent option disabling byte level patching of class files, so that all class files are rewritten with ASM
+	 */
+	private static final String OPTION_NOFASTPATH = "nofastpath"; //$NON-NLS-1$
+
+	/**
+	 * Agent option prefix of a location whose classes are instrumented. Commas in the location must be escaped as {@code %2C}.
+	 */
+	private static final String OPTION_INCLUDE = "include="; //$NON-NLS-1$
+
+	/**
+	 * Agent option prefix of a location whose classes are not instrumented. Commas in the location must be escaped as {@code %2C}.
+	 */
+	private static final String OPTION_EXCLUDE = "exclude="; //$NON-NLS-1$
 
 	public static void premain(final String agentArgs, final Instrumentation inst) {
-		final boolean debuglog = "debuglog".equals(agentArgs); //$NON-NLS-1$
+		// options are separated by commas
+		final Set<String> options = new HashSet<>();
+		final LocationFilter filter = new LocationFilter();
+		if (agentArgs != null) {
+			for (String option : agentArgs.split(",")) { //$NON-NLS-1$
+				if (option.startsWith(OPTION_INCLUDE)) {
+					filter.include(option.substring(OPTION_INCLUDE.length()));
+				} else if (option.startsWith(OPTION_EXCLUDE)) {
+					filter.exclude(option.substring(OPTION_EXCLUDE.length()));
+				} else {
+					options.add(option);
+				}
+			}
+		}
+		final boolean debuglog = options.contains(OPTION_DEBUGLOG);
+		final ClassfileTransformer transformer = new ClassfileTransformer(!options.contains(OPTION_NOFASTPATH));
+		final AtomicInteger instrumented = new AtomicInteger();
+		final AtomicInteger skipped = new AtomicInteger();
 
 		// disable instrumentation if Object.class class format is not supported
 		short major = readJavaLangObjectMajor(debuglog);
@@ -63,8 +102,16 @@ public class Premain {
 					}
 
 					final String location = locationUrl.toExternalForm();
+					if (!filter.accept(location)) {
+						skipped.incrementAndGet();
+						return null;
+					}
 
-					return transformer.transform(classfileBuffer, location);
+					byte[] result = transformer.transform(classfileBuffer, location);
+					if (result != null) {
+						instrumented.incrementAndGet();
+					}
+					return result;
 				}
 				catch (Exception e) {
 					System.err.printf("Could not instrument class %s: %s.\n", className, e.getMessage()); //$NON-NLS-1$
@@ -76,6 +123,10 @@ public class Premain {
 			}
 		});
 
+		if (debuglog) {
+			Runtime.getRuntime().addShutdownHook(new Thread(() -> System.err.printf("Advanced source lookup instrumented %d classes, skipped %d classes excluded by location.\n", instrumented.get(), skipped.get()))); //$NON-NLS-1$
+		}
+
 		printErrorMessage("Advanced source lookup enabled.", null, debuglog);//$NON-NLS-1$
 	}
 
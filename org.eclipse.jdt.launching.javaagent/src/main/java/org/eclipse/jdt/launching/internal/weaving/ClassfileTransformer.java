@@ -30,7 +30,38 @@ public class ClassfileTransformer {
 	/** supported ASM API version, must match {@link #MAX_CLASS_MAJOR} above */
 	private static final int ASM_API = Opcodes.ASM9;
 
+	private final SourceDebugExtensionPatcher patcher;
+
+	/**
+	 * Creates a transformer which patches class files at byte level when possible, see {@link SourceDebugExtensionPatcher}.
+	 */
+	public ClassfileTransformer() {
+		this(true);
+	}
+
+	/**
+	 * Creates a transformer.
+	 *
+	 * @param fastPath
+	 *            whether class files are patched at byte level when possible, instead of being rewritten with ASM
+	 */
+	public ClassfileTransformer(boolean fastPath) {
+		this.patcher = fastPath ? new SourceDebugExtensionPatcher() : null;
+	}
+
+	/**
+	 * Returns the class file with an SMAP mapping its source to the {@value #STRATA_ID} stratum, or {@code null} if the class file does not need to
+	 * be changed.
+	 */
 	public byte[] transform(byte[] classfileBuffer, final String location) {
+		if (patcher != null) {
+			try {
+				return patcher.patch(classfileBuffer, location);
+			}
+			catch (IllegalArgumentException e) {
+				// not supported at byte level, let ASM handle (or report) it
+			}
+		}
 
 		final ClassReader r = new ClassReader(classfileBuffer, 0, classfileBuffer.length);
 		final ClassWriter w = new ClassWriter(r, 0);
@@ -41,20 +72,7 @@ public class ClassfileTransformer {
 				String javaSource = source;
 				// TODO merge SMAP if present (always present when used together with Equinox weaver)
 				if (debug == null) {
-					StringBuilder smap = new StringBuilder();
-					smap.append("SMAP\n"); //$NON-NLS-1$
-					smap.append(javaSource).append("\n"); //$NON-NLS-1$
-					// default strata name
-					smap.append("Java\n"); //$NON-NLS-1$
-					smap.append("*S " + STRATA_ID + "\n"); //$NON-NLS-1$ //$NON-NLS-2$
-					smap.append("*F\n"); //$NON-NLS-1$
-					smap.append("1 ").append(source).append("\n"); //$NON-NLS-1$ //$NON-NLS-2$
-					smap.append("2 ").append(location).append("\n"); //$NON-NLS-1$ //$NON-NLS-2$
-					// JSR-045, StratumSection
-					// "One FileSection and one LineSection (in either order) must follow the StratumSection"
-					smap.append("*L\n"); //$NON-NLS-1$
-					smap.append("*E\n"); //$NON-NLS-1$
-					debug = smap.toString();
+					debug = smapHead(javaSource) + smapTail(location);
 				}
 
 				super.visitSource(javaSource, debug);
@@ -63,4 +81,32 @@ public class ClassfileTransformer {
 
 		return w.toByteArray();
 	}
+
+	/**
+	 * Returns the part of the SMAP which depends on the source of the class.
+	 */
+	static String smapHead(String source) {
+		StringBuilder smap = new StringBuilder();
+		smap.append("SMAP\n"); //$NON-NLS-1$
+		smap.append(source).append("\n"); //$NON-NLS-1$
+		// default strata name
+		smap.append("Java\n"); //$NON-NLS-1$
+		smap.append("*S " + STRATA_ID + "\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		smap.append("*F\n"); //$NON-NLS-1$
+		smap.append("1 ").append(source).append("\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		return smap.toString();
+	}
+
+	/**
+	 * Returns the part of the SMAP which depends on the location of the class.
+	 */
+	static String smapTail(String location) {
+		StringBuilder smap = new StringBuilder();
+		smap.append("2 ").append(location).append("\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		// JSR-045, StratumSection
+		// "One FileSection and one LineSection (in either order) must follow the StratumSection"
+		smap.append("*L\n"); //$NON-NLS-1$
+		smap.append("*E\n"); //$NON-NLS-1$
+		return smap.toString();
+	}
 }
@@ -0,0 +1,313 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.launching.internal.weaving;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Adds the {@code SourceDebugExtension} attribute to class files at byte level, without parsing or rewriting the class members.
+ * <p>
+ * Only the constant pool and the member and attribute tables are scanned. The attribute name is appended to the constant pool if missing, and the
+ * attribute is appended to the class attributes, which are the last structure of the class file. Everything else is copied as is. Attribute
+ * names are matched by content rather than by constant pool index, as a constant pool may hold the same name more than once.
+ * </p>
+ *
+ * @see <a href="https://docs.oracle.com/javase/specs/jvms/se21/html/jvms-4.html">The class File Format</a>
+ */
+public class SourceDebugExtensionPatcher {
+
+	private static final String SOURCE_FILE = "SourceFile"; //$NON-NLS-1$
+
+	private static final String SOURCE_DEBUG_EXTENSION = "SourceDebugExtension"; //$NON-NLS-1$
+
+	private static final int CONSTANT_Utf8 = 1;
+	private static final int CONSTANT_Integer = 3;
+	private static final int CONSTANT_Float = 4;
+	private static final int CONSTANT_Long = 5;
+	private static final int CONSTANT_Double = 6;
+	private static final int CONSTANT_Class = 7;
+	private static final int CONSTANT_String = 8;
+	private static final int CONSTANT_Fieldref = 9;
+	private static final int CONSTANT_Methodref = 10;
+	private static final int CONSTANT_InterfaceMethodref = 11;
+	private static final int CONSTANT_NameAndType = 12;
+	private static final int CONSTANT_MethodHandle = 15;
+	private static final int CONSTANT_MethodType = 16;
+	private static final int CONSTANT_Dynamic = 17;
+	private static final int CONSTANT_InvokeDynamic = 18;
+	private static final int CONSTANT_Module = 19;
+	private static final int CONSTANT_Package = 20;
+
+	private static final byte NAME_SOURCE_FILE = 1;
+	private static final byte NAME_SOURCE_DEBUG_EXTENSION = 2;
+
+	/**
+	 * Encoded location dependent tail of the SMAP, by location
+	 */
+	private final Map<String, byte[]> smapTails = new ConcurrentHashMap<>();
+
+	/**
+	 * Returns the given class file with a {@code SourceDebugExtension} attribute mapping its source to the {@code jdt} stratum, or {@code null} if
+	 * the class file does not need to be changed because it has no {@code SourceFile} attribute or already has a {@code SourceDebugExtension}
+	 * attribute.
+	 *
+	 * @param classfile
+	 *            the class file bytes, not modified
+	 * @param location
+	 *            the location the class was loaded from
+	 * @return the patched class file or {@code null}
+	 * @throws IllegalArgumentException
+	 *             if the class file cannot be patched at byte level, for example because it uses constant pool entries unknown to this patcher
+	 */
+	public byte[] patch(byte[] classfile, String location) {
+		try {
+			return patch0(classfile, location);
+		}
+		catch (ArrayIndexOutOfBoundsException e) {
+			throw new IllegalArgumentException("Truncated class file", e); //$NON-NLS-1$
+		}
+	}
+
+	private byte[] patch0(byte[] b, String location) {
+		if (readInt(b, 0) != 0xCAFEBABE) {
+			throw new IllegalArgumentException("Not a class file"); //$NON-NLS-1$
+		}
+		int constantPoolCount = readUnsignedShort(b, 8);
+
+		// scan the constant pool for the names of the attributes of interest
+		int[] utf8Offsets = new int[constantPoolCount];
+		byte[] names = new byte[constantPoolCount];
+		boolean hasSourceFileName = false;
+		int sourceDebugExtensionIndex = 0;
+		int offset = 10;
+		for (int i = 1; i < constantPoolCount; i++) {
+			int tag = b[offset];
+			switch (tag) {
+				case CONSTANT_Utf8:
+					utf8Offsets[i] = offset + 1;
+					int length = readUnsignedShort(b, offset + 1);
+					if (equalsAscii(b, offset + 3, length, SOURCE_FILE)) {
+						names[i] = NAME_SOURCE_FILE;
+						hasSourceFileName = true;
+					} else if (equalsAscii(b, offset + 3, length, SOURCE_DEBUG_EXTENSION)) {
+						names[i] = NAME_SOURCE_DEBUG_EXTENSION;
+						if (sourceDebugExtensionIndex == 0) {
+							sourceDebugExtensionIndex = i;
+						}
+					}
+					offset += 3 + length;
+					break;
+				case CONSTANT_Class:
+				case CONSTANT_String:
+				case CONSTANT_MethodType:
+				case CONSTANT_Module:
+				case CONSTANT_Package:
+					offset += 3;
+					break;
+				case CONSTANT_MethodHandle:
+					offset += 4;
+					break;
+				case CONSTANT_Integer:
+				case CONSTANT_Float:
+				case CONSTANT_Fieldref:
+				case CONSTANT_Methodref:
+				case CONSTANT_InterfaceMethodref:
+				case CONSTANT_NameAndType:
+				case CONSTANT_Dynamic:
+				case CONSTANT_InvokeDynamic:
+					offset += 5;
+					break;
+				case CONSTANT_Long:
+				case CONSTANT_Double:
+					offset += 9;
+					i++; // takes two entries
+					break;
+				default:
+					throw new IllegalArgumentException("Unsupported constant pool tag " + tag); //$NON-NLS-1$
+			}
+		}
+		int constantPoolEnd = offset;
+		if (!hasSourceFileName) {
+			return null; // no SourceFile attribute either
+		}
+
+		// access flags, this class, super class, interfaces
+		offset += 6;
+		offset += 2 + 2 * readUnsignedShort(b, offset);
+		// fields and methods
+		for (int members = 0; members < 2; members++) {
+			int count = readUnsignedShort(b, offset);
+			offset += 2;
+			for (int i = 0; i < count; i++) {
+				offset = skipAttributes(b, offset + 6);
+			}
+		}
+
+		// class attributes
+		int attributesCountOffset = offset;
+		int attributesCount = readUnsignedShort(b, offset);
+		offset += 2;
+		int sourceIndex = 0;
+		for (int i = 0; i < attributesCount; i++) {
+			int nameIndex = readUnsignedShort(b, offset);
+			if (names[nameIndex] == NAME_SOURCE_DEBUG_EXTENSION) {
+				return null; // keep the existing SMAP, the ASM based transformation does not change it either
+			}
+			if (names[nameIndex] == NAME_SOURCE_FILE) {
+				sourceIndex = readUnsignedShort(b, offset + 6);
+			}
+			offset += 6 + readInt(b, offset + 2);
+		}
+		if (offset != b.length) {
+			throw new IllegalArgumentException("Unexpected class file length"); //$NON-NLS-1$
+		}
+		if (sourceIndex == 0) {
+			return null; // SourceFile is used as a constant only
+		}
+		if (attributesCount == 0xFFFF || (sourceDebugExtensionIndex == 0 && constantPoolCount == 0xFFFF)) {
+			throw new IllegalArgumentException("Class file tables are full"); //$NON-NLS-1$
+		}
+
+		String source = readUtf8(b, utf8Offsets[sourceIndex]);
+		byte[] smap = getSmap(source, location);
+
+		byte[] nameEntry = new byte[0];
+		int nameIndex = sourceDebugExtensionIndex;
+		if (nameIndex == 0) {
+			nameIndex = constantPoolCount;
+			nameEntry = new byte[3 + SOURCE_DEBUG_EXTENSION.length()];
+			nameEntry[0] = CONSTANT_Utf8;
+			writeShort(nameEntry, 1, SOURCE_DEBUG_EXTENSION.length());
+			for (int i = 0; i < SOURCE_DEBUG_EXTENSION.length(); i++) {
+				nameEntry[3 + i] = (byte) SOURCE_DEBUG_EXTENSION.charAt(i);
+			}
+		}
+
+		byte[] result = new byte[b.length + nameEntry.length + 6 + smap.length];
+		System.arraycopy(b, 0, result, 0, constantPoolEnd);
+		System.arraycopy(nameEntry, 0, result, constantPoolEnd, nameEntry.length);
+		System.arraycopy(b, constantPoolEnd, result, constantPoolEnd + nameEntry.length, b.length - constantPoolEnd);
+		if (nameEntry.length > 0) {
+			writeShort(result, 8, constantPoolCount + 1);
+		}
+		writeShort(result, attributesCountOffset + nameEntry.length, attributesCount + 1);
+		int attributeOffset = b.length + nameEntry.length;
+		writeShort(result, attributeOffset, nameIndex);
+		writeInt(result, attributeOffset + 2, smap.length);
+		System.arraycopy(smap, 0, result, attributeOffset + 6, smap.length);
+		return result;
+	}
+
+	/**
+	 * Returns the encoded SMAP for the given source and location. The part depending on the location only is cached, as most locations provide
+	 * many classes.
+	 */
+	private byte[] getSmap(String source, String location) {
+		byte[] tail = smapTails.computeIfAbsent(location, l -> encodeUtf8(ClassfileTransformer.smapTail(l)));
+		byte[] head = encodeUtf8(ClassfileTransformer.smapHead(source));
+		byte[] smap = new byte[head.length + tail.length];
+		System.arraycopy(head, 0, smap, 0, head.length);
+		System.arraycopy(tail, 0, smap, head.length, tail.length);
+		return smap;
+	}
+
+	private static int skipAttributes(byte[] b, int offset) {
+		int count = readUnsignedShort(b, offset);
+		offset += 2;
+		for (int i = 0; i < count; i++) {
+			offset += 6 + readInt(b, offset + 2);
+		}
+		return offset;
+	}
+
+	private static boolean equalsAscii(byte[] b, int offset, int length, String string) {
+		if (length != string.length()) {
+			return false;
+		}
+		for (int i = 0; i < length; i++) {
+			if (b[offset + i] != string.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Decodes the modified UTF-8 constant pool entry at the given offset, which points to the length of the entry.
+	 */
+	private static String readUtf8(byte[] b, int offset) {
+		int length = readUnsignedShort(b, offset);
+		int end = offset + 2 + length;
+		StringBuilder sb = new StringBuilder(length);
+		for (int i = offset + 2; i < end;) {
+			int c = b[i++] & 0xFF;
+			if (c < 0x80) {
+				sb.append((char) c);
+			} else if ((c & 0xE0) == 0xC0) {
+				sb.append((char) (((c & 0x1F) << 6) | (b[i++] & 0x3F)));
+			} else {
+				sb.append((char) (((c & 0x0F) << 12) | ((b[i++] & 0x3F) << 6) | (b[i++] & 0x3F)));
+			}
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Encodes the given string in modified UTF-8, as ASM does for the {@code SourceDebugExtension} attribute.
+	 */
+	private static byte[] encodeUtf8(String s) {
+		int length = 0;
+		for (int i = 0; i < s.length(); i++) {
+			char c = s.charAt(i);
+			length += c >= 0x01 && c <= 0x7F ? 1 : c <= 0x7FF ? 2 : 3;
+		}
+		byte[] bytes = new byte[length];
+		int j = 0;
+		for (int i = 0; i < s.length(); i++) {
+			char c = s.charAt(i);
+			if (c >= 0x01 && c <= 0x7F) {
+				bytes[j++] = (byte) c;
+			} else if (c <= 0x7FF) {
+				bytes[j++] = (byte) (0xC0 | ((c >> 6) & 0x1F));
+				bytes[j++] = (byte) (0x80 | (c & 0x3F));
+			} else {
+				bytes[j++] = (byte) (0xE0 | ((c >> 12) & 0x0F));
+				bytes[j++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+				bytes[j++] = (byte) (0x80 | (c & 0x3F));
+			}
+		}
+		return bytes;
+	}
+
+	private static int readUnsignedShort(byte[] b, int offset) {
+		return ((b[offset] & 0xFF) << 8) | (b[offset + 1] & 0xFF);
+	}
+
+	private static int readInt(byte[] b, int offset) {
+		return ((b[offset] & 0xFF) << 24) | ((b[offset + 1] & 0xFF) << 16) | ((b[offset + 2] & 0xFF) << 8) | (b[offset + 3] & 0xFF);
+	}
+
+	private static void writeShort(byte[] b, int offset, int value) {
+		b[offset] = (byte) (value >>> 8);
+		b[offset + 1] = (byte) value;
+	}
+
+	private static void writeInt(byte[] b, int offset, int value) {
+		b[offset] = (byte) (value >>> 24);
+		b[offset + 1] = (byte) (value >>> 16);
+		b[offset + 2] = (byte) (value >>> 8);
+		b[offset + 3] = (byte) value;
+	}
+}
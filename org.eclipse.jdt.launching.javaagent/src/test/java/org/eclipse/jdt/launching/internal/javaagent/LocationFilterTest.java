@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.launching.internal.javaagent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class LocationFilterTest {
+
+	@Test
+	public void testEmptyFilterAcceptsAll() {
+		LocationFilter filter = new LocationFilter();
+		assertTrue(filter.isEmpty());
+		assertTrue(filter.accept("file:/work/project/bin/"));
+		assertTrue(filter.accept("file:/repo/lib.jar"));
+	}
+
+	@Test
+	public void testIncludeMatchesPathSegments() {
+		LocationFilter filter = new LocationFilter();
+		filter.include("file:/work/project/bin");
+		assertTrue(filter.accept("file:/work/project/bin"));
+		assertTrue(filter.accept("file:/work/project/bin/"));
+		assertTrue(filter.accept("file:/work/project/bin/nested/"));
+		assertFalse(filter.accept("file:/work/project/bin2/"));
+		assertFalse(filter.accept("file:/work/project/binary.jar"));
+		assertFalse(filter.accept("file:/work/other/bin/"));
+	}
+
+	@Test
+	public void testIncludeWithTrailingSlash() {
+		LocationFilter filter = new LocationFilter();
+		filter.include("file:/work/project/bin/");
+		assertTrue(filter.accept("file:/work/project/bin/"));
+		assertFalse(filter.accept("file:/work/project/bin2/"));
+	}
+
+	@Test
+	public void testExcludeMatchesPathSegments() {
+		LocationFilter filter = new LocationFilter();
+		filter.exclude("file:/repo/lib.jar");
+		assertFalse(filter.accept("file:/repo/lib.jar"));
+		assertTrue(filter.accept("file:/repo/lib.jar2"));
+		assertTrue(filter.accept("file:/repo/other.jar"));
+	}
+
+	@Test
+	public void testExcludeWithinInclude() {
+		LocationFilter filter = new LocationFilter();
+		filter.include("file:/work/");
+		filter.exclude("file:/work/generated");
+		assertTrue(filter.accept("file:/work/project/bin/"));
+		assertFalse(filter.accept("file:/work/generated/"));
+		assertTrue(filter.accept("file:/work/generated-sources/"));
+		assertFalse(filter.accept("file:/elsewhere/bin/"));
+	}
+
+	@Test
+	public void testFileUrlSpellings() {
+		LocationFilter filter = new LocationFilter();
+		filter.include("file:///work/project/bin/");
+		assertTrue(filter.accept("file:/work/project/bin/"));
+		assertTrue(filter.accept("file://work/project/bin/"));
+		assertTrue(filter.accept("/work/project/bin/"));
+	}
+
+	@Test
+	public void testWindowsSeparators() {
+		LocationFilter filter = new LocationFilter();
+		filter.include("C:\\work\\project\\bin");
+		assertTrue(filter.accept("file:/C:/work/project/bin/"));
+		assertFalse(filter.accept("file:/C:/work/project/bin2/"));
+	}
+
+	@Test
+	public void testPercentEscapes() {
+		LocationFilter filter = new LocationFilter();
+		filter.include("file:/work/my%20project/bin/");
+		assertTrue(filter.accept("file:/work/my project/bin/"));
+		assertTrue(filter.accept("file:/work/my%20project/bin/a/"));
+		assertEquals("work/caf\u00e9", LocationFilter.normalize("file:/work/caf%C3%A9"));
+	}
+}
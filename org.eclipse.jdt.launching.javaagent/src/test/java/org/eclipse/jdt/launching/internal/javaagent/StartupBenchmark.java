@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.launching.internal.javaagent;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * Measures the startup cost of the javaagent. Each run starts a JVM which loads and links all classes of the given jars, without the agent, with
+ * the agent rewriting classes with ASM and with the agent patching classes at byte level.
+ * <p>
+ * Usage: {@code java -cp target/test-classes org.eclipse.jdt.launching.internal.javaagent.StartupBenchmark target/javaagent-shaded.jar <jar>...}
+ * </p>
+ */
+public class StartupBenchmark {
+
+	private static final String LOAD = "--load"; //$NON-NLS-1$
+
+	private static final int RUNS = 7;
+
+	public static void main(String[] args) throws Exception {
+		if (args.length > 0 && LOAD.equals(args[0])) {
+			load(Arrays.copyOfRange(args, 1, args.length));
+			return;
+		}
+		if (args.length < 2) {
+			System.err.println("Usage: StartupBenchmark <javaagent jar> <jar>..."); //$NON-NLS-1$
+			System.exit(1);
+		}
+		String agent = new File(args[0]).getAbsolutePath();
+		String[] jars = Arrays.copyOfRange(args, 1, args.length);
+
+		String[][] modes = { { "agent off", null }, //$NON-NLS-1$
+				{ "agent on, ASM", "-javaagent:" + agent + "=nofastpath" }, //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				{ "agent on, fast path", "-javaagent:" + agent } }; //$NON-NLS-1$ //$NON-NLS-2$
+		for (String[] mode : modes) {
+			run(mode[1], jars); // warm up the file system cache
+			long[] times = new long[RUNS];
+			for (int i = 0; i < RUNS; i++) {
+				times[i] = run(mode[1], jars);
+			}
+			Arrays.sort(times);
+			System.out.printf("%-20s median %5d ms, min %5d ms%n", mode[0], times[RUNS / 2], times[0]); //$NON-NLS-1$
+		}
+	}
+
+	private static long run(String agentOption, String[] jars) throws IOException, InterruptedException {
+		List<String> command = new ArrayList<>();
+		command.add(new File(System.getProperty("java.home"), "bin/java").getAbsolutePath()); //$NON-NLS-1$ //$NON-NLS-2$
+		if (agentOption != null) {
+			command.add(agentOption);
+		}
+		command.add("-cp"); //$NON-NLS-1$
+		command.add(System.getProperty("java.class.path")); //$NON-NLS-1$
+		command.add(StartupBenchmark.class.getName());
+		command.add(LOAD);
+		command.addAll(Arrays.asList(jars));
+		long start = System.nanoTime();
+		Process process = new ProcessBuilder(command).inheritIO().start();
+		int exit = process.waitFor();
+		long time = (System.nanoTime() - start) / 1_000_000;
+		if (exit != 0) {
+			throw new IllegalStateException("Benchmark process failed with exit code " + exit); //$NON-NLS-1$
+		}
+		return time;
+	}
+
+	/**
+	 * Loads and links all classes of the given jars with a class loader which gives them a code source, as the agent only instruments those.
+	 */
+	private static void load(String[] jars) throws IOException {
+		URL[] urls = new URL[jars.length];
+		for (int i = 0; i < jars.length; i++) {
+			urls[i] = new File(jars[i]).toURI().toURL();
+		}
+		int loaded = 0;
+		try (URLClassLoader loader = new URLClassLoader(urls, null)) {
+			for (String jar : jars) {
+				try (JarFile file = new JarFile(jar)) {
+					for (Enumeration<JarEntry> entries = file.entries(); entries.hasMoreElements();) {
+						String name = entries.nextElement().getName();
+						if (!name.endsWith(".class") || name.endsWith("module-info.class")) { //$NON-NLS-1$ //$NON-NLS-2$
+							continue;
+						}
+						try {
+							Class.forName(name.substring(0, name.length() - 6).replace('/', '.'), false, loader);
+							loaded++;
+						}
+						catch (LinkageError | ClassNotFoundException e) {
+							// missing dependencies, not relevant here
+						}
+					}
+				}
+			}
+		}
+		if (loaded == 0) {
+			throw new IllegalStateException("No class loaded"); //$NON-NLS-1$
+		}
+	}
+}
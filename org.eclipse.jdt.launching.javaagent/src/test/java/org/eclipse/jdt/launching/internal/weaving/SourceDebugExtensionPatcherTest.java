@@ -0,0 +1,219 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.launching.internal.weaving;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * Compares the class files patched at byte level with the ones rewritten with ASM.
+ */
+public class SourceDebugExtensionPatcherTest {
+
+	private static final String LOCATION = "file:/work/project/bin/"; //$NON-NLS-1$
+
+	private static final String CLASS_NAME = "p/A"; //$NON-NLS-1$
+
+	private static final String EXISTING_SMAP = "SMAP\nA.java\nJava\n*S Other\n*F\n1 A.java\n*L\n*E\n"; //$NON-NLS-1$
+
+	@Test
+	public void testSourceFileWithoutSourceDebugExtensionName() {
+		byte[] classfile = generate("A.java", null, false); //$NON-NLS-1$
+		byte[] patched = new SourceDebugExtensionPatcher().patch(classfile, LOCATION);
+		assertNotNull("Class file not patched", patched); //$NON-NLS-1$
+		assertSameAsAsm(classfile, patched);
+		assertEquals(ClassfileTransformer.smapHead("A.java") + ClassfileTransformer.smapTail(LOCATION), describe(patched)[1]); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testSourceFileWithUnusedSourceDebugExtensionName() {
+		byte[] classfile = generate("A.java", null, true); //$NON-NLS-1$
+		byte[] patched = new SourceDebugExtensionPatcher().patch(classfile, LOCATION);
+		assertNotNull("Class file not patched", patched); //$NON-NLS-1$
+		assertEquals("Constant pool entry not reused", readUnsignedShort(classfile, 8), readUnsignedShort(patched, 8)); //$NON-NLS-1$
+		assertSameAsAsm(classfile, patched);
+	}
+
+	@Test
+	public void testExistingSourceDebugExtension() {
+		byte[] classfile = generate("A.java", EXISTING_SMAP, false); //$NON-NLS-1$
+		assertNull("Existing SMAP replaced", new SourceDebugExtensionPatcher().patch(classfile, LOCATION)); //$NON-NLS-1$
+		assertEquals(EXISTING_SMAP, describe(asm(classfile))[1]);
+	}
+
+	@Test
+	public void testNoSourceFile() {
+		byte[] classfile = generate(null, null, false);
+		assertNull("Class without source patched", new SourceDebugExtensionPatcher().patch(classfile, LOCATION)); //$NON-NLS-1$
+		assertArrayEquals(new String[2], describe(asm(classfile)));
+	}
+
+	@Test
+	public void testDuplicateSourceDebugExtensionName() {
+		// the existing attribute uses a second "SourceDebugExtension" entry, not the first one
+		byte[] classfile = addClassAttribute(generate("A.java", null, true), "SourceDebugExtension", //$NON-NLS-1$ //$NON-NLS-2$
+				EXISTING_SMAP.getBytes(StandardCharsets.UTF_8));
+		assertEquals(EXISTING_SMAP, describe(classfile)[1]);
+		assertNull("Second SMAP added", new SourceDebugExtensionPatcher().patch(classfile, LOCATION)); //$NON-NLS-1$
+		defineClass(classfile);
+	}
+
+	@Test
+	public void testDuplicateSourceFileName() {
+		// the SourceFile attribute uses a second "SourceFile" entry, not the first one
+		ClassWriter writer = newClass();
+		writer.newUTF8("SourceFile"); //$NON-NLS-1$
+		int source = writer.newUTF8("A.java"); //$NON-NLS-1$
+		writer.visitEnd();
+		byte[] classfile = addClassAttribute(writer.toByteArray(), "SourceFile", new byte[] { (byte) (source >>> 8), (byte) source }); //$NON-NLS-1$
+		assertEquals("A.java", describe(classfile)[0]); //$NON-NLS-1$
+		byte[] patched = new SourceDebugExtensionPatcher().patch(classfile, LOCATION);
+		assertNotNull("Class file not patched", patched); //$NON-NLS-1$
+		assertSameAsAsm(classfile, patched);
+	}
+
+	private static void assertSameAsAsm(byte[] classfile, byte[] patched) {
+		assertArrayEquals(describe(asm(classfile)), describe(patched));
+		defineClass(patched);
+	}
+
+	private static byte[] asm(byte[] classfile) {
+		byte[] transformed = new ClassfileTransformer(false).transform(classfile, LOCATION);
+		assertNotNull(transformed);
+		return transformed;
+	}
+
+	private static ClassWriter newClass() {
+		ClassWriter writer = new ClassWriter(0);
+		writer.visit(Opcodes.V1_8, Opcodes.ACC_PUBLIC | Opcodes.ACC_SUPER, CLASS_NAME, null, "java/lang/Object", null); //$NON-NLS-1$
+		MethodVisitor method = writer.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null); //$NON-NLS-1$ //$NON-NLS-2$
+		method.visitCode();
+		method.visitVarInsn(Opcodes.ALOAD, 0);
+		method.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		method.visitInsn(Opcodes.RETURN);
+		method.visitMaxs(1, 1);
+		method.visitEnd();
+		writer.visitField(Opcodes.ACC_PUBLIC, "field", "I", null, null).visitEnd(); //$NON-NLS-1$ //$NON-NLS-2$
+		return writer;
+	}
+
+	/**
+	 * Generates a class with the given source and SMAP, if not {@code null}, optionally with an unused "SourceDebugExtension" constant.
+	 */
+	private static byte[] generate(String source, String debug, boolean sourceDebugExtensionName) {
+		ClassWriter writer = newClass();
+		if (source != null || debug != null) {
+			writer.visitSource(source, debug);
+		}
+		if (sourceDebugExtensionName) {
+			writer.newUTF8("SourceDebugExtension"); //$NON-NLS-1$
+		}
+		writer.visitEnd();
+		return writer.toByteArray();
+	}
+
+	/**
+	 * Returns the source and the SMAP of the given class file.
+	 */
+	private static String[] describe(byte[] classfile) {
+		String[] result = new String[2];
+		new ClassReader(classfile).accept(new ClassVisitor(Opcodes.ASM9) {
+			@Override
+			public void visitSource(String source, String debug) {
+				result[0] = source;
+				result[1] = debug;
+			}
+		}, 0);
+		return result;
+	}
+
+	/**
+	 * Defines the class, failing with a {@link ClassFormatError} if the class file is invalid.
+	 */
+	private static void defineClass(byte[] classfile) {
+		new ClassLoader(null) {
+			Class<?> define() {
+				return defineClass(CLASS_NAME.replace('/', '.'), classfile, 0, classfile.length);
+			}
+		}.define();
+	}
+
+	/**
+	 * Appends a class attribute with the given name and value, adding a new constant pool entry for the name even if the name is already in the
+	 * constant pool.
+	 */
+	private static byte[] addClassAttribute(byte[] b, String name, byte[] value) {
+		int constantPoolEnd = new ClassReader(b).header;
+		int offset = constantPoolEnd + 6;
+		offset += 2 + 2 * readUnsignedShort(b, offset);
+		for (int members = 0; members < 2; members++) {
+			int count = readUnsignedShort(b, offset);
+			offset += 2;
+			for (int i = 0; i < count; i++) {
+				offset = skipAttributes(b, offset + 6);
+			}
+		}
+		int attributesCountOffset = offset;
+		assertEquals(b.length, skipAttributes(b, offset));
+
+		byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+		byte[] entry = new byte[3 + nameBytes.length];
+		entry[0] = 1; // CONSTANT_Utf8
+		writeShort(entry, 1, nameBytes.length);
+		System.arraycopy(nameBytes, 0, entry, 3, nameBytes.length);
+
+		int nameIndex = readUnsignedShort(b, 8);
+		byte[] result = new byte[b.length + entry.length + 6 + value.length];
+		System.arraycopy(b, 0, result, 0, constantPoolEnd);
+		System.arraycopy(entry, 0, result, constantPoolEnd, entry.length);
+		System.arraycopy(b, constantPoolEnd, result, constantPoolEnd + entry.length, b.length - constantPoolEnd);
+		writeShort(result, 8, nameIndex + 1);
+		writeShort(result, attributesCountOffset + entry.length, readUnsignedShort(b, attributesCountOffset) + 1);
+		int attributeOffset = b.length + entry.length;
+		writeShort(result, attributeOffset, nameIndex);
+		writeShort(result, attributeOffset + 2, value.length >>> 16);
+		writeShort(result, attributeOffset + 4, value.length);
+		System.arraycopy(value, 0, result, attributeOffset + 6, value.length);
+		return result;
+	}
+
+	private static int skipAttributes(byte[] b, int offset) {
+		int count = readUnsignedShort(b, offset);
+		offset += 2;
+		for (int i = 0; i < count; i++) {
+			offset += 6 + (((b[offset + 2] & 0xFF) << 24) | ((b[offset + 3] & 0xFF) << 16) | ((b[offset + 4] & 0xFF) << 8) | (b[offset + 5] & 0xFF));
+		}
+		return offset;
+	}
+
+	private static int readUnsignedShort(byte[] b, int offset) {
+		return ((b[offset] & 0xFF) << 8) | (b[offset + 1] & 0xFF);
+	}
+
+	private static void writeShort(byte[] b, int offset, int value) {
+		b[offset] = (byte) (value >>> 8);
+		b[offset + 1] = (byte) value;
+	}
+}
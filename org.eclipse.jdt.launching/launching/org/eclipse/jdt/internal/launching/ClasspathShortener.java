@@ -16,7 +16,6 @@
 package org.eclipse.jdt.internal.launching;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.net.URI;
 import java.nio.charset.Charset;
@@ -306,9 +305,6 @@ public class ClasspathShortener implements IProcessTempFileCreator {
 			if (!argFileTmpDir.exists()) {
 				Files.createDirectory(argFileTmpDir.toPath());
 			}
-			File argFile = JavaLaunchingUtils.createFileForArgument(getLaunchTimeStamp(), argFileTmpDir, getLaunchConfigurationName(), "%s" //$NON-NLS-1$
-					+ option + "-arg-%s.txt"); //$NON-NLS-1$
-
 			String arg = option + " " + quoteWindowsPath(path); //$NON-NLS-1$
 			Charset systemCharset = Platform.getSystemCharset();
 			if (!systemCharset.newEncoder().canEncode(arg)) {
@@ -316,9 +312,8 @@ public class ClasspathShortener implements IProcessTempFileCreator {
 						+ " as argument file with system charset " //$NON-NLS-1$
 						+ systemCharset.displayName() + ".", null)); //$NON-NLS-1$
 			}
-			Files.writeString(argFile.toPath(), arg, systemCharset);
-			argFile.deleteOnExit();
-			file = argFile;
+			file = SharedProcessTempFiles.getDefault().acquire(argFileTmpDir, systemCharset.name() + '\n' + arg, option + "-arg.txt", //$NON-NLS-1$
+					argFile -> Files.writeString(argFile, arg, systemCharset));
 		} catch (IOException e) {
 			throw new CoreException(new Status(IStatus.ERROR, LaunchingPlugin.getUniqueIdentifier(), IStatus.ERROR, "Cannot create " + option //$NON-NLS-1$
 					+ " argument file", e)); //$NON-NLS-1$
@@ -356,7 +351,6 @@ public class ClasspathShortener implements IProcessTempFileCreator {
 
 	private File createClasspathOnlyJar(String classpath) throws CoreException {
 		try {
-			File jarFile = JavaLaunchingUtils.createFileForArgument(getLaunchTimeStamp(), processTempFilesDir, getLaunchConfigurationName(), "%s-classpathOnly-%s.jar"); //$NON-NLS-1$
 			URI workingDirUri = processTempFilesDir.toURI();
 			StringBuilder manifestClasspath = new StringBuilder();
 			String[] classpathArray = getClasspathAsArray(classpath);
@@ -371,10 +365,11 @@ public class ClasspathShortener implements IProcessTempFileCreator {
 			Manifest manifest = new Manifest();
 			manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0"); //$NON-NLS-1$
 			manifest.getMainAttributes().put(Attributes.Name.CLASS_PATH, manifestClasspath.toString());
-			try (JarOutputStream target = new JarOutputStream(new FileOutputStream(jarFile), manifest)) {
-				target.hashCode(); // avoid warning that target is unused
-			}
-			return jarFile;
+			return SharedProcessTempFiles.getDefault().acquire(processTempFilesDir, manifestClasspath.toString(), "-classpathOnly.jar", jarFile -> { //$NON-NLS-1$
+				try (JarOutputStream target = new JarOutputStream(Files.newOutputStream(jarFile), manifest)) {
+					target.hashCode(); // avoid warning that target is unused
+				}
+			});
 		} catch (IOException e) {
 			throw new CoreException(new Status(IStatus.ERROR, LaunchingPlugin.getUniqueIdentifier(), IStatus.ERROR, "Cannot create classpath only jar", e)); // $NON-NLS-1$ //$NON-NLS-1$
 		}
@@ -392,14 +387,6 @@ public class ClasspathShortener implements IProcessTempFileCreator {
 		return separator;
 	}
 
-	protected String getLaunchConfigurationName() {
-		return launch.getLaunchConfiguration().getName();
-	}
-
-	protected String getLaunchTimeStamp() {
-		return JavaLaunchingUtils.getLaunchTimeStamp(launch);
-	}
-
 	private String[] getEnvpFromNativeEnvironment() {
 		Map<String, String> nativeEnvironment = getNativeEnvironment();
 		String[] envp = new String[nativeEnvironment.size()];
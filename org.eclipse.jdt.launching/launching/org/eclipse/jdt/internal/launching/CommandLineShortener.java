@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2023 Gunnar Wagenknecht and others.
+ * Copyright (c) 2020, 2026 Gunnar Wagenknecht and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -85,11 +85,9 @@ public class CommandLineShortener implements IProcessTempFileCreator {
 	protected File createArgumentFile(String[] cmdLine) throws CoreException {
 		Charset systemCharset = Platform.getSystemCharset();
 		try {
-			File argumentsFile = JavaLaunchingUtils.createFileForArgument(getLaunchTimeStamp(), processTempFilesDir, getLaunchConfigurationName(), "%s-args-%s.txt"); //$NON-NLS-1$
-			cmdLine = quoteForArgfile(cmdLine);
-
-			Files.write(argumentsFile.toPath(), Arrays.asList(cmdLine), systemCharset);
-			return argumentsFile;
+			List<String> lines = Arrays.asList(quoteForArgfile(cmdLine));
+			return SharedProcessTempFiles.getDefault().acquire(processTempFilesDir, systemCharset.name() + '\n' + String.join("\n", lines), "-args.txt", //$NON-NLS-1$ //$NON-NLS-2$
+					argumentsFile -> Files.write(argumentsFile, lines, systemCharset));
 		} catch (CharacterCodingException e) {
 			for (String s : cmdLine) {
 				for (char c : s.toCharArray()) {
@@ -129,14 +127,6 @@ public class CommandLineShortener implements IProcessTempFileCreator {
 		return quotedCmdLine;
 	}
 
-	protected String getLaunchConfigurationName() {
-		return launch.getLaunchConfiguration().getName();
-	}
-
-	protected String getLaunchTimeStamp() {
-		return JavaLaunchingUtils.getLaunchTimeStamp(launch);
-	}
-
 	@Override
 	public List<File> getProcessTempFiles() {
 		return new ArrayList<>(processTempFiles);
@@ -20,6 +20,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -30,6 +31,7 @@ import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobGroup;
 import org.eclipse.core.runtime.preferences.DefaultScope;
 import org.eclipse.core.runtime.preferences.IEclipsePreferences;
 import org.eclipse.core.runtime.preferences.InstanceScope;
@@ -63,6 +65,11 @@ public class DetectVMInstallationsJob extends Job {
 	 */
 	private static final String PROPERTY_DETECT_VM_INSTALLATIONS_JOB_DISABLED = "DetectVMInstallationsJob.disabled"; //$NON-NLS-1$
 	private static final Object FAMILY = DetectVMInstallationsJob.class;
+	/**
+	 * Maximum number of candidate locations validated concurrently. Validating a
+	 * location may run the VM to detect its libraries.
+	 */
+	private static final int MAX_CONCURRENT_PROBES = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
 
 	public DetectVMInstallationsJob() {
 		super(LaunchingMessages.lookupInstalledJVMs);
@@ -71,12 +78,12 @@ public class DetectVMInstallationsJob extends Job {
 	@Override
 	public IStatus run(IProgressMonitor monitor) {
 		StandardVMType standardType = (StandardVMType) JavaRuntime.getVMInstallType(StandardVMType.ID_STANDARD_VM_TYPE);
-		Collection<File> candidates = computeCandidateVMs(standardType);
+		Set<File> knownVMs = knownVMs();
+		Collection<File> candidates = computeCandidateVMs(standardType, knownVMs, monitor);
 		if (monitor.isCanceled()) {
 			return Status.CANCEL_STATUS;
 		}
-		Set<File> knownVMs = knownVMs();
-		candidates.removeIf(knownVMs::contains);
+		Set<String> names = knownNames();
 		Collection<VMStandin> systemVMs = Collections.EMPTY_LIST;
 		// for MacOS, system installed VMs need a special command to locate
 		if (Platform.OS.isMac()) {
@@ -98,17 +105,14 @@ public class DetectVMInstallationsJob extends Job {
 			SubMonitor subMon = SubMonitor.convert(monitor, f.getAbsolutePath(), 1);
 			VMStandin workingCopy = new VMStandin(standardType, f.getAbsolutePath());
 			workingCopy.setInstallLocation(f);
-			String name = f.getName();
-			int i = 2;
-			while (isDuplicateName(name)) {
-				name = f.getName() + '(' + i++ + ')';
-			}
+			String name = uniqueName(f.getName(), names);
 			workingCopy.setName(name);
 			IVMInstall install = workingCopy.convertToRealVM();
 			if (!(install instanceof IVMInstall2 vm && vm.getJavaVersion() != null)) {
 				// worksaround: such VMs may cause issue later
 				// https://github.com/eclipse-jdt/eclipse.jdt.debug/issues/248
 				standardType.disposeVMInstall(install.getId());
+				names.remove(name);
 			}
 			subMon.done();
 		}
@@ -119,31 +123,41 @@ public class DetectVMInstallationsJob extends Job {
 				return Status.CANCEL_STATUS;
 			}
 			SubMonitor subMon = SubMonitor.convert(monitor, systemVM.getInstallLocation().getAbsolutePath(), 1);
-			String name = systemVM.getName();
-			int i = 2;
-			while (isDuplicateName(name)) {
-				name = systemVM.getName() + '(' + i++ + ')';
-			}
+			String name = uniqueName(systemVM.getName(), names);
 			systemVM.setName(name);
 			IVMInstall install = systemVM.convertToRealVM();
 			if (!(install instanceof IVMInstall2 vm && vm.getJavaVersion() != null)) {
 				// worksaround: such VMs may cause issue later
 				// https://github.com/eclipse-jdt/eclipse.jdt.debug/issues/248
 				standardType.disposeVMInstall(install.getId());
+				names.remove(name);
 			}
 			subMon.done();
 		}
 		return Status.OK_STATUS;
 	}
 
-	private boolean isDuplicateName(String name) {
+	private static Set<String> knownNames() {
 		return Stream.of(JavaRuntime.getVMInstallTypes()) //
 			.flatMap(vmType -> Arrays.stream(vmType.getVMInstalls())) //
 			.map(IVMInstall::getName) //
-			.anyMatch(name::equals);
+			.collect(Collectors.toCollection(HashSet::new));
+	}
+
+	/**
+	 * Returns a name based on the given one which is not in the given set of
+	 * names, and adds it to the set.
+	 */
+	private static String uniqueName(String baseName, Set<String> names) {
+		String name = baseName;
+		int i = 2;
+		while (!names.add(name)) {
+			name = baseName + '(' + i++ + ')';
+		}
+		return name;
 	}
 
-	private Collection<File> computeCandidateVMs(StandardVMType standardType) {
+	private Collection<File> computeCandidateVMs(StandardVMType standardType, Set<File> knownVMs, IProgressMonitor monitor) {
 		// parent directories containing a collection of VM installations
 		Collection<File> rootDirectories = new HashSet<>();
 		if (Platform.OS.isWindows()) {
@@ -175,7 +189,7 @@ public class DetectVMInstallationsJob extends Job {
 			}
 		});
 		// other common/standard lookup strategies can be added here
-		return directories.stream()
+		Set<File> locations = directories.stream()
 			.filter(Objects::nonNull)
 			.filter(File::isDirectory)
 			.map(t -> {
@@ -185,8 +199,40 @@ public class DetectVMInstallationsJob extends Job {
 					return null;
 				}
 			}).filter(Objects::nonNull)
-			.filter(location -> standardType.validateInstallLocation(location).isOK())
+			.filter(location -> !knownVMs.contains(location))
 			.collect(Collectors.toCollection(HashSet::new));
+		return validateLocations(standardType, locations, monitor);
+	}
+
+	/**
+	 * Validates the given locations concurrently, as validating a location may
+	 * require to run the VM.
+	 *
+	 * @return the valid locations
+	 */
+	private Collection<File> validateLocations(StandardVMType standardType, Set<File> locations, IProgressMonitor monitor) {
+		Set<File> valid = ConcurrentHashMap.newKeySet();
+		if (locations.isEmpty()) {
+			return valid;
+		}
+		JobGroup group = new JobGroup(LaunchingMessages.lookupInstalledJVMs, MAX_CONCURRENT_PROBES, locations.size());
+		for (File location : locations) {
+			Job job = Job.createSystem(location.getAbsolutePath(), m -> {
+				if (!monitor.isCanceled() && standardType.validateInstallLocation(location).isOK()) {
+					valid.add(location);
+				}
+			});
+			job.setJobGroup(group);
+			job.schedule();
+		}
+		try {
+			// pending validations are skipped once the monitor is canceled
+			group.join(0, null);
+		} catch (InterruptedException e) {
+			group.cancel();
+			Thread.currentThread().interrupt();
+		}
+		return new HashSet<>(valid);
 	}
 
 	@SuppressWarnings("nls")
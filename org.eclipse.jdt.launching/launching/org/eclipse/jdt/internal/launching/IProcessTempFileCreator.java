@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022 Andrey Loskutov (loskutov@gmx.de) and others.
+ * Copyright (c) 2022, 2026 Andrey Loskutov (loskutov@gmx.de) and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -28,4 +28,14 @@ interface IProcessTempFileCreator {
 	 */
 	List<File> getProcessTempFiles();
 
+	/**
+	 * Removes the references to the shared process temp files, when no process is started to release them on termination
+	 */
+	default void releaseProcessTempFiles() {
+		SharedProcessTempFiles sharedFiles = SharedProcessTempFiles.getDefault();
+		for (File file : getProcessTempFiles()) {
+			sharedFiles.release(file);
+		}
+	}
+
 }
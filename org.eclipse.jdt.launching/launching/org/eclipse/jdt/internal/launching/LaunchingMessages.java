@@ -223,6 +223,7 @@ public class LaunchingMessages extends NLS {
 	public static String VMLogging_1;
 	public static String VMLogging_2;
 	public static String VMLogging_3;
+	public static String VMLogging_4;
 
 	static {
 		// load message values from bundle file
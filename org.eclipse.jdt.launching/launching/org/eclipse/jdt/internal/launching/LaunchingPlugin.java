@@ -107,8 +107,10 @@ public class LaunchingPlugin extends Plugin implements DebugOptionsListener, IEc
 	 */
 	public static boolean DEBUG = false;
 	public static boolean DEBUG_JRE_CONTAINER = false;
+	public static boolean DEBUG_CLASSPATH_CACHE = false;
 
 	public static final String DEBUG_JRE_CONTAINER_FLAG = "org.eclipse.jdt.launching/debug/classpath/jreContainer"; //$NON-NLS-1$
+	public static final String DEBUG_CLASSPATH_CACHE_FLAG = "org.eclipse.jdt.launching/debug/classpath/cache"; //$NON-NLS-1$
 	public static final String DEBUG_FLAG = "org.eclipse.jdt.launching/debug"; //$NON-NLS-1$
 
 	/**
@@ -160,10 +162,10 @@ public class LaunchingPlugin extends Plugin implements DebugOptionsListener, IEc
 	public static final String PREF_DETECT_VMS_AT_STARTUP = "detectVMsAtStartup"; //$NON-NLS-1$
 
 	/**
-	 * Mapping of top-level VM installation directories to library info for that
-	 * VM.
+	 * Store of the library info of top-level VM installation directories,
+	 * created on first access.
 	 */
-	private static final ConcurrentHashMap<String, LibraryInfo> fgLibraryInfoMap = new ConcurrentHashMap<>(10);
+	private static volatile LibraryInfoStore fgLibraryInfoStore;
 
 	/**
 	 * Mapping of the last time the directory of a given SDK was modified.
@@ -423,10 +425,7 @@ public class LaunchingPlugin extends Plugin implements DebugOptionsListener, IEc
 	 * path, or <code>null</code> if none
 	 */
 	public static LibraryInfo getLibraryInfo(String javaInstallPath) {
-		if (fgLibraryInfoMap.isEmpty()) {
-			restoreLibraryInfo();
-		}
-		return fgLibraryInfoMap.get(javaInstallPath);
+		return getLibraryInfoStore().get(javaInstallPath);
 	}
 
 	/**
@@ -440,22 +439,19 @@ public class LaunchingPlugin extends Plugin implements DebugOptionsListener, IEc
 		if (isVMLogging()) {
 			LaunchingPlugin.log(LaunchingMessages.VMLogging_2 + javaInstallPath);
 		}
-		if (fgLibraryInfoMap.isEmpty()) {
-			restoreLibraryInfo();
-		}
+		LibraryInfoStore store = getLibraryInfoStore();
 		if (info == null) {
-			fgLibraryInfoMap.remove(javaInstallPath);
+			store.remove(javaInstallPath);
 			if (!fgInstallTimeMap.isEmpty()) {
 				fgInstallTimeMap.remove(javaInstallPath);
 				writeInstallInfo();
 			}
 
 		} else {
-			fgLibraryInfoMap.put(javaInstallPath, info);
+			store.put(javaInstallPath, info);
 		}
 		//once the library info has been set we can forget it has changed
 		fgHasChanged.remove(javaInstallPath);
-		saveLibraryInfo();
 	}
 
 	public static boolean isVMLogging() {
@@ -532,6 +528,8 @@ public class LaunchingPlugin extends Plugin implements DebugOptionsListener, IEc
 	public void stop(BundleContext context) throws Exception {
 		try {
 			AdvancedSourceLookupSupport.stop();
+			RuntimeClasspathCache.stop();
+			SharedProcessTempFiles.getDefault().dispose();
 
 			DebugPlugin.getDefault().getLaunchManager().removeLaunchListener(this);
 			DebugPlugin.getDefault().removeDebugEventListener(this);
@@ -606,6 +604,7 @@ public class LaunchingPlugin extends Plugin implements DebugOptionsListener, IEc
 		ResourcesPlugin.getWorkspace().addResourceChangeListener(this, IResourceChangeEvent.PRE_DELETE | IResourceChangeEvent.PRE_CLOSE);
 		DebugPlugin.getDefault().getLaunchManager().addLaunchListener(this);
 		DebugPlugin.getDefault().addDebugEventListener(this);
+		RuntimeClasspathCache.start();
 		AdvancedSourceLookupSupport.start();
 	}
 
@@ -854,104 +853,35 @@ public class LaunchingPlugin extends Plugin implements DebugOptionsListener, IEc
 	}
 
 	/**
-	 * Return the VM definitions contained in this object as a String of XML.  The String
-	 * is suitable for storing in the workbench preferences.
-	 * <p>
-	 * The resulting XML is compatible with the static method <code>parseXMLIntoContainer</code>.
-	 * </p>
-	 * @return String the results of flattening this object into XML
-	 * @throws CoreException if this method fails. Reasons include:<ul>
-	 * <li>serialization of the XML document failed</li>
-	 * </ul>
-	 */
-	private static String getLibraryInfoAsXML() throws CoreException {
-
-		Document doc = DebugPlugin.newDocument();
-		Element config = doc.createElement("libraryInfos");    //$NON-NLS-1$
-		doc.appendChild(config);
-
-		// Create a node for each info in the table
-		Iterator<String> locations = fgLibraryInfoMap.keySet().iterator();
-		while (locations.hasNext()) {
-			String home = locations.next();
-			LibraryInfo info = fgLibraryInfoMap.get(home);
-			Element locationElemnet = infoAsElement(doc, info);
-			locationElemnet.setAttribute("home", home); //$NON-NLS-1$
-			config.appendChild(locationElemnet);
-		}
-
-		// Serialize the Document and return the resulting String
-		return DebugPlugin.serializeDocument(doc);
-	}
-
-	/**
-	 * Creates an XML element for the given info.
-	 *
-	 * @param doc the backing {@link Document}
-	 * @param info the {@link LibraryInfo} to add to the {@link Document}
-	 * @return Element
-	 */
-	private static Element infoAsElement(Document doc, LibraryInfo info) {
-		Element libraryElement = doc.createElement("libraryInfo"); //$NON-NLS-1$
-		libraryElement.setAttribute("version", info.getVersion()); //$NON-NLS-1$
-		appendPathElements(doc, "bootpath", libraryElement, info.getBootpath()); //$NON-NLS-1$
-		appendPathElements(doc, "extensionDirs", libraryElement, info.getExtensionDirs()); //$NON-NLS-1$
-		appendPathElements(doc, "endorsedDirs", libraryElement, info.getEndorsedDirs()); //$NON-NLS-1$
-		return libraryElement;
-	}
-
-	/**
-	 * Appends path elements to the given library element, rooted by an
-	 * element of the given type.
+	 * Returns the store of library information for VMs, creating it on first
+	 * access.
 	 *
-	 * @param doc the backing {@link Document}
-	 * @param elementType the kind of {@link Element} to create
-	 * @param libraryElement the {@link Element} describing a given {@link LibraryInfo} object
-	 * @param paths the paths to add
+	 * @return the library info store
 	 */
-	private static void appendPathElements(Document doc, String elementType, Element libraryElement, String[] paths) {
-		if (paths.length > 0) {
-			Element child = doc.createElement(elementType);
-			libraryElement.appendChild(child);
-			for (int i = 0; i < paths.length; i++) {
-				String path = paths[i];
-				Element entry = doc.createElement("entry"); //$NON-NLS-1$
-				child.appendChild(entry);
-				entry.setAttribute("path", path); //$NON-NLS-1$
-			}
-		}
-	}
-
-	/**
-	 * Saves the library info in a local workspace state location
-	 */
-	private static void saveLibraryInfo() {
-		try {
-			String xml = getLibraryInfoAsXML();
-			IPath libPath = getDefault().getStateLocation();
-			libPath = libPath.append("libraryInfos.xml"); //$NON-NLS-1$
-			File file = libPath.toFile();
-			if (!file.exists()) {
-				file.createNewFile();
-			}
-			try (OutputStream stream = new BufferedOutputStream(new FileOutputStream(file))) {
-				stream.write(xml.getBytes(StandardCharsets.UTF_8));
+	private static LibraryInfoStore getLibraryInfoStore() {
+		LibraryInfoStore store = fgLibraryInfoStore;
+		if (store == null) {
+			synchronized (LaunchingPlugin.class) {
+				store = fgLibraryInfoStore;
+				if (store == null) {
+					IPath stateLocation = getDefault().getStateLocation();
+					store = new LibraryInfoStore(stateLocation.append("libraryInfos").toFile().toPath()); //$NON-NLS-1$
+					migrateLibraryInfo(stateLocation.append("libraryInfos.xml").toFile(), store); //$NON-NLS-1$
+					fgLibraryInfoStore = store;
+				}
 			}
-		} catch (IOException e) {
-			log(e);
-		}  catch (CoreException e) {
-			log(e);
 		}
+		return store;
 	}
 
 	/**
-	 * Restores library information for VMs
+	 * Moves the library information for VMs stored by previous releases in a
+	 * single XML file to the given store, and deletes the file.
+	 *
+	 * @param file the XML file of previous releases
+	 * @param store the store to move the information to
 	 */
-	private static void restoreLibraryInfo() {
-		fgLibraryInfoMap.clear();
-		IPath libPath = getDefault().getStateLocation();
-		libPath = libPath.append("libraryInfos.xml"); //$NON-NLS-1$
-		File file = libPath.toFile();
+	private static void migrateLibraryInfo(File file, LibraryInfoStore store) {
 		if (file.exists()) {
 			try (InputStream stream = new BufferedInputStream(new FileInputStream(file))) {
 				@SuppressWarnings("restriction")
@@ -981,13 +911,15 @@ public class LaunchingPlugin extends Plugin implements DebugOptionsListener, IEc
 									LaunchingPlugin.log(LaunchingMessages.VMLogging_1 + location);
 								}
 								LibraryInfo info = new LibraryInfo(version, bootpath, extDirs, endDirs);
-								fgLibraryInfoMap.put(location, info);
+								store.put(location, info);
 							}
 						}
 					}
 				}
 			} catch (IOException | ParserConfigurationException | SAXException e) {
 				log(e);
+			} finally {
+				file.delete();
 			}
 		}
 	}
@@ -1094,8 +1026,8 @@ public class LaunchingPlugin extends Plugin implements DebugOptionsListener, IEc
 				for(Iterator<Entry<String, Long>> i = fgInstallTimeMap.entrySet().iterator(); i.hasNext();) {
 					entry = i.next();
 					key = entry.getKey();
-					if (fgLibraryInfoMap.isEmpty() || fgLibraryInfoMap.containsKey(key)) {
-						//only persist the info if the library map also has info OR is null - prevent persisting deleted JRE information
+					if (getLibraryInfoStore().contains(key)) {
+						//only persist the info if the library store also has info - prevent persisting deleted JRE information
 						e = doc.createElement("entry"); //$NON-NLS-1$
 						root.appendChild(e);
 						e.setAttribute("loc", key); //$NON-NLS-1$
@@ -1197,8 +1129,9 @@ public class LaunchingPlugin extends Plugin implements DebugOptionsListener, IEc
 		if (tempFiles == null) {
 			return;
 		}
-		// we only delete files starting with LAUNCH_TEMP_FILE_PREFIX²
-		Arrays.stream(tempFiles.split(File.pathSeparator)).map(path -> new File(path)).filter(file -> isValidProcessTempFile(file)).forEach(file -> file.delete());
+		// we only delete files starting with LAUNCH_TEMP_FILE_PREFIX², shared files are kept for reuse by later launches
+		SharedProcessTempFiles sharedFiles = SharedProcessTempFiles.getDefault();
+		Arrays.stream(tempFiles.split(File.pathSeparator)).map(path -> new File(path)).filter(file -> isValidProcessTempFile(file)).filter(file -> !sharedFiles.release(file)).forEach(file -> file.delete());
 	}
 
 	private boolean isValidProcessTempFile(File file) {
@@ -1305,6 +1238,7 @@ public class LaunchingPlugin extends Plugin implements DebugOptionsListener, IEc
 	public void optionsChanged(DebugOptions options) {
 		DEBUG = options.getBooleanOption(DEBUG_FLAG, false);
 		DEBUG_JRE_CONTAINER = DEBUG && options.getBooleanOption(DEBUG_JRE_CONTAINER_FLAG, false);
+		DEBUG_CLASSPATH_CACHE = DEBUG && options.getBooleanOption(DEBUG_CLASSPATH_CACHE_FLAG, false);
 	}
 
 	/**
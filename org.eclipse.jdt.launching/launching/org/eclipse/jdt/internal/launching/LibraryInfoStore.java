@@ -0,0 +1,277 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.launching;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Persistent store of the library information of VM installs.
+ * <p>
+ * Each install has its own small record file, named after its install path, so
+ * that the information of one install is read, written or removed without
+ * touching the others, and only when first asked for. A record also remembers
+ * the size and modification time of the <code>release</code> file of the
+ * install when it was written; a record whose <code>release</code> file changed
+ * since, for example because the JDK was upgraded in place, is stale and
+ * discarded.
+ * </p>
+ */
+final class LibraryInfoStore {
+
+	/**
+	 * Version of the record format, bumped on incompatible changes. Records of
+	 * another version are discarded.
+	 */
+	private static final int FORMAT_VERSION = 1;
+
+	/**
+	 * File extension of the record files
+	 */
+	private static final String RECORD_EXTENSION = ".info"; //$NON-NLS-1$
+
+	/**
+	 * Name of the file describing the release of a Java home
+	 */
+	private static final String RELEASE_FILE = "release"; //$NON-NLS-1$
+
+	/**
+	 * Stamp of an install without <code>release</code> file
+	 */
+	private static final long NO_RELEASE = -1L;
+
+	/**
+	 * A library info along with the stamp of the <code>release</code> file it
+	 * was computed for.
+	 */
+	private static final class Record {
+		final LibraryInfo fInfo;
+		final long fReleaseTime;
+		final long fReleaseSize;
+
+		Record(LibraryInfo info, long releaseTime, long releaseSize) {
+			fInfo = info;
+			fReleaseTime = releaseTime;
+			fReleaseSize = releaseSize;
+		}
+
+		boolean isCurrent(long[] stamp) {
+			return fReleaseTime == stamp[0] && fReleaseSize == stamp[1];
+		}
+	}
+
+	/**
+	 * Marker of installs known to have no record
+	 */
+	private static final Record NO_RECORD = new Record(null, NO_RELEASE, NO_RELEASE);
+
+	/**
+	 * Directory holding the record files
+	 */
+	private final Path fDirectory;
+
+	/**
+	 * Records read or written during this session, by install path
+	 */
+	private final Map<String, Record> fRecords = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a store keeping its records in the given directory.
+	 *
+	 * @param directory
+	 *            the directory of the records, created on first write
+	 */
+	LibraryInfoStore(Path directory) {
+		fDirectory = directory;
+	}
+
+	/**
+	 * Returns the library info of the given install, or <code>null</code> if
+	 * none is stored or the stored one is stale.
+	 *
+	 * @param installPath
+	 *            the absolute path of the Java home folder
+	 * @return the stored library info or <code>null</code>
+	 */
+	LibraryInfo get(String installPath) {
+		Record record = fRecords.computeIfAbsent(installPath, this::read);
+		if (record == NO_RECORD) {
+			return null;
+		}
+		if (!record.isCurrent(releaseStamp(installPath))) {
+			if (LaunchingPlugin.isVMLogging()) {
+				LaunchingPlugin.log(LaunchingMessages.VMLogging_4 + installPath);
+			}
+			remove(installPath);
+			return null;
+		}
+		return record.fInfo;
+	}
+
+	/**
+	 * Returns whether library info is stored for the given install, without
+	 * checking whether it is stale.
+	 *
+	 * @param installPath
+	 *            the absolute path of the Java home folder
+	 * @return whether a record exists for the install
+	 */
+	boolean contains(String installPath) {
+		return fRecords.computeIfAbsent(installPath, this::read) != NO_RECORD;
+	}
+
+	/**
+	 * Stores the library info of the given install, replacing any previous one.
+	 *
+	 * @param installPath
+	 *            the absolute path of the Java home folder
+	 * @param info
+	 *            the library info
+	 */
+	void put(String installPath, LibraryInfo info) {
+		long[] stamp = releaseStamp(installPath);
+		Record record = new Record(info, stamp[0], stamp[1]);
+		fRecords.put(installPath, record);
+		try {
+			write(installPath, record);
+		} catch (IOException e) {
+			LaunchingPlugin.log(e);
+		}
+	}
+
+	/**
+	 * Removes the library info of the given install.
+	 *
+	 * @param installPath
+	 *            the absolute path of the Java home folder
+	 */
+	void remove(String installPath) {
+		fRecords.put(installPath, NO_RECORD);
+		try {
+			Files.deleteIfExists(recordFile(installPath));
+		} catch (IOException e) {
+			LaunchingPlugin.log(e);
+		}
+	}
+
+	/**
+	 * Returns the file holding the record of the given install.
+	 */
+	private Path recordFile(String installPath) {
+		UUID name = UUID.nameUUIDFromBytes(installPath.getBytes(StandardCharsets.UTF_8));
+		return fDirectory.resolve(name + RECORD_EXTENSION);
+	}
+
+	/**
+	 * Returns the modification time and size of the <code>release</code> file
+	 * of the given install, or {@link #NO_RELEASE} for both if it has none.
+	 */
+	private static long[] releaseStamp(String installPath) {
+		try {
+			BasicFileAttributes attributes = Files.readAttributes(Paths.get(installPath, RELEASE_FILE), BasicFileAttributes.class);
+			return new long[] { attributes.lastModifiedTime().toMillis(), attributes.size() };
+		} catch (IOException | RuntimeException e) {
+			return new long[] { NO_RELEASE, NO_RELEASE };
+		}
+	}
+
+	/**
+	 * Reads the record of the given install, or returns {@link #NO_RECORD} if
+	 * there is none or it cannot be read.
+	 */
+	private Record read(String installPath) {
+		Path file = recordFile(installPath);
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+			if (in.readInt() != FORMAT_VERSION || !installPath.equals(in.readUTF())) {
+				// replaced on next write
+				return NO_RECORD;
+			}
+			long releaseTime = in.readLong();
+			long releaseSize = in.readLong();
+			String version = in.readUTF();
+			String[] bootpath = readPaths(in);
+			String[] extDirs = readPaths(in);
+			String[] endDirs = readPaths(in);
+			if (LaunchingPlugin.isVMLogging()) {
+				LaunchingPlugin.log(LaunchingMessages.VMLogging_1 + installPath);
+			}
+			return new Record(new LibraryInfo(version, bootpath, extDirs, endDirs), releaseTime, releaseSize);
+		} catch (NoSuchFileException e) {
+			return NO_RECORD;
+		} catch (IOException e) {
+			LaunchingPlugin.log(e);
+			return NO_RECORD;
+		}
+	}
+
+	/**
+	 * Writes the record of the given install to a temporary file first, which
+	 * then replaces the previous record so that a record is never seen half
+	 * written.
+	 */
+	private void write(String installPath, Record record) throws IOException {
+		Files.createDirectories(fDirectory);
+		Path file = recordFile(installPath);
+		Path temp = Files.createTempFile(fDirectory, file.getFileName().toString(), null);
+		try {
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+				out.writeInt(FORMAT_VERSION);
+				out.writeUTF(installPath);
+				out.writeLong(record.fReleaseTime);
+				out.writeLong(record.fReleaseSize);
+				LibraryInfo info = record.fInfo;
+				out.writeUTF(info.getVersion() == null ? "" : info.getVersion()); //$NON-NLS-1$
+				writePaths(out, info.getBootpath());
+				writePaths(out, info.getExtensionDirs());
+				writePaths(out, info.getEndorsedDirs());
+			}
+			try {
+				Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	private static String[] readPaths(DataInputStream in) throws IOException {
+		String[] paths = new String[in.readInt()];
+		for (int i = 0; i < paths.length; i++) {
+			paths[i] = in.readUTF();
+		}
+		return paths;
+	}
+
+	private static void writePaths(DataOutputStream out, String[] paths) throws IOException {
+		out.writeInt(paths.length);
+		for (String path : paths) {
+			out.writeUTF(path);
+		}
+	}
+}
@@ -0,0 +1,342 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.launching;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.variables.IValueVariable;
+import org.eclipse.core.variables.IValueVariableListener;
+import org.eclipse.core.variables.VariablesPlugin;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.debug.core.ILaunchConfigurationListener;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.launching.IRuntimeClasspathEntry;
+import org.eclipse.jdt.launching.IVMInstall;
+import org.eclipse.jdt.launching.IVMInstallChangedListener;
+import org.eclipse.jdt.launching.JavaRuntime;
+import org.eclipse.jdt.launching.PropertyChangeEvent;
+
+/**
+ * Caches the resolved runtime classpath of launch configurations, so that relaunching a configuration does not resolve the classpath of all
+ * projects it depends on again.
+ * <p>
+ * A cached classpath is reused as long as the unresolved classpath of the configuration is the same, which is checked by comparing the mementos
+ * of its entries. All cached classpaths are discarded when the classpath of a Java project changes, including updates of classpath containers and
+ * variables, when Java projects are added, removed, opened or closed, when VM installs change, when runtime classpath entry resolvers are
+ * registered and when value string variables change. The cached classpath of a configuration is discarded when the configuration changes.
+ * Working copies are never cached. Classpaths with entries referencing string variables are never cached, since dynamic variables may resolve
+ * to another value on each launch, and neither are the classpaths of providers which are not
+ * {@linkplain org.eclipse.jdt.launching.IRuntimeClasspathProvider#isResolvedClasspathReusable(ILaunchConfiguration) reusable}.
+ * </p>
+ * <p>
+ * Runtime classpath entries are mutable, so callers get copies of the cached entries.
+ * </p>
+ * <p>
+ * The number and the time of cache hits and misses is recorded and traced with the
+ * <code>org.eclipse.jdt.launching/debug/classpath/cache</code> option.
+ * </p>
+ */
+public final class RuntimeClasspathCache implements IElementChangedListener, IVMInstallChangedListener, ILaunchConfigurationListener, IValueVariableListener {
+
+	/**
+	 * Resolves a runtime classpath when it is not cached.
+	 */
+	@FunctionalInterface
+	public interface Resolver {
+		IRuntimeClasspathEntry[] resolve() throws CoreException;
+	}
+
+	/**
+	 * A resolved classpath along with the mementos of the entries it was resolved from.
+	 */
+	private record CachedClasspath(List<String> unresolved, IRuntimeClasspathEntry[] resolved) {
+	}
+
+	private static volatile RuntimeClasspathCache fgDefault;
+
+	private final Map<ILaunchConfiguration, CachedClasspath> fClasspaths = new ConcurrentHashMap<>();
+
+	/**
+	 * Incremented on each invalidation, so that a classpath resolved concurrently with an invalidation is not cached
+	 */
+	private final AtomicLong fGeneration = new AtomicLong();
+
+	private final LongAdder fHits = new LongAdder();
+	private final LongAdder fHitTime = new LongAdder();
+	private final LongAdder fMisses = new LongAdder();
+	private final LongAdder fMissTime = new LongAdder();
+
+	private RuntimeClasspathCache() {
+	}
+
+	/**
+	 * Creates the cache and starts listening to changes invalidating it.
+	 */
+	static void start() {
+		RuntimeClasspathCache cache = new RuntimeClasspathCache();
+		JavaCore.addElementChangedListener(cache, ElementChangedEvent.POST_CHANGE);
+		JavaRuntime.addVMInstallChangedListener(cache);
+		DebugPlugin.getDefault().getLaunchManager().addLaunchConfigurationListener(cache);
+		VariablesPlugin.getDefault().getStringVariableManager().addValueVariableListener(cache);
+		fgDefault = cache;
+	}
+
+	/**
+	 * Stops listening to changes and disposes the cache.
+	 */
+	static void stop() {
+		RuntimeClasspathCache cache = fgDefault;
+		if (cache == null) {
+			return;
+		}
+		fgDefault = null;
+		VariablesPlugin.getDefault().getStringVariableManager().removeValueVariableListener(cache);
+		DebugPlugin.getDefault().getLaunchManager().removeLaunchConfigurationListener(cache);
+		JavaRuntime.removeVMInstallChangedListener(cache);
+		JavaCore.removeElementChangedListener(cache);
+		cache.invalidate();
+	}
+
+	/**
+	 * Returns the cache, or <code>null</code> if the launching plug-in is not started.
+	 *
+	 * @return the cache or <code>null</code>
+	 */
+	public static RuntimeClasspathCache getDefault() {
+		return fgDefault;
+	}
+
+	/**
+	 * Returns the resolved classpath of the given unresolved entries in the context of the given configuration, resolving it with the given
+	 * resolver if it is not cached.
+	 *
+	 * @param entries
+	 *            unresolved classpath
+	 * @param configuration
+	 *            launch configuration
+	 * @param resolver
+	 *            resolves the classpath if it is not cached
+	 * @return resolved runtime classpath entries
+	 * @throws CoreException
+	 *             if unable to compute the classpath
+	 */
+	public IRuntimeClasspathEntry[] resolve(IRuntimeClasspathEntry[] entries, ILaunchConfiguration configuration, Resolver resolver) throws CoreException {
+		if (configuration == null || configuration.isWorkingCopy()) {
+			return resolver.resolve();
+		}
+		long start = System.nanoTime();
+		List<String> unresolved = getMementos(entries);
+		if (referencesVariables(unresolved) || !JavaRuntime.getClasspathProvider(configuration).isResolvedClasspathReusable(configuration)) {
+			return resolver.resolve();
+		}
+		CachedClasspath cached = fClasspaths.get(configuration);
+		if (cached != null && cached.unresolved().equals(unresolved)) {
+			long time = System.nanoTime() - start;
+			fHits.increment();
+			fHitTime.add(time);
+			if (LaunchingPlugin.DEBUG_CLASSPATH_CACHE) {
+				LaunchingPlugin.trace("<CLASSPATH_CACHE> hit: " + configuration.getName() + " (" + time / 1000 + " us)"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			}
+			return copy(cached.resolved());
+		}
+		long generation = fGeneration.get();
+		IRuntimeClasspathEntry[] resolved = resolver.resolve();
+		synchronized (this) {
+			if (generation == fGeneration.get()) {
+				fClasspaths.put(configuration, new CachedClasspath(unresolved, copy(resolved)));
+			}
+		}
+		long time = System.nanoTime() - start;
+		fMisses.increment();
+		fMissTime.add(time);
+		if (LaunchingPlugin.DEBUG_CLASSPATH_CACHE) {
+			LaunchingPlugin.trace("<CLASSPATH_CACHE> miss: " + configuration.getName() + " (" + time / 1000 + " us)"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+		return resolved;
+	}
+
+	private static IRuntimeClasspathEntry[] copy(IRuntimeClasspathEntry[] entries) throws CoreException {
+		IRuntimeClasspathEntry[] copy = new IRuntimeClasspathEntry[entries.length];
+		for (int i = 0; i < entries.length; i++) {
+			if (entries[i].getClass() == RuntimeClasspathEntry.class) {
+				copy[i] = new RuntimeClasspathEntry((RuntimeClasspathEntry) entries[i]);
+			} else {
+				copy[i] = JavaRuntime.newRuntimeClasspathEntry(entries[i].getMemento());
+			}
+		}
+		return copy;
+	}
+
+	private static List<String> getMementos(IRuntimeClasspathEntry[] entries) throws CoreException {
+		String[] mementos = new String[entries.length];
+		for (int i = 0; i < entries.length; i++) {
+			mementos[i] = entries[i].getMemento();
+		}
+		return Arrays.asList(mementos);
+	}
+
+	private static boolean referencesVariables(List<String> mementos) {
+		for (String memento : mementos) {
+			if (memento.contains("${")) { //$NON-NLS-1$
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Discards all cached classpaths.
+	 */
+	public synchronized void invalidate() {
+		fGeneration.incrementAndGet();
+		if (LaunchingPlugin.DEBUG_CLASSPATH_CACHE && !fClasspaths.isEmpty()) {
+			LaunchingPlugin.trace("<CLASSPATH_CACHE> invalidated " + fClasspaths.size() + " classpaths"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		fClasspaths.clear();
+	}
+
+	/**
+	 * Returns the number of lookups answered from the cache.
+	 *
+	 * @return the number of cache hits
+	 */
+	public long getHitCount() {
+		return fHits.sum();
+	}
+
+	/**
+	 * Returns the total time spent in lookups answered from the cache, in nanoseconds.
+	 *
+	 * @return the time spent in cache hits
+	 */
+	public long getHitTime() {
+		return fHitTime.sum();
+	}
+
+	/**
+	 * Returns the number of lookups which had to resolve the classpath.
+	 *
+	 * @return the number of cache misses
+	 */
+	public long getMissCount() {
+		return fMisses.sum();
+	}
+
+	/**
+	 * Returns the total time spent in lookups which had to resolve the classpath, in nanoseconds.
+	 *
+	 * @return the time spent in cache misses
+	 */
+	public long getMissTime() {
+		return fMissTime.sum();
+	}
+
+	@Override
+	public void elementChanged(ElementChangedEvent event) {
+		if (affectsClasspath(event.getDelta())) {
+			invalidate();
+		}
+	}
+
+	/**
+	 * Returns whether the given delta changes the classpath of a Java project or the set of open Java projects.
+	 */
+	private static boolean affectsClasspath(IJavaElementDelta delta) {
+		IJavaElement element = delta.getElement();
+		switch (element.getElementType()) {
+			case IJavaElement.JAVA_MODEL:
+				for (IJavaElementDelta child : delta.getAffectedChildren()) {
+					if (affectsClasspath(child)) {
+						return true;
+					}
+				}
+				return false;
+			case IJavaElement.JAVA_PROJECT:
+				if (delta.getKind() != IJavaElementDelta.CHANGED) {
+					return true;
+				}
+				return (delta.getFlags() & (IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED
+						| IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED)) != 0;
+			default:
+				return false;
+		}
+	}
+
+	@Override
+	public void defaultVMInstallChanged(IVMInstall previous, IVMInstall current) {
+		invalidate();
+	}
+
+	@Override
+	public void vmChanged(PropertyChangeEvent event) {
+		invalidate();
+	}
+
+	@Override
+	public void vmAdded(IVMInstall vm) {
+		invalidate();
+	}
+
+	@Override
+	public void vmRemoved(IVMInstall vm) {
+		invalidate();
+	}
+
+	@Override
+	public void launchConfigurationAdded(ILaunchConfiguration configuration) {
+	}
+
+	@Override
+	public void launchConfigurationChanged(ILaunchConfiguration configuration) {
+		if (!configuration.isWorkingCopy()) {
+			invalidate(configuration);
+		}
+	}
+
+	@Override
+	public void launchConfigurationRemoved(ILaunchConfiguration configuration) {
+		invalidate(configuration);
+	}
+
+	@Override
+	public void variablesAdded(IValueVariable[] variables) {
+		invalidate();
+	}
+
+	@Override
+	public void variablesRemoved(IValueVariable[] variables) {
+		invalidate();
+	}
+
+	@Override
+	public void variablesChanged(IValueVariable[] variables) {
+		invalidate();
+	}
+
+	private synchronized void invalidate(ILaunchConfiguration configuration) {
+		fGeneration.incrementAndGet();
+		fClasspaths.remove(configuration);
+	}
+}
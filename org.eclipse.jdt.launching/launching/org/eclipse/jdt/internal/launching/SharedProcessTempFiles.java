@@ -0,0 +1,191 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.launching;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Temporary files of launched processes, such as argument files and classpath-only jars, shared by all launches needing the same content.
+ * <p>
+ * Files are named after a hash of their content and directory, so relaunching with an unchanged classpath reuses the file written by a previous
+ * launch instead of writing it again. Each launch holds a reference to the files it uses. Files no longer referenced are kept for reuse, up to
+ * {@link #MAX_UNUSED_FILES}, beyond which the least recently used ones are deleted. All files are deleted when the launching plug-in stops.
+ * </p>
+ */
+public final class SharedProcessTempFiles {
+
+	/**
+	 * Writes the content of a shared file.
+	 */
+	@FunctionalInterface
+	public interface ContentWriter {
+		void write(Path path) throws IOException;
+	}
+
+	/**
+	 * Maximum number of files kept for reuse while no launch references them
+	 */
+	static final int MAX_UNUSED_FILES = 8;
+
+	private static final SharedProcessTempFiles fgDefault = new SharedProcessTempFiles();
+
+	/**
+	 * Reference counts by file, in least recently used order
+	 */
+	private final Map<File, int[]> fFiles = new LinkedHashMap<>(16, 0.75f, true);
+
+	private SharedProcessTempFiles() {
+	}
+
+	/**
+	 * Returns the shared temporary files.
+	 *
+	 * @return the shared temporary files
+	 */
+	public static SharedProcessTempFiles getDefault() {
+		return fgDefault;
+	}
+
+	/**
+	 * Returns a file with the given content in the given directory, writing it only if there is no such file yet, and adds a reference to it. The
+	 * reference is removed with {@link #release(File)}.
+	 *
+	 * @param directory
+	 *            the directory of the file
+	 * @param content
+	 *            identifies the content of the file, files with the same content identity are assumed to have the same content
+	 * @param suffix
+	 *            the end of the file name, after the content hash
+	 * @param writer
+	 *            writes the content of the file if needed
+	 * @return the file
+	 * @throws IOException
+	 *             if the file cannot be written
+	 */
+	public synchronized File acquire(File directory, String content, String suffix, ContentWriter writer) throws IOException {
+		File file = new File(directory, LaunchingPlugin.LAUNCH_TEMP_FILE_PREFIX + hash(directory.getAbsolutePath() + '\n' + content) + suffix);
+		int[] references = fFiles.get(file);
+		if (!file.isFile()) {
+			Path temp = Files.createTempFile(directory.toPath(), LaunchingPlugin.LAUNCH_TEMP_FILE_PREFIX, ".tmp"); //$NON-NLS-1$
+			try {
+				writer.write(temp);
+				try {
+					Files.move(temp, file.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+				} catch (AtomicMoveNotSupportedException e) {
+					Files.move(temp, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+				}
+			} finally {
+				Files.deleteIfExists(temp);
+			}
+		}
+		if (references == null) {
+			references = new int[1];
+			fFiles.put(file, references);
+		}
+		references[0]++;
+		return file;
+	}
+
+	/**
+	 * Removes a reference to the given file. Files which are no longer referenced are kept for reuse, unless there are too many of them.
+	 *
+	 * @param file
+	 *            the file
+	 * @return <code>true</code> if the file is a shared file, <code>false</code> if it is unknown
+	 */
+	public synchronized boolean release(File file) {
+		int[] references = fFiles.get(file);
+		if (references == null) {
+			return false;
+		}
+		if (references[0] > 0) {
+			references[0]--;
+		}
+		deleteUnused(MAX_UNUSED_FILES);
+		return true;
+	}
+
+	/**
+	 * Returns whether a launch references the given file.
+	 *
+	 * @param file
+	 *            the file
+	 * @return whether the file is referenced
+	 */
+	public synchronized boolean isReferenced(File file) {
+		int[] references = fFiles.get(file);
+		return references != null && references[0] > 0;
+	}
+
+	/**
+	 * Deletes all files which are no longer referenced.
+	 */
+	public synchronized void deleteUnused() {
+		deleteUnused(0);
+	}
+
+	/**
+	 * Deletes the least recently used files which are no longer referenced, keeping the given number of them.
+	 */
+	private void deleteUnused(int keep) {
+		List<File> unused = new ArrayList<>();
+		for (Entry<File, int[]> entry : fFiles.entrySet()) {
+			if (entry.getValue()[0] == 0) {
+				unused.add(entry.getKey());
+			}
+		}
+		for (int i = 0; i < unused.size() - keep; i++) {
+			File file = unused.get(i);
+			fFiles.remove(file);
+			file.delete();
+		}
+	}
+
+	/**
+	 * Deletes all files, whether referenced or not.
+	 */
+	synchronized void dispose() {
+		for (Iterator<File> iterator = fFiles.keySet().iterator(); iterator.hasNext();) {
+			iterator.next().delete();
+			iterator.remove();
+		}
+	}
+
+	private static String hash(String content) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8)); //$NON-NLS-1$
+			StringBuilder hex = new StringBuilder(32);
+			for (int i = 0; i < 16; i++) {
+				hex.append(Character.forDigit((digest[i] >> 4) & 0xF, 16)).append(Character.forDigit(digest[i] & 0xF, 16));
+			}
+			return hex.toString();
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
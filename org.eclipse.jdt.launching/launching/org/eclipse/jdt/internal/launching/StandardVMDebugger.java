@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -148,6 +148,11 @@ public class StandardVMDebugger extends StandardVMRunner {
 		SubMonitor subMonitor = SubMonitor.convert(monitor);
 
 		CommandDetails cmd = getCommandLine(configuration, launch, subMonitor);
+		if (cmd == null) {
+			return ""; //$NON-NLS-1$
+		}
+		// no process is started for the files
+		cmd.getCommandLineShortener().releaseProcessTempFiles();
 		if (subMonitor.isCanceled()) {
 			return ""; //$NON-NLS-1$
 		}
@@ -308,9 +313,12 @@ public class StandardVMDebugger extends StandardVMRunner {
 	public void run(VMRunnerConfiguration config, ILaunch launch, IProgressMonitor monitor) throws CoreException {
 		IProgressMonitor subMonitor = SubMonitor.convert(monitor, 1);
 		CommandDetails cmdDetails = getCommandLine(config, launch, subMonitor);
-
+		if (cmdDetails == null) {
+			return;
+		}
 		// check for cancellation
-		if (subMonitor.isCanceled() || cmdDetails == null) {
+		if (subMonitor.isCanceled()) {
+			cmdDetails.getCommandLineShortener().releaseProcessTempFiles();
 			return;
 		}
 		String[] cmdLine = cmdDetails.getCommandLine();
@@ -319,12 +327,15 @@ public class StandardVMDebugger extends StandardVMRunner {
 		subMonitor.subTask(LaunchingMessages.StandardVMDebugger_Starting_virtual_machine____4);
 		ListeningConnector connector= getConnector();
 		if (connector == null) {
+			cmdDetails.getCommandLineShortener().releaseProcessTempFiles();
 			abort(LaunchingMessages.StandardVMDebugger_Couldn__t_find_an_appropriate_debug_connector_2, null, IJavaLaunchConfigurationConstants.ERR_CONNECTOR_NOT_AVAILABLE);
 		}
 		Map<String, Connector.Argument> map= connector.defaultArguments();
 
 		specifyArguments(map, cmdDetails.getPort());
 		Process p= null;
+		// the temp files are released when the process terminates, or here if no process is started
+		boolean started = false;
 		try {
 			try {
 				// check for cancellation
@@ -369,6 +380,7 @@ public class StandardVMDebugger extends StandardVMRunner {
 					String tempFiles = processTempFiles.stream().map(File::getAbsolutePath).collect(Collectors.joining(File.pathSeparator));
 					process.setAttribute(LaunchingPlugin.ATTR_LAUNCH_TEMP_FILES, tempFiles);
 				}
+				started = true;
 				subMonitor.worked(1);
 				subMonitor.subTask(LaunchingMessages.StandardVMDebugger_Establishing_debug_connection____5);
 				int retryCount = 0;
@@ -457,6 +469,10 @@ public class StandardVMDebugger extends StandardVMRunner {
 			abort(LaunchingMessages.StandardVMDebugger_Couldn__t_connect_to_VM_4, e, IJavaLaunchConfigurationConstants.ERR_CONNECTION_FAILED);
 		} catch (IllegalConnectorArgumentsException e) {
 			abort(LaunchingMessages.StandardVMDebugger_Couldn__t_connect_to_VM_5, e, IJavaLaunchConfigurationConstants.ERR_CONNECTION_FAILED);
+		} finally {
+			if (!started) {
+				cmdDetails.getCommandLineShortener().releaseProcessTempFiles();
+			}
 		}
 		if (p != null) {
 			p.destroy();
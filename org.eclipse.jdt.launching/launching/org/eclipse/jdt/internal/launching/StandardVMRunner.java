@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2023 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -428,7 +428,12 @@ public class StandardVMRunner extends AbstractVMRunner {
 		IProgressMonitor subMonitor = SubMonitor.convert(monitor, 1);
 
 		CommandDetails cmd = getCommandLine(configuration, launch, subMonitor);
-		if (subMonitor.isCanceled() || cmd == null) {
+		if (cmd == null) {
+			return ""; //$NON-NLS-1$
+		}
+		// no process is started for the files
+		cmd.getCommandLineShortener().releaseProcessTempFiles();
+		if (subMonitor.isCanceled()) {
 			return ""; //$NON-NLS-1$
 		}
 		String[] cmdLine = cmd.getCommandLine();
@@ -526,43 +531,55 @@ public class StandardVMRunner extends AbstractVMRunner {
 		IProgressMonitor subMonitor = SubMonitor.convert(monitor, 1);
 
 		CommandDetails cmdDetails = getCommandLine(config, launch, subMonitor);
-		// check for cancellation
-		if (subMonitor.isCanceled() || cmdDetails == null) {
-			return;
-		}
-		String[] cmdLine = cmdDetails.getCommandLine();
-
-		subMonitor.beginTask(LaunchingMessages.StandardVMRunner_Launching_VM____1, 2);
-		subMonitor.subTask(LaunchingMessages.StandardVMRunner_Starting_virtual_machine____3);
-		Process p = null;
-		p = exec(cmdLine, cmdDetails.getWorkingDir(), cmdDetails.getEnvp(), config.isMergeOutput());
-		if (p == null) {
+		if (cmdDetails == null) {
 			return;
 		}
+		// the temp files are released when the process terminates, or here if no process is started
+		boolean started = false;
+		try {
+			// check for cancellation
+			if (subMonitor.isCanceled()) {
+				return;
+			}
+			String[] cmdLine = cmdDetails.getCommandLine();
+
+			subMonitor.beginTask(LaunchingMessages.StandardVMRunner_Launching_VM____1, 2);
+			subMonitor.subTask(LaunchingMessages.StandardVMRunner_Starting_virtual_machine____3);
+			Process p = null;
+			p = exec(cmdLine, cmdDetails.getWorkingDir(), cmdDetails.getEnvp(), config.isMergeOutput());
+			if (p == null) {
+				return;
+			}
 
-		// check for cancellation
-		if (subMonitor.isCanceled()) {
-			p.destroy();
-			return;
-		}
-		String timestamp = DateFormat.getDateTimeInstance(DateFormat.MEDIUM, DateFormat.MEDIUM).format(new Date(System.currentTimeMillis()));
-		IProcess process = newProcess(launch, p, renderProcessLabel(p, cmdLine, timestamp), getDefaultProcessMap());
-		process.setAttribute(DebugPlugin.ATTR_PATH, cmdLine[0]);
-		process.setAttribute(IProcess.ATTR_CMDLINE, renderCommandLine(cmdLine));
-		String ltime = launch.getAttribute(DebugPlugin.ATTR_LAUNCH_TIMESTAMP);
-		process.setAttribute(DebugPlugin.ATTR_LAUNCH_TIMESTAMP, ltime != null ? ltime : timestamp);
-		if (cmdDetails.getWorkingDir() != null) {
-			process.setAttribute(DebugPlugin.ATTR_WORKING_DIRECTORY, cmdDetails.getWorkingDir().getAbsolutePath());
-		}
-		if (cmdDetails.getEnvp() != null) {
-			String[] envp = cmdDetails.getEnvp();
-			Arrays.sort(envp);
-			process.setAttribute(DebugPlugin.ATTR_ENVIRONMENT, String.join(String.valueOf('\n'), envp));
-		}
-		List<File> processTempFiles = cmdDetails.getCommandLineShortener().getProcessTempFiles();
-		if (!processTempFiles.isEmpty()) {
-			String tempFiles = processTempFiles.stream().map(File::getAbsolutePath).collect(Collectors.joining(File.pathSeparator));
-			process.setAttribute(LaunchingPlugin.ATTR_LAUNCH_TEMP_FILES, tempFiles);
+			// check for cancellation
+			if (subMonitor.isCanceled()) {
+				p.destroy();
+				return;
+			}
+			String timestamp = DateFormat.getDateTimeInstance(DateFormat.MEDIUM, DateFormat.MEDIUM).format(new Date(System.currentTimeMillis()));
+			IProcess process = newProcess(launch, p, renderProcessLabel(p, cmdLine, timestamp), getDefaultProcessMap());
+			process.setAttribute(DebugPlugin.ATTR_PATH, cmdLine[0]);
+			process.setAttribute(IProcess.ATTR_CMDLINE, renderCommandLine(cmdLine));
+			String ltime = launch.getAttribute(DebugPlugin.ATTR_LAUNCH_TIMESTAMP);
+			process.setAttribute(DebugPlugin.ATTR_LAUNCH_TIMESTAMP, ltime != null ? ltime : timestamp);
+			if (cmdDetails.getWorkingDir() != null) {
+				process.setAttribute(DebugPlugin.ATTR_WORKING_DIRECTORY, cmdDetails.getWorkingDir().getAbsolutePath());
+			}
+			if (cmdDetails.getEnvp() != null) {
+				String[] envp = cmdDetails.getEnvp();
+				Arrays.sort(envp);
+				process.setAttribute(DebugPlugin.ATTR_ENVIRONMENT, String.join(String.valueOf('\n'), envp));
+			}
+			List<File> processTempFiles = cmdDetails.getCommandLineShortener().getProcessTempFiles();
+			if (!processTempFiles.isEmpty()) {
+				String tempFiles = processTempFiles.stream().map(File::getAbsolutePath).collect(Collectors.joining(File.pathSeparator));
+				process.setAttribute(LaunchingPlugin.ATTR_LAUNCH_TEMP_FILES, tempFiles);
+			}
+			started = true;
+		} finally {
+			if (!started) {
+				cmdDetails.getCommandLineShortener().releaseProcessTempFiles();
+			}
 		}
 		subMonitor.worked(1);
 		subMonitor.done();
@@ -25,18 +25,27 @@ import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.Attributes;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
 import java.util.stream.Stream;
 
 import org.eclipse.core.runtime.CoreException;
@@ -82,6 +91,14 @@ public class StandardVMType extends AbstractVMInstallType {
 	private static final String RELEASE_FILE = "release"; //$NON-NLS-1$
 	private static final String JAVA_VERSION = "JAVA_VERSION"; //$NON-NLS-1$
 	private static final String JRT_FS_JAR = "jrt-fs.jar"; //$NON-NLS-1$
+	private static final String MODULES = "modules"; //$NON-NLS-1$
+
+	/**
+	 * Magic number and supported major version of the header of the
+	 * <code>lib/modules</code> runtime image of modular installs
+	 */
+	private static final int JIMAGE_MAGIC = 0xCAFEDADA;
+	private static final int JIMAGE_MAJOR_VERSION = 1;
 
 	public static final String ID_STANDARD_VM_TYPE = "org.eclipse.jdt.internal.debug.ui.launcher.StandardVMType"; //$NON-NLS-1$
 
@@ -109,7 +126,14 @@ public class StandardVMType extends AbstractVMInstallType {
 	 * Map of the install path for which we were unable to generate
 	 * the library info during this session.
 	 */
-	private static Map<String, LibraryInfo> fgFailedInstallPath = new HashMap<>();
+	private static Map<String, LibraryInfo> fgFailedInstallPath = new ConcurrentHashMap<>();
+
+	/**
+	 * Library information being generated, by install path. Concurrent
+	 * requests for the same install wait for the probe in progress instead of
+	 * starting their own.
+	 */
+	private static final Map<String, CompletableFuture<LibraryInfo>> fgLibraryInfoProbes = new ConcurrentHashMap<>();
 
 	/**
 	 * Cache for default library locations. See {@link #getDefaultLibraryLocations(File)}
@@ -118,7 +142,7 @@ public class StandardVMType extends AbstractVMInstallType {
 	 *
 	 * @since 3.7
 	 */
-	private static Map<String, List<LibraryLocation>> fgDefaultLibLocs = new HashMap<>();
+	private static Map<String, List<LibraryLocation>> fgDefaultLibLocs = new ConcurrentHashMap<>();
 
 	/**
 	 * The list of locations in which to look for the java executable in candidate
@@ -209,29 +233,63 @@ public class StandardVMType extends AbstractVMInstallType {
 	 * @param javaExecutable the Java executable file
 	 * @return the {@link LibraryInfo} for the home and executable path or an empty object, never <code>null</code>
 	 */
-	protected synchronized LibraryInfo getLibraryInfo(File javaHome, File javaExecutable) {
+	protected LibraryInfo getLibraryInfo(File javaHome, File javaExecutable) {
 		String installPath = javaHome.getAbsolutePath();
 		LibraryInfo info = LaunchingPlugin.getLibraryInfo(installPath);
-		if (info == null || LaunchingPlugin.timeStampChanged(installPath)) {
-			info = fgFailedInstallPath.get(installPath);
-			if (info == null) {
-				String version = readReleaseVersion(javaHome);
-				if (JavaCore.compareJavaVersions(version, JavaCore.VERSION_1_8) > 0) {
-					info = new LibraryInfo(version, new String[0], new String[0], new String[0]);
-					LaunchingPlugin.setLibraryInfo(installPath, info);
-				} else {
+		if (info != null && !LaunchingPlugin.timeStampChanged(installPath)) {
+			return info;
+		}
+		CompletableFuture<LibraryInfo> probe = new CompletableFuture<>();
+		CompletableFuture<LibraryInfo> inProgress = fgLibraryInfoProbes.putIfAbsent(installPath, probe);
+		if (inProgress != null) {
+			try {
+				return inProgress.join();
+			} catch (CompletionException e) {
+				if (e.getCause() instanceof RuntimeException) {
+					throw (RuntimeException) e.getCause();
+				}
+				throw e;
+			}
+		}
+		try {
+			info = probeLibraryInfo(installPath, javaHome, javaExecutable);
+			probe.complete(info);
+			return info;
+		} catch (RuntimeException | Error e) {
+			probe.completeExceptionally(e);
+			throw e;
+		} finally {
+			fgLibraryInfoProbes.remove(installPath, probe);
+		}
+	}
+
+	/**
+	 * Generates and stores library information for the given install, unless
+	 * generating it already failed during this session.
+	 *
+	 * @param installPath the absolute path of the Java home folder
+	 * @param javaHome the Java home folder
+	 * @param javaExecutable the Java executable file
+	 * @return the {@link LibraryInfo} for the home and executable path or an empty object, never <code>null</code>
+	 */
+	private LibraryInfo probeLibraryInfo(String installPath, File javaHome, File javaExecutable) {
+		LibraryInfo info = fgFailedInstallPath.get(installPath);
+		if (info == null) {
+			info = readModularLibraryInfo(javaHome);
+			if (info != null) {
+				LaunchingPlugin.setLibraryInfo(installPath, info);
+			} else {
+				info = generateLibraryInfo(javaHome, javaExecutable);
+				if (info == null) {
+					// Bug 536943: try again in case we have a timing problem with process execution and output retrieval
 					info = generateLibraryInfo(javaHome, javaExecutable);
-					if (info == null) {
-						// Bug 536943: try again in case we have a timing problem with process execution and output retrieval
-						info = generateLibraryInfo(javaHome, javaExecutable);
-					}
-					if (info == null) {
-						info = getDefaultLibraryInfo(javaHome);
-						fgFailedInstallPath.put(installPath, info);
-					} else {
-						// only persist if we were able to generate information - see bug 70011
-						LaunchingPlugin.setLibraryInfo(installPath, info);
-					}
+				}
+				if (info == null) {
+					info = getDefaultLibraryInfo(javaHome);
+					fgFailedInstallPath.put(installPath, info);
+				} else {
+					// only persist if we were able to generate information - see bug 70011
+					LaunchingPlugin.setLibraryInfo(installPath, info);
 				}
 			}
 		}
@@ -647,6 +705,87 @@ public class StandardVMType extends AbstractVMInstallType {
 		return Status.error(LaunchingMessages.StandardVMType_Not_a_JDK_root__System_library_was_not_found__1);
 	}
 
+	/**
+	 * Reads library information of a modular install from its files, without
+	 * running it. The layout is recognized by the header of the
+	 * <code>lib/modules</code> runtime image, and the version is read from the
+	 * <code>release</code> file or else from the manifest of
+	 * <code>jrt-fs.jar</code>. The system libraries of modular installs are
+	 * provided through <code>jrt-fs.jar</code>, so the returned information has
+	 * no boot path, extension or endorsed directories.
+	 *
+	 * @param javaHome the Java home folder
+	 * @return library info or <code>null</code> if the install does not have a
+	 *         known modular layout
+	 */
+	public LibraryInfo readModularLibraryInfo(File javaHome) {
+		Path home = javaHome.getAbsoluteFile().toPath();
+		if (!isRuntimeImage(home.resolve(LIB).resolve(MODULES))) {
+			return null;
+		}
+		String version = readReleaseVersion(javaHome);
+		if (version.isEmpty()) {
+			version = readJrtFsVersion(home);
+		}
+		if (version == null || version.isEmpty() || JavaCore.compareJavaVersions(version, JavaCore.VERSION_1_8) <= 0) {
+			return null;
+		}
+		return new LibraryInfo(version, new String[0], new String[0], new String[0]);
+	}
+
+	/**
+	 * Returns whether the given file starts with the header of a runtime image
+	 * of a supported version.
+	 */
+	private static boolean isRuntimeImage(Path modules) {
+		if (!Files.isRegularFile(modules)) {
+			return false;
+		}
+		try (FileChannel channel = FileChannel.open(modules, StandardOpenOption.READ)) {
+			ByteBuffer header = ByteBuffer.allocate(8);
+			while (header.hasRemaining() && channel.read(header) >= 0) {
+				// read the magic number and version
+			}
+			if (header.hasRemaining()) {
+				return false;
+			}
+			// the image is written in the byte order of the platform it was built for
+			header.order(ByteOrder.LITTLE_ENDIAN);
+			if (header.getInt(0) != JIMAGE_MAGIC) {
+				header.order(ByteOrder.BIG_ENDIAN);
+				if (header.getInt(0) != JIMAGE_MAGIC) {
+					return false;
+				}
+			}
+			return header.getInt(4) >>> 16 == JIMAGE_MAJOR_VERSION;
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Returns the implementation version declared in the manifest of the
+	 * <code>jrt-fs.jar</code> of the given install, or <code>null</code>.
+	 */
+	private static String readJrtFsVersion(Path javaHome) {
+		Path jrtFs = javaHome.resolve(LIB).resolve(JRT_FS_JAR);
+		if (!Files.isRegularFile(jrtFs)) {
+			jrtFs = javaHome.resolve(JRT_FS_JAR);
+			if (!Files.isRegularFile(jrtFs)) {
+				return null;
+			}
+		}
+		try (JarFile jar = new JarFile(jrtFs.toFile())) {
+			Manifest manifest = jar.getManifest();
+			if (manifest != null) {
+				return manifest.getMainAttributes().getValue(Attributes.Name.IMPLEMENTATION_VERSION);
+			}
+		} catch (IOException e) {
+			LaunchingPlugin.log(e);
+		}
+		return null;
+	}
+
 	/**
 	 * Generates library information for the given java executable. A main
 	 * program is run (<code>org.eclipse.jdt.internal.launching.support.
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015-2016 Igor Fedorenko
+ * Copyright (c) 2015, 2026 Igor Fedorenko
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.launching.sourcelookup.advanced;
 
+import java.io.File;
+import java.util.Collection;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -67,6 +69,8 @@ public class AdvancedSourceLookupSupport {
 		finally {
 			workspaceProjectsLock.unlock();
 		}
+
+		FileHashing.saveIndex();
 	}
 
 	public static void schedule(IRunnableWithProgress task) {
@@ -81,6 +85,7 @@ public class AdvancedSourceLookupSupport {
 		// this is convoluted, but I could not think of a simpler implementation
 
 		// when monitor==null, we are most likely on UI thread and must not block, hence immediate return
+		// the instance is published while it is initialized, callers check WorkspaceProjectSourceContainers#isInitialized() when they miss
 		if (monitor == null || workspaceProjects != null) {
 			return workspaceProjects;
 		}
@@ -103,10 +108,22 @@ public class AdvancedSourceLookupSupport {
 		try {
 			if (workspaceProjects == null) {
 				WorkspaceProjectSourceContainers _workspaceProjects = new WorkspaceProjectSourceContainers();
-				_workspaceProjects.initialize(monitor);
 
-				// assign only fully initialized instance, otherwise monitor==null branch above may misbehave
+				// publish before initialization so that source lookup of the first debug session does not wait for the whole workspace to be
+				// indexed when the projects it needs are already known
 				workspaceProjects = _workspaceProjects;
+				boolean initialized = false;
+				try {
+					_workspaceProjects.initialize(monitor);
+					initialized = true;
+				}
+				finally {
+					if (!initialized) {
+						// canceled or failed, the next request starts over
+						workspaceProjects = null;
+						_workspaceProjects.close();
+					}
+				}
 			}
 		}
 		finally {
@@ -121,6 +138,29 @@ public class AdvancedSourceLookupSupport {
 		return "-javaagent:\"" + getJavaagentLocation() + "\""; //$NON-NLS-1$ //$NON-NLS-2$
 	}
 
+	/**
+	 * Returns {@code -javaagent} jvm launch argument which only instruments classes from the given locations, or from all locations if none are
+	 * given, and not from the excluded locations. Locations are folders or jars, and match all classes whose location starts with them.
+	 */
+	public static String getJavaagentString(Collection<File> includes, Collection<File> excludes) {
+		StringBuilder sb = new StringBuilder(getJavaagentString());
+		char separator = '=';
+		for (File include : includes) {
+			sb.append(separator).append("include=").append(toAgentLocation(include)); //$NON-NLS-1$
+			separator = ',';
+		}
+		for (File exclude : excludes) {
+			sb.append(separator).append("exclude=").append(toAgentLocation(exclude)); //$NON-NLS-1$
+			separator = ',';
+		}
+		return sb.toString();
+	}
+
+	private static String toAgentLocation(File location) {
+		// commas separate agent options, spaces and quotes are escaped by the URI already
+		return location.getAbsoluteFile().toURI().toASCIIString().replace(",", "%2C"); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
 	public static String getJavaagentLocation() {
 		return LaunchingPlugin.getFileInPlugin(new Path("lib/javaagent-shaded.jar")).getAbsolutePath(); //$NON-NLS-1$
 	}
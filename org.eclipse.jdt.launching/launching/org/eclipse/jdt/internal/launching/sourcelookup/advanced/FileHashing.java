@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2022 Igor Fedorenko
+ * Copyright (c) 2011, 2026 Igor Fedorenko
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,22 +13,47 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.launching.sourcelookup.advanced;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.internal.launching.LaunchingPlugin;
 
 /**
  * Helpers to compute file content digests. Provides long-lived hasher instance with bounded cache of most recently requested files, which is useful
  * to handle source lookup requests. Also provides factory of hasher instances with unbounded caches, which is useful to perform bulk workspace
  * indexing.
+ * <p>
+ * Hashes computed by all hashers are also recorded in an index persisted in the plug-in state location, so that files whose size and modification
+ * time did not change are not hashed again after a restart.
+ * <p>
+ * Hashes are only used to recognize copies of the same file, so a fast non-cryptographic digest is used by default. The digest is selected with the
+ * {@value #DIGEST_PROPERTY} system property, see {@link Digest}.
  */
 public class FileHashing {
 
@@ -36,9 +61,51 @@ public class FileHashing {
 		Object hash(File file);
 	}
 
+	/**
+	 * Digests which can be used to hash files.
+	 */
+	public static enum Digest {
+		/**
+		 * SHA-256 of the file content.
+		 */
+		SHA256,
+		/**
+		 * 128-bit MurmurHash3 (x64 variant) of the file content.
+		 */
+		MURMUR3,
+		/**
+		 * For jar and zip files, 128-bit MurmurHash3 of the file size and central directory, which holds the name, sizes and CRC-32 of each entry.
+		 * Only the end of large archives is read, at the cost of not telling apart archives which differ only outside their entries. Other files are
+		 * hashed as with {@link #MURMUR3}.
+		 */
+		JAR_DIRECTORY
+	}
+
+	/**
+	 * System property selecting the {@link Digest} used to hash files, one of {@code sha256}, {@code murmur3} (the default) or {@code jarDirectory}.
+	 */
+	public static final String DIGEST_PROPERTY = "jdt.debug.launching.fileHashing"; //$NON-NLS-1$
+
+	// digest used by all hashers
+	private static final Digest DIGEST = getConfiguredDigest();
+
+	private static Digest getConfiguredDigest() {
+		String digest = System.getProperty(DIGEST_PROPERTY);
+		if ("sha256".equalsIgnoreCase(digest)) { //$NON-NLS-1$
+			return Digest.SHA256;
+		}
+		if ("jarDirectory".equalsIgnoreCase(digest)) { //$NON-NLS-1$
+			return Digest.JAR_DIRECTORY;
+		}
+		return Digest.MURMUR3;
+	}
+
+	// persistent index shared by all hashers
+	private static final HashIndex INDEX = new HashIndex();
+
 	// default hasher with bounded cache.
 	// this is used when performing source lookup and number of unique files requested during the same debugging session is likely to be small.
-	private static final HasherImpl HASHER = new HasherImpl(5000);
+	private static final HasherImpl HASHER = new HasherImpl(INDEX, 5000);
 
 	/**
 	 * Returns default long-lived Hasher instance with bounded hash cache.
@@ -54,6 +121,24 @@ public class FileHashing {
 		return new HasherImpl(HASHER);
 	}
 
+	/**
+	 * Writes the hashes computed since the persistent index was last saved to the plug-in state location.
+	 */
+	public static void saveIndex() {
+		INDEX.save();
+	}
+
+	/**
+	 * Hashes the given file with the given digest, bypassing all caches.
+	 *
+	 * @return the hash of the file, never {@code null}
+	 * @throws IOException
+	 *             if the file cannot be read
+	 */
+	public static Object hash(File file, Digest digest) throws IOException {
+		return computeHash(file, digest);
+	}
+
 	private static class CacheKey {
 		public final Object file;
 
@@ -128,7 +213,10 @@ public class FileHashing {
 
 		private final Map<CacheKey, HashCode> cache;
 
-		public HasherImpl(int cacheSize) {
+		private final HashIndex index;
+
+		public HasherImpl(HashIndex index, int cacheSize) {
+			this.index = index;
 			this.cache = new LinkedHashMap<>() {
 				@Override
 				protected boolean removeEldestEntry(Map.Entry<CacheKey, HashCode> eldest) {
@@ -138,6 +226,7 @@ public class FileHashing {
 		}
 
 		public HasherImpl(HasherImpl initial) {
+			this.index = initial.index;
 			this.cache = new LinkedHashMap<>(initial.cache);
 		}
 
@@ -151,7 +240,7 @@ public class FileHashing {
 				if (!attributes.isRegularFile()) {
 					return null;
 				}
-				Object key= file.getAbsoluteFile().toPath().toAbsolutePath().normalize();
+				Path key = file.getAbsoluteFile().toPath().toAbsolutePath().normalize();
 				CacheKey cacheKey = new CacheKey(key, attributes);
 				synchronized (cache) {
 					HashCode hashCode = cache.get(cacheKey);
@@ -160,7 +249,11 @@ public class FileHashing {
 					}
 				}
 				// don't hold cache lock while hashing file
-				HashCode hashCode = computeHash(file);
+				HashCode hashCode = index.get(key.toString(), attributes);
+				if (hashCode == null) {
+					hashCode = computeHash(file, DIGEST);
+					index.put(key.toString(), attributes, hashCode);
+				}
 				synchronized (cache) {
 					cache.put(cacheKey, hashCode);
 				}
@@ -173,7 +266,219 @@ public class FileHashing {
 
 	}
 
-	private static HashCode computeHash(File file) throws IOException {
+	private static class IndexEntry {
+		final long length;
+
+		final long lastModified;
+
+		final HashCode hashCode;
+
+		// number of sessions in a row the entry was not used in, when loaded
+		final int idleSessions;
+
+		volatile boolean used;
+
+		IndexEntry(long length, long lastModified, HashCode hashCode, int idleSessions) {
+			this.length = length;
+			this.lastModified = lastModified;
+			this.hashCode = hashCode;
+			this.idleSessions = idleSessions;
+		}
+
+		boolean matches(BasicFileAttributes attributes) {
+			return length == attributes.size() && lastModified == attributes.lastModifiedTime().toMillis();
+		}
+	}
+
+	/**
+	 * Index of file hashes by normalized absolute path, persisted in the plug-in state location. The index file starts with a magic number, a
+	 * format version, the digest of the hashes and the number of entries; each entry then holds the UTF-8 path, the file length and modification time, the number of
+	 * sessions the entry was not used in and the hash bytes. The index file is read with buffered stream reads when loaded on first use, rather
+	 * than memory mapped, so that it is not kept locked until the mapping is garbage collected and can be replaced when saved. Entries not used for
+	 * {@link #MAX_IDLE_SESSIONS} sessions are dropped, so that the index does not grow with files which were deleted or are no longer referenced.
+	 */
+	private static class HashIndex {
+
+		private static final int MAGIC = 0x4A444849;
+
+		private static final int VERSION = 2;
+
+		private static final int MAX_IDLE_SESSIONS = 10;
+
+		private static final String FILE_NAME = "fileHashes.idx"; //$NON-NLS-1$
+
+		private final Object lock = new Object();
+
+		// null until loaded
+		private volatile Map<String, IndexEntry> entries;
+
+		// whether the index changed since it was last saved, including the idle session counts of the loaded entries
+		private volatile boolean dirty;
+
+		public HashCode get(String path, BasicFileAttributes attributes) {
+			IndexEntry entry = entries().get(path);
+			if (entry == null || !entry.matches(attributes)) {
+				return null;
+			}
+			if (!entry.used) {
+				entry.used = true;
+				dirty = true;
+			}
+			return entry.hashCode;
+		}
+
+		public void put(String path, BasicFileAttributes attributes, HashCode hashCode) {
+			IndexEntry entry = new IndexEntry(attributes.size(), attributes.lastModifiedTime().toMillis(), hashCode, 0);
+			entry.used = true;
+			entries().put(path, entry);
+			dirty = true;
+		}
+
+		private Map<String, IndexEntry> entries() {
+			Map<String, IndexEntry> result = entries;
+			if (result == null) {
+				synchronized (lock) {
+					result = entries;
+					if (result == null) {
+						result = new ConcurrentHashMap<>();
+						Path indexFile = getIndexFile();
+						if (indexFile != null) {
+							try {
+								load(indexFile, result);
+							}
+							catch (NoSuchFileException e) {
+								// nothing persisted yet
+							}
+							catch (IOException | RuntimeException e) {
+								result.clear(); // unreadable or corrupt index, start over
+							}
+						}
+						// loaded entries need their idle session count updated
+						dirty = !result.isEmpty();
+						entries = result;
+					}
+				}
+			}
+			return result;
+		}
+
+		private static void load(Path file, Map<String, IndexEntry> result) throws IOException {
+			try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 64 * 1024))) {
+				if (in.readInt() != MAGIC || in.readInt() != VERSION || in.readInt() != DIGEST.ordinal()) {
+					return;
+				}
+				int count = in.readInt();
+				try {
+					for (int i = 0; i < count; i++) {
+						byte[] path = new byte[in.readUnsignedShort()];
+						in.readFully(path);
+						long length = in.readLong();
+						long lastModified = in.readLong();
+						int idleSessions = in.readUnsignedByte();
+						byte[] hash = new byte[in.readUnsignedByte()];
+						in.readFully(hash);
+						result.put(new String(path, StandardCharsets.UTF_8), new IndexEntry(length, lastModified, new HashCode(hash), idleSessions));
+					}
+				}
+				catch (EOFException e) {
+					throw new IOException("Truncated index " + file, e); //$NON-NLS-1$
+				}
+			}
+		}
+
+		public void save() {
+			Map<String, IndexEntry> current = entries;
+			if (current == null || !dirty) {
+				return;
+			}
+			Path indexFile = getIndexFile();
+			if (indexFile == null) {
+				return;
+			}
+			synchronized (lock) {
+				dirty = false;
+				try {
+					write(indexFile, current);
+				}
+				catch (IOException e) {
+					dirty = true;
+					LaunchingPlugin.log(e);
+				}
+			}
+		}
+
+		private static void write(Path file, Map<String, IndexEntry> entries) throws IOException {
+			Path temp = Files.createTempFile(file.getParent(), FILE_NAME, null);
+			try {
+				List<Map.Entry<byte[], IndexEntry>> retained = new ArrayList<>(entries.size());
+				for (Map.Entry<String, IndexEntry> e : entries.entrySet()) {
+					IndexEntry entry = e.getValue();
+					byte[] path = e.getKey().getBytes(StandardCharsets.UTF_8);
+					if ((entry.used || entry.idleSessions < MAX_IDLE_SESSIONS) && path.length <= 0xffff) {
+						retained.add(new SimpleImmutableEntry<>(path, entry));
+					}
+				}
+				try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp), 64 * 1024))) {
+					out.writeInt(MAGIC);
+					out.writeInt(VERSION);
+					out.writeInt(DIGEST.ordinal());
+					out.writeInt(retained.size());
+					for (Map.Entry<byte[], IndexEntry> e : retained) {
+						IndexEntry entry = e.getValue();
+						out.writeShort(e.getKey().length);
+						out.write(e.getKey());
+						out.writeLong(entry.length);
+						out.writeLong(entry.lastModified);
+						out.writeByte(entry.used ? 0 : entry.idleSessions + 1);
+						out.writeByte(entry.hashCode.bytes.length);
+						out.write(entry.hashCode.bytes);
+					}
+				}
+				try {
+					Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+				}
+				catch (AtomicMoveNotSupportedException e) {
+					Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+				}
+			}
+			finally {
+				Files.deleteIfExists(temp);
+			}
+		}
+
+		private static Path getIndexFile() {
+			LaunchingPlugin plugin = LaunchingPlugin.getDefault();
+			if (plugin == null) {
+				return null;
+			}
+			return plugin.getStateLocation().append(FILE_NAME).toFile().toPath();
+		}
+	}
+
+	// large reads reduce the number of system calls when hashing jars
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private static HashCode computeHash(File file, Digest digest) throws IOException {
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			switch (digest) {
+				case SHA256:
+					return new HashCode(sha256(channel));
+				case JAR_DIRECTORY:
+					String name = file.getName().toLowerCase(Locale.ROOT);
+					if (name.endsWith(".jar") || name.endsWith(".zip")) { //$NON-NLS-1$ //$NON-NLS-2$
+						byte[] hash = hashCentralDirectory(channel);
+						if (hash != null) {
+							return new HashCode(hash);
+						}
+					}
+					return new HashCode(murmur3(channel, 0, channel.size(), 0, 0));
+				default:
+					return new HashCode(murmur3(channel, 0, channel.size(), 0, 0));
+			}
+		}
+	}
+
+	private static byte[] sha256(FileChannel channel) throws IOException {
 		MessageDigest digest;
 		try {
 			digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
@@ -181,14 +486,183 @@ public class FileHashing {
 		catch (NoSuchAlgorithmException e) {
 			throw new IllegalStateException("Unsupported JVM", e); //$NON-NLS-1$
 		}
-		byte[] buf = new byte[4096];
-		try (InputStream is = new FileInputStream(file)) {
-			int len;
-			while ((len = is.read(buf)) > 0) {
-				digest.update(buf, 0, len);
+		ByteBuffer buf = ByteBuffer.allocate(BUFFER_SIZE);
+		while (channel.read(buf) != -1) {
+			buf.flip();
+			digest.update(buf);
+			buf.clear();
+		}
+		return digest.digest();
+	}
+
+	// zip end of central directory record, see section 4.3.16 of the zip file format specification
+	private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+
+	private static final int END_OF_CENTRAL_DIRECTORY_SIZE = 22;
+
+	private static final int CENTRAL_DIRECTORY_HEADER_SIGNATURE = 0x02014b50;
+
+	// distinguishes central directory hashes from content hashes of the same bytes
+	private static final long CENTRAL_DIRECTORY_SEED = 0x6a61724469724c6cL;
+
+	/**
+	 * Returns the hash of the size and central directory of the given zip file, or {@code null} if the file is not a zip file or uses zip64
+	 * extensions.
+	 */
+	private static byte[] hashCentralDirectory(FileChannel channel) throws IOException {
+		long size = channel.size();
+		int tailLength = (int) Math.min(size, END_OF_CENTRAL_DIRECTORY_SIZE + 0xffff); // the record ends with a comment of up to 64k
+		if (tailLength < END_OF_CENTRAL_DIRECTORY_SIZE) {
+			return null;
+		}
+		ByteBuffer tail = ByteBuffer.allocate(tailLength).order(ByteOrder.LITTLE_ENDIAN);
+		long tailStart = size - tailLength;
+		while (tail.hasRemaining()) {
+			if (channel.read(tail, tailStart + tail.position()) == -1) {
+				return null;
+			}
+		}
+		for (int i = tailLength - END_OF_CENTRAL_DIRECTORY_SIZE; i >= 0; i--) {
+			if (tail.getInt(i) != END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+				continue;
+			}
+			long directorySize = tail.getInt(i + 12) & 0xffffffffL;
+			long directoryOffset = tail.getInt(i + 16) & 0xffffffffL;
+			if (directoryOffset == 0xffffffffL || directorySize == 0xffffffffL || directoryOffset + directorySize > tailStart + i) {
+				return null; // zip64 or not a zip file after all
+			}
+			if (directorySize > 0) {
+				ByteBuffer signature = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN);
+				channel.read(signature, directoryOffset);
+				if (signature.position() < 4 || signature.getInt(0) != CENTRAL_DIRECTORY_HEADER_SIGNATURE) {
+					return null;
+				}
+			}
+			return murmur3(channel, directoryOffset, directorySize, size, CENTRAL_DIRECTORY_SEED);
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the 128-bit MurmurHash3 of the given range of the channel, streamed through a buffer. Note that memory mapping is not used as mapped
+	 * files stay locked on some platforms until the mapping is garbage collected, which would prevent build tools from updating them.
+	 */
+	private static byte[] murmur3(FileChannel channel, long position, long length, long seed1, long seed2) throws IOException {
+		Murmur3 murmur = new Murmur3(seed1, seed2);
+		ByteBuffer buf = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+		long remaining = length;
+		while (remaining > 0) {
+			if (buf.remaining() > remaining) {
+				buf.limit(buf.position() + (int) remaining);
+			}
+			int read = channel.read(buf, position);
+			if (read == -1) {
+				break; // file truncated while hashing
+			}
+			position += read;
+			remaining -= read;
+			buf.flip();
+			murmur.update(buf);
+			buf.compact();
+		}
+		buf.flip();
+		return murmur.finish(buf);
+	}
+
+	/**
+	 * Streaming 128-bit MurmurHash3, x64 variant.
+	 */
+	private static class Murmur3 {
+		private static final long C1 = 0x87c37b91114253d5L;
+
+		private static final long C2 = 0x4cf5ad432745937fL;
+
+		private long h1;
+
+		private long h2;
+
+		private long length;
+
+		Murmur3(long seed1, long seed2) {
+			this.h1 = seed1;
+			this.h2 = seed2;
+		}
+
+		/**
+		 * Consumes all complete 16 byte blocks of the given little-endian buffer.
+		 */
+		void update(ByteBuffer buf) {
+			while (buf.remaining() >= 16) {
+				long k1 = buf.getLong();
+				long k2 = buf.getLong();
+				length += 16;
+
+				h1 ^= mixK1(k1);
+				h1 = Long.rotateLeft(h1, 27);
+				h1 += h2;
+				h1 = h1 * 5 + 0x52dce729;
+
+				h2 ^= mixK2(k2);
+				h2 = Long.rotateLeft(h2, 31);
+				h2 += h1;
+				h2 = h2 * 5 + 0x38495ab5;
+			}
+		}
+
+		/**
+		 * Consumes the remaining bytes of the given buffer, less than 16, and returns the hash.
+		 */
+		byte[] finish(ByteBuffer buf) {
+			int remaining = buf.remaining();
+			int position = buf.position();
+			length += remaining;
+			long k1 = 0;
+			long k2 = 0;
+			for (int i = remaining - 1; i >= 8; i--) {
+				k2 ^= (buf.get(position + i) & 0xffL) << ((i - 8) * 8);
+			}
+			for (int i = Math.min(remaining, 8) - 1; i >= 0; i--) {
+				k1 ^= (buf.get(position + i) & 0xffL) << (i * 8);
+			}
+			if (remaining > 8) {
+				h2 ^= mixK2(k2);
 			}
+			if (remaining > 0) {
+				h1 ^= mixK1(k1);
+			}
+
+			h1 ^= length;
+			h2 ^= length;
+			h1 += h2;
+			h2 += h1;
+			h1 = fmix(h1);
+			h2 = fmix(h2);
+			h1 += h2;
+			h2 += h1;
+
+			return ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN).putLong(h1).putLong(h2).array();
+		}
+
+		private static long mixK1(long k1) {
+			k1 *= C1;
+			k1 = Long.rotateLeft(k1, 31);
+			return k1 * C2;
+		}
+
+		private static long mixK2(long k2) {
+			k2 *= C2;
+			k2 = Long.rotateLeft(k2, 33);
+			return k2 * C1;
+		}
+
+		private static long fmix(long k) {
+			k ^= k >>> 33;
+			k *= 0xff51afd7ed558ccdL;
+			k ^= k >>> 33;
+			k *= 0xc4ceb9fe1a85ec53L;
+			k ^= k >>> 33;
+			return k;
 		}
-		return new HashCode(digest.digest());
 	}
 
 }
@@ -29,6 +29,13 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 import org.eclipse.core.resources.ResourcesPlugin;
@@ -36,6 +43,7 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IConfigurationElement;
 import org.eclipse.core.runtime.IExtensionRegistry;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.debug.core.sourcelookup.ISourceContainer;
@@ -62,7 +70,8 @@ import org.eclipse.jdt.launching.sourcelookup.containers.PackageFragmentRootSour
  *
  * <p>
  * The factory maintains up-to-date registry of workspace projects and their classpath entries and can be used to create source containers fast enough
- * to be used from UI thread.
+ * to be used from UI thread. Projects are described and their classpath entries hashed on several threads, and the registry can be queried while it
+ * is initialized; see {@link #isInitialized()}.
  */
 public class WorkspaceProjectSourceContainers {
 	private final IElementChangedListener changeListener = new IElementChangedListener() {
@@ -190,29 +199,43 @@ public class WorkspaceProjectSourceContainers {
 	}
 
 	/**
-	 * Guards concurrent access to {@link #locations}, {@link #hashes} and {@link #projects}. Necessary because source lookup queries and java model
-	 * changes are processed on different threads.
-	 *
-	 * @TODO consider using ConcurrentMaps instead of explicit locking.
+	 * Maximum number of threads used to describe projects and hash their classpath entries. Indexing is mostly I/O bound, more threads do not help.
 	 */
-	private final Object lock = new Object() {
-	};
+	private static final int MAX_INDEXING_THREADS = 4;
+
+	// the maps below are concurrent because source lookup queries, java model changes and indexing are processed on different threads
 
 	/**
 	 * Maps project classes location to project description.
 	 */
-	private final Map<File, JavaProjectDescription> locations = new HashMap<>();
+	private final Map<File, JavaProjectDescription> locations = new ConcurrentHashMap<>();
 
 	/**
 	 * Maps project dependency hash to project descriptions. Hash-based source lookup is useful when runtime uses copies of jars used by the
-	 * workspace.
+	 * workspace. Values are concurrent sets, updated atomically with their key.
 	 */
-	private final Map<Object, Collection<JavaProjectDescription>> hashes = new HashMap<>();
+	private final Map<Object, Set<JavaProjectDescription>> hashes = new ConcurrentHashMap<>();
 
 	/**
 	 * Maps java project to project description.
 	 */
-	private final Map<IJavaProject, JavaProjectDescription> projects = new HashMap<>();
+	private final Map<IJavaProject, JavaProjectDescription> projects = new ConcurrentHashMap<>();
+
+	/**
+	 * Released once indexing of the workspace projects completed or failed, or this registry was closed.
+	 */
+	private final CountDownLatch initialized = new CountDownLatch(1);
+
+	/**
+	 * Whether all workspace projects have been indexed and this registry was not closed since.
+	 */
+	private volatile boolean indexed;
+
+	/**
+	 * Describes projects and hashes their classpath entries, for the initial indexing and for java model changes. Idle worker threads terminate,
+	 * so the pool holds no threads between changes.
+	 */
+	private final ForkJoinPool indexingPool = new ForkJoinPool(Math.min(Runtime.getRuntime().availableProcessors(), MAX_INDEXING_THREADS));
 
 	/**
 	 * Creates and returns new source containers for the workspace project identified by the given location. Returns {@code null} if there is no such
@@ -244,17 +267,13 @@ public class WorkspaceProjectSourceContainers {
 	}
 
 	private JavaProjectDescription getProjectByLocation(File projectLocation) {
-		synchronized (lock) {
-			return locations.get(projectLocation);
-		}
+		return locations.get(projectLocation);
 	}
 
 	private Collection<JavaProjectDescription> getProjectsByHash(File projectLocation, FileHashing.Hasher hasher) {
-		Collection<JavaProjectDescription> projects;
-		synchronized (lock) {
-			projects = hashes.get(hasher.hash(projectLocation));
-			return projects != null ? new HashSet<>(projects) : Collections.emptySet();
-		}
+		Object hash = hasher.hash(projectLocation);
+		Set<JavaProjectDescription> projects = hash != null ? hashes.get(hash) : null;
+		return projects != null ? new HashSet<>(projects) : Collections.emptySet();
 	}
 
 	/**
@@ -309,25 +328,121 @@ public class WorkspaceProjectSourceContainers {
 		final IJavaModel javaModel = JavaCore.create(ResourcesPlugin.getWorkspace().getRoot());
 		final IJavaProject[] javaProjects = javaModel.getJavaProjects();
 
-		SubMonitor progress = SubMonitor.convert(monitor, javaProjects.length);
-
-		// TODO this can take significant time for large workspaces, consider running on multiple threads
 		// NB: can't persist state across restarts because java element change events are not delivered when this plugin isn't active
+		// file hashes are persisted though, see FileHashing
+
+		try {
+			addJavaProjects(List.of(javaProjects), monitor);
+			indexed = true;
+		}
+		finally {
+			// release waiters even if indexing failed or was canceled
+			initialized.countDown();
+		}
 
-		Hasher hasher = FileHashing.newHasher(); // short-lived hasher for bulk workspace indexing
+		// hashes of the dependencies of all projects are known now, persist them in case the workbench does not shut down cleanly
+		FileHashing.saveIndex();
+	}
 
-		List<IWorkspaceProjectDescriber> describers = getJavaProjectDescribers();
-		for (IJavaProject project : javaProjects) {
-			addJavaProject(project, describers, hasher, progress.split(1));
+	/**
+	 * Returns whether indexing of the workspace projects is over. Until then, queries are answered from the projects indexed so far.
+	 */
+	public boolean isInitialized() {
+		return initialized.getCount() == 0;
+	}
+
+	/**
+	 * Waits until all workspace projects have been indexed, checking the given monitor for cancellation periodically.
+	 *
+	 * @return {@code true} if all projects have been indexed, {@code false} if indexing failed, this registry was closed, the monitor was canceled
+	 *         or the thread interrupted
+	 */
+	public boolean awaitInitialized(IProgressMonitor monitor) {
+		try {
+			while (!initialized.await(500, TimeUnit.MILLISECONDS)) {
+				if (monitor.isCanceled()) {
+					return false;
+				}
+			}
+			return indexed;
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt(); // restore interrupted status
+			return false;
 		}
 	}
 
 	public void close() {
 		JavaCore.removeElementChangedListener(changeListener);
-		synchronized (lock) {
-			this.locations.clear();
-			this.hashes.clear();
-			this.projects.clear();
+		indexed = false;
+		initialized.countDown();
+		indexingPool.shutdownNow();
+		this.locations.clear();
+		this.hashes.clear();
+		this.projects.clear();
+	}
+
+	/**
+	 * Describes the given projects and hashes their classpath entries on the indexing pool, and adds them to the registry as they are done. A
+	 * single project, as for most java model changes, is added on the calling thread.
+	 */
+	private void addJavaProjects(Collection<IJavaProject> javaProjects, IProgressMonitor monitor) throws CoreException {
+		SubMonitor progress = SubMonitor.convert(monitor, javaProjects.size());
+		if (javaProjects.isEmpty()) {
+			return;
+		}
+
+		Hasher hasher = FileHashing.newHasher(); // short-lived hasher for bulk workspace indexing, safe to share between threads
+
+		List<IWorkspaceProjectDescriber> describers = getJavaProjectDescribers();
+		if (javaProjects.size() == 1) {
+			addJavaProject(javaProjects.iterator().next(), describers, hasher, progress.split(1));
+			return;
+		}
+		List<Future<?>> tasks = new ArrayList<>(javaProjects.size());
+		boolean done = false;
+		try {
+			for (IJavaProject project : javaProjects) {
+				tasks.add(indexingPool.submit(() -> {
+					addJavaProject(project, describers, hasher, null);
+					return null;
+				}));
+			}
+			// progress monitors are not thread safe, report progress from this thread only
+			for (Future<?> task : tasks) {
+				progress.split(1);
+				try {
+					task.get();
+				}
+				catch (ExecutionException e) {
+					Throwable cause = e.getCause();
+					if (cause instanceof CoreException) {
+						throw (CoreException) cause;
+					}
+					if (cause instanceof RuntimeException) {
+						throw (RuntimeException) cause;
+					}
+					if (cause instanceof Error) {
+						throw (Error) cause;
+					}
+					throw new IllegalStateException(cause);
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt(); // restore interrupted status
+					throw new OperationCanceledException();
+				}
+			}
+			done = true;
+		}
+		catch (RejectedExecutionException e) {
+			// closed while indexing
+			throw new OperationCanceledException();
+		}
+		finally {
+			if (!done) {
+				// the pool is shared, drop the projects which were not indexed yet
+				tasks.forEach(task -> task.cancel(false));
+			}
 		}
 	}
 
@@ -362,20 +477,19 @@ public class WorkspaceProjectSourceContainers {
 
 		JavaProjectDescription info = new JavaProjectDescription(locations, hashes, factories, dependencies, dependencyHashes);
 
-		synchronized (this.lock) {
-			for (File location : locations) {
-				this.locations.put(location, info);
-			}
-			for (Object hash : hashes) {
-				Collection<JavaProjectDescription> hashProjects = this.hashes.get(hash);
+		for (File location : locations) {
+			this.locations.put(location, info);
+		}
+		for (Object hash : hashes) {
+			this.hashes.compute(hash, (key, hashProjects) -> {
 				if (hashProjects == null) {
-					hashProjects = new HashSet<>();
-					this.hashes.put(hash, hashProjects);
+					hashProjects = ConcurrentHashMap.newKeySet();
 				}
 				hashProjects.add(info);
-			}
-			this.projects.put(project, info);
+				return hashProjects;
+			});
 		}
+		this.projects.put(project, info);
 
 		SubMonitor.done(monitor);
 	}
@@ -406,21 +520,16 @@ public class WorkspaceProjectSourceContainers {
 		if (project == null) {
 			throw new IllegalArgumentException();
 		}
-		synchronized (lock) {
-			JavaProjectDescription description = projects.remove(project);
-			if (description != null) {
-				for (File location : description.classesLocations) {
-					locations.remove(location);
-				}
-				for (Object hash : description.classesLocationsHashes) {
-					Collection<JavaProjectDescription> hashProjects = hashes.get(hash);
-					if (hashProjects != null) {
-						hashProjects.remove(description);
-						if (hashProjects.isEmpty()) {
-							hashes.remove(hash);
-						}
-					}
-				}
+		JavaProjectDescription description = projects.remove(project);
+		if (description != null) {
+			for (File location : description.classesLocations) {
+				locations.remove(location, description);
+			}
+			for (Object hash : description.classesLocationsHashes) {
+				hashes.computeIfPresent(hash, (key, hashProjects) -> {
+					hashProjects.remove(description);
+					return hashProjects.isEmpty() ? null : hashProjects;
+				});
 			}
 		}
 	}
@@ -432,11 +541,7 @@ public class WorkspaceProjectSourceContainers {
 		for (IJavaProject project : remove) {
 			removeJavaProject(project);
 		}
-		List<IWorkspaceProjectDescriber> describers = getJavaProjectDescribers();
-		Hasher hasher = FileHashing.newHasher();
-		for (IJavaProject project : add) {
-			addJavaProject(project, describers, hasher, progress.split(1));
-		}
+		addJavaProjects(add, progress.split(add.size()));
 	}
 
 }
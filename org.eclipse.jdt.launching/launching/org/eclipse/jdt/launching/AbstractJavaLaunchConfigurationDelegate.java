@@ -67,6 +67,7 @@ import org.eclipse.jdt.internal.launching.JRERuntimeClasspathEntryResolver;
 import org.eclipse.jdt.internal.launching.JavaSourceLookupDirector;
 import org.eclipse.jdt.internal.launching.LaunchingMessages;
 import org.eclipse.jdt.internal.launching.LaunchingPlugin;
+import org.eclipse.jdt.launching.sourcelookup.advanced.AdvancedSourceLookup;
 import org.eclipse.osgi.util.NLS;
 /**
  * Abstract implementation of a Java launch configuration delegate. Provides
@@ -623,7 +624,24 @@ public abstract class AbstractJavaLaunchConfigurationDelegate extends LaunchConf
 		if (!isJavaagentOptionSupported(configuration)) {
 			return ""; //$NON-NLS-1$
 		}
-		return getJavaagentString();
+		List<File> includes = getJavaagentLocations(configuration, AdvancedSourceLookup.ATTR_JAVAAGENT_INCLUDES);
+		List<File> excludes = getJavaagentLocations(configuration, AdvancedSourceLookup.ATTR_JAVAAGENT_EXCLUDES);
+		if (includes.isEmpty() && excludes.isEmpty()) {
+			return getJavaagentString();
+		}
+		return getJavaagentString(includes, excludes);
+	}
+
+	private List<File> getJavaagentLocations(ILaunchConfiguration configuration, String attribute) throws CoreException {
+		List<String> paths = configuration.getAttribute(attribute, Collections.emptyList());
+		List<File> locations = new ArrayList<>(paths.size());
+		for (String path : paths) {
+			String location = VariablesPlugin.getDefault().getStringVariableManager().performStringSubstitution(path);
+			if (!location.isBlank()) {
+				locations.add(new File(location.trim()));
+			}
+		}
+		return locations;
 	}
 
 	private boolean isJavaagentOptionSupported(ILaunchConfiguration configuration) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -75,4 +75,21 @@ public interface IRuntimeClasspathProvider {
 	 */
 	public IRuntimeClasspathEntry[] resolveClasspath(IRuntimeClasspathEntry[] entries, ILaunchConfiguration configuration) throws CoreException;
 
+	/**
+	 * Returns whether the classpath resolved by this provider for the given launch configuration may be reused
+	 * by later launches of the configuration. A resolved classpath is reused as long as the unresolved classpath,
+	 * the classpaths of Java projects, the installed VMs and the value variables do not change. Providers resolving
+	 * the classpath from other state should return <code>false</code>.
+	 * <p>
+	 * The default implementation returns <code>true</code>.
+	 * </p>
+	 *
+	 * @param configuration launch configuration
+	 * @return whether the resolved classpath may be reused
+	 * @since 3.25
+	 */
+	public default boolean isResolvedClasspathReusable(ILaunchConfiguration configuration) {
+		return true;
+	}
+
 }
@@ -96,6 +96,7 @@ import org.eclipse.jdt.internal.launching.JREContainerInitializer;
 import org.eclipse.jdt.internal.launching.JavaSourceLookupUtil;
 import org.eclipse.jdt.internal.launching.LaunchingMessages;
 import org.eclipse.jdt.internal.launching.LaunchingPlugin;
+import org.eclipse.jdt.internal.launching.RuntimeClasspathCache;
 import org.eclipse.jdt.internal.launching.RuntimeClasspathEntry;
 import org.eclipse.jdt.internal.launching.RuntimeClasspathEntryResolver;
 import org.eclipse.jdt.internal.launching.RuntimeClasspathProvider;
@@ -1714,6 +1715,14 @@ public final class JavaRuntime {
 	 * @since 2.0
 	 */
 	public static IRuntimeClasspathEntry[] resolveRuntimeClasspath(IRuntimeClasspathEntry[] entries, ILaunchConfiguration configuration) throws CoreException {
+		RuntimeClasspathCache cache = RuntimeClasspathCache.getDefault();
+		if (cache == null) {
+			return resolveRuntimeClasspath0(entries, configuration);
+		}
+		return cache.resolve(entries, configuration, () -> resolveRuntimeClasspath0(entries, configuration));
+	}
+
+	private static IRuntimeClasspathEntry[] resolveRuntimeClasspath0(IRuntimeClasspathEntry[] entries, ILaunchConfiguration configuration) throws CoreException {
 		IRuntimeClasspathProvider classpathProvider = getClasspathProvider(configuration);
 		if (!isModularConfiguration(configuration)) {
 			return classpathProvider.resolveClasspath(entries, configuration);
@@ -2789,6 +2798,10 @@ public final class JavaRuntime {
 	public static void addVariableResolver(IRuntimeClasspathEntryResolver resolver, String variableName) {
 		Map<String, IRuntimeClasspathEntryResolver> map = getVariableResolvers();
 		map.put(variableName, resolver);
+		RuntimeClasspathCache cache = RuntimeClasspathCache.getDefault();
+		if (cache != null) {
+			cache.invalidate();
+		}
 	}
 
 	/**
@@ -2801,6 +2814,10 @@ public final class JavaRuntime {
 	public static void addContainerResolver(IRuntimeClasspathEntryResolver resolver, String containerIdentifier) {
 		Map<String, IRuntimeClasspathEntryResolver> map = getContainerResolvers();
 		map.put(containerIdentifier, resolver);
+		RuntimeClasspathCache cache = RuntimeClasspathCache.getDefault();
+		if (cache != null) {
+			cache.invalidate();
+		}
 	}
 
 	/**
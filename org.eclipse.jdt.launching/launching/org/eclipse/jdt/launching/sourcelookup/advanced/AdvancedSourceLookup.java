@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011-2016 Igor Fedorenko
+ * Copyright (c) 2011, 2026 Igor Fedorenko
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -32,6 +32,7 @@ import org.eclipse.jdt.core.IClasspathEntry;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.internal.launching.LaunchingPlugin;
 import org.eclipse.jdt.internal.launching.sourcelookup.advanced.AdvancedSourceLookupSupport;
 import org.eclipse.jdt.internal.launching.sourcelookup.advanced.IJDIHelpers;
 
@@ -44,6 +45,25 @@ import org.eclipse.jdt.internal.launching.sourcelookup.advanced.IJDIHelpers;
 public class AdvancedSourceLookup {
 	private static final IWorkspaceRoot root = ResourcesPlugin.getWorkspace().getRoot();
 
+	/**
+	 * Launch configuration attribute key. The value is a list of folders and jars, possibly containing string variables, whose classes are
+	 * instrumented by the advanced source lookup javaagent. When not set or empty, classes from all locations are instrumented except excluded
+	 * ones. Classes that are not instrumented are looked up with the standard source lookup only.
+	 *
+	 * @see #ATTR_JAVAAGENT_EXCLUDES
+	 * @since 3.25
+	 */
+	public static final String ATTR_JAVAAGENT_INCLUDES = LaunchingPlugin.getUniqueIdentifier() + ".javaagentIncludes"; //$NON-NLS-1$
+
+	/**
+	 * Launch configuration attribute key. The value is a list of folders and jars, possibly containing string variables, whose classes are not
+	 * instrumented by the advanced source lookup javaagent.
+	 *
+	 * @see #ATTR_JAVAAGENT_INCLUDES
+	 * @since 3.25
+	 */
+	public static final String ATTR_JAVAAGENT_EXCLUDES = LaunchingPlugin.getUniqueIdentifier() + ".javaagentExcludes"; //$NON-NLS-1$
+
 	/**
 	 * Returns {@code true} if the given project has sources folders, {@code false} otherwise.
 	 */
@@ -115,20 +115,22 @@ public class AdvancedSourceLookupParticipant implements ISourceLookupParticipant
 		// lookup strategies that provide java project context necessary for debug expression evaluation
 		//
 
-		// workspace project identified by their runtime classes location is the preferred sources container
-		ISourceContainer projectContainer = projectLocator.createProjectContainer(location);
+		ISourceContainer projectContainer = getProjectContainer(projectLocator, element, location);
+		if (projectContainer == null && !projectLocator.isInitialized()) {
+			// workspace projects are still being indexed, the project may not be known yet
+			if (monitor == null) {
+				AdvancedSourceLookupSupport.schedule((m) -> getSourceContainer(element, refresh, m));
+				return null;
+			}
+			if (!projectLocator.awaitInitialized(monitor)) {
+				return null;
+			}
+			projectContainer = getProjectContainer(projectLocator, element, location);
+		}
 		if (projectContainer != null) {
 			return cacheContainer(element, location, projectContainer);
 		}
 
-		// dependency of one of workspace projects on the call stack also provides java project context
-		for (File frameLocation : jdi.getStackFramesClassesLocations(element)) {
-			ISourceContainer entryContainer = projectLocator.createClasspathEntryContainer(frameLocation, location);
-			if (entryContainer != null) {
-				return cacheContainer(element, location, entryContainer);
-			}
-		}
-
 		if (monitor == null) {
 			// reschedule to resolve sources in background
 			AdvancedSourceLookupSupport.schedule((m) -> getSourceContainer(element, refresh, m));
@@ -150,6 +152,23 @@ public class AdvancedSourceLookupParticipant implements ISourceLookupParticipant
 		return null;
 	}
 
+	private ISourceContainer getProjectContainer(WorkspaceProjectSourceContainers projectLocator, Object element, File location) throws CoreException {
+		// workspace project identified by their runtime classes location is the preferred sources container
+		ISourceContainer projectContainer = projectLocator.createProjectContainer(location);
+		if (projectContainer != null) {
+			return projectContainer;
+		}
+
+		// dependency of one of workspace projects on the call stack also provides java project context
+		for (File frameLocation : jdi.getStackFramesClassesLocations(element)) {
+			ISourceContainer entryContainer = projectLocator.createClasspathEntryContainer(frameLocation, location);
+			if (entryContainer != null) {
+				return entryContainer;
+			}
+		}
+		return null;
+	}
+
 	private ISourceContainer cacheContainer(Object element, File location, ISourceContainer container) {
 		ISourceContainer oldContainer;
 		synchronized (containers) {